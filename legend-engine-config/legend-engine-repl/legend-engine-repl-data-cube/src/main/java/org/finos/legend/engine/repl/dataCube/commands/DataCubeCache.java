@@ -15,20 +15,23 @@
 package org.finos.legend.engine.repl.dataCube.commands;
 
 import java.sql.Connection;
+import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
+import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.plan.execution.result.Result;
-import org.finos.legend.engine.plan.execution.result.serialization.TemporaryFile;
-import org.finos.legend.engine.plan.execution.stores.StoreType;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
-import org.finos.legend.engine.plan.execution.stores.relational.plugin.RelationalStoreState;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
-import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToCSVSerializerWithTransformersApplied;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.RelationalDatabaseConnection;
@@ -46,6 +49,9 @@ import org.jline.reader.ParsedLine;
 
 public class DataCubeCache implements Command
 {
+    private static final String APPEND_OPTION = "--append";
+    private static final int PROGRESS_INTERVAL = 100_000;
+
     private final DataCube parentCommand;
     private final Client client;
     private final REPLServer replServer;
@@ -60,13 +66,13 @@ public class DataCubeCache implements Command
     @Override
     public String documentation()
     {
-        return "datacube cache <table name>";
+        return "datacube cache <table name> [" + APPEND_OPTION + "]";
     }
 
     @Override
     public String description()
     {
-        return "cache the result for the last executed query and launch DataCube";
+        return "cache the result for the last executed query and launch DataCube (the table must not exist, unless " + APPEND_OPTION + " is used to add the result to it)";
     }
 
     @Override
@@ -81,7 +87,8 @@ public class DataCubeCache implements Command
         if (line.startsWith("datacube cache"))
         {
             String[] tokens = line.split(" ");
-            if (tokens.length != 3)
+            boolean append = tokens.length == 4 && APPEND_OPTION.equals(tokens[3]);
+            if (tokens.length != 3 && !append)
             {
                 throw new RuntimeException("Command should be used as '" + this.documentation() + "'");
             }
@@ -103,41 +110,45 @@ public class DataCubeCache implements Command
                     {
                         RelationalResult relationalResult = (RelationalResult) res;
                         List<Column> relationalResultColumns = relationalResult.getResultSetColumns();
-                        String tempDir = ((RelationalStoreState) this.client.getPlanExecutor().getExecutorsOfType(StoreType.Relational).getOnly().getStoreState()).getRelationalExecutor().getRelationalExecutionConfiguration().tempPath;
-                        try (TemporaryFile tempFile = new TemporaryFile(tempDir))
+                        RelationalDatabaseCommands databaseCommands = DatabaseManager.fromString(databaseConnection.type.name()).relationalDatabaseSupport();
+                        List<Table> tables = ConnectionHelper.getTables(databaseConnection, client.getPlanExecutor()).collect(Collectors.toList());
+                        String tableName = specifiedTableName != null ? specifiedTableName : "test" + (tables.size() + 1);
+                        boolean tableExists = tables.stream().anyMatch(table -> table.name.equalsIgnoreCase(tableName));
+                        if (tableExists && !append)
                         {
-                            RelationalResultToCSVSerializerWithTransformersApplied serializer = new RelationalResultToCSVSerializerWithTransformersApplied(relationalResult, true);
-                            try
-                            {
-                                tempFile.writeFile(serializer);
-                            }
-                            catch (Exception e)
-                            {
-                                throw new RuntimeException(e);
-                            }
-
-                            List<Table> tables = ConnectionHelper.getTables(databaseConnection, client.getPlanExecutor()).collect(Collectors.toList());
+                            relationalResult.close();
+                            this.client.printError("Failed to cache: table '" + tableName + "' already exists (use " + APPEND_OPTION + " to add the result to it)");
+                            return null;
+                        }
 
-                            try (Connection connection = ConnectionHelper.getConnection(databaseConnection, client.getPlanExecutor()))
+                        try (Connection connection = ConnectionHelper.getConnection(databaseConnection, client.getPlanExecutor()))
+                        {
+                            try (Statement statement = connection.createStatement())
                             {
-                                String tableName = specifiedTableName != null ? specifiedTableName : "test" + (tables.size() + 1);
-                                try (Statement statement = connection.createStatement())
+                                if (!tableExists)
                                 {
-                                    statement.executeUpdate(DatabaseManager.fromString(databaseConnection.type.name()).relationalDatabaseSupport().load(tableName, tempFile.getTemporaryPathForFile(), relationalResultColumns));
-                                    this.client.println("Cached into table: '" + tableName + "'. Launching DataCube...");
-
-                                    String functionBodyCode = "#>{" + DataCube.getLocalDatabasePath() + "." + tableName + "}#->from(" + DataCube.getLocalRuntimePath() + ")";
-                                    String functionCode = "###Pure\n" +
-                                            "function " + REPL_RUN_FUNCTION_SIGNATURE + "\n{\n" + functionBodyCode + ";\n}";
-                                    PureModelContextData pureModelContextData = client.getModelState().parseWithTransient(functionCode);
-                                    this.replServer.initializeStateFromTable(pureModelContextData);
-                                    Show.launchDataCube(client, replServer);
+                                    statement.executeUpdate(databaseCommands.createTable(tableName, relationalResultColumns));
                                 }
                             }
-                            catch (SQLException e)
-                            {
-                                throw new RuntimeException(e);
-                            }
+                            // rows are appended to the table as they are read, keeping their types, without going through a CSV file
+                            long start = System.currentTimeMillis();
+                            long count = databaseCommands.streamRows(connection, tableName, relationalResultColumns, new ResultRows(relationalResult, this.client, start));
+                            this.client.println((tableExists ? "Appended " : "Cached ") + count + " rows into table: '" + tableName + "' in " + (System.currentTimeMillis() - start) + "ms. Launching DataCube...");
+
+                            String functionBodyCode = "#>{" + DataCube.getLocalDatabasePath() + "." + tableName + "}#->from(" + DataCube.getLocalRuntimePath() + ")";
+                            String functionCode = "###Pure\n" +
+                                    "function " + REPL_RUN_FUNCTION_SIGNATURE + "\n{\n" + functionBodyCode + ";\n}";
+                            PureModelContextData pureModelContextData = client.getModelState().parseWithTransient(functionCode);
+                            this.replServer.initializeStateFromTable(pureModelContextData);
+                            Show.launchDataCube(client, replServer);
+                        }
+                        catch (SQLException e)
+                        {
+                            throw new RuntimeException(e);
+                        }
+                        finally
+                        {
+                            relationalResult.close();
                         }
                     }
                     else
@@ -169,4 +180,73 @@ public class DataCubeCache implements Command
     {
         return null;
     }
+
+    private static class ResultRows implements Iterator<Object[]>
+    {
+        private final RelationalResult relationalResult;
+        private final MutableList<Function<Object, Object>> transformers;
+        private final int columnCount;
+        private final Client client;
+        private final long start;
+        private long count = 0;
+        private Boolean hasNext;
+
+        private ResultRows(RelationalResult relationalResult, Client client, long start)
+        {
+            this.relationalResult = relationalResult;
+            this.transformers = relationalResult.getTransformers();
+            this.columnCount = this.transformers.size();
+            this.client = client;
+            this.start = start;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (this.hasNext == null)
+            {
+                try
+                {
+                    this.hasNext = this.relationalResult.resultSet.next();
+                }
+                catch (SQLException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            return this.hasNext;
+        }
+
+        @Override
+        public Object[] next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.hasNext = null;
+            Object[] row = new Object[this.columnCount];
+            try
+            {
+                for (int i = 0; i < this.columnCount; i++)
+                {
+                    Object value = this.relationalResult.getValue(i + 1);
+                    // timestamps are cached in UTC, as they were in the CSV files
+                    row[i] = value instanceof Timestamp ? Timestamp.valueOf(((Timestamp) value).toInstant().atOffset(ZoneOffset.UTC).toLocalDateTime()) :
+                            value instanceof Date ? value :
+                            this.transformers.get(i).valueOf(value);
+                }
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException(e);
+            }
+            if (++this.count % PROGRESS_INTERVAL == 0)
+            {
+                long elapsed = Math.max(System.currentTimeMillis() - this.start, 1);
+                this.client.println("Cached " + this.count + " rows (" + (this.count * 1000 / elapsed) + " rows/s)...");
+            }
+            return row;
+        }
+    }
 }
@@ -58,6 +58,7 @@ import org.finos.legend.engine.entitlement.services.EntitlementModelObjectMapper
 import org.finos.legend.engine.entitlement.services.EntitlementServiceExtension;
 import org.finos.legend.engine.entitlement.services.EntitlementServiceExtensionLoader;
 import org.finos.legend.engine.execution.test.data.generation.api.TestDataGenerationAPI;
+import org.finos.legend.engine.external.format.arrow.ArrowAllocators;
 import org.finos.legend.engine.external.shared.format.extension.GenerationExtension;
 import org.finos.legend.engine.external.shared.format.extension.GenerationMode;
 import org.finos.legend.engine.external.shared.format.generations.loaders.CodeGenerators;
@@ -93,6 +94,7 @@ import org.finos.legend.engine.plan.execution.api.ExecutePlanLegacy;
 import org.finos.legend.engine.plan.execution.api.ExecutePlanStrategic;
 import org.finos.legend.engine.plan.execution.api.concurrent.ConcurrentExecutionNodeExecutorPoolInfo;
 import org.finos.legend.engine.plan.execution.api.concurrent.ParallelGraphFetchExecutionExecutorPoolInfo;
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPool;
 import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.service.api.ServiceModelingApi;
@@ -281,6 +283,8 @@ public class Server<T extends ServerConfiguration> extends Application<T>
 
         ChainFixingFilterHandler.apply(environment.getApplicationContext(), serverConfiguration.filterPriorities);
 
+        ArrowAllocators.configure(serverConfiguration.arrow);
+
         CredentialProviderProvider credentialProviderProvider = this.configureCredentialProviders(serverConfiguration.vaults);
 
         RelationalExecutionConfiguration relationalExecution = serverConfiguration.relationalexecution;
@@ -321,6 +325,13 @@ public class Server<T extends ServerConfiguration> extends Application<T>
         {
             planExecutor = PlanExecutor.newPlanExecutor(relationalStoreExecutor, elasticsearchV7StoreExecutor, serviceStoreExecutor, mongoDBStoreExecutor, deephavenStoreExecutor, InMemory.build());
         }
+        List<ConcurrentExecutionNodeExecutorPool> concurrentExecutionNodeExecutorPools = Collections.emptyList();
+        if (serverConfiguration.concurrentExecutionNodeExecutorPoolConfiguration != null)
+        {
+            ConcurrentExecutionNodeExecutorPool concurrentExecutionNodeExecutorPool = serverConfiguration.concurrentExecutionNodeExecutorPoolConfiguration.newPool();
+            planExecutor.injectConcurrentExecutionNodeExecutorPool(concurrentExecutionNodeExecutorPool);
+            concurrentExecutionNodeExecutorPools = Collections.singletonList(concurrentExecutionNodeExecutorPool);
+        }
 
         // Session Management
         SessionTracker sessionTracker = new SessionTracker();
@@ -344,7 +355,7 @@ public class Server<T extends ServerConfiguration> extends Application<T>
         environment.jersey().register(new CurrentUser());
         environment.jersey().register(new Memory());
         environment.jersey().register(new RelationalExecutorInformation());
-        environment.jersey().register(new ConcurrentExecutionNodeExecutorPoolInfo(Collections.emptyList()));
+        environment.jersey().register(new ConcurrentExecutionNodeExecutorPoolInfo(concurrentExecutionNodeExecutorPools));
         environment.jersey().register(new ParallelGraphFetchExecutionExecutorPoolInfo(parallelGraphFetchExecutionExecutorPool));
 
         // PCT
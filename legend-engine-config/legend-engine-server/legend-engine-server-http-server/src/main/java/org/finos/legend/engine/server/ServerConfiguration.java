@@ -16,7 +16,9 @@ package org.finos.legend.engine.server;
 
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
+import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPoolConfiguration;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
@@ -44,9 +46,11 @@ public class ServerConfiguration extends Configuration
     public List<VaultConfiguration> vaults;
     public RelationalExecutionConfiguration relationalexecution;
     public GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
+    public ConcurrentExecutionNodeExecutorPoolConfiguration concurrentExecutionNodeExecutorPoolConfiguration;
     public ErrorHandlingConfiguration errorhandlingconfiguration = new ErrorHandlingConfiguration();
     public List<org.finos.legend.engine.protocol.functionActivator.metamodel.DeploymentConfiguration> activatorConfiguration;
     public CORSConfiguration cors;
+    public ArrowRuntimeConfiguration arrow;
 
     /*
         This configuration has been deprecated in favor of the 'temporarytestdb' in RelationalExecutionConfiguration
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution;
 
+import org.finos.legend.engine.plan.execution.cache.compiledPlan.CompiledPlanClassesCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
@@ -37,7 +38,12 @@ public class PlanExecutionContext
 
     public PlanExecutionContext(SingleExecutionPlan singleExecutionPlan, List<GraphFetchCache> graphFetchCaches) throws JavaCompileException
     {
-        this.externalJavaCompiler = JavaHelper.compilePlan(singleExecutionPlan, Identity.getAnonymousIdentity());
+        this(singleExecutionPlan, CompiledPlanClassesCache.getDefault(), graphFetchCaches);
+    }
+
+    public PlanExecutionContext(SingleExecutionPlan singleExecutionPlan, CompiledPlanClassesCache compiledPlanClassesCache, List<GraphFetchCache> graphFetchCaches) throws JavaCompileException
+    {
+        this.externalJavaCompiler = JavaHelper.compilePlan(singleExecutionPlan, Identity.getAnonymousIdentity(), compiledPlanClassesCache);
         this.graphFetchCaches = graphFetchCaches;
     }
 
@@ -22,6 +22,8 @@ import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 import org.eclipse.collections.impl.factory.Maps;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.finos.legend.engine.plan.execution.cache.compiledPlan.CompiledPlanClassesCache;
+import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
 import org.finos.legend.engine.plan.execution.concurrent.ConcurrentExecutionNodeExecutorPool;
 import org.finos.legend.engine.plan.execution.concurrent.ParallelGraphFetchExecutionExecutorPool;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
@@ -54,6 +56,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -78,9 +81,10 @@ public class PlanExecutor
     private GraphFetchExecutionConfiguration graphFetchExecutionConfiguration;
     private BiFunction<Identity, ExecutionState, ExecutionNodeExecutor> executionNodeExecutorBuilder;
     private final boolean logSQLWithParamValues;
+    private final CompiledPlanClassesCache compiledPlanClassesCache;
 
 
-    private PlanExecutor(boolean isJavaCompilationAllowed, ImmutableList<StoreExecutor> extraExecutors, GraphFetchExecutionConfiguration graphFetchExecutionConfiguration, boolean logSQLWithParamValues)
+    private PlanExecutor(boolean isJavaCompilationAllowed, ImmutableList<StoreExecutor> extraExecutors, GraphFetchExecutionConfiguration graphFetchExecutionConfiguration, boolean logSQLWithParamValues, CompiledPlanClassesCache compiledPlanClassesCache)
     {
         EngineUrlStreamHandlerFactory.initialize();
         this.isJavaCompilationAllowed = isJavaCompilationAllowed;
@@ -88,6 +92,7 @@ public class PlanExecutor
         this.planExecutorInfo = PlanExecutorInfo.fromStoreExecutors(this.extraExecutors);
         this.graphFetchExecutionConfiguration = graphFetchExecutionConfiguration;
         this.logSQLWithParamValues = logSQLWithParamValues;
+        this.compiledPlanClassesCache = compiledPlanClassesCache;
     }
 
     public PlanExecutorInfo getPlanExecutorInfo()
@@ -338,6 +343,18 @@ public class PlanExecutor
         this.graphFetchExecutionNodeExecutorPool = graphFetchExecutionNodeExecutorPool;
     }
 
+    /**
+     * Builds a context holding the Java classes of the plan, compiled with the compiled plan classes cache of this
+     * executor, so that they can be re-used across executions of the plan. No classes are compiled when Java
+     * compilation is not allowed.
+     */
+    public PlanExecutionContext buildPlanExecutionContext(SingleExecutionPlan plan, GraphFetchCache... graphFetchCaches) throws JavaCompileException
+    {
+        return this.isJavaCompilationAllowed ?
+                new PlanExecutionContext(plan, this.compiledPlanClassesCache, Arrays.asList(graphFetchCaches)) :
+                new PlanExecutionContext(graphFetchCaches);
+    }
+
     private EngineJavaCompiler possiblyCompilePlan(SingleExecutionPlan plan, ExecutionState state, Identity identity)
     {
         if (state.isJavaCompilationForbidden())
@@ -350,7 +367,7 @@ public class PlanExecutor
         }
         try
         {
-            EngineJavaCompiler engineJavaCompiler = JavaHelper.compilePlan(plan, identity);
+            EngineJavaCompiler engineJavaCompiler = JavaHelper.compilePlan(plan, identity, this.compiledPlanClassesCache);
             if (engineJavaCompiler != null)
             {
                 state.setJavaCompiler(engineJavaCompiler);
@@ -433,6 +450,7 @@ public class PlanExecutor
         private final MutableList<StoreExecutor> storeExecutors = Lists.mutable.empty();
         private GraphFetchExecutionConfiguration graphFetchExecutionConfiguration = new GraphFetchExecutionConfiguration();
         private boolean logSQLWithParamValues = true;
+        private CompiledPlanClassesCache compiledPlanClassesCache = CompiledPlanClassesCache.getDefault();
 
         private Builder()
         {
@@ -476,9 +494,19 @@ public class PlanExecutor
             return this;
         }
 
+        /**
+         * Cache of the bytecode compiled for the Java classes of plans, shared by default with all the other executors
+         * of the process. A null cache compiles the classes of every plan.
+         */
+        public Builder withCompiledPlanClassesCache(CompiledPlanClassesCache compiledPlanClassesCache)
+        {
+            this.compiledPlanClassesCache = compiledPlanClassesCache;
+            return this;
+        }
+
         public PlanExecutor build()
         {
-            return new PlanExecutor(this.isJavaCompilationAllowed, this.storeExecutors.toImmutable(), this.graphFetchExecutionConfiguration, this.logSQLWithParamValues);
+            return new PlanExecutor(this.isJavaCompilationAllowed, this.storeExecutors.toImmutable(), this.graphFetchExecutionConfiguration, this.logSQLWithParamValues, this.compiledPlanClassesCache);
         }
     }
 
@@ -15,16 +15,19 @@
 package org.finos.legend.engine.plan.execution.cache;
 
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheStats;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheByEqualityKeys;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheByTargetCrossKeys;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.plan.execution.cache.serviceResult.ServiceResultCacheKey;
 
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public class ExecutionCacheBuilder
 {
@@ -60,6 +63,19 @@ public class ExecutionCacheBuilder
         return new GraphFetchCacheByTargetCrossKeys(graphFetchCrossAssociationKeys, executionCache);
     }
 
+    // Service result cache builder
+    // Cache type: Key -> serialized result, evicted once its time to live is over or when the cached results exceed the maximum size
+    public static ExecutionCache<ServiceResultCacheKey, byte[]> buildServiceResultCache(long maximumSizeInBytes, long timeToLive, TimeUnit timeUnit)
+    {
+        Cache<ServiceResultCacheKey, byte[]> guavaCache = CacheBuilder.newBuilder()
+                .recordStats()
+                .maximumWeight(maximumSizeInBytes)
+                .<ServiceResultCacheKey, byte[]>weigher((key, value) -> value.length)
+                .expireAfterWrite(timeToLive, timeUnit)
+                .build();
+        return buildExecutionCacheFromGuavaCache(guavaCache);
+    }
+
     public static <K, V> ExecutionCache<K, V> buildExecutionCacheFromGuavaCache(Cache<K, V> guavaCache)
     {
         return new ExecutionCache<K, V>()
@@ -0,0 +1,273 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.compiledPlan;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Process wide cache of the bytecode compiled for the Java classes of execution plans.
+ * <p>
+ * Entries are keyed by a hash of the Java sources of a plan (see JavaHelper), so plans that only differ by their
+ * non Java parts share the same entry. The cache is bounded by the total size of the encoded bytecode it holds.
+ * When a directory is given, entries are also written to disk, so that restarted processes (or other replicas sharing
+ * the directory) do not need to compile again. Each entry on disk is stored with a hash of its content, and an entry
+ * that does not match its hash is compiled again.
+ */
+public class CompiledPlanClassesCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledPlanClassesCache.class);
+
+    public static final String CACHE_NAME = "compiledPlanClasses";
+    public static final long DEFAULT_MAXIMUM_BYTECODE_SIZE = 256L * 1024 * 1024;
+    private static final String FILE_EXTENSION = ".json";
+    private static final String HASH_FILE_EXTENSION = ".sha256";
+
+    private static final CompiledPlanClassesCache DEFAULT = new CompiledPlanClassesCache(DEFAULT_MAXIMUM_BYTECODE_SIZE, null);
+
+    private final Cache<String, CompiledPlanClasses> cache;
+    private final Path directory;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapper();
+
+    public CompiledPlanClassesCache(long maximumBytecodeSize, String directory)
+    {
+        this.cache = CacheBuilder.newBuilder()
+                .recordStats()
+                .maximumWeight(maximumBytecodeSize)
+                .weigher((String key, CompiledPlanClasses value) -> value.size())
+                .build();
+        this.directory = (directory == null) ? null : Paths.get(directory);
+    }
+
+    public static CompiledPlanClassesCache getDefault()
+    {
+        return DEFAULT;
+    }
+
+    public CompiledPlanClasses get(String key, Callable<CompiledPlanClasses> compiler) throws Exception
+    {
+        try
+        {
+            boolean[] loaded = {false};
+            CompiledPlanClasses result = this.cache.get(key, () ->
+            {
+                loaded[0] = true;
+                CompiledPlanClasses fromDisk = readFromDisk(key);
+                if (fromDisk != null)
+                {
+                    MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "diskHit");
+                    return fromDisk;
+                }
+                MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "miss");
+                CompiledPlanClasses compiled = compiler.call();
+                writeToDisk(key, compiled);
+                return compiled;
+            });
+            if (!loaded[0])
+            {
+                MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "hit");
+            }
+            return result;
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            if (e.getCause() instanceof Exception)
+            {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+        finally
+        {
+            publishMetrics();
+        }
+    }
+
+    /**
+     * Whether entries outlive this process, in which case their keys must also identify the class path they were
+     * compiled against.
+     */
+    public boolean isPersistent()
+    {
+        return this.directory != null;
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public CacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    public void publishMetrics()
+    {
+        CacheStats stats = this.cache.stats();
+        MetricsHandler.setCacheMetrics(CACHE_NAME, this.cache.size(), stats.hitRate(), stats.evictionCount(), stats.averageLoadPenalty() / 1_000_000);
+    }
+
+    private CompiledPlanClasses readFromDisk(String key)
+    {
+        if (this.directory == null)
+        {
+            return null;
+        }
+        Path file = this.directory.resolve(key + FILE_EXTENSION);
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        Path hashFile = this.directory.resolve(key + HASH_FILE_EXTENSION);
+        try
+        {
+            byte[] content = Files.readAllBytes(file);
+            if (!Files.exists(hashFile) || !new String(Files.readAllBytes(hashFile), StandardCharsets.UTF_8).equals(hash(content)))
+            {
+                throw new IllegalStateException("Entry does not match its hash");
+            }
+            CompiledPlanClasses compiled = this.objectMapper.readValue(content, CompiledPlanClasses.class);
+            if ((compiled.classes == null) || (compiled.executionClasses == null))
+            {
+                throw new IllegalStateException("Incomplete entry");
+            }
+            return compiled;
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to read compiled plan classes from {}, they will be compiled again", file, e);
+            deleteQuietly(file);
+            deleteQuietly(hashFile);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, CompiledPlanClasses compiled)
+    {
+        if (this.directory == null)
+        {
+            return;
+        }
+        Path file = this.directory.resolve(key + FILE_EXTENSION);
+        try
+        {
+            byte[] content = this.objectMapper.writeValueAsBytes(compiled);
+            Files.createDirectories(this.directory);
+            // The hash goes first: an entry read before its hash is replaced only fails verification and is compiled again
+            writeAtomically(key, this.directory.resolve(key + HASH_FILE_EXTENSION), hash(content).getBytes(StandardCharsets.UTF_8));
+            writeAtomically(key, file, content);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to write compiled plan classes to {}", file, e);
+        }
+    }
+
+    private void writeAtomically(String key, Path file, byte[] content) throws IOException
+    {
+        // Written to a temporary file first, so that other processes never read a partially written file
+        Path tempFile = Files.createTempFile(this.directory, key, ".tmp");
+        try
+        {
+            Files.write(tempFile, content);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally
+        {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private static String hash(byte[] content) throws NoSuchAlgorithmException
+    {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(content))
+        {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    private static void deleteQuietly(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ignored)
+        {
+            // a stale entry is overwritten by the next compilation
+        }
+    }
+
+    public static class CompiledPlanClasses
+    {
+        // Encoded bytecode of the classes loaded in the plan compiler, by class name
+        public Map<String, String> classes;
+        // Encoded bytecode of the execution classes, which are compiled separately against the plan compiler
+        public Map<String, String> executionClasses;
+
+        public CompiledPlanClasses()
+        {
+            // for Jackson
+        }
+
+        public CompiledPlanClasses(Map<String, String> classes, Map<String, String> executionClasses)
+        {
+            this.classes = classes;
+            this.executionClasses = executionClasses;
+        }
+
+        private int size()
+        {
+            return size(this.classes) + size(this.executionClasses);
+        }
+
+        private static int size(Map<String, String> bytecode)
+        {
+            int size = 1;
+            for (String value : bytecode.values())
+            {
+                size += value.length();
+            }
+            return size;
+        }
+    }
+}
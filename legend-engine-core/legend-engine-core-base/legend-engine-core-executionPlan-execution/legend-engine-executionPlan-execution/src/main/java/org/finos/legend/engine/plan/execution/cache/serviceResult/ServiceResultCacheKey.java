@@ -0,0 +1,100 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.serviceResult;
+
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/*
+    Key of a serialized service result: the same service, running the same plan with the same parameters, for the same
+    scope (the identity or the entitlement scope the result is visible to) and serialized in the same format.
+ */
+public class ServiceResultCacheKey
+{
+    private final String servicePath;
+    private final String planHash;
+    private final Map<String, ?> parameters;
+    private final SerializationFormat serializationFormat;
+    private final String scope;
+
+    public ServiceResultCacheKey(String servicePath, String planHash, Map<String, ?> parameters, SerializationFormat serializationFormat, String scope)
+    {
+        this.servicePath = Objects.requireNonNull(servicePath, "servicePath must not be null");
+        this.planHash = Objects.requireNonNull(planHash, "planHash must not be null");
+        this.parameters = Collections.unmodifiableMap(new HashMap<>(parameters));
+        this.serializationFormat = serializationFormat;
+        this.scope = scope;
+    }
+
+    public String getServicePath()
+    {
+        return this.servicePath;
+    }
+
+    public String getPlanHash()
+    {
+        return this.planHash;
+    }
+
+    public Map<String, ?> getParameters()
+    {
+        return this.parameters;
+    }
+
+    public SerializationFormat getSerializationFormat()
+    {
+        return this.serializationFormat;
+    }
+
+    public String getScope()
+    {
+        return this.scope;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass())
+        {
+            return false;
+        }
+        ServiceResultCacheKey that = (ServiceResultCacheKey) o;
+        return this.servicePath.equals(that.servicePath) &&
+                this.planHash.equals(that.planHash) &&
+                this.parameters.equals(that.parameters) &&
+                this.serializationFormat == that.serializationFormat &&
+                Objects.equals(this.scope, that.scope);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(this.servicePath, this.planHash, this.parameters, this.serializationFormat, this.scope);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<ServiceResultCacheKey " + this.servicePath + " " + this.planHash + " " + this.parameters + " " + this.serializationFormat + " " + this.scope + ">";
+    }
+}
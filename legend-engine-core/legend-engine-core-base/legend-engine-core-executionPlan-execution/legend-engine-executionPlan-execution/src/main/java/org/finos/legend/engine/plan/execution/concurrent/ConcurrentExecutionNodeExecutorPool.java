@@ -29,6 +29,7 @@ import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 import org.finos.legend.engine.shared.core.url.StreamProvider;
 import org.finos.legend.engine.shared.core.url.StreamProviderHolder;
 
@@ -38,24 +39,48 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Pool management class. This class should be instantiated only during server spin up to help manage thread pool and guard system against thread explosions.
+ * <p>
+ * In {@link Mode#FIXED_THREAD_POOL} mode, nodes are run on a fixed thread pool and a request only runs concurrently when a thread is available for each of its nodes.
+ * In {@link Mode#VIRTUAL_THREADS} mode, each node runs on its own (virtual, when the JVM supports them) thread: the pool size caps the number of nodes running at once
+ * across requests, and a request runs with as many of its nodes at once as it is granted, up to maxConcurrencyPerRequest, rather than all or nothing.
  */
 @JsonSerialize(using = ConcurrentExecutionNodeExecutorPoolSerializer.class)
 public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 {
+    public enum Mode
+    {
+        FIXED_THREAD_POOL,
+        VIRTUAL_THREADS
+    }
+
     private final int poolSize;
     private final String poolDescription;
+    private final Mode mode;
+    private final int maxConcurrencyPerRequest;
     private final ExecutorService executor;
     private final ExecutorService delegatedExecutor;
     private final Semaphore availableThreads;
+    private final AtomicLong concurrentExecutions = new AtomicLong();
+    private final AtomicLong partiallyConcurrentExecutions = new AtomicLong();
+    private final AtomicLong sequentialFallbacks = new AtomicLong();
 
     public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription)
+    {
+        this(poolSize, poolDescription, Mode.FIXED_THREAD_POOL, poolSize);
+    }
+
+    public ConcurrentExecutionNodeExecutorPool(int poolSize, String poolDescription, Mode mode, int maxConcurrencyPerRequest)
     {
         this.poolSize = poolSize;
         this.poolDescription = poolDescription;
-        this.delegatedExecutor = Executors.newFixedThreadPool(poolSize);
+        this.mode = mode;
+        this.maxConcurrencyPerRequest = mode == Mode.FIXED_THREAD_POOL ? poolSize : Math.max(1, Math.min(poolSize, maxConcurrencyPerRequest));
+        this.delegatedExecutor = mode == Mode.FIXED_THREAD_POOL ? Executors.newFixedThreadPool(poolSize) : newThreadPerTaskExecutor();
         this.executor = new TracedExecutorService(this.delegatedExecutor, GlobalTracer.get());
         this.availableThreads = new Semaphore(poolSize);
     }
@@ -68,11 +93,14 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
 
     public List<? extends Result> execute(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
     {
-        if (!executor.isShutdown() && availableThreads.tryAcquire(nodes.size()))
+        int concurrency = executor.isShutdown() ? 0 : acquireThreads(nodes.size());
+        if (concurrency > 0)
         {
+            boolean partiallyConcurrent = concurrency < nodes.size();
+            recordExecution(partiallyConcurrent ? this.partiallyConcurrentExecutions : this.concurrentExecutions, partiallyConcurrent ? "partiallyConcurrent" : "concurrent");
             try (Scope scope = GlobalTracer.get().buildSpan("Parallel Execution Triggered").startActive(true))
             {
-                return executeConcurrently(nodes, identity, executionState);
+                return executeConcurrently(nodes, identity, executionState, concurrency);
             }
             catch (Exception e)
             {
@@ -80,11 +108,15 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
             }
             finally
             {
-                availableThreads.release(nodes.size());
+                availableThreads.release(concurrency);
             }
         }
         else
         {
+            if (nodes.size() > 1)
+            {
+                recordExecution(this.sequentialFallbacks, "sequential");
+            }
             try (Scope scope = GlobalTracer.get().buildSpan("Sequential Execution Triggered").startActive(true))
             {
                 return ListIterate.collect(nodes, node -> node.accept(new ExecutionNodeExecutor(identity, executionState)));
@@ -92,21 +124,79 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         }
     }
 
-    private List<Result> executeConcurrently(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState)
+    public long getConcurrentExecutionCount()
+    {
+        return this.concurrentExecutions.get();
+    }
+
+    public long getPartiallyConcurrentExecutionCount()
+    {
+        return this.partiallyConcurrentExecutions.get();
+    }
+
+    public long getSequentialFallbackCount()
+    {
+        return this.sequentialFallbacks.get();
+    }
+
+    private int acquireThreads(int nodeCount)
+    {
+        if (this.mode == Mode.FIXED_THREAD_POOL)
+        {
+            return availableThreads.tryAcquire(nodeCount) ? nodeCount : 0;
+        }
+        for (int threads = Math.min(nodeCount, this.maxConcurrencyPerRequest); threads > 1; threads--)
+        {
+            if (availableThreads.tryAcquire(threads))
+            {
+                return threads;
+            }
+        }
+        return 0;
+    }
+
+    private void recordExecution(AtomicLong counter, String executionMode)
+    {
+        counter.incrementAndGet();
+        MetricsHandler.incrementConcurrentExecutionCount(this.poolDescription, executionMode);
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor()
+    {
+        try
+        {
+            // Virtual threads are only available from Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private List<Result> executeConcurrently(final List<ExecutionNode> nodes, final Identity identity, final ExecutionState executionState, final int concurrency)
     {
         List<CompletableFuture<Pair<Result, ExecutionState>>> elements = FastList.newList();
         StreamProvider streamProvider = StreamProviderHolder.streamProviderThreadLocal.get();
-        nodes.forEach(node -> elements.add(CompletableFuture.supplyAsync(() ->
+        for (int i = 0; i < nodes.size(); i++)
+        {
+            ExecutionNode node = nodes.get(i);
+            int index = i;
+            Supplier<Pair<Result, ExecutionState>> nodeExecution = () ->
+            {
+                try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", index)).startActive(true))
                 {
-                    try (Scope scope = GlobalTracer.get().buildSpan(String.format("Execution for child - %d", nodes.indexOf(node))).startActive(true))
-                    {
-                        StreamProviderHolder.streamProviderThreadLocal.set(streamProvider);
-                        ExecutionState executionStateForThread = executionState.copy();
-                        Result result = node.accept(new ExecutionNodeExecutor(identity, executionStateForThread));
-                        return Tuples.pair(result, executionStateForThread);
-                    }
-                }, executor
-        )));
+                    StreamProviderHolder.streamProviderThreadLocal.set(streamProvider);
+                    ExecutionState executionStateForThread = executionState.copy();
+                    Result result = node.accept(new ExecutionNodeExecutor(identity, executionStateForThread));
+                    return Tuples.pair(result, executionStateForThread);
+                }
+            };
+            // When fewer threads than nodes were granted, the nodes are chained so that no more than the granted number run at once
+            elements.add(i < concurrency
+                    ? CompletableFuture.supplyAsync(nodeExecution, executor)
+                    : elements.get(i - concurrency).handleAsync((previous, throwable) -> nodeExecution.get(), executor));
+        }
 
         CompletableFuture<Void> allElements = CompletableFuture.allOf(elements.toArray(new CompletableFuture[0]));
 
@@ -134,8 +224,11 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         return "[" +
                 "poolSize : " + poolSize +
                 ", poolDescription : " + poolDescription +
+                ", mode : " + mode +
+                ", maxConcurrencyPerRequest : " + maxConcurrencyPerRequest +
                 ", executor : " + delegatedExecutor.toString() +
                 ", availableThreads : " + availableThreads.toString() +
+                ", sequentialFallbacks : " + sequentialFallbacks.get() +
                 "]";
     }
 
@@ -146,10 +239,20 @@ public final class ConcurrentExecutionNodeExecutorPool implements AutoCloseable
         jsonGenerator.writeString(this.poolDescription);
         jsonGenerator.writeFieldName("poolSize");
         jsonGenerator.writeNumber(this.poolSize);
+        jsonGenerator.writeFieldName("mode");
+        jsonGenerator.writeString(this.mode.name());
+        jsonGenerator.writeFieldName("maxConcurrencyPerRequest");
+        jsonGenerator.writeNumber(this.maxConcurrencyPerRequest);
         jsonGenerator.writeFieldName("executor");
         jsonGenerator.writeString(this.delegatedExecutor.toString());
         jsonGenerator.writeFieldName("availableThreads");
         jsonGenerator.writeNumber(this.availableThreads.availablePermits());
+        jsonGenerator.writeFieldName("concurrentExecutions");
+        jsonGenerator.writeNumber(this.concurrentExecutions.get());
+        jsonGenerator.writeFieldName("partiallyConcurrentExecutions");
+        jsonGenerator.writeNumber(this.partiallyConcurrentExecutions.get());
+        jsonGenerator.writeFieldName("sequentialFallbacks");
+        jsonGenerator.writeNumber(this.sequentialFallbacks.get());
         jsonGenerator.writeEndObject();
     }
 }
@@ -0,0 +1,44 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Server configuration for the {@link ConcurrentExecutionNodeExecutorPool}. When maxConcurrencyPerRequest is not set, a request may use the whole pool.
+ */
+public class ConcurrentExecutionNodeExecutorPoolConfiguration
+{
+    public static final int DEFAULT_POOL_SIZE = 100;
+    public static final String DEFAULT_POOL_DESCRIPTION = "thread-pool for concurrent execution node execution";
+
+    @JsonProperty
+    public int poolSize = DEFAULT_POOL_SIZE;
+    @JsonProperty
+    public String poolDescription = DEFAULT_POOL_DESCRIPTION;
+    @JsonProperty
+    public ConcurrentExecutionNodeExecutorPool.Mode mode = ConcurrentExecutionNodeExecutorPool.Mode.FIXED_THREAD_POOL;
+    @JsonProperty
+    public Integer maxConcurrencyPerRequest;
+
+    public ConcurrentExecutionNodeExecutorPool newPool()
+    {
+        if (this.poolSize < 1)
+        {
+            throw new IllegalArgumentException("Concurrent execution node executor pool size must be at least 1, got " + this.poolSize);
+        }
+        return new ConcurrentExecutionNodeExecutorPool(this.poolSize, this.poolDescription, this.mode, this.maxConcurrencyPerRequest == null ? this.poolSize : this.maxConcurrencyPerRequest);
+    }
+}
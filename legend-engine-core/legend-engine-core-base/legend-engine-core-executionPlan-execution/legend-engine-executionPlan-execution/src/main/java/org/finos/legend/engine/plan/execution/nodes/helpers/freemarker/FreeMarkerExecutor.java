@@ -14,6 +14,10 @@
 
 package org.finos.legend.engine.plan.execution.nodes.helpers.freemarker;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import freemarker.core.TemplateDateFormatFactory;
 import freemarker.template.Configuration;
 import freemarker.template.ObjectWrapper;
@@ -21,18 +25,20 @@ import freemarker.template.Template;
 import freemarker.template.TemplateHashModel;
 import freemarker.template.TemplateModel;
 import freemarker.template.TemplateModelException;
-import org.apache.commons.lang3.StringUtils;
 import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ResultNormalizer;
 import org.finos.legend.engine.plan.execution.result.StreamingResult;
 import org.finos.legend.engine.plan.execution.result.freemarker.PlanDateParameterDateFormatFactory;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
 
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 public class FreeMarkerExecutor
@@ -43,6 +49,19 @@ public class FreeMarkerExecutor
     private static ObjectWrapper objectWrapper = FreeMarkerExecutor.freemarkerConfig.getObjectWrapper();
     public static String overridePropertyForTemplateModel = "overrideTemplateModel";
 
+    public static final String TEMPLATE_CACHE_NAME = "freemarkerTemplates";
+    // Bounded by the total length of the cached template texts
+    private static final long TEMPLATE_CACHE_MAXIMUM_LENGTH = 64L * 1024 * 1024;
+    private static final long TEMPLATE_CACHE_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+    // Parsed templates are thread safe once built, and the same template (functions included) is rendered for every
+    // execution of a plan, so they are parsed only once
+    private static final Cache<String, Template> templateCache = CacheBuilder.newBuilder()
+            .recordStats()
+            .maximumWeight(TEMPLATE_CACHE_MAXIMUM_LENGTH)
+            .weigher((String text, Template template) -> text.length())
+            .expireAfterAccess(TEMPLATE_CACHE_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+            .build();
+
     static
     {
         freemarkerConfig.setNumberFormat("computer");
@@ -59,6 +78,15 @@ public class FreeMarkerExecutor
     }
 
     public static String process(String input, ExecutionState executionState, String dbType, String databaseTimeZone)
+    {
+        return process(input, executionState, dbType, databaseTimeZone, true);
+    }
+
+    /**
+     * @param cacheTemplate false when the input is specific to this execution (e.g. values or temp table names were
+     *                      substituted into the plan template), so that its parsed template is not cached
+     */
+    public static String process(String input, ExecutionState executionState, String dbType, String databaseTimeZone, boolean cacheTemplate)
     {
         Map<String, Object> variableMap = new HashMap<>();
         executionState.getResults().forEach((k, v) ->
@@ -84,7 +112,7 @@ public class FreeMarkerExecutor
         String templateFunctions = String.join("", executionState.getTemplateFunctions());
         variableMap.put("instanceOf", new FreemarkerInstanceOfMethod());
 
-        return StringUtils.isBlank(templateFunctions) ? process(input, variableMap, templateFunctions) : processRecursively(input, variableMap, templateFunctions);
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, cacheTemplate);
     }
     
     private static boolean isPlaceHolder(Object object)
@@ -111,7 +139,7 @@ public class FreeMarkerExecutor
             while (!isResultUnchanged && isPlaceHolder(result))
             {
                 String lastProcessedResult = (String) result;
-                result = process(lastProcessedResult, map, templateFunctions);
+                result = process(lastProcessedResult, new TemplateHashModelOverride(map, templateFunctions), templateFunctions, false);
                 isResultUnchanged = lastProcessedResult.equals(((String) result).replace("\\\"", "\""));
             }
             return objectWrapper.wrap(result);
@@ -126,12 +154,13 @@ public class FreeMarkerExecutor
 
     public static String processRecursively(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions);   
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, true);
     }
 
     private static String recur(String input, Map<String,?> variableMap, String templateFunctions)
     {
-        String result = process(input, variableMap, templateFunctions);
+        // The text processed again embeds the values of the parameters, so its template is not cached
+        String result = process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, false);
         if (!result.equals(input.replace("\\\"", "\"")))
         {
             return recur(result, variableMap, templateFunctions);
@@ -141,17 +170,16 @@ public class FreeMarkerExecutor
 
     public static String process(String input, Map<String, ?> variableMap, String templateFunctions)
     {
-        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions);
+        return process(input, new TemplateHashModelOverride(variableMap, templateFunctions), templateFunctions, true);
     }
 
-    private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions)
+    private static String process(String input, TemplateHashModelOverride variableMap, String templateFunctions, boolean cacheTemplate)
     {
         StringWriter stringWriter = new StringWriter();
         try
         {
-            Template template = new Template("template", new StringReader(templateFunctions + input.replace("\\\"", "\"")), freemarkerConfig);
-            template.setCustomDateFormats(customDateFormats);
-            template.setDateFormat("@alloyDate");
+            String text = templateFunctions + input.replace("\\\"", "\"");
+            Template template = cacheTemplate ? getTemplate(text) : newTemplate(text);
             template.process(variableMap, stringWriter);
             return stringWriter.toString();
         }
@@ -160,4 +188,39 @@ public class FreeMarkerExecutor
             throw new RuntimeException("Issue processing freemarker function.  Template with error: " + stringWriter.toString(), e);
         }
     }
+
+    private static Template getTemplate(String text) throws Exception
+    {
+        try
+        {
+            return templateCache.get(text, () -> newTemplate(text));
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+        }
+        finally
+        {
+            publishTemplateCacheMetrics();
+        }
+    }
+
+    private static Template newTemplate(String text) throws Exception
+    {
+        Template template = new Template("template", new StringReader(text), freemarkerConfig);
+        template.setCustomDateFormats(customDateFormats);
+        template.setDateFormat("@alloyDate");
+        return template;
+    }
+
+    public static CacheStats getTemplateCacheStats()
+    {
+        return templateCache.stats();
+    }
+
+    public static void publishTemplateCacheMetrics()
+    {
+        CacheStats stats = templateCache.stats();
+        MetricsHandler.setCacheMetrics(TEMPLATE_CACHE_NAME, templateCache.size(), stats.hitRate(), stats.evictionCount(), stats.averageLoadPenalty() / 1_000_000);
+    }
 }
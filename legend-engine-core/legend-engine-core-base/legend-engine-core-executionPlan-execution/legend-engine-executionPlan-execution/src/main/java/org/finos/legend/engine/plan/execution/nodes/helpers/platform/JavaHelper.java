@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.plan.compilation.ExecutionPlanDependenciesFilter;
+import org.finos.legend.engine.plan.execution.cache.compiledPlan.CompiledPlanClassesCache;
 import org.finos.legend.engine.plan.execution.result.ErrorResult;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.CompiledClass;
@@ -39,9 +40,20 @@ import org.finos.legend.engine.shared.javaCompiler.StringJavaSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 
 public class JavaHelper
 {
@@ -53,6 +65,15 @@ public class JavaHelper
     }
 
     public static EngineJavaCompiler compilePlan(SingleExecutionPlan singleExecutionPlan, Identity identity) throws JavaCompileException
+    {
+        return compilePlan(singleExecutionPlan, identity, CompiledPlanClassesCache.getDefault());
+    }
+
+    /**
+     * Compiles the Java classes of the plan, re-using the bytecode from the given cache when the same sources have
+     * already been compiled. A null cache compiles the plan without caching.
+     */
+    public static EngineJavaCompiler compilePlan(SingleExecutionPlan singleExecutionPlan, Identity identity, CompiledPlanClassesCache compiledClassesCache) throws JavaCompileException
     {
         try
         {
@@ -62,7 +83,7 @@ public class JavaHelper
             EngineJavaCompiler compiler;
             try
             {
-                compiler = compilePlanFast(singleExecutionPlan);
+                compiler = compilePlanFast(singleExecutionPlan, compiledClassesCache);
             }
             catch (Exception ignored)
             {
@@ -91,7 +112,7 @@ public class JavaHelper
         return new EngineJavaCompiler(JavaVersion.JAVA_8, ClassPathFilters.any(ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), ExecutionPlanJavaCompilerExtension::getExtraClassPathFilter, Lists.mutable.of(new ExecutionPlanDependenciesFilter()))));
     }
 
-    private static EngineJavaCompiler compilePlanFast(SingleExecutionPlan singleExecutionPlan) throws JavaCompileException, IOException, CompileException
+    private static EngineJavaCompiler compilePlanFast(SingleExecutionPlan singleExecutionPlan, CompiledPlanClassesCache compiledClassesCache) throws Exception
     {
         MutableMap<JavaPlatformImplementation, MutableList<JavaClass>> javaClassesMap = Maps.mutable.empty();
         if (singleExecutionPlan.globalImplementationSupport != null)
@@ -109,7 +130,6 @@ public class JavaHelper
             return null;
         }
 
-        EngineJavaCompiler javaCompiler = createNewJavaCompiler();
         MutableMap<JavaClass, JavaPlatformImplementation> reverseClassMap = Maps.mutable.empty();
         MutableList<JavaClass> executeClasses = Lists.mutable.empty();
         MutableList<JavaClass> nonExecuteClasses = Lists.mutable.empty();
@@ -119,9 +139,35 @@ public class JavaHelper
             (javaClassHasFullName(jclass, jimpl.executionClassFullName) ? executeClasses : nonExecuteClasses).add(jclass);
         }));
 
+        EngineJavaCompiler javaCompiler;
+        CompiledPlanClassesCache.CompiledPlanClasses compiledClasses;
+        if (compiledClassesCache == null)
+        {
+            javaCompiler = createNewJavaCompiler();
+            compiledClasses = compileJavaClasses(nonExecuteClasses, executeClasses, javaCompiler);
+        }
+        else
+        {
+            EngineJavaCompiler[] compiledBy = new EngineJavaCompiler[1];
+            compiledClasses = compiledClassesCache.get(computeCompiledClassesCacheKey(nonExecuteClasses, executeClasses, compiledClassesCache.isPersistent()), () ->
+            {
+                compiledBy[0] = createNewJavaCompiler();
+                return compileJavaClasses(nonExecuteClasses, executeClasses, compiledBy[0]);
+            });
+            if (compiledBy[0] != null)
+            {
+                javaCompiler = compiledBy[0];
+            }
+            else
+            {
+                // the bytecode comes from the cache: loading it is enough, javac does not need to run
+                javaCompiler = createNewJavaCompiler();
+                compiledClasses.classes.forEach(javaCompiler::load);
+            }
+        }
+
         MutableMap<String, JavaClass> classMap = nonExecuteClasses.groupByUniqueKey(JavaHelper::getJavaClassFullName);
-        MutableMap<String, String> classToBytecodeMap = compileJavaClasses(nonExecuteClasses, javaCompiler);
-        classToBytecodeMap.forEachKeyValue((name, bytecode) ->
+        compiledClasses.classes.forEach((name, bytecode) ->
         {
             JavaClass _class = classMap.get(name);
             if (_class == null)
@@ -148,18 +194,151 @@ public class JavaHelper
             _class.byteCode = bytecode;
         });
 
-        ClassLoader globalClassLoader = javaCompiler.getClassLoader();
+        for (JavaClass executeClass : executeClasses)
+        {
+            if (executeClass.byteCode == null)
+            {
+                executeClass.byteCode = compiledClasses.executionClasses.get(getJavaClassFullName(executeClass));
+            }
+        }
+
+        return javaCompiler;
+    }
 
+    private static CompiledPlanClassesCache.CompiledPlanClasses compileJavaClasses(MutableList<JavaClass> nonExecuteClasses, MutableList<JavaClass> executeClasses, EngineJavaCompiler javaCompiler) throws JavaCompileException, IOException, CompileException
+    {
+        MutableMap<String, String> classToBytecodeMap = compileJavaClasses(nonExecuteClasses, javaCompiler);
+
+        ClassLoader globalClassLoader = javaCompiler.getClassLoader();
+        MutableMap<String, String> executeClassToBytecodeMap = Maps.mutable.empty();
         for (JavaClass executeClass : executeClasses)
         {
             if (executeClass.byteCode == null)
             {
+                String executeClassFullName = getJavaClassFullName(executeClass);
                 Map<String, byte[]> classes = SingleFileCompiler.compileFile(buildStringJavaSource(executeClass), globalClassLoader);
-                executeClass.byteCode = Base64.getEncoder().encodeToString(classes.get(getJavaClassFullName(executeClass)));
+                executeClassToBytecodeMap.put(executeClassFullName, Base64.getEncoder().encodeToString(classes.get(executeClassFullName)));
             }
         }
+        return new CompiledPlanClassesCache.CompiledPlanClasses(classToBytecodeMap, executeClassToBytecodeMap);
+    }
 
-        return javaCompiler;
+    /**
+     * Hash of everything the compiled bytecode depends on: the sources (or bytecode) of the plan classes, and the class
+     * path filters and class path they are compiled against. The class path does not change for the life of the process,
+     * so it is only part of the key of a persistent cache. It is then identified by the content of its entries rather
+     * than their paths, so that an entry written to disk by another engine version is not reused.
+     */
+    private static String computeCompiledClassesCacheKey(MutableList<JavaClass> nonExecuteClasses, MutableList<JavaClass> executeClasses, boolean persistent) throws NoSuchAlgorithmException
+    {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        updateDigest(digest, JavaVersion.JAVA_8.name());
+        ListIterate.collect(ExecutionPlanJavaCompilerExtensionLoader.extensions(), e -> e.getClass().getName()).sortThis().forEach(name -> updateDigest(digest, name));
+        if (persistent)
+        {
+            updateDigest(digest, ClassPathFingerprint.VALUE);
+        }
+        updateDigest(digest, nonExecuteClasses, "class");
+        updateDigest(digest, executeClasses, "executionClass");
+        return toHex(digest.digest());
+    }
+
+    private static String computeClassPathFingerprint()
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator))
+            {
+                if (entry.isEmpty())
+                {
+                    continue;
+                }
+                updateDigest(digest, entry);
+                Path path = Paths.get(entry);
+                if (Files.isRegularFile(path))
+                {
+                    // The CRCs of the central directory identify the content of a jar, without reading it all
+                    try (ZipFile zipFile = new ZipFile(path.toFile()))
+                    {
+                        zipFile.stream().forEach(zipEntry ->
+                        {
+                            updateDigest(digest, zipEntry.getName());
+                            updateDigest(digest, String.valueOf(zipEntry.getCrc()));
+                        });
+                    }
+                    catch (IOException e)
+                    {
+                        updateDigest(digest, fileVersion(path));
+                    }
+                }
+                else if (Files.isDirectory(path))
+                {
+                    try (Stream<Path> files = Files.walk(path))
+                    {
+                        files.filter(Files::isRegularFile).sorted().forEach(file ->
+                        {
+                            updateDigest(digest, path.relativize(file).toString());
+                            updateDigest(digest, fileVersion(file));
+                        });
+                    }
+                }
+            }
+            return toHex(digest.digest());
+        }
+        catch (NoSuchAlgorithmException | IOException e)
+        {
+            LOGGER.warn("Unable to fingerprint the class path, compiled plan classes are cached for this process only", e);
+            // Unique to this process, so that entries shared on disk are never reused by another process
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private static String fileVersion(Path file)
+    {
+        try
+        {
+            return Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis();
+        }
+        catch (IOException e)
+        {
+            return "unknown";
+        }
+    }
+
+    private static String toHex(byte[] bytes)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : bytes)
+        {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    private static class ClassPathFingerprint
+    {
+        // Computed once, when a persistent cache is first used, as the class path does not change for the life of the process
+        private static final String VALUE = computeClassPathFingerprint();
+    }
+
+    private static void updateDigest(MessageDigest digest, MutableList<JavaClass> javaClasses, String kind)
+    {
+        javaClasses.toSortedListBy(JavaHelper::getJavaClassFullName).forEach(javaClass ->
+        {
+            updateDigest(digest, kind);
+            updateDigest(digest, getJavaClassFullName(javaClass));
+            updateDigest(digest, (javaClass.byteCode == null) ? "source" : "bytecode");
+            updateDigest(digest, (javaClass.byteCode == null) ? javaClass.source : javaClass.byteCode);
+        });
+    }
+
+    private static void updateDigest(MessageDigest digest, String value)
+    {
+        // length prefixed, so that the boundaries between values are part of the hash
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
     }
 
     private static void collectJavaClasses(ExecutionNode executionNode, Map<JavaPlatformImplementation, ? super MutableList<JavaClass>> javaClassesMap)
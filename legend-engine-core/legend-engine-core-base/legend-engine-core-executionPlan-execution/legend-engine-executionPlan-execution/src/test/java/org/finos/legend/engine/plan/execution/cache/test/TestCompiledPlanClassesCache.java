@@ -0,0 +1,206 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.cache.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutionContext;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.cache.compiledPlan.CompiledPlanClassesCache;
+import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.datatype.primitive.CString;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaClass;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.JavaPlatformImplementation;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class TestCompiledPlanClassesCache
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(TestCompiledPlanClassesCache.class);
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testRepeatedExecutionsOfTheSamePlanOnlyCompileOnce() throws Exception
+    {
+        CompiledPlanClassesCache cache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, null);
+        int executions = 10;
+        for (int i = 0; i < executions; i++)
+        {
+            // a freshly deserialized plan carries sources only, as when a service is executed
+            SingleExecutionPlan plan = newPlan();
+            long start = System.nanoTime();
+            EngineJavaCompiler compiler = JavaHelper.compilePlan(plan, Identity.getAnonymousIdentity(), cache);
+            LOGGER.info("Execution {}: plan classes ready in {} ms", i, (System.nanoTime() - start) / 1_000_000);
+            assertCompiled(plan, compiler);
+        }
+        Assert.assertEquals(1, cache.stats().missCount());
+        Assert.assertEquals(executions - 1, cache.stats().hitCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCompiledClassesAreReadFromDisk() throws Exception
+    {
+        File directory = this.temporaryFolder.newFolder();
+        CompiledPlanClassesCache cache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, directory.getAbsolutePath());
+        JavaHelper.compilePlan(newPlan(), Identity.getAnonymousIdentity(), cache);
+
+        File[] entries = directory.listFiles((dir, name) -> name.endsWith(".json"));
+        Assert.assertNotNull(entries);
+        Assert.assertEquals(1, entries.length);
+        String key = entries[0].getName().substring(0, entries[0].getName().length() - ".json".length());
+
+        // a new process sharing the directory does not compile again
+        CompiledPlanClassesCache restartedCache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, directory.getAbsolutePath());
+        CompiledPlanClassesCache.CompiledPlanClasses fromDisk = restartedCache.get(key, () ->
+        {
+            throw new AssertionError("Compiled classes should have been read from disk");
+        });
+        Assert.assertTrue(fromDisk.classes.containsKey("_pure.plan.Helper"));
+
+        SingleExecutionPlan plan = newPlan();
+        assertCompiled(plan, JavaHelper.compilePlan(plan, Identity.getAnonymousIdentity(), restartedCache));
+        Assert.assertEquals(1, restartedCache.stats().hitCount());
+    }
+
+    @Test
+    public void testEntriesThatDoNotMatchTheirHashAreCompiledAgain() throws Exception
+    {
+        File directory = this.temporaryFolder.newFolder();
+        CompiledPlanClassesCache cache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, directory.getAbsolutePath());
+        JavaHelper.compilePlan(newPlan(), Identity.getAnonymousIdentity(), cache);
+
+        File[] entries = directory.listFiles((dir, name) -> name.endsWith(".json"));
+        Assert.assertNotNull(entries);
+        Assert.assertEquals(1, entries.length);
+        String key = entries[0].getName().substring(0, entries[0].getName().length() - ".json".length());
+        Assert.assertTrue(new File(directory, key + ".sha256").isFile());
+
+        // the bytecode of the entry is altered on disk, keeping it valid JSON
+        String content = new String(Files.readAllBytes(entries[0].toPath()), StandardCharsets.UTF_8);
+        String alteredContent = content.replace("\"_pure.plan.Helper\":\"", "\"_pure.plan.Helper\":\"AAAA");
+        Assert.assertNotEquals(content, alteredContent);
+        Files.write(entries[0].toPath(), alteredContent.getBytes(StandardCharsets.UTF_8));
+
+        CompiledPlanClassesCache restartedCache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, directory.getAbsolutePath());
+        boolean[] compiled = {false};
+        restartedCache.get(key, () ->
+        {
+            compiled[0] = true;
+            return cache.get(key, () ->
+            {
+                throw new AssertionError("Compiled classes should be in memory");
+            });
+        });
+        Assert.assertTrue(compiled[0]);
+
+        // the entry compiled again replaces the altered one
+        CompiledPlanClassesCache.CompiledPlanClasses fromDisk = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, directory.getAbsolutePath()).get(key, () ->
+        {
+            throw new AssertionError("Compiled classes should have been read from disk");
+        });
+        Assert.assertEquals(cache.get(key, () -> null).classes, fromDisk.classes);
+    }
+
+    @Test
+    public void testPlansWithDifferentSourcesAreCachedSeparately() throws Exception
+    {
+        CompiledPlanClassesCache cache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, null);
+        JavaHelper.compilePlan(newPlan(), Identity.getAnonymousIdentity(), cache);
+        SingleExecutionPlan otherPlan = newPlan();
+        ((JavaPlatformImplementation) otherPlan.globalImplementationSupport).classes.get(0).source = helperSource("hello again");
+        EngineJavaCompiler compiler = JavaHelper.compilePlan(otherPlan, Identity.getAnonymousIdentity(), cache);
+        Assert.assertEquals("hello again", compiler.getClassLoader().loadClass("_pure.plan.Helper").getMethod("greet").invoke(null));
+        Assert.assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    public void testPlanExecutionContextsAreCompiledWithTheCacheOfTheExecutor() throws Exception
+    {
+        CompiledPlanClassesCache cache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, null);
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder().withCompiledPlanClassesCache(cache).build();
+        for (int i = 0; i < 2; i++)
+        {
+            SingleExecutionPlan plan = newPlan();
+            PlanExecutionContext context = planExecutor.buildPlanExecutionContext(plan);
+            Assert.assertEquals("value", ((ConstantResult) planExecutor.execute(plan, Maps.mutable.empty(), null, Identity.getAnonymousIdentity(), context)).getValue());
+        }
+        Assert.assertEquals(1, cache.stats().missCount());
+        Assert.assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    public void testPlanExecutionContextsAreNotCompiledWhenJavaCompilationIsForbidden() throws Exception
+    {
+        CompiledPlanClassesCache cache = new CompiledPlanClassesCache(CompiledPlanClassesCache.DEFAULT_MAXIMUM_BYTECODE_SIZE, null);
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder().withCompiledPlanClassesCache(cache).isJavaCompilationAllowed(false).build();
+        SingleExecutionPlan plan = newPlan();
+        PlanExecutionContext context = planExecutor.buildPlanExecutionContext(plan);
+        Assert.assertEquals("value", ((ConstantResult) planExecutor.execute(plan, Maps.mutable.empty(), null, Identity.getAnonymousIdentity(), context)).getValue());
+        Assert.assertEquals(0, cache.stats().requestCount());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    private static void assertCompiled(SingleExecutionPlan plan, EngineJavaCompiler compiler) throws Exception
+    {
+        JavaClass helper = ((JavaPlatformImplementation) plan.globalImplementationSupport).classes.get(0);
+        Assert.assertNotNull(helper.byteCode);
+        Assert.assertEquals("hello", compiler.getClassLoader().loadClass("_pure.plan.Helper").getMethod("greet").invoke(null));
+    }
+
+    private static SingleExecutionPlan newPlan()
+    {
+        JavaClass helper = JavaHelper.newJavaClass("_pure.plan.Helper");
+        helper.source = helperSource("hello");
+        JavaPlatformImplementation implementation = new JavaPlatformImplementation();
+        implementation.classes = Lists.mutable.with(helper);
+
+        ConstantExecutionNode root = new ConstantExecutionNode();
+        root.values = new CString("value");
+
+        SingleExecutionPlan plan = new SingleExecutionPlan();
+        plan.globalImplementationSupport = implementation;
+        plan.rootExecutionNode = root;
+        return plan;
+    }
+
+    private static String helperSource(String greeting)
+    {
+        return "package _pure.plan;\n" +
+                "\n" +
+                "public class Helper\n" +
+                "{\n" +
+                "    public static String greet()\n" +
+                "    {\n" +
+                "        return \"" + greeting + "\";\n" +
+                "    }\n" +
+                "}\n";
+    }
+}
@@ -0,0 +1,120 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.protocol.pure.m3.valuespecification.constant.datatype.primitive.CString;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ConstantExecutionNode;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class TestConcurrentExecutionNodeExecutorPool
+{
+    @Test
+    public void testFixedThreadPoolFallsBackToSequentialWithoutEnoughThreads()
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(2, "fixed pool"))
+        {
+            assertResults(pool.execute(newNodes(2), Identity.getAnonymousIdentity(), newExecutionState()), 2);
+            assertResults(pool.execute(newNodes(3), Identity.getAnonymousIdentity(), newExecutionState()), 3);
+            Assert.assertEquals(1, pool.getConcurrentExecutionCount());
+            Assert.assertEquals(0, pool.getPartiallyConcurrentExecutionCount());
+            Assert.assertEquals(1, pool.getSequentialFallbackCount());
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsRunWithTheGrantedConcurrency()
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(4, "virtual pool", ConcurrentExecutionNodeExecutorPool.Mode.VIRTUAL_THREADS, 2))
+        {
+            assertResults(pool.execute(newNodes(2), Identity.getAnonymousIdentity(), newExecutionState()), 2);
+            assertResults(pool.execute(newNodes(7), Identity.getAnonymousIdentity(), newExecutionState()), 7);
+            Assert.assertEquals(1, pool.getConcurrentExecutionCount());
+            Assert.assertEquals(1, pool.getPartiallyConcurrentExecutionCount());
+            Assert.assertEquals(0, pool.getSequentialFallbackCount());
+            Assert.assertTrue(pool.toString(), pool.toString().contains("mode : VIRTUAL_THREADS, maxConcurrencyPerRequest : 2"));
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsFallBackToSequentialWhenPoolIsExhausted()
+    {
+        try (ConcurrentExecutionNodeExecutorPool pool = new ConcurrentExecutionNodeExecutorPool(1, "exhausted pool", ConcurrentExecutionNodeExecutorPool.Mode.VIRTUAL_THREADS, 4))
+        {
+            assertResults(pool.execute(newNodes(3), Identity.getAnonymousIdentity(), newExecutionState()), 3);
+            Assert.assertEquals(0, pool.getConcurrentExecutionCount());
+            Assert.assertEquals(1, pool.getSequentialFallbackCount());
+        }
+    }
+
+    @Test
+    public void testVirtualThreadsPoolFromConfiguration() throws Exception
+    {
+        ConcurrentExecutionNodeExecutorPoolConfiguration configuration = new ObjectMapper().readValue("{\"poolSize\": 4, \"mode\": \"VIRTUAL_THREADS\", \"maxConcurrencyPerRequest\": 2}", ConcurrentExecutionNodeExecutorPoolConfiguration.class);
+        try (ConcurrentExecutionNodeExecutorPool pool = configuration.newPool())
+        {
+            assertResults(pool.execute(newNodes(3), Identity.getAnonymousIdentity(), newExecutionState()), 3);
+            Assert.assertEquals(1, pool.getPartiallyConcurrentExecutionCount());
+            Assert.assertTrue(pool.toString(), pool.toString().contains("poolSize : 4, poolDescription : " + ConcurrentExecutionNodeExecutorPoolConfiguration.DEFAULT_POOL_DESCRIPTION + ", mode : VIRTUAL_THREADS, maxConcurrencyPerRequest : 2"));
+        }
+    }
+
+    @Test
+    public void testFixedThreadPoolIsTheConfigurationDefault() throws Exception
+    {
+        ConcurrentExecutionNodeExecutorPoolConfiguration configuration = new ObjectMapper().readValue("{\"poolSize\": 3}", ConcurrentExecutionNodeExecutorPoolConfiguration.class);
+        try (ConcurrentExecutionNodeExecutorPool pool = configuration.newPool())
+        {
+            Assert.assertTrue(pool.toString(), pool.toString().contains("poolSize : 3, poolDescription : " + ConcurrentExecutionNodeExecutorPoolConfiguration.DEFAULT_POOL_DESCRIPTION + ", mode : FIXED_THREAD_POOL, maxConcurrencyPerRequest : 3"));
+        }
+    }
+
+    private static void assertResults(List<? extends Result> results, int nodeCount)
+    {
+        Assert.assertEquals(nodeCount, results.size());
+        for (int i = 0; i < nodeCount; i++)
+        {
+            Assert.assertEquals("node" + i, ((ConstantResult) results.get(i)).getValue());
+        }
+    }
+
+    private static List<ExecutionNode> newNodes(int count)
+    {
+        List<ExecutionNode> nodes = FastList.newList();
+        for (int i = 0; i < count; i++)
+        {
+            ConstantExecutionNode node = new ConstantExecutionNode();
+            node.values = new CString("node" + i);
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private static ExecutionState newExecutionState()
+    {
+        return new ExecutionState(Maps.mutable.empty(), Collections.emptyList(), Collections.emptyList(), false, 0);
+    }
+}
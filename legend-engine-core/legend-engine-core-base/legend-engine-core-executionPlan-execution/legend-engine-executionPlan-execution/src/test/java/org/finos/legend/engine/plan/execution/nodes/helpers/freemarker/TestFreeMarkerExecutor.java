@@ -162,6 +162,38 @@ public class TestFreeMarkerExecutor
                 "Encountered \"\\\", listagg(\\\"\", but was expecting one of:", RuntimeException.class, () -> processRecursivelyWithFlagSwitching(sqlQuery6, new HashMap<String, String>(), "", ""));
     }
 
+    @Test
+    public void testTemplatesAreParsedOnce()
+    {
+        String query = "select * from person where id = ${personId} -- " + System.nanoTime();
+        long misses = FreeMarkerExecutor.getTemplateCacheStats().missCount();
+        long hits = FreeMarkerExecutor.getTemplateCacheStats().hitCount();
+        for (int i = 0; i < 3; i++)
+        {
+            Map rootMap = new HashMap();
+            rootMap.put("personId", new ConstantResult(i));
+            ExecutionState state = new ExecutionState(rootMap, Collections.emptyList(), Collections.emptyList(), false, 0);
+            Assert.assertTrue(FreeMarkerExecutor.process(query, state).startsWith("select * from person where id = " + i + " -- "));
+        }
+        Assert.assertEquals(misses + 1, FreeMarkerExecutor.getTemplateCacheStats().missCount());
+        Assert.assertEquals(hits + 2, FreeMarkerExecutor.getTemplateCacheStats().hitCount());
+    }
+
+    @Test
+    public void testExecutionSpecificTextsAreNotCached()
+    {
+        String query = "insert into temp_table values (1, 'a'), (2, 'b') -- " + System.nanoTime();
+        long misses = FreeMarkerExecutor.getTemplateCacheStats().missCount();
+        long hits = FreeMarkerExecutor.getTemplateCacheStats().hitCount();
+        for (int i = 0; i < 2; i++)
+        {
+            ExecutionState state = new ExecutionState(new HashMap<>(), Collections.emptyList(), Collections.emptyList(), false, 0);
+            Assert.assertEquals(query, FreeMarkerExecutor.process(query, state, null, null, false));
+        }
+        Assert.assertEquals(misses, FreeMarkerExecutor.getTemplateCacheStats().missCount());
+        Assert.assertEquals(hits, FreeMarkerExecutor.getTemplateCacheStats().hitCount());
+    }
+
     public static String collectionSizeTemplate()
     {
         return "<#function collectionSize collection>" +
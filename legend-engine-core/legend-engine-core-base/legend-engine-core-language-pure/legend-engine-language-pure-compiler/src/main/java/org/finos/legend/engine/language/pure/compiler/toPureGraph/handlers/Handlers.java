@@ -900,7 +900,7 @@ public class Handlers
     };
 
     private final Map<String, FunctionExpressionBuilder> map = UnifiedMap.newMap();
-    private final Map<String, Dispatch> dispatchMap;
+    private final Map<String, Dispatch> extensionDispatchMap;
     private final PureModel pureModel;
     private static final String Nil = "Nil";
 
@@ -912,7 +912,7 @@ public class Handlers
     public Handlers(PureModel pureModel)
     {
         this.pureModel = pureModel;
-        this.dispatchMap = buildDispatch();
+        this.extensionDispatchMap = buildExtensionDispatch();
 
         registerAdditionalSubtypes(pureModel.getContext().getCompilerExtensions());
 
@@ -2347,7 +2347,11 @@ public class Handlers
 
     private void mayReplace(FunctionHandler handler)
     {
-        Dispatch di = this.dispatchMap.get(handler.getFullName());
+        Dispatch di = this.extensionDispatchMap.get(handler.getFullName());
+        if (di == null)
+        {
+            di = CoreDispatch.INDEX.get(handler.getFullName());
+        }
         if (di != null)
         {
             handler.setDispatch(di);
@@ -2455,22 +2459,22 @@ public class Handlers
 
     public static GenericType funcReturnType(ValueSpecification vs, PureModel pm)
     {
-        return funcType(vs._genericType(), pm)._returnType();
+        return funcType(vs._genericType())._returnType();
     }
 
     public static Multiplicity funcReturnMul(ValueSpecification vs, PureModel pm)
     {
-        return funcType(vs._genericType(), pm)._returnMultiplicity();
+        return funcType(vs._genericType())._returnMultiplicity();
     }
 
     private GenericType funcReturnType(ValueSpecification vs)
     {
-        return funcType(vs._genericType(), this.pureModel)._returnType();
+        return funcType(vs._genericType())._returnType();
     }
 
     private GenericType funcParamType(ValueSpecification vs, int index)
     {
-        List<VariableExpression> parameters = FastList.newList(funcType(vs._genericType(), this.pureModel)._parameters());
+        List<VariableExpression> parameters = FastList.newList(funcType(vs._genericType())._parameters());
         return parameters.get(index)._genericType();
     }
 
@@ -2542,51 +2546,53 @@ public class Handlers
     // Required functions below
     //--------------------------
 
-    private <T> boolean check(T val, Function<T, Boolean> func)
+    private static <T> boolean check(T val, Function<T, Boolean> func)
     {
         return func.apply(val);
     }
 
-    private static FunctionType funcType(GenericType gt, PureModel pm)
+    // The function type of a path is built from the core metadata, so that the dispatch index can be shared by all the models
+    private static FunctionType funcType(GenericType gt)
     {
         if (gt._rawType()._name().equals("Path"))
         {
             RichIterable<? extends GenericType> g = gt._typeArguments();
             Multiplicity m = gt._multiplicityArguments().getFirst();
-            return (FunctionType) PureModel.buildFunctionType(FastList.newListWith(new Root_meta_pure_metamodel_valuespecification_VariableExpression_Impl("", null, pm.getClass("meta::pure::metamodel::valuespecification::VariableExpression"))._genericType(g.getFirst())._multiplicity(pm.getMultiplicity("one"))), g.getLast(), m, pm)._rawType();
+            VariableExpression parameter = new Root_meta_pure_metamodel_valuespecification_VariableExpression_Impl("", null, (org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?>) PureModel.METADATA_LAZY.getMetadata(M3Paths.Class, "Root::meta::pure::metamodel::valuespecification::VariableExpression"))
+                    ._genericType(g.getFirst())
+                    ._multiplicity((Multiplicity) PureModel.METADATA_LAZY.getMetadata(M3Paths.PackageableMultiplicity, "Root::meta::pure::metamodel::multiplicity::PureOne"));
+            return new Root_meta_pure_metamodel_type_FunctionType_Impl("", null, (org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Class<?>) PureModel.METADATA_LAZY.getMetadata(M3Paths.Class, "Root::" + M3Paths.FunctionType))
+                    ._parameters(FastList.newListWith(parameter))
+                    ._returnType(g.getLast())
+                    ._returnMultiplicity(m);
         }
         return (FunctionType) gt._typeArguments().getFirst()._rawType();
     }
 
-    private FunctionType funcType(GenericType gt)
-    {
-        return funcType(gt, this.pureModel);
-    }
-
-    public boolean isOne(Multiplicity mul)
+    public static boolean isOne(Multiplicity mul)
     {
         // mul._upperBound() != null && mul._lowerBound() both could be null if the multiplicity is a type param pulled from the Pure graph
         return mul._upperBound() != null && mul._lowerBound() != null && mul._upperBound()._value() != null && mul._lowerBound()._value() == 1L && mul._upperBound()._value() == 1L;
     }
 
-    private boolean matchZeroOne(Multiplicity mul)
+    private static boolean matchZeroOne(Multiplicity mul)
     {
         // engine doesn't support Generics at model level ... We assume that a typeParameter is *. The use case is Result<T,m> used in Service tests
         return mul._multiplicityParameter() == null && mul._upperBound()._value() != null && (mul._upperBound()._value() == 0L || mul._upperBound()._value() == 1L);
     }
 
-    private boolean matchOneMany(Multiplicity mul)
+    private static boolean matchOneMany(Multiplicity mul)
     {
         return isMinimumOne(mul);
     }
 
-    private boolean isMinimumOne(Multiplicity mul)
+    private static boolean isMinimumOne(Multiplicity mul)
     {
         return mul._lowerBound()._value() >= 1L;
     }
 
 
-    private void registerUnknown(Map<String, Dispatch> map)
+    private static void registerUnknown(Map<String, Dispatch> map)
     {
         map.put("meta::dsb::query::functions::filterReportDates_Any_1__Date_1__Date_1__Function_1__Boolean_1_", (List<ValueSpecification> ps) -> ps.size() == 4 && isOne(ps.get(0)._multiplicity()) && isOne(ps.get(1)._multiplicity()) && taxoMap.get("cov_Date").contains(ps.get(1)._genericType()._rawType()._name()) && isOne(ps.get(2)._multiplicity()) && taxoMap.get("cov_Date").contains(ps.get(2)._genericType()._rawType()._name()) && isOne(ps.get(3)._multiplicity()) && ("Nil".equals(ps.get(3)._genericType()._rawType()._name()) || check(funcType(ps.get(3)._genericType()), (FunctionType ft) -> matchZeroOne(ft._returnMultiplicity()) && taxoMap.get("cov_Date").contains(ft._returnType()._rawType()._name()) && check(ft._parameters().toList(), (List<? extends VariableExpression> nps) -> nps.size() == 1 && isOne(nps.get(0)._multiplicity())))));
         map.put("meta::dsb::query::functions::filterReportDates_Any_1__Date_1__Function_1__Boolean_1_", (List<ValueSpecification> ps) -> ps.size() == 3 && isOne(ps.get(0)._multiplicity()) && isOne(ps.get(1)._multiplicity()) && taxoMap.get("cov_Date").contains(ps.get(1)._genericType()._rawType()._name()) && isOne(ps.get(2)._multiplicity()) && ("Nil".equals(ps.get(2)._genericType()._rawType()._name()) || check(funcType(ps.get(2)._genericType()), (FunctionType ft) -> matchZeroOne(ft._returnMultiplicity()) && taxoMap.get("cov_Date").contains(ft._returnType()._rawType()._name()) && check(ft._parameters().toList(), (List<? extends VariableExpression> nps) -> nps.size() == 1 && isOne(nps.get(0)._multiplicity())))));
@@ -2625,6 +2631,22 @@ public class Handlers
         map.put("meta::pure::functions::date::calendar::ytd_Date_1__String_1__Date_1__Number_$0_1$", (List<ValueSpecification> ps) -> ps.size() == 4 && isOne(ps.get(0)._multiplicity()) && taxoMap.get("cov_Date").contains(ps.get(0)._genericType()._rawType()._name()) && isOne(ps.get(1)._multiplicity()) && taxoMap.get("cov_String").contains(ps.get(1)._genericType()._rawType()._name()) && isOne(ps.get(2)._multiplicity()) && taxoMap.get("cov_Date").contains(ps.get(2)._genericType()._rawType()._name()) && matchZeroOne(ps.get(3)._multiplicity()) && taxoMap.get("cov_Number").contains(ps.get(3)._genericType()._rawType()._name()));
     }
 
+    private Map<String, Dispatch> buildExtensionDispatch()
+    {
+        Map<String, Dispatch> map = Maps.mutable.empty();
+        ListIterate.flatCollect(this.pureModel.getContext().getCompilerExtensions().getExtraFunctionHandlerDispatchBuilderInfoCollectors(), collector -> collector.valueOf(this)).forEach(info -> map.put(info.functionName, info.dispatch));
+        return map;
+    }
+
+    /**
+     * The dispatch of the core functions does not depend on the model: it is built once, on first use, and shared by
+     * all the handlers. Dispatches contributed by extensions are bound to the handlers (see buildExtensionDispatch).
+     */
+    private static class CoreDispatch
+    {
+        private static final Map<String, Dispatch> INDEX = Collections.unmodifiableMap(buildDispatch());
+    }
+
     private void registerAdditionalSubtypes(CompilerExtensions compilerExtensions)
     {
         compilerExtensions.getExtraSubTypesForFunctionMatching().forEach((key, value) ->
@@ -2708,9 +2730,8 @@ public class Handlers
         return map;
     }
 
-    private Map<String, Dispatch> buildDispatch()
+    private static Map<String, Dispatch> buildDispatch()
     {
-        CompileContext context = this.pureModel.getContext();
         Map<String, Dispatch> map = Maps.mutable.empty();
         registerUnknown(map);
         map.put("meta::core::runtime::getRuntimeWithModelConnection_Class_1__Any_MANY__Runtime_1_", (List<ValueSpecification> ps) -> ps.size() == 2 && isOne(ps.get(0)._multiplicity()) && taxoMap.get("cov_type_Class").contains(ps.get(0)._genericType()._rawType()._name()));
@@ -3395,7 +3416,6 @@ public class Handlers
         map.put("meta::pure::tds::tdsContains_T_1__Function_MANY__String_MANY__TabularDataSet_1__Function_1__Boolean_1_", (List<ValueSpecification> ps) -> ps.size() == 5 && isOne(ps.get(0)._multiplicity()) && ("Nil".equals(ps.get(1)._genericType()._rawType()._name()) || check(funcType(ps.get(1)._genericType()), (FunctionType ft) -> matchZeroOne(ft._returnMultiplicity()) && check(ft._parameters().toList(), (List<? extends VariableExpression> nps) -> nps.size() == 1 && isOne(nps.get(0)._multiplicity())))) && taxoMap.get("cov_String").contains(ps.get(2)._genericType()._rawType()._name()) && isOne(ps.get(3)._multiplicity()) && taxoMap.get("cov_tds_TabularDataSet").contains(ps.get(3)._genericType()._rawType()._name()) && isOne(ps.get(4)._multiplicity()) && ("Nil".equals(ps.get(4)._genericType()._rawType()._name()) || check(funcType(ps.get(4)._genericType()), (FunctionType ft) -> isOne(ft._returnMultiplicity()) && taxoMap.get("cov_Boolean").contains(ft._returnType()._rawType()._name()) && check(ft._parameters().toList(), (List<? extends VariableExpression> nps) -> nps.size() == 2 && isOne(nps.get(0)._multiplicity()) && taxoMap.get("contra_tds_TDSRow").contains(nps.get(0)._genericType()._rawType()._name()) && isOne(nps.get(1)._multiplicity()) && taxoMap.get("contra_tds_TDSRow").contains(nps.get(1)._genericType()._rawType()._name())))));
         map.put("meta::pure::tds::tdsContains_T_1__Function_MANY__TabularDataSet_1__Boolean_1_", (List<ValueSpecification> ps) -> ps.size() == 3 && isOne(ps.get(0)._multiplicity()) && ("Nil".equals(ps.get(1)._genericType()._rawType()._name()) || check(funcType(ps.get(1)._genericType()), (FunctionType ft) -> matchZeroOne(ft._returnMultiplicity()) && check(ft._parameters().toList(), (List<? extends VariableExpression> nps) -> nps.size() == 1 && isOne(nps.get(0)._multiplicity())))) && isOne(ps.get(2)._multiplicity()) && taxoMap.get("cov_tds_TabularDataSet").contains(ps.get(2)._genericType()._rawType()._name()));
         map.put("meta::pure::tds::tdsRows_TabularDataSet_1__TDSRow_MANY_", (List<ValueSpecification> ps) -> ps.size() == 1 && isOne(ps.get(0)._multiplicity()) && taxoMap.get("cov_tds_TabularDataSet").contains(ps.get(0)._genericType()._rawType()._name()));
-        ListIterate.flatCollect(context.getCompilerExtensions().getExtraFunctionHandlerDispatchBuilderInfoCollectors(), collector -> collector.valueOf(this)).forEach(info -> map.put(info.functionName, info.dispatch));
         return map;
     }
 
@@ -24,9 +24,12 @@ import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.engine.language.pure.compiler.Compiler;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.CompileContext;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.ProcessingContext;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModelProcessParameter;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.ValueSpecificationBuilder;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.Warning;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.handlers.FunctionHandler;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
 import org.finos.legend.engine.protocol.pure.m3.multiplicity.Multiplicity;
 import org.finos.legend.engine.protocol.pure.m3.type.generics.GenericType;
@@ -212,6 +215,30 @@ public class TestCompilationFromGrammar
         Assert.assertTrue("With caching in the compiler, it is expected to take no longer than 3000ms, but took: " + timeTaken, timeTaken < 3000);
     }
 
+    @Test
+    public void testFunctionDispatchIsSharedByPureModels()
+    {
+        // the function dispatch index is shared by all the models, only the function handlers are built per model
+        PureModelContextData modelData = PureGrammarParser.newInstance().parseModel("Class test::Person\n" +
+                "{\n" +
+                "  firstName: String[1];\n" +
+                "}\n");
+        PureModel first = Compiler.compile(modelData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        PureModel second = Compiler.compile(modelData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+
+        FunctionHandler firstHandler = toUpperHandler(first);
+        FunctionHandler secondHandler = toUpperHandler(second);
+        Assert.assertNotSame(firstHandler, secondHandler);
+        Assert.assertNotNull(firstHandler.getDispatch());
+        Assert.assertSame(firstHandler.getDispatch(), secondHandler.getDispatch());
+    }
+
+    private static FunctionHandler toUpperHandler(PureModel pureModel)
+    {
+        ValueSpecificationBuilder builder = new ValueSpecificationBuilder(pureModel.getContext(), Lists.mutable.empty(), new ProcessingContext(""));
+        return pureModel.getHandlers().getExpressionBuilder("toUpper", null, builder).handlers().getFirst();
+    }
+
     @Test
     public void testCompilationFromGrammarWithParsingError()
     {
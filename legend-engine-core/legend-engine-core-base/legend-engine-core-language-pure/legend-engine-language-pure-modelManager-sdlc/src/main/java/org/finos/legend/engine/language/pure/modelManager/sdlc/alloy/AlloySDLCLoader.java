@@ -30,13 +30,29 @@ import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 public class AlloySDLCLoader
 {
     private final MetaDataServerConfiguration metaDataServerConfiguration;
+    private final PureModelContextDataDiskCache diskCache;
 
     public AlloySDLCLoader(MetaDataServerConfiguration metaDataServerConfiguration)
+    {
+        this(metaDataServerConfiguration, metaDataServerConfiguration.pureModelContextDataCacheDirectory == null ? null : new PureModelContextDataDiskCache(metaDataServerConfiguration.pureModelContextDataCacheDirectory, metaDataServerConfiguration.pureModelContextDataCacheMaxSizeMB));
+    }
+
+    public AlloySDLCLoader(MetaDataServerConfiguration metaDataServerConfiguration, PureModelContextDataDiskCache diskCache)
     {
         this.metaDataServerConfiguration = metaDataServerConfiguration;
+        this.diskCache = diskCache;
     }
 
     public PureModelContextData loadAlloyProject(Identity identity, AlloySDLC alloySDLC, String clientVersion, Function<Identity, CloseableHttpClient> httpClientProvider)
+    {
+        if (this.diskCache != null && !isLatestRevision(alloySDLC) && PureModelContextDataDiskCache.isCacheable(alloySDLC))
+        {
+            return this.diskCache.get(alloySDLC, clientVersion, () -> loadAlloyProjectFromMetadataServer(identity, alloySDLC, clientVersion, httpClientProvider));
+        }
+        return loadAlloyProjectFromMetadataServer(identity, alloySDLC, clientVersion, httpClientProvider);
+    }
+
+    private PureModelContextData loadAlloyProjectFromMetadataServer(Identity identity, AlloySDLC alloySDLC, String clientVersion, Function<Identity, CloseableHttpClient> httpClientProvider)
     {
         return SDLCLoader.loadMetadataFromHTTPURL(identity, LoggingEventType.METADATA_REQUEST_ALLOY_PROJECT_START, LoggingEventType.METADATA_REQUEST_ALLOY_PROJECT_STOP, getMetaDataApiUrl(identity, alloySDLC, clientVersion), httpClientProvider);
     }
@@ -0,0 +1,237 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager.sdlc.alloy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.finos.legend.engine.protocol.pure.v1.PureProtocolObjectMapperFactory;
+import org.finos.legend.engine.protocol.pure.v1.model.context.AlloySDLC;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
+import org.slf4j.Logger;
+
+/**
+ * Local disk cache of the PureModelContextData of released project versions, stored in the Smile binary format.
+ * <p>
+ * The content of a released version never changes, so once a version has been downloaded from the metadata server it is
+ * served from disk, including after a restart. Entries are keyed by a hash of the project coordinates, version and client
+ * version; snapshot versions are never cached. The size of the directory is bounded: once it goes over the maximum size, the
+ * least recently used entries are deleted.
+ */
+public class PureModelContextDataDiskCache
+{
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(PureModelContextDataDiskCache.class);
+    private static final String FILE_EXTENSION = ".smile";
+    public static final long DEFAULT_MAX_SIZE_MB = 1024;
+
+    private final Path directory;
+    private final long maxSizeBytes;
+    private final ObjectMapper smileMapper = ObjectMapperFactory.withStandardConfigurations(
+            PureProtocolObjectMapperFactory.withPureProtocolConverter(
+                    PureProtocolObjectMapperFactory.withPureProtocolExtensions(new ObjectMapper(new SmileFactory()))
+            )
+    );
+
+    public PureModelContextDataDiskCache(String directory)
+    {
+        this(directory, null);
+    }
+
+    public PureModelContextDataDiskCache(String directory, Long maxSizeMB)
+    {
+        this(Paths.get(directory), (maxSizeMB == null ? DEFAULT_MAX_SIZE_MB : maxSizeMB) * 1024 * 1024);
+    }
+
+    public PureModelContextDataDiskCache(Path directory, long maxSizeBytes)
+    {
+        this.directory = directory;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    public static boolean isCacheable(AlloySDLC alloySDLC)
+    {
+        return alloySDLC.version != null && !alloySDLC.version.equals("none") && !alloySDLC.version.endsWith("-SNAPSHOT");
+    }
+
+    public PureModelContextData get(AlloySDLC alloySDLC, String clientVersion, Supplier<PureModelContextData> loader)
+    {
+        Path file = this.directory.resolve(cacheKey(alloySDLC, clientVersion) + FILE_EXTENSION);
+        PureModelContextData cached = read(file);
+        if (cached != null)
+        {
+            return cached;
+        }
+        PureModelContextData loaded = loader.get();
+        write(file, loaded);
+        evictOverMaxSize(file);
+        return loaded;
+    }
+
+    private PureModelContextData read(Path file)
+    {
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file)))
+        {
+            PureModelContextData data = this.smileMapper.readValue(stream, PureModelContextData.class);
+            // The modification time tracks the last use of an entry, for the least recently used entries to be evicted first
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return data;
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to read cached PureModelContextData from {}, it will be loaded from the metadata server", file, e);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    private void write(Path file, PureModelContextData data)
+    {
+        Path tempFile = null;
+        try
+        {
+            Files.createDirectories(this.directory);
+            // Written to a temporary file first, so that concurrent readers never see a partially written entry
+            tempFile = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+            try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(tempFile)))
+            {
+                this.smileMapper.writeValue(stream, data);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (Exception e)
+        {
+            LOGGER.warn("Unable to cache PureModelContextData to {}", file, e);
+            if (tempFile != null)
+            {
+                deleteQuietly(tempFile);
+            }
+        }
+    }
+
+    private synchronized void evictOverMaxSize(Path newEntry)
+    {
+        List<Path> entries;
+        try (Stream<Path> files = Files.list(this.directory))
+        {
+            entries = files.filter(f -> f.getFileName().toString().endsWith(FILE_EXTENSION)).collect(Collectors.toList());
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to list the PureModelContextData cache directory {}", this.directory, e);
+            return;
+        }
+        long totalSize = entries.stream().mapToLong(PureModelContextDataDiskCache::sizeQuietly).sum();
+        if (totalSize <= this.maxSizeBytes)
+        {
+            return;
+        }
+        // Read the modification times once, as entries can be used (and touched) while sorting
+        Map<Path, Long> lastUsed = entries.stream().collect(Collectors.toMap(f -> f, PureModelContextDataDiskCache::lastModifiedQuietly));
+        entries.sort(Comparator.comparingLong(lastUsed::get));
+        for (Path entry : entries)
+        {
+            if (totalSize <= this.maxSizeBytes)
+            {
+                break;
+            }
+            if (entry.equals(newEntry))
+            {
+                // The entry just loaded is kept, even when it is the only one and is over the maximum size on its own
+                continue;
+            }
+            long size = sizeQuietly(entry);
+            deleteQuietly(entry);
+            totalSize -= size;
+            LOGGER.info("Evicted cached PureModelContextData {} ({} bytes), the cache directory is over its maximum size", entry, size);
+        }
+    }
+
+    private static long sizeQuietly(Path file)
+    {
+        try
+        {
+            return Files.size(file);
+        }
+        catch (IOException e)
+        {
+            return 0;
+        }
+    }
+
+    private static long lastModifiedQuietly(Path file)
+    {
+        try
+        {
+            return Files.getLastModifiedTime(file).toMillis();
+        }
+        catch (IOException e)
+        {
+            return 0;
+        }
+    }
+
+    private static String cacheKey(AlloySDLC alloySDLC, String clientVersion)
+    {
+        String coordinates = alloySDLC.groupId + ":" + alloySDLC.artifactId + ":" + alloySDLC.version + ":" + clientVersion;
+        try
+        {
+            StringBuilder builder = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(coordinates.getBytes(StandardCharsets.UTF_8)))
+            {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file)
+    {
+        try
+        {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ignored)
+        {
+            // a stale entry is overwritten by the next successful load
+        }
+    }
+}
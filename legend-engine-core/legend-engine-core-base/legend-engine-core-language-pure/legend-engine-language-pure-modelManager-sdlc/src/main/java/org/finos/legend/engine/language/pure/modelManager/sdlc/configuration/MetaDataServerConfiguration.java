@@ -33,6 +33,12 @@ public class MetaDataServerConfiguration
     public ServerConnectionConfiguration pure;
     @JsonProperty
     public ServerConnectionConfiguration sdlc;
+    // When set, the project versions loaded from the metadata server are also cached in this directory
+    @JsonProperty
+    public String pureModelContextDataCacheDirectory;
+    // Maximum size of the cache directory, the least recently used versions are deleted over it (defaults to 1GB)
+    @JsonProperty
+    public Long pureModelContextDataCacheMaxSizeMB;
 
     public MetaDataServerConfiguration()
     {
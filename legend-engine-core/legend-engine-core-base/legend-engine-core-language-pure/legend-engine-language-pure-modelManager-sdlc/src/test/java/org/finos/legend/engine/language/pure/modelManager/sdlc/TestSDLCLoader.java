@@ -23,11 +23,13 @@ import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import io.opentracing.mock.MockSpan;
 import io.opentracing.mock.MockTracer;
 import io.opentracing.util.GlobalTracer;
+import java.io.File;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.security.auth.Subject;
 import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.pure.modelManager.sdlc.alloy.PureModelContextDataDiskCache;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.MetaDataServerConfiguration;
 import org.finos.legend.engine.language.pure.modelManager.sdlc.configuration.ServerConnectionConfiguration;
 import org.finos.legend.engine.protocol.Protocol;
@@ -48,6 +50,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class TestSDLCLoader
 {
@@ -57,6 +60,9 @@ public class TestSDLCLoader
     @Rule
     public WireMockClassRule rule = wireMockServer;
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private static final MockTracer tracer = new MockTracer();
 
     private static final String CLIENT_VERSION = "v1_33_0";
@@ -121,6 +127,57 @@ public class TestSDLCLoader
         }
     }
 
+    @Test
+    public void testSdlcLoaderServesReleasedVersionsFromDiskCache() throws Exception
+    {
+        PureModelContextPointer pointer = getPureModelContextPointer();
+        String cacheDirectory = temporaryFolder.newFolder("pmcd-cache").toString();
+
+        configureWireMockForRetries();
+        PureModelContextData pmcdLoaded = createSDLCLoader(cacheDirectory).load(Identity.getAnonymousIdentity(), pointer, CLIENT_VERSION, tracer.activeSpan());
+        Assert.assertNotNull(pmcdLoaded);
+        WireMock.verify(3, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/alloy/projects/groupId/artifactId/versions/1.0.0/pureModelContextData")));
+
+        // a new loader, as after a restart, is served from the disk cache without calling the metadata server
+        PureModelContextData pmcdFromCache = createSDLCLoader(cacheDirectory).load(Identity.getAnonymousIdentity(), getPureModelContextPointer(), CLIENT_VERSION, tracer.activeSpan());
+        Assert.assertNotNull(pmcdFromCache);
+        Assert.assertEquals(pmcdLoaded.getElements().size(), pmcdFromCache.getElements().size());
+        WireMock.verify(3, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/alloy/projects/groupId/artifactId/versions/1.0.0/pureModelContextData")));
+    }
+
+    @Test
+    public void testDiskCacheEvictsLeastRecentlyUsedVersionsOverMaxSize() throws Exception
+    {
+        File cacheDirectory = temporaryFolder.newFolder("pmcd-cache");
+        PureModelContextData data = PureModelContextData.newPureModelContextData(new Protocol(), new PureModelContextPointer(), Lists.fixedSize.empty());
+
+        // Size a single entry, to bound the cache to two of them
+        new PureModelContextDataDiskCache(cacheDirectory.toPath(), Long.MAX_VALUE).get(alloySDLC("0.0.1"), CLIENT_VERSION, () -> data);
+        File[] entries = cacheDirectory.listFiles();
+        Assert.assertEquals(1, entries.length);
+        PureModelContextDataDiskCache diskCache = new PureModelContextDataDiskCache(cacheDirectory.toPath(), 2 * entries[0].length());
+
+        diskCache.get(alloySDLC("0.0.2"), CLIENT_VERSION, () -> data);
+        Assert.assertEquals(2, cacheDirectory.listFiles().length);
+        diskCache.get(alloySDLC("0.0.3"), CLIENT_VERSION, () -> data);
+        Assert.assertEquals(2, cacheDirectory.listFiles().length);
+
+        // the version just loaded is kept, and served without calling the loader
+        Assert.assertNotNull(diskCache.get(alloySDLC("0.0.3"), CLIENT_VERSION, () ->
+        {
+            throw new AssertionError("0.0.3 should be served from the disk cache");
+        }));
+    }
+
+    private static AlloySDLC alloySDLC(String version)
+    {
+        AlloySDLC alloySDLC = new AlloySDLC();
+        alloySDLC.groupId = "groupId";
+        alloySDLC.artifactId = "artifactId";
+        alloySDLC.version = version;
+        return alloySDLC;
+    }
+
     @Test
     public void testSdlcLoaderForWorkspacesWithoutDependency() throws Exception
     {
@@ -179,8 +236,14 @@ public class TestSDLCLoader
     }
 
     private SDLCLoader createSDLCLoader()
+    {
+        return createSDLCLoader(null);
+    }
+
+    private SDLCLoader createSDLCLoader(String pureModelContextDataCacheDirectory)
     {
         MetaDataServerConfiguration serverConfiguration = new MetaDataServerConfiguration();
+        serverConfiguration.pureModelContextDataCacheDirectory = pureModelContextDataCacheDirectory;
         serverConfiguration.alloy = new ServerConnectionConfiguration();
         serverConfiguration.pure = new ServerConnectionConfiguration();
         serverConfiguration.sdlc = new ServerConnectionConfiguration();
@@ -15,14 +15,10 @@
 package org.finos.legend.engine.language.pure.modelManager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.opentracing.Scope;
 import io.opentracing.Tracer;
 import io.opentracing.util.GlobalTracer;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.TimeUnit;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.tuple.Pair;
@@ -40,7 +36,6 @@ import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.Assert;
-import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 
 public class ModelManager
 {
@@ -55,7 +50,7 @@ public class ModelManager
     // TODO: consider renaming this to UNSAFE/DEPRECATED_objectMapper
     //-------------------------------------------------------------------------------------------------
     public static final ObjectMapper objectMapper = ObjectMapperFactory.getNewStandardObjectMapperWithPureProtocolExtensionSupports();
-    public final Cache<PureModelContext, PureModel> pureModelCache = CacheBuilder.newBuilder().recordStats().softValues().expireAfterAccess(30, TimeUnit.MINUTES).build();
+    public final PureModelCache pureModelCache;
     private final DeploymentMode deploymentMode;
     private final MutableList<ModelLoader> modelLoaders;
     private final Tracer tracer;
@@ -73,6 +68,12 @@ public class ModelManager
 
     public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, ModelLoader... modelLoaders)
     {
+        this(mode, forkJoinPool, tracer, new WeightedPureModelCache(), modelLoaders);
+    }
+
+    public ModelManager(DeploymentMode mode, ForkJoinPool forkJoinPool, Tracer tracer, PureModelCache pureModelCache, ModelLoader... modelLoaders)
+    {
+        this.pureModelCache = pureModelCache;
         this.tracer = tracer;
         this.modelLoaders = Lists.mutable.of(modelLoaders);
         this.modelLoaders.forEach((Procedure<ModelLoader>) loader -> loader.setModelManager(this));
@@ -91,14 +92,7 @@ public class ModelManager
             if (loader.shouldCache(context))
             {
                 PureModelContext cacheKey = loader.cacheKey(context, identity);
-                try
-                {
-                    return this.pureModelCache.get(cacheKey, () -> Compiler.compile(this.loadData(cacheKey, clientVersion, identity), this.deploymentMode, identity.getName(), null, modelProcessParameter));
-                }
-                catch (ExecutionException e)
-                {
-                    throw new EngineException("Engine was not able to cache", e);
-                }
+                return this.pureModelCache.get(cacheKey, key -> this.loadData(key, clientVersion, identity), data -> Compiler.compile(data, this.deploymentMode, identity.getName(), null, modelProcessParameter));
             }
         }
         return Compiler.compile(this.loadData(context, clientVersion, identity), this.deploymentMode, identity.getName(), null, modelProcessParameter);
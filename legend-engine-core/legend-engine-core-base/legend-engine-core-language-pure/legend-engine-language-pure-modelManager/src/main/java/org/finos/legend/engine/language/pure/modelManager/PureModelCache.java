@@ -0,0 +1,35 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+
+import java.util.function.Function;
+
+/**
+ * Cache of the compiled models of the model manager, keyed by the cache key of the model loader.
+ * <p>
+ * Implementations must make concurrent requests for the same key share a single load and compilation.
+ */
+public interface PureModelCache
+{
+    PureModel get(PureModelContext cacheKey, Function<PureModelContext, PureModelContextData> dataLoader, Function<PureModelContextData, PureModel> compiler);
+
+    long size();
+
+    void invalidateAll();
+}
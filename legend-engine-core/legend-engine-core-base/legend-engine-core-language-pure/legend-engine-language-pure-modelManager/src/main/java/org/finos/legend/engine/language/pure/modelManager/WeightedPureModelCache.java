@@ -0,0 +1,126 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Default {@link PureModelCache}: compiled models are weighted by the number of elements they were compiled from, and the
+ * least recently used models are evicted once the total weight goes over the limit (or once they have not been accessed for
+ * the expiry duration). This keeps the memory used by the cache predictable, rather than depending on when soft references
+ * get cleared.
+ */
+public class WeightedPureModelCache implements PureModelCache
+{
+    public static final String CACHE_NAME = "pureModel";
+    public static final long DEFAULT_MAXIMUM_ELEMENTS = 500_000;
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+    private final Cache<PureModelContext, WeightedPureModel> cache;
+
+    public WeightedPureModelCache()
+    {
+        this(DEFAULT_MAXIMUM_ELEMENTS, DEFAULT_EXPIRE_AFTER_ACCESS_MINUTES);
+    }
+
+    public WeightedPureModelCache(long maximumElements, long expireAfterAccessMinutes)
+    {
+        // Guava splits the maximum weight evenly across its segments, a single segment applies the limit to the cache as a whole
+        this.cache = CacheBuilder.newBuilder()
+                .recordStats()
+                .concurrencyLevel(1)
+                .maximumWeight(maximumElements)
+                .weigher((PureModelContext key, WeightedPureModel value) -> value.weight)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    @Override
+    public PureModel get(PureModelContext cacheKey, Function<PureModelContext, PureModelContextData> dataLoader, Function<PureModelContextData, PureModel> compiler)
+    {
+        try
+        {
+            // Guava blocks concurrent loads of the same key on the first one, so a model is only compiled once
+            return this.cache.get(cacheKey, () ->
+            {
+                PureModelContextData data = dataLoader.apply(cacheKey);
+                return new WeightedPureModel(compiler.apply(data), data.getElements().size() + 1);
+            }).pureModel;
+        }
+        catch (UncheckedExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        catch (ExecutionException e)
+        {
+            throw new EngineException("Engine was not able to cache", e);
+        }
+        finally
+        {
+            publishMetrics();
+        }
+    }
+
+    @Override
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    @Override
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public CacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    public void publishMetrics()
+    {
+        CacheStats stats = this.cache.stats();
+        MetricsHandler.setCacheMetrics(CACHE_NAME, this.cache.size(), stats.hitRate(), stats.evictionCount(), stats.averageLoadPenalty() / 1_000_000);
+    }
+
+    private static class WeightedPureModel
+    {
+        private final PureModel pureModel;
+        private final int weight;
+
+        private WeightedPureModel(PureModel pureModel, int weight)
+        {
+            this.pureModel = pureModel;
+            this.weight = weight;
+        }
+    }
+}
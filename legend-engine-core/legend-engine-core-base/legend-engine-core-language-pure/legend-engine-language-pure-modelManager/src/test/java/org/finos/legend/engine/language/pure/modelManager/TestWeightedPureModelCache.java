@@ -0,0 +1,111 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.language.pure.modelManager;
+
+import org.finos.legend.engine.protocol.Protocol;
+import org.finos.legend.engine.protocol.pure.m3.type.Class;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestWeightedPureModelCache
+{
+    private final Map<String, Integer> compilations = new HashMap<>();
+
+    @Test
+    public void testModelsAreWeightedByElementCount()
+    {
+        // Each model weighs its element count plus one
+        WeightedPureModelCache cache = new WeightedPureModelCache(10, 30);
+        load(cache, "a", 4);
+        load(cache, "b", 4);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(0, cache.stats().evictionCount());
+
+        // A model heavier than the whole cache is not retained
+        load(cache, "c", 10);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedModelIsEvictedOverTheLimit()
+    {
+        WeightedPureModelCache cache = new WeightedPureModelCache(10, 30);
+        load(cache, "a", 4);
+        load(cache, "b", 4);
+        // Use a, so that b is the least recently used model
+        load(cache, "a", 4);
+        load(cache, "c", 4);
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.stats().evictionCount());
+        load(cache, "a", 4);
+        load(cache, "c", 4);
+        Assert.assertEquals(1, (int) compilations.get("a"));
+        Assert.assertEquals(1, (int) compilations.get("c"));
+        load(cache, "b", 4);
+        Assert.assertEquals(2, (int) compilations.get("b"));
+    }
+
+    @Test
+    public void testHitAfterRebuildingAnEvictedModel()
+    {
+        WeightedPureModelCache cache = new WeightedPureModelCache(10, 30);
+        load(cache, "a", 4);
+        load(cache, "b", 4);
+        load(cache, "c", 4);
+
+        // a was evicted, so it is compiled again and then served from the cache
+        load(cache, "a", 4);
+        Assert.assertEquals(2, (int) compilations.get("a"));
+        long hits = cache.stats().hitCount();
+        load(cache, "a", 4);
+        Assert.assertEquals(2, (int) compilations.get("a"));
+        Assert.assertEquals(hits + 1, cache.stats().hitCount());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    private void load(WeightedPureModelCache cache, String name, int elementCount)
+    {
+        PureModelContextPointer key = new PureModelContextPointer();
+        key.serializer = new Protocol("pure", name);
+        cache.get(key, context -> data(elementCount), data ->
+        {
+            compilations.merge(name, 1, Integer::sum);
+            // The cache only retains the compiled model, which is not needed to check the weighing
+            return null;
+        });
+    }
+
+    private static PureModelContextData data(int elementCount)
+    {
+        List<Class> elements = new ArrayList<>();
+        for (int i = 0; i < elementCount; i++)
+        {
+            Class element = new Class();
+            element._package = "test";
+            element.name = "Class" + i;
+            elements.add(element);
+        }
+        return PureModelContextData.newPureModelContextData(null, null, elements);
+    }
+}
@@ -16,6 +16,9 @@ package org.finos.legend.engine.shared.core.identity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import java.time.Instant;
+import java.util.Optional;
+
 public interface Credential
 {
     @JsonIgnore
@@ -23,4 +26,14 @@ public interface Credential
     {
         return true;
     }
-}
\ No newline at end of file
+
+    /*
+        The instant after which the credential can no longer be used, when it is known.
+        Used to bound how long a credential can be cached.
+     */
+    @JsonIgnore
+    default Optional<Instant> getExpiry()
+    {
+        return Optional.empty();
+    }
+}
\ No newline at end of file
@@ -56,8 +56,6 @@ public class Join extends Shared
         TestTDS tds1 = getTDS(params, 0, processorSupport);
         TestTDS tds2 = getTDS(params, 1, processorSupport);
 
-        TestTDS tds = tds1.join(tds2);
-
         RelationType<?> relationtype = (RelationType<?>)returnGenericType.getValueForMetaPropertyToMany("typeArguments").get(0).getValueForMetaPropertyToOne("rawType");
 
         String joinType = params.get(2).getValueForMetaPropertyToOne("values").getName();
@@ -66,6 +64,8 @@ public class Join extends Shared
         LambdaFunction<CoreInstance> lambdaFunction = (LambdaFunction<CoreInstance>) LambdaFunctionCoreInstanceWrapper.toLambdaFunction(filterFunction);
         VariableContext evalVarContext = this.getParentOrEmptyVariableContextForLambda(variableContext, filterFunction);
 
+        TestTDS tds = tds1.join(tds2, lambdaFunction, processorSupport);
+
         MutableIntSet discardedRows = IntSets.mutable.empty();
         FixedSizeList<CoreInstance> parameters = Lists.fixedSize.with((CoreInstance) null, (CoreInstance) null);
         for (int i = 0; i < tds.getRowCount(); i++)
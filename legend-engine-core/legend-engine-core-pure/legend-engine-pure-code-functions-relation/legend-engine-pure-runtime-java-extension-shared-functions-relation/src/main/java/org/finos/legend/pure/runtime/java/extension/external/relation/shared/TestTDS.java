@@ -36,6 +36,8 @@ import org.eclipse.collections.api.set.primitive.IntSet;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
 import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -48,6 +50,7 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecificat
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.VariableExpressionAccessor;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.variant.Variant;
 import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.function.Function;
 import org.finos.legend.pure.m4.ModelRepository;
@@ -56,6 +59,7 @@ import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.Window;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.WindowRanks;
 import org.finos.legend.pure.runtime.java.shared.variant.VariantInstanceImpl;
 
 public abstract class TestTDS
@@ -70,6 +74,8 @@ public abstract class TestTDS
     protected MutableMap<String, DataType> columnType = Maps.mutable.empty();
     protected MutableList<String> columnsOrdered = Lists.mutable.empty();
     protected long rowCount;
+    // Ranks of the rows when this TDS is a window partition, see windowRanks
+    private WindowRanks windowRanks;
 
     public TestTDS()
     {
@@ -392,14 +398,7 @@ public abstract class TestTDS
 
     public TestTDS join(TestTDS otherTDS)
     {
-        MutableMap<String, DataType> columnTypes = Maps.mutable.empty();
-        columnTypes.putAll(this.columnType);
-        columnTypes.putAll(otherTDS.columnType);
-        MutableList<String> columnOrdered = Lists.mutable.empty();
-        columnOrdered.addAll(this.columnsOrdered);
-        columnOrdered.addAll(otherTDS.columnsOrdered);
-        columnOrdered = columnOrdered.distinct();
-        TestTDS res = newTDS(columnOrdered, columnTypes, (int) (rowCount * otherTDS.rowCount));
+        TestTDS res = newJoinTDS(otherTDS, (int) (rowCount * otherTDS.rowCount));
 
         for (int i = 0; i < this.rowCount; i++)
         {
@@ -418,6 +417,429 @@ public abstract class TestTDS
         return res;
     }
 
+    /**
+     * Rows of the join of this TDS with otherTDS which can satisfy the join function.
+     * <p>
+     * When the function requires columns of both sides to be equal (ie. $a.x == $b.y, possibly combined with other
+     * conditions through and), only the pairs of rows with equal keys are built, with a sort-merge join when both sides
+     * are already sorted on their keys and a hash join otherwise. Other functions get the full cross product.
+     * In all cases rows come in the order of the cross product, and the join function still has to be applied to them.
+     */
+    public TestTDS join(TestTDS otherTDS, LambdaFunction<?> lambdaFunction, ProcessorSupport processorSupport)
+    {
+        MutableList<Pair<String, String>> keys = equiJoinKeys(otherTDS, lambdaFunction, processorSupport);
+        if (keys.isEmpty())
+        {
+            return join(otherTDS);
+        }
+        return isSortedOn(keys.collect(Pair::getOne)) && otherTDS.isSortedOn(keys.collect(Pair::getTwo)) ? sortMergeJoin(otherTDS, keys) : hashJoin(otherTDS, keys);
+    }
+
+    /**
+     * Pairs of columns (of this TDS, of otherTDS) the join function requires to be equal. Only columns of the same type
+     * are considered, as the join function decides how values of different types compare.
+     */
+    public MutableList<Pair<String, String>> equiJoinKeys(TestTDS otherTDS, LambdaFunction<?> lambdaFunction, ProcessorSupport processorSupport)
+    {
+        MutableList<Pair<String, String>> keys = Lists.mutable.empty();
+        if (lambdaFunction != null && lambdaFunction._expressionSequence().size() == 1)
+        {
+            FunctionType fType = (FunctionType) Function.computeFunctionType(lambdaFunction, processorSupport);
+            MutableList<String> signatureParameters = fType._parameters().collect(VariableExpressionAccessor::_name).toList();
+            if (signatureParameters.size() == 2)
+            {
+                collectEquiJoinKeys(lambdaFunction._expressionSequence().getFirst(), signatureParameters, otherTDS, keys, processorSupport);
+            }
+        }
+        return keys;
+    }
+
+    private void collectEquiJoinKeys(ValueSpecification vs, MutableList<String> signatureParameters, TestTDS otherTDS, MutableList<Pair<String, String>> keys, ProcessorSupport processorSupport)
+    {
+        if (!(vs instanceof SimpleFunctionExpression))
+        {
+            return;
+        }
+        SimpleFunctionExpression fe = (SimpleFunctionExpression) vs;
+        if (!(fe._func() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement))
+        {
+            return;
+        }
+        String funcPath = PackageableElement.getUserPathForPackageableElement(((org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement) fe._func())._package()) + "::" + fe._func()._functionName();
+        MutableList<? extends ValueSpecification> parameters = fe._parametersValues().toList();
+        if (funcPath.equals("meta::pure::functions::boolean::and"))
+        {
+            parameters.forEach(p -> collectEquiJoinKeys(p, signatureParameters, otherTDS, keys, processorSupport));
+        }
+        else if ((funcPath.equals("meta::pure::functions::boolean::equal") || funcPath.equals("meta::pure::functions::boolean::eq")) && parameters.size() == 2)
+        {
+            Pair<String, String> left = columnAccess(parameters.get(0), processorSupport);
+            Pair<String, String> right = columnAccess(parameters.get(1), processorSupport);
+            if (left == null || right == null)
+            {
+                return;
+            }
+            Pair<String, String> key;
+            if (left.getOne().equals(signatureParameters.get(0)) && right.getOne().equals(signatureParameters.get(1)))
+            {
+                key = Tuples.pair(left.getTwo(), right.getTwo());
+            }
+            else if (left.getOne().equals(signatureParameters.get(1)) && right.getOne().equals(signatureParameters.get(0)))
+            {
+                key = Tuples.pair(right.getTwo(), left.getTwo());
+            }
+            else
+            {
+                return;
+            }
+            DataType type = this.columnType.get(key.getOne());
+            if (type != null && type != DataType.CUSTOM && type == otherTDS.columnType.get(key.getTwo()))
+            {
+                keys.add(key);
+            }
+        }
+    }
+
+    // (variable name, column name) when the value specification is a column access, such as $a.x
+    private static Pair<String, String> columnAccess(ValueSpecification vs, ProcessorSupport processorSupport)
+    {
+        if (vs instanceof SimpleFunctionExpression && processorSupport.instance_instanceOf(((SimpleFunctionExpression) vs)._func(), M3Paths.Column))
+        {
+            SimpleFunctionExpression fe = (SimpleFunctionExpression) vs;
+            ValueSpecification owner = fe._parametersValues().getFirst();
+            if (owner instanceof VariableExpression)
+            {
+                return Tuples.pair(((VariableExpression) owner)._name(), fe._func()._name());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Join on keys (pairs of columns of this TDS, of otherTDS), building a hash table on otherTDS and probing it with
+     * the rows of this TDS. Null keys match each other.
+     */
+    public TestTDS hashJoin(TestTDS otherTDS, ListIterable<Pair<String, String>> keys)
+    {
+        MutableList<String> leftKeys = keys.collect(Pair::getOne).toList();
+        MutableList<String> rightKeys = keys.collect(Pair::getTwo).toList();
+
+        int mask = hashTableSize((int) otherTDS.rowCount) - 1;
+        int[] heads = new int[mask + 1];
+        Arrays.fill(heads, -1);
+        int[] next = new int[(int) otherTDS.rowCount];
+        // inserted backwards, so that each bucket lists its rows in order
+        for (int j = (int) otherTDS.rowCount - 1; j >= 0; j--)
+        {
+            int bucket = otherTDS.keyHash(rightKeys, j) & mask;
+            next[j] = heads[bucket];
+            heads[bucket] = j;
+        }
+
+        IntArrayList leftRows = new IntArrayList();
+        IntArrayList rightRows = new IntArrayList();
+        for (int i = 0; i < this.rowCount; i++)
+        {
+            for (int j = heads[this.keyHash(leftKeys, i) & mask]; j != -1; j = next[j])
+            {
+                if (this.compareKeys(leftKeys, i, otherTDS, rightKeys, j) == 0)
+                {
+                    leftRows.add(i);
+                    rightRows.add(j);
+                }
+            }
+        }
+        return joinRows(otherTDS, leftRows.toArray(), rightRows.toArray());
+    }
+
+    /**
+     * Join on keys (pairs of columns of this TDS, of otherTDS), merging both sides in the order of their keys. Sides
+     * which are not sorted on their keys are sorted first. Null keys match each other.
+     */
+    public TestTDS sortMergeJoin(TestTDS otherTDS, ListIterable<Pair<String, String>> keys)
+    {
+        MutableList<String> leftKeys = keys.collect(Pair::getOne).toList();
+        MutableList<String> rightKeys = keys.collect(Pair::getTwo).toList();
+        int[] left = this.rowsSortedOn(leftKeys);
+        int[] right = otherTDS.rowsSortedOn(rightKeys);
+
+        LongArrayList matches = new LongArrayList();
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length)
+        {
+            int comparison = this.compareKeys(leftKeys, left[i], otherTDS, rightKeys, right[j]);
+            if (comparison < 0)
+            {
+                i++;
+            }
+            else if (comparison > 0)
+            {
+                j++;
+            }
+            else
+            {
+                int leftEnd = i + 1;
+                while (leftEnd < left.length && this.compareKeys(leftKeys, left[i], this, leftKeys, left[leftEnd]) == 0)
+                {
+                    leftEnd++;
+                }
+                int rightEnd = j + 1;
+                while (rightEnd < right.length && otherTDS.compareKeys(rightKeys, right[j], otherTDS, rightKeys, right[rightEnd]) == 0)
+                {
+                    rightEnd++;
+                }
+                for (int l = i; l < leftEnd; l++)
+                {
+                    for (int r = j; r < rightEnd; r++)
+                    {
+                        matches.add(((long) left[l] << 32) | right[r]);
+                    }
+                }
+                i = leftEnd;
+                j = rightEnd;
+            }
+        }
+
+        // back to the order of the cross product
+        long[] sortedMatches = matches.toArray();
+        Arrays.sort(sortedMatches);
+        int[] leftRows = new int[sortedMatches.length];
+        int[] rightRows = new int[sortedMatches.length];
+        for (int k = 0; k < sortedMatches.length; k++)
+        {
+            leftRows[k] = (int) (sortedMatches[k] >>> 32);
+            rightRows[k] = (int) sortedMatches[k];
+        }
+        return joinRows(otherTDS, leftRows, rightRows);
+    }
+
+    private TestTDS newJoinTDS(TestTDS otherTDS, int rows)
+    {
+        MutableMap<String, DataType> columnTypes = Maps.mutable.empty();
+        columnTypes.putAll(this.columnType);
+        columnTypes.putAll(otherTDS.columnType);
+        MutableList<String> columnOrdered = Lists.mutable.empty();
+        columnOrdered.addAll(this.columnsOrdered);
+        columnOrdered.addAll(otherTDS.columnsOrdered);
+        columnOrdered = columnOrdered.distinct();
+        return newTDS(columnOrdered, columnTypes, rows);
+    }
+
+    private TestTDS joinRows(TestTDS otherTDS, int[] leftRows, int[] rightRows)
+    {
+        TestTDS res = newJoinTDS(otherTDS, leftRows.length);
+        for (String column : this.dataByColumnName.keysView())
+        {
+            res.copyRows(column, this, leftRows);
+        }
+        for (String column : otherTDS.dataByColumnName.keysView())
+        {
+            res.copyRows(column, otherTDS, rightRows);
+        }
+        return res;
+    }
+
+    private void copyRows(String columnName, TestTDS srcTDS, int[] srcRows)
+    {
+        Object dataAsObject = dataByColumnName.get(columnName);
+        Object srcDataAsObject = srcTDS.dataByColumnName.get(columnName);
+        boolean[] isNull = isNullByColumn.get(columnName);
+        boolean[] isNullSrc = srcTDS.isNullByColumn.get(columnName);
+        switch (columnType.get(columnName))
+        {
+            case LONG:
+            {
+                long[] data = (long[]) dataAsObject;
+                long[] src = (long[]) srcDataAsObject;
+                for (int k = 0; k < srcRows.length; k++)
+                {
+                    data[k] = src[srcRows[k]];
+                    isNull[k] = isNullSrc[srcRows[k]];
+                }
+                break;
+            }
+            case BOOLEAN_AS_BYTE:
+            {
+                boolean[] data = (boolean[]) dataAsObject;
+                boolean[] src = (boolean[]) srcDataAsObject;
+                for (int k = 0; k < srcRows.length; k++)
+                {
+                    data[k] = src[srcRows[k]];
+                    isNull[k] = isNullSrc[srcRows[k]];
+                }
+                break;
+            }
+            case DOUBLE:
+            {
+                double[] data = (double[]) dataAsObject;
+                double[] src = (double[]) srcDataAsObject;
+                for (int k = 0; k < srcRows.length; k++)
+                {
+                    data[k] = src[srcRows[k]];
+                    isNull[k] = isNullSrc[srcRows[k]];
+                }
+                break;
+            }
+            case STRING:
+            case DATETIME_AS_LONG:
+            case CUSTOM:
+            {
+                Object[] data = (Object[]) dataAsObject;
+                Object[] src = (Object[]) srcDataAsObject;
+                for (int k = 0; k < srcRows.length; k++)
+                {
+                    data[k] = src[srcRows[k]];
+                }
+                break;
+            }
+            default:
+                throw new RuntimeException("ERROR " + columnType.get(columnName) + " not supported yet!");
+        }
+    }
+
+    private static int hashTableSize(int rows)
+    {
+        int size = 16;
+        while (size < rows * 2L)
+        {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private int keyHash(MutableList<String> keys, int row)
+    {
+        int hash = 1;
+        for (String col : keys)
+        {
+            Object dataAsObject = dataByColumnName.get(col);
+            boolean[] isNull = isNullByColumn.get(col);
+            int valueHash;
+            switch (columnType.get(col))
+            {
+                case LONG:
+                {
+                    valueHash = isNull[row] ? 0 : Long.hashCode(((long[]) dataAsObject)[row]);
+                    break;
+                }
+                case BOOLEAN_AS_BYTE:
+                {
+                    valueHash = isNull[row] ? 0 : Boolean.hashCode(((boolean[]) dataAsObject)[row]);
+                    break;
+                }
+                case DOUBLE:
+                {
+                    double value = ((double[]) dataAsObject)[row];
+                    // 0.0 and -0.0 are equal
+                    valueHash = isNull[row] ? 0 : Double.hashCode(value == 0.0d ? 0.0d : value);
+                    break;
+                }
+                case STRING:
+                case DATETIME_AS_LONG:
+                {
+                    valueHash = Objects.hashCode(((Object[]) dataAsObject)[row]);
+                    break;
+                }
+                default:
+                    throw new RuntimeException("ERROR " + columnType.get(col) + " not supported as a join key!");
+            }
+            hash = 31 * hash + valueHash;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    // Orders keys with nulls first
+    @SuppressWarnings("unchecked")
+    private int compareKeys(MutableList<String> keys, int row, TestTDS otherTDS, MutableList<String> otherKeys, int otherRow)
+    {
+        for (int k = 0; k < keys.size(); k++)
+        {
+            String col = keys.get(k);
+            String otherCol = otherKeys.get(k);
+            int comparison;
+            switch (columnType.get(col))
+            {
+                case LONG:
+                case BOOLEAN_AS_BYTE:
+                case DOUBLE:
+                {
+                    boolean isNull = isNullByColumn.get(col)[row];
+                    boolean otherIsNull = otherTDS.isNullByColumn.get(otherCol)[otherRow];
+                    if (isNull || otherIsNull)
+                    {
+                        comparison = Boolean.compare(otherIsNull, isNull);
+                    }
+                    else if (columnType.get(col) == DataType.LONG)
+                    {
+                        comparison = Long.compare(((long[]) dataByColumnName.get(col))[row], ((long[]) otherTDS.dataByColumnName.get(otherCol))[otherRow]);
+                    }
+                    else if (columnType.get(col) == DataType.BOOLEAN_AS_BYTE)
+                    {
+                        comparison = Boolean.compare(((boolean[]) dataByColumnName.get(col))[row], ((boolean[]) otherTDS.dataByColumnName.get(otherCol))[otherRow]);
+                    }
+                    else
+                    {
+                        double value = ((double[]) dataByColumnName.get(col))[row];
+                        double otherValue = ((double[]) otherTDS.dataByColumnName.get(otherCol))[otherRow];
+                        comparison = value == otherValue ? 0 : Double.compare(value, otherValue);
+                    }
+                    break;
+                }
+                case STRING:
+                case DATETIME_AS_LONG:
+                {
+                    Comparable<Object> value = (Comparable<Object>) ((Object[]) dataByColumnName.get(col))[row];
+                    Object otherValue = ((Object[]) otherTDS.dataByColumnName.get(otherCol))[otherRow];
+                    comparison = value == null || otherValue == null ? Boolean.compare(value != null, otherValue != null) : value.compareTo(otherValue);
+                    break;
+                }
+                default:
+                    throw new RuntimeException("ERROR " + columnType.get(col) + " not supported as a join key!");
+            }
+            if (comparison != 0)
+            {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    private boolean isSortedOn(MutableList<String> keys)
+    {
+        for (int i = 1; i < this.rowCount; i++)
+        {
+            if (compareKeys(keys, i - 1, this, keys, i) > 0)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] rowsSortedOn(MutableList<String> keys)
+    {
+        int[] rows = new int[(int) this.rowCount];
+        for (int i = 0; i < rows.length; i++)
+        {
+            rows[i] = i;
+        }
+        if (!isSortedOn(keys))
+        {
+            Integer[] boxed = new Integer[rows.length];
+            for (int i = 0; i < rows.length; i++)
+            {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, (a, b) -> compareKeys(keys, a, this, keys, b));
+            for (int i = 0; i < rows.length; i++)
+            {
+                rows[i] = boxed[i];
+            }
+        }
+        return rows;
+    }
+
     public void setValue(String columnName, int row, TestTDS srcTDS, int srcRow)
     {
         Object dataAsObject = dataByColumnName.get(columnName);
@@ -1218,53 +1640,17 @@ public abstract class TestTDS
 
     public long rank(MutableList<SortInfo> sorts, int row)
     {
-        MutableList<String> columns = sorts.collect(SortInfo::getColumnName);
-        MutableList<?> baseRow = fetch(this, columns, row);
-        int rank = findFirstPrecedentDifferentRow(row, this, columns, baseRow);
-        return rank + 1;
-
-    }
-
-    private static MutableList<?> fetch(TestTDS tds, MutableList<String> columns, int row)
-    {
-        return columns.collect(x -> tds.getValue(x, row));
-    }
-
-    private static int findFirstPrecedentDifferentRow(int row, TestTDS tds, MutableList<String> columns, MutableList<?> baseRow)
-    {
-        int rank = row;
-        do
-        {
-            rank--;
-        }
-        while (rank >= 0 && fetch(tds, columns, rank).equals(baseRow));
-        return rank + 1;
+        return windowRanks(sorts).rank(row);
     }
 
     public long denseRank(MutableList<SortInfo> sorts, int row)
     {
-        MutableList<String> columns = sorts.collect(SortInfo::getColumnName);
-        MutableList<?> precedentRow = fetch(this, columns, 0);
-        int rank = 1;
-        for (int i = 1; i <= row; i++)
-        {
-            MutableList<?> currentRow = fetch(this, columns, i);
-            if (!currentRow.equals(precedentRow))
-            {
-                rank++;
-                precedentRow = currentRow;
-            }
-        }
-        return rank;
+        return windowRanks(sorts).denseRank(row);
     }
 
     public double percentRank(MutableList<SortInfo> sorts, int row)
     {
-        MutableList<String> columns = sorts.collect(SortInfo::getColumnName);
-        int size = (int) this.getRowCount();
-        MutableList<?> baseRow = fetch(this, columns, row);
-        int rank = findFirstPrecedentDifferentRow(row, this, columns, baseRow);
-        return size == 1 ? 0 : (double) (rank) / (size - 1);
+        return windowRanks(sorts).percentRank(row);
     }
 
     public long ntile(int row, long tiles)
@@ -1275,11 +1661,92 @@ public abstract class TestTDS
 
     public double cumulativeDistribution(MutableList<SortInfo> sorts, int row)
     {
-        MutableList<String> columns = sorts.collect(SortInfo::getColumnName);
-        int size = (int) this.getRowCount();
-        MutableList<?> baseRow = fetch(this, columns, row);
-        int rank = findFirstPrecedentDifferentRow(row, this, columns, baseRow);
-        return (double) (rank + 1) / size;
+        return windowRanks(sorts).cumulativeDistribution(row);
+    }
+
+    /**
+     * Ranks of all the rows of this TDS, a window partition sorted on sorts. They are computed in a single pass the
+     * first time a rank function is evaluated on the partition, and reused for its other rows as long as they are
+     * ranked on the same sort (columns and directions).
+     */
+    public WindowRanks windowRanks(MutableList<SortInfo> sorts)
+    {
+        MutableList<Pair<String, SortDirection>> sortSpec = sorts.collect(s -> Tuples.pair(s.getColumnName(), s.getDirection()));
+        WindowRanks ranks = this.windowRanks;
+        if (ranks == null || ranks.size() != this.rowCount || !ranks.getSorts().equals(sortSpec))
+        {
+            MutableList<String> columns = sorts.collect(SortInfo::getColumnName);
+            int size = (int) this.rowCount;
+            int[] rank = new int[size];
+            int[] denseRank = new int[size];
+            for (int i = 0; i < size; i++)
+            {
+                if (i == 0)
+                {
+                    rank[i] = 1;
+                    denseRank[i] = 1;
+                }
+                else if (arePeers(columns, i - 1, i))
+                {
+                    rank[i] = rank[i - 1];
+                    denseRank[i] = denseRank[i - 1];
+                }
+                else
+                {
+                    rank[i] = i + 1;
+                    denseRank[i] = denseRank[i - 1] + 1;
+                }
+            }
+            ranks = new WindowRanks(sortSpec, rank, denseRank);
+            this.windowRanks = ranks;
+        }
+        return ranks;
+    }
+
+    private boolean arePeers(MutableList<String> columns, int row, int otherRow)
+    {
+        for (String col : columns)
+        {
+            Object dataAsObject = dataByColumnName.get(col);
+            boolean[] isNull = isNullByColumn.get(col);
+            boolean same;
+            switch (columnType.get(col))
+            {
+                case LONG:
+                {
+                    long[] data = (long[]) dataAsObject;
+                    same = isNull[row] == isNull[otherRow] && (isNull[row] || data[row] == data[otherRow]);
+                    break;
+                }
+                case BOOLEAN_AS_BYTE:
+                {
+                    boolean[] data = (boolean[]) dataAsObject;
+                    same = isNull[row] == isNull[otherRow] && (isNull[row] || data[row] == data[otherRow]);
+                    break;
+                }
+                case DOUBLE:
+                {
+                    double[] data = (double[]) dataAsObject;
+                    same = isNull[row] == isNull[otherRow] && (isNull[row] || Double.doubleToLongBits(data[row]) == Double.doubleToLongBits(data[otherRow]));
+                    break;
+                }
+                case STRING:
+                case DATETIME_AS_LONG:
+                case CUSTOM:
+                {
+                    Object[] data = (Object[]) dataAsObject;
+                    same = Objects.equals(data[row], data[otherRow]);
+                    break;
+                }
+                default:
+                    throw new RuntimeException("ERROR " + columnType.get(col) + " not supported yet!");
+            }
+            if (!same)
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     public int nth(int row, Window w, long l)
@@ -0,0 +1,67 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.external.relation.shared.window;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.tuple.Pair;
+
+/**
+ * Ranks of all the rows of a sorted window partition, rows with the same values in the sort columns being peers.
+ */
+public class WindowRanks
+{
+    // (column, direction) of the sort the partition was ranked on
+    private final ListIterable<Pair<String, SortDirection>> sorts;
+    private final int[] ranks;
+    private final int[] denseRanks;
+
+    public WindowRanks(ListIterable<Pair<String, SortDirection>> sorts, int[] ranks, int[] denseRanks)
+    {
+        this.sorts = sorts;
+        this.ranks = ranks;
+        this.denseRanks = denseRanks;
+    }
+
+    public ListIterable<Pair<String, SortDirection>> getSorts()
+    {
+        return this.sorts;
+    }
+
+    public int size()
+    {
+        return this.ranks.length;
+    }
+
+    public long rank(int row)
+    {
+        return this.ranks[row];
+    }
+
+    public long denseRank(int row)
+    {
+        return this.denseRanks[row];
+    }
+
+    public double percentRank(int row)
+    {
+        int size = this.ranks.length;
+        return size == 1 ? 0 : (double) (this.ranks[row] - 1) / (size - 1);
+    }
+
+    public double cumulativeDistribution(int row)
+    {
+        return (double) this.ranks[row] / this.ranks.length;
+    }
+}
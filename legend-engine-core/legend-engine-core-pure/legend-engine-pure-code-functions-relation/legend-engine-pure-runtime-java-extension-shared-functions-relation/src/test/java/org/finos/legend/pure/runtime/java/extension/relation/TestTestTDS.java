@@ -14,12 +14,23 @@
 
 package org.finos.legend.pure.runtime.java.extension.relation;
 
+import io.deephaven.csv.parsers.DataType;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.primitive.MutableIntSet;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.set.mutable.primitive.IntHashSet;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortDirection;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.SortInfo;
+import org.finos.legend.pure.runtime.java.extension.external.relation.shared.window.WindowRanks;
 import org.finos.legend.pure.runtime.java.extension.external.relation.shared.TestTDS;
 import org.junit.Assert;
 
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.IntFunction;
+
 public class TestTestTDS
 {
     @org.junit.Test
@@ -426,4 +437,125 @@ public class TestTestTDS
                 "1, NULL, 1\n" +
                 "1, 2000-10-31T06:33:00.000+0000, 1", res.toString());
     }
-}
\ No newline at end of file
+
+    @org.junit.Test
+    public void testEquiJoin()
+    {
+        TestTDS left = new TestTDSImpl("id, name\n" +
+                "1, A\n" +
+                "2, B\n" +
+                "3, C\n" +
+                "2, D\n" +
+                ", E");
+        TestTDS right = new TestTDSImpl("key, value\n" +
+                "2, x\n" +
+                "4, y\n" +
+                "1, z\n" +
+                "2, w\n" +
+                ", v");
+
+        String expected = "id, name, key, value\n" +
+                "1, A, 1, z\n" +
+                "2, B, 2, x\n" +
+                "2, B, 2, w\n" +
+                "2, D, 2, x\n" +
+                "2, D, 2, w\n" +
+                "NULL, E, NULL, v";
+        MutableList<Pair<String, String>> keys = Lists.mutable.with(Tuples.pair("id", "key"));
+        Assert.assertEquals(expected, left.hashJoin(right, keys).toString());
+        Assert.assertEquals(expected, left.sortMergeJoin(right, keys).toString());
+        Assert.assertEquals(expected, crossJoin(left, right, keys).toString());
+    }
+
+    @org.junit.Test
+    public void testEquiJoinOnSeveralKeys()
+    {
+        Random random = new Random(42);
+        TestTDS left = newTDS(random, 300, 5, 20, "a1", "a2", "aValue");
+        TestTDS right = newTDS(random, 400, 5, 20, "b1", "b2", "bValue");
+
+        MutableList<Pair<String, String>> keys = Lists.mutable.with(Tuples.pair("a1", "b1"), Tuples.pair("a2", "b2"));
+        String expected = crossJoin(left, right, keys).toString();
+        Assert.assertEquals(expected, left.hashJoin(right, keys).toString());
+        Assert.assertEquals(expected, left.sortMergeJoin(right, keys).toString());
+
+        MutableList<Pair<String, String>> stringKeys = Lists.mutable.with(Tuples.pair("aValue", "bValue"));
+        Assert.assertEquals(crossJoin(left, right, stringKeys).toString(), left.hashJoin(right, stringKeys).toString());
+        Assert.assertEquals(left.hashJoin(right, stringKeys).toString(), left.sortMergeJoin(right, stringKeys).toString());
+    }
+
+    @org.junit.Test
+    public void testWindowRanks()
+    {
+        TestTDS tds = new TestTDSImpl("id, name\n" +
+                ", A\n" +
+                ", A\n" +
+                "1, A\n" +
+                "1, B\n" +
+                "1, B\n" +
+                "2, A\n" +
+                "3, C");
+        MutableList<SortInfo> byId = Lists.mutable.with(new SortInfo("id", SortDirection.ASC));
+        MutableList<SortInfo> byIdAndName = Lists.mutable.with(new SortInfo("id", SortDirection.ASC), new SortInfo("name", SortDirection.ASC));
+
+        Assert.assertEquals("[1, 1, 3, 3, 3, 6, 7]", ranks(tds, row -> tds.rank(byId, row)));
+        Assert.assertEquals("[1, 1, 2, 2, 2, 3, 4]", ranks(tds, row -> tds.denseRank(byId, row)));
+        Assert.assertEquals("[1, 1, 3, 4, 4, 6, 7]", ranks(tds, row -> tds.rank(byIdAndName, row)));
+        Assert.assertEquals("[1, 1, 2, 3, 3, 4, 5]", ranks(tds, row -> tds.denseRank(byIdAndName, row)));
+        Assert.assertEquals("[0.0, 0.0, 0.3333333333333333, 0.3333333333333333, 0.3333333333333333, 0.8333333333333334, 1.0]", ranks(tds, row -> tds.percentRank(byId, row)));
+        Assert.assertEquals("[0.14285714285714285, 0.14285714285714285, 0.42857142857142855, 0.42857142857142855, 0.42857142857142855, 0.8571428571428571, 1.0]", ranks(tds, row -> tds.cumulativeDistribution(byId, row)));
+
+        // the ranks are reused for the same sort only
+        WindowRanks ranksById = tds.windowRanks(byId);
+        Assert.assertSame(ranksById, tds.windowRanks(Lists.mutable.with(new SortInfo("id", SortDirection.ASC))));
+        Assert.assertNotSame(ranksById, tds.windowRanks(Lists.mutable.with(new SortInfo("id", SortDirection.DESC))));
+        Assert.assertNotSame(ranksById, tds.windowRanks(byIdAndName));
+
+        TestTDS one = new TestTDSImpl("id\n1");
+        Assert.assertEquals(0.0, one.percentRank(Lists.mutable.with(new SortInfo("id", SortDirection.ASC)), 0), 0.0);
+    }
+
+    private static String ranks(TestTDS tds, IntFunction<Object> rank)
+    {
+        MutableList<Object> result = Lists.mutable.empty();
+        for (int row = 0; row < tds.getRowCount(); row++)
+        {
+            result.add(rank.apply(row));
+        }
+        return result.toString();
+    }
+
+    private static TestTDS newTDS(Random random, int rows, int keyRange, int nullEvery, String key1, String key2, String value)
+    {
+        long[] keys1 = new long[rows];
+        boolean[] nulls1 = new boolean[rows];
+        long[] keys2 = new long[rows];
+        String[] values = new String[rows];
+        for (int i = 0; i < rows; i++)
+        {
+            keys1[i] = random.nextInt(keyRange);
+            nulls1[i] = nullEvery > 0 && random.nextInt(nullEvery) == 0;
+            keys2[i] = random.nextInt(3);
+            values[i] = random.nextInt(10) == 0 ? null : "v" + random.nextInt(keyRange);
+        }
+        return new TestTDSImpl()
+                .addColumn(key1, DataType.LONG, keys1, nulls1)
+                .addColumn(key2, DataType.LONG, keys2)
+                .addColumn(value, DataType.STRING, values);
+    }
+
+    private static TestTDS crossJoin(TestTDS left, TestTDS right, MutableList<Pair<String, String>> keys)
+    {
+        TestTDS product = left.join(right);
+        MutableIntSet discarded = new IntHashSet();
+        for (int i = 0; i < product.getRowCount(); i++)
+        {
+            int row = i;
+            if (!keys.allSatisfy(k -> Objects.equals(product.getValue(k.getOne(), row), product.getValue(k.getTwo(), row))))
+            {
+                discarded.add(i);
+            }
+        }
+        return product.drop(discarded);
+    }
+}
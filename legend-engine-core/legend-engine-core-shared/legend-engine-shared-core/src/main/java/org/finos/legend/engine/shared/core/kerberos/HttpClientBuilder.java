@@ -16,16 +16,27 @@ package org.finos.legend.engine.shared.core.kerberos;
 
 import org.apache.http.auth.AuthScheme;
 import org.apache.http.auth.AuthSchemeFactory;
+import org.apache.http.auth.AuthSchemeProvider;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
 import org.apache.http.auth.KerberosCredentials;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.AuthSchemes;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.auth.BasicSchemeFactory;
+import org.apache.http.impl.auth.DigestSchemeFactory;
+import org.apache.http.impl.auth.KerberosSchemeFactory;
+import org.apache.http.impl.auth.NTLMSchemeFactory;
 import org.apache.http.impl.auth.SPNegoScheme;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultHttpClient;
 import org.apache.http.params.HttpParams;
 import org.ietf.jgss.GSSContext;
@@ -44,7 +55,38 @@ public class HttpClientBuilder
     {
         DefaultHttpClient httpclient = new DefaultHttpClient();
         httpclient.getAuthSchemes().register(AuthSchemes.SPNEGO, new SPNegoWithDelegationSchemeFactory());
-        Credentials credentials = new Credentials()
+        httpclient.getCredentialsProvider().setCredentials(new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT, AuthScope.ANY_REALM), noCredentials());
+        httpclient.setCookieStore(cookieStore);
+        return httpclient;
+    }
+
+    /**
+     * Builds a client whose connections are managed by the given connection manager (e.g. a pooling one shared across
+     * requests), waiting at most connectionRequestTimeoutMillis to lease a connection from it.
+     */
+    public static CloseableHttpClient getHttpClient(CookieStore cookieStore, HttpClientConnectionManager connectionManager, int connectionRequestTimeoutMillis)
+    {
+        BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT, AuthScope.ANY_REALM), noCredentials());
+        Registry<AuthSchemeProvider> authSchemes = RegistryBuilder.<AuthSchemeProvider>create()
+                .register(AuthSchemes.BASIC, new BasicSchemeFactory())
+                .register(AuthSchemes.DIGEST, new DigestSchemeFactory())
+                .register(AuthSchemes.NTLM, new NTLMSchemeFactory())
+                .register(AuthSchemes.SPNEGO, context -> new SPNegoWithDelegationScheme())
+                .register(AuthSchemes.KERBEROS, new KerberosSchemeFactory())
+                .build();
+        return org.apache.http.impl.client.HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultAuthSchemeRegistry(authSchemes)
+                .setDefaultCredentialsProvider(credentialsProvider)
+                .setDefaultCookieStore(cookieStore)
+                .setDefaultRequestConfig(RequestConfig.custom().setConnectionRequestTimeout(connectionRequestTimeoutMillis).build())
+                .build();
+    }
+
+    private static Credentials noCredentials()
+    {
+        return new Credentials()
         {
             @Override
             public String getPassword()
@@ -58,9 +100,6 @@ public class HttpClientBuilder
                 return null;
             }
         };
-        httpclient.getCredentialsProvider().setCredentials(new AuthScope(AuthScope.ANY_HOST, AuthScope.ANY_PORT, AuthScope.ANY_REALM), credentials);
-        httpclient.setCookieStore(cookieStore);
-        return httpclient;
     }
 
     public static CookieStore buildCookieStore(String url) throws IOException
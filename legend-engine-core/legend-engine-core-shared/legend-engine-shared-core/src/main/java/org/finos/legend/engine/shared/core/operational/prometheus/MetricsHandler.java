@@ -73,6 +73,9 @@ public class MetricsHandler
     private static final Gauge ACTIVE_CONNECTIONS =  Gauge.build("active_connections", "Active Connections in Pool").labelNames("poolName").register();
     private static final Gauge TOTAL_CONNECTIONS = Gauge.build("total_connections", "total Connections in Pool").labelNames("poolName").register();
     private static final Gauge IDLE_CONNECTIONS = Gauge.build("idle_connections", "Idle Connections in Pool").labelNames("poolName").register();
+    private static final Gauge CACHE_STATISTICS = Gauge.build("legend_engine_cache_statistics", "Statistics of in memory caches").labelNames("cacheName", "statistic").register(getMetricsRegistry());
+    private static final Counter CACHE_REQUESTS = Counter.build("legend_engine_cache_requests", "Count requests to in memory caches, by result").labelNames("cacheName", "result").register(getMetricsRegistry());
+    private static final Counter CONCURRENT_EXECUTIONS = Counter.build("legend_engine_concurrent_executions", "Count executions of parallelizable nodes, by how they were executed").labelNames("poolName", "executionMode").register(getMetricsRegistry());
 
     public static CollectorRegistry getMetricsRegistry()
     {
@@ -150,6 +153,24 @@ public class MetricsHandler
         IDLE_CONNECTIONS.remove(poolName);
     }
 
+    public static void setCacheMetrics(String cacheName, long size, double hitRate, long evictionCount, double averageLoadMillis)
+    {
+        CACHE_STATISTICS.labels(cacheName, "size").set(size);
+        CACHE_STATISTICS.labels(cacheName, "hitRate").set(hitRate);
+        CACHE_STATISTICS.labels(cacheName, "evictionCount").set(evictionCount);
+        CACHE_STATISTICS.labels(cacheName, "averageLoadMillis").set(averageLoadMillis);
+    }
+
+    public static void incrementCacheRequestCount(String cacheName, String result)
+    {
+        CACHE_REQUESTS.labels(cacheName, result).inc();
+    }
+
+    public static void incrementConcurrentExecutionCount(String poolName, String executionMode)
+    {
+        CONCURRENT_EXECUTIONS.labels(returnLabelOrUnknown(poolName), executionMode).inc();
+    }
+
     public static void incrementJavaCompilationCount()
     {
         JAVA_COMPILATION_COUNT.inc();
@@ -15,6 +15,7 @@
 package org.finos.legend.engine.testable.function;
 
 import net.javacrumbs.jsonunit.JsonAssert;
+import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.Compiler;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.language.pure.grammar.from.PureGrammarParser;
@@ -22,14 +23,19 @@ import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextDa
 import org.finos.legend.engine.protocol.pure.v1.model.test.assertion.status.AssertFail;
 import org.finos.legend.engine.protocol.pure.v1.model.test.assertion.status.AssertionStatus;
 import org.finos.legend.engine.protocol.pure.v1.model.test.assertion.status.EqualToJsonAssertFail;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestError;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestExecuted;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestExecutionStatus;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
 import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.identity.factory.*;
+import org.finos.legend.engine.testable.TestableRunner;
 import org.finos.legend.engine.testable.extension.TestRunner;
+import org.finos.legend.engine.testable.extension.TestableRunnerExtensionLoader;
 import org.finos.legend.engine.testable.function.extension.FunctionTestableRunnerExtension;
+import org.finos.legend.engine.testable.model.RunTestsTestableInput;
+import org.finos.legend.pure.generated.Root_meta_pure_test_AtomicTest;
 import org.finos.legend.pure.generated.Root_meta_pure_test_TestSuite;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.TestAccessor;
@@ -37,7 +43,10 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 public class TestFunctionTestSuite
 {
@@ -206,6 +215,162 @@ public class TestFunctionTestSuite
         Assert.assertEquals(TestExecutionStatus.PASS, testExecuted.testExecutionStatus);
     }
 
+    @Test
+    public void testParallelRunKeepsResultsInOrder()
+    {
+        PureModelContextData pureModelContextData = PureGrammarParser.newInstance().parseModel(getResourceAsString("testable/legend-testable-function-test-model-relational.pure"));
+        PureModel pureModel = Compiler.compile(pureModelContextData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        List<RunTestsTestableInput> inputs = ListIterate.collect(Arrays.asList("model::PersonQuery__TabularDataSet_1_", "model::PersonWithParams_String_1__TabularDataSet_1_", "model::PersonQuerySharedData__TabularDataSet_1_", "model::PersonWithConnectionStores__TabularDataSet_1_"), path ->
+        {
+            RunTestsTestableInput input = new RunTestsTestableInput();
+            input.testable = path;
+            return input;
+        });
+
+        TestableRunner testableRunner = new TestableRunner();
+        List<String> sequential = ListIterate.collect(testableRunner.doTests(inputs, pureModel, pureModelContextData).results, this::describe);
+        List<String> parallel = ListIterate.collect(testableRunner.doTests(inputs, pureModel, pureModelContextData, 4, 600_000L).results, this::describe);
+
+        Assert.assertEquals(inputs.size(), ListIterate.collect(sequential, r -> r.substring(0, r.indexOf("."))).distinct().size());
+        Assert.assertEquals(sequential, parallel);
+    }
+
+    @Test
+    public void testParallelRunReportsTimedOutTestsAsErrors()
+    {
+        PureModelContextData pureModelContextData = PureGrammarParser.newInstance().parseModel(getResourceAsString("testable/legend-testable-function-test-model.pure"));
+        PureModel pureModel = Compiler.compile(pureModelContextData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        List<RunTestsTestableInput> inputs = ListIterate.collect(Arrays.asList("model::Hello_String_1__String_1_", "model::Simple__String_1_", "model::SimpleReference__String_1_"), path ->
+        {
+            RunTestsTestableInput input = new RunTestsTestableInput();
+            input.testable = path;
+            return input;
+        });
+
+        // the test of model::Simple never completes in time
+        TestableRunner testableRunner = new TestableRunner(testable ->
+        {
+            TestRunner testRunner = TestableRunnerExtensionLoader.forTestable(testable);
+            return "Simple".equals(((ConcreteFunctionDefinition<?>) testable)._functionName()) ? slowTestRunner(testRunner) : testRunner;
+        });
+        List<TestResult> results = testableRunner.doTests(inputs, pureModel, pureModelContextData, 4, 5_000L).results;
+
+        Assert.assertEquals(Arrays.asList(
+                "model::Hello_String_1__String_1_.testSuite_1.testPass:PASS",
+                "model::Hello_String_1__String_1_.testSuite_1.testFail:FAIL",
+                "model::Simple__String_1_.default.testPass:TestError",
+                "model::SimpleReference__String_1_.default.testPass:PASS",
+                "model::SimpleReference__String_1_.default.testFail:FAIL"), ListIterate.collect(results, this::describe));
+        Assert.assertEquals("Test did not complete within 5000 ms", ((TestError) results.get(2)).error);
+    }
+
+    @Test(timeout = 60_000)
+    public void testParallelRunDoesNotWaitForWorkersIgnoringInterrupts()
+    {
+        PureModelContextData pureModelContextData = PureGrammarParser.newInstance().parseModel(getResourceAsString("testable/legend-testable-function-test-model.pure"));
+        PureModel pureModel = Compiler.compile(pureModelContextData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        List<RunTestsTestableInput> inputs = ListIterate.collect(Arrays.asList("model::Simple__String_1_", "model::SimpleReference__String_1_"), path ->
+        {
+            RunTestsTestableInput input = new RunTestsTestableInput();
+            input.testable = path;
+            return input;
+        });
+
+        // the test of model::Simple holds the only worker until released, as a statement running on a database would
+        CountDownLatch release = new CountDownLatch(1);
+        TestableRunner testableRunner = new TestableRunner(testable ->
+        {
+            TestRunner testRunner = TestableRunnerExtensionLoader.forTestable(testable);
+            return "Simple".equals(((ConcreteFunctionDefinition<?>) testable)._functionName()) ? uninterruptibleTestRunner(testRunner, release) : testRunner;
+        });
+        try
+        {
+            List<TestResult> results = testableRunner.doTests(inputs, pureModel, pureModelContextData, 1, 1_000L).results;
+
+            // the tests of model::SimpleReference never get a worker within the time allowed to them
+            Assert.assertEquals(Arrays.asList(
+                    "model::Simple__String_1_.default.testPass:TestError",
+                    "model::SimpleReference__String_1_.default.testPass:TestError",
+                    "model::SimpleReference__String_1_.default.testFail:TestError"), ListIterate.collect(results, this::describe));
+        }
+        finally
+        {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testParallelRunRejectsParallelismBelowOne()
+    {
+        PureModelContextData pureModelContextData = PureGrammarParser.newInstance().parseModel(getResourceAsString("testable/legend-testable-function-test-model.pure"));
+        PureModel pureModel = Compiler.compile(pureModelContextData, DeploymentMode.TEST, Identity.getAnonymousIdentity().getName());
+        IllegalArgumentException e = Assert.assertThrows(IllegalArgumentException.class, () -> new TestableRunner().doTests(Collections.emptyList(), pureModel, pureModelContextData, 0, null));
+        Assert.assertEquals("Test parallelism must be at least 1, got 0", e.getMessage());
+    }
+
+    private static TestRunner uninterruptibleTestRunner(TestRunner testRunner, CountDownLatch release)
+    {
+        return new TestRunner()
+        {
+            @Override
+            public TestResult executeAtomicTest(Root_meta_pure_test_AtomicTest atomicTest, PureModel pureModel, PureModelContextData data)
+            {
+                return testRunner.executeAtomicTest(atomicTest, pureModel, data);
+            }
+
+            @Override
+            public List<TestResult> executeTestSuite(Root_meta_pure_test_TestSuite testSuite, List<String> atomicTestIds, PureModel pureModel, PureModelContextData data)
+            {
+                boolean released = false;
+                while (!released)
+                {
+                    try
+                    {
+                        release.await();
+                        released = true;
+                    }
+                    catch (InterruptedException ignored)
+                    {
+                        // keeps running, as a statement running on a database connection does
+                    }
+                }
+                return testRunner.executeTestSuite(testSuite, atomicTestIds, pureModel, data);
+            }
+        };
+    }
+
+    private static TestRunner slowTestRunner(TestRunner testRunner)
+    {
+        return new TestRunner()
+        {
+            @Override
+            public TestResult executeAtomicTest(Root_meta_pure_test_AtomicTest atomicTest, PureModel pureModel, PureModelContextData data)
+            {
+                return testRunner.executeAtomicTest(atomicTest, pureModel, data);
+            }
+
+            @Override
+            public List<TestResult> executeTestSuite(Root_meta_pure_test_TestSuite testSuite, List<String> atomicTestIds, PureModel pureModel, PureModelContextData data)
+            {
+                try
+                {
+                    Thread.sleep(600_000L);
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                return testRunner.executeTestSuite(testSuite, atomicTestIds, pureModel, data);
+            }
+        };
+    }
+
+    private String describe(TestResult result)
+    {
+        return result.testable + "." + result.testSuiteId + "." + result.atomicTestId + ":" + (result instanceof TestExecuted ? ((TestExecuted) result).testExecutionStatus : result.getClass().getSimpleName());
+    }
+
     private List<TestResult> executeFunctionTest(String grammar, String fullPath)
     {
         FunctionTestableRunnerExtension functionTestableRunnerExtension = new FunctionTestableRunnerExtension();
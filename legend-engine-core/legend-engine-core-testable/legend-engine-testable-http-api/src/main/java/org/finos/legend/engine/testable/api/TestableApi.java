@@ -83,12 +83,20 @@ public class TestableApi
     {
         MutableList<CommonProfile> profiles = ProfileManagerHelper.extractProfiles(profileManager);
         Identity identity = Identity.makeIdentity(profiles);
+        if (input.parallelism != null && input.parallelism < 1)
+        {
+            return ExceptionTool.exceptionManager("parallelism must be at least 1", LoggingEventType.TESTABLE_DO_TESTS_ERROR, Response.Status.BAD_REQUEST, identity.getName());
+        }
+        if (input.testTimeoutMillis != null && input.testTimeoutMillis < 1)
+        {
+            return ExceptionTool.exceptionManager("testTimeoutMillis must be at least 1", LoggingEventType.TESTABLE_DO_TESTS_ERROR, Response.Status.BAD_REQUEST, identity.getName());
+        }
         long start = System.currentTimeMillis();
         try
         {
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.TESTABLE_DO_TESTS_START, "").toString());
             Pair<PureModelContextData, PureModel> modelAndData = this.modelManager.loadModelAndData(input.model, input.model instanceof PureModelContextPointer ? ((PureModelContextPointer) input.model).serializer.version : null, identity, null);
-            RunTestsResult runTestsResult = testableRunner.doTests(input.testables, modelAndData.getTwo(), modelAndData.getOne());
+            RunTestsResult runTestsResult = testableRunner.doTests(input.testables, modelAndData.getTwo(), modelAndData.getOne(), input.parallelism == null ? 1 : input.parallelism, input.testTimeoutMillis);
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.TESTABLE_DO_TESTS_STOP, "").toString());
             long end = System.currentTimeMillis();
             MetricsHandler.observeRequest(uriInfo != null ? uriInfo.getPath() : null, start, end);
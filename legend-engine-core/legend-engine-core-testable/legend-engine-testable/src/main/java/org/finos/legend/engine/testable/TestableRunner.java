@@ -14,10 +14,12 @@
 
 package org.finos.legend.engine.testable;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
 import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestDebug;
+import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestError;
 import org.finos.legend.engine.protocol.pure.v1.model.test.result.TestResult;
 import org.finos.legend.engine.testable.extension.TestRunner;
 import org.finos.legend.engine.testable.extension.TestableRunnerExtensionLoader;
@@ -31,14 +33,179 @@ import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.Test;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.TestAccessor;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.testable.Testable;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 public class TestableRunner
 {
+    public static final int DEFAULT_MAX_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private final Function<Testable, TestRunner> testRunnerProvider;
+    private final int maxParallelism;
+
+    public TestableRunner()
+    {
+        this(TestableRunnerExtensionLoader::forTestable);
+    }
+
+    /**
+     * @param testRunnerProvider provides the test runner of each testable, a new one for each call
+     */
+    public TestableRunner(Function<Testable, TestRunner> testRunnerProvider)
+    {
+        this(testRunnerProvider, DEFAULT_MAX_PARALLELISM);
+    }
+
+    /**
+     * @param testRunnerProvider provides the test runner of each testable, a new one for each call
+     * @param maxParallelism     maximum number of workers of a run, whatever the parallelism requested
+     */
+    public TestableRunner(Function<Testable, TestRunner> testRunnerProvider, int maxParallelism)
+    {
+        if (maxParallelism < 1)
+        {
+            throw new IllegalArgumentException("Maximum test parallelism must be at least 1, got " + maxParallelism);
+        }
+        this.testRunnerProvider = testRunnerProvider;
+        this.maxParallelism = maxParallelism;
+    }
 
     public RunTestsResult doTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data)
     {
         RunTestsResult runTestsResult = new RunTestsResult();
+        for (TestTask task : collectTestTasks(runTestsTestableInputs, pureModel, false))
+        {
+            runTestsResult.results.addAll(task.run(pureModel, data));
+        }
+        return runTestsResult;
+    }
+
+    /**
+     * Runs the tests of the given testables on a pool of workers.
+     * <p>
+     * Test suites and atomic tests are distributed across the workers. Each of them gets its own test runner, hence its
+     * own plan executor, and test data is loaded in the test databases of the connections built for the test, which are
+     * private to them (see LocalH2DataSourceSpecification). Results are returned in the same order as {@link #doTests(List, PureModel, PureModelContextData)}.
+     *
+     * @param parallelism       number of workers, at least 1, capped to the maximum parallelism of the runner
+     * @param testTimeoutMillis maximum duration of each test, tests of a suite share the time allowed to all of them.
+     *                          The time of a test starts when a worker picks it. Tests running longer are reported as
+     *                          errors and their worker is interrupted. Interrupting does not cancel a statement running
+     *                          on a database connection: the worker stays busy until it returns, but the run does not
+     *                          wait for it. No limit if null
+     */
+    public RunTestsResult doTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data, int parallelism, Long testTimeoutMillis)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Test parallelism must be at least 1, got " + parallelism);
+        }
+        if (testTimeoutMillis != null && testTimeoutMillis < 1)
+        {
+            throw new IllegalArgumentException("Test timeout must be at least 1 ms, got " + testTimeoutMillis);
+        }
+        if (parallelism == 1 && testTimeoutMillis == null)
+        {
+            return doTests(runTestsTestableInputs, pureModel, data);
+        }
+
+        List<TestTask> tasks = collectTestTasks(runTestsTestableInputs, pureModel, true);
+        RunTestsResult runTestsResult = new RunTestsResult();
+        if (tasks.isEmpty())
+        {
+            return runTestsResult;
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(Math.min(parallelism, this.maxParallelism), tasks.size()), daemonThreadFactory("testable-runner-"));
+        try
+        {
+            List<FutureTask<List<TestResult>>> futures = ListIterate.collect(tasks, task ->
+            {
+                FutureTask<List<TestResult>> future = new FutureTask<>(() -> task.run(pureModel, data));
+                workers.execute(() ->
+                {
+                    task.startNanos = System.nanoTime();
+                    future.run();
+                });
+                return future;
+            });
+
+            for (int i = 0; i < tasks.size(); i++)
+            {
+                TestTask task = tasks.get(i);
+                FutureTask<List<TestResult>> future = futures.get(i);
+                try
+                {
+                    runTestsResult.results.addAll(testTimeoutMillis == null ? future.get() : getWithinTimeout(task, future, TimeUnit.MILLISECONDS.toNanos(testTimeoutMillis * task.atomicTestIds.size())));
+                }
+                catch (TimeoutException | CancellationException e)
+                {
+                    future.cancel(true);
+                    runTestsResult.results.addAll(task.timedOut(testTimeoutMillis));
+                }
+                catch (ExecutionException e)
+                {
+                    if (e.getCause() instanceof RuntimeException)
+                    {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+            return runTestsResult;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the results of a task until the time allowed to it has elapsed since a worker picked it. A task that no
+     * worker picks, as they are all busy, is allowed the same time from when the caller starts waiting for it.
+     */
+    private static List<TestResult> getWithinTimeout(TestTask task, FutureTask<List<TestResult>> future, long allowedNanos) throws InterruptedException, ExecutionException, TimeoutException
+    {
+        long waitStartNanos = System.nanoTime();
+        while (true)
+        {
+            Long startNanos = task.startNanos;
+            long remainingNanos = (startNanos == null ? waitStartNanos : startNanos) + allowedNanos - System.nanoTime();
+            try
+            {
+                return future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+            }
+            catch (TimeoutException e)
+            {
+                if (startNanos != null || task.startNanos == null)
+                {
+                    throw e;
+                }
+                // picked while waiting: the time allowed to the task starts again from then
+            }
+        }
+    }
+
+    private List<TestTask> collectTestTasks(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, boolean runnerPerTask)
+    {
+        List<TestTask> tasks = Lists.mutable.empty();
         for (RunTestsTestableInput testableInput : runTestsTestableInputs)
         {
             org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement packageableElement = pureModel.getPackageableElement(testableInput.testable);
@@ -50,13 +217,13 @@ public class TestableRunner
             List<UniqueTestId> testIds = testableInput.unitTestIds;
             List<String> testIdStrings = ListIterate.collect(testIds, id -> id.atomicTestId);
 
-            TestRunner testRunner = TestableRunnerExtensionLoader.forTestable(testable);
+            TestRunner testRunner = this.testRunnerProvider.apply(testable);
             for (Test test : testable._tests())
             {
                 // We run all testIds if no `unitTestIds` are provided
                 if ((test instanceof Root_meta_pure_test_AtomicTest) && (testIds.isEmpty() || testIdStrings.contains(test._id())))
                 {
-                    runTestsResult.results.add(testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) test, pureModel, data));
+                    tasks.add(new TestTask(testableInput.testable, runnerPerTask ? this.testRunnerProvider.apply(testable) : testRunner, test, Collections.singletonList(test._id())));
                 }
 
                 if (test instanceof Root_meta_pure_test_TestSuite)
@@ -68,14 +235,62 @@ public class TestableRunner
                         List<String> updatedTestIds = testIds.isEmpty()
                             ? testSuite._tests().collect(TestAccessor::_id).toList()
                             : testIdsForSuite;
-                        runTestsResult.results.addAll(testRunner.executeTestSuite(testSuite, updatedTestIds, pureModel, data));
+                        tasks.add(new TestTask(testableInput.testable, runnerPerTask ? this.testRunnerProvider.apply(testable) : testRunner, test, updatedTestIds));
                     }
                 }
             }
         }
-        return runTestsResult;
+        return tasks;
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix)
+    {
+        return runnable ->
+        {
+            Thread thread = new Thread(runnable, prefix + WORKER_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
 
+    private static class TestTask
+    {
+        private final String testable;
+        private final TestRunner testRunner;
+        private final Test test;
+        private final List<String> atomicTestIds;
+        // when a worker picked the task, null until then
+        private volatile Long startNanos;
+
+        private TestTask(String testable, TestRunner testRunner, Test test, List<String> atomicTestIds)
+        {
+            this.testable = testable;
+            this.testRunner = testRunner;
+            this.test = test;
+            this.atomicTestIds = atomicTestIds;
+        }
+
+        private List<TestResult> run(PureModel pureModel, PureModelContextData data)
+        {
+            return this.test instanceof Root_meta_pure_test_TestSuite
+                    ? this.testRunner.executeTestSuite((Root_meta_pure_test_TestSuite) this.test, this.atomicTestIds, pureModel, data)
+                    : Collections.singletonList(this.testRunner.executeAtomicTest((Root_meta_pure_test_AtomicTest) this.test, pureModel, data));
+        }
+
+        private List<TestResult> timedOut(long testTimeoutMillis)
+        {
+            String testSuiteId = this.test instanceof Root_meta_pure_test_TestSuite ? this.test._id() : null;
+            return ListIterate.collect(this.atomicTestIds, atomicTestId ->
+            {
+                TestError testError = new TestError();
+                testError.testable = this.testable;
+                testError.testSuiteId = testSuiteId;
+                testError.atomicTestId = atomicTestId;
+                testError.error = "Test did not complete within " + testTimeoutMillis + " ms";
+                return testError;
+            });
+        }
+    }
 
     public DebugTestsResult debugTests(List<RunTestsTestableInput> runTestsTestableInputs, PureModel pureModel, PureModelContextData data)
     {
@@ -91,7 +306,7 @@ public class TestableRunner
             List<UniqueTestId> testIds = testableInput.unitTestIds;
             List<String> testIdStrings = ListIterate.collect(testIds, id -> id.atomicTestId);
 
-            TestRunner testRunner = TestableRunnerExtensionLoader.forTestable(testable);
+            TestRunner testRunner = this.testRunnerProvider.apply(testable);
             for (Test test : testable._tests())
             {
                 // We run all testIds if no `unitTestIds` are provided
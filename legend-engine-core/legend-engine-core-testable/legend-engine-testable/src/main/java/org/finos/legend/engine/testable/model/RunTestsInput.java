@@ -26,4 +26,10 @@ public class RunTestsInput
     public PureModelContext model;
 
     public List<RunTestsTestableInput> testables = new ArrayList<>();
+
+    // number of workers running the tests in parallel, at most the number of processors of the server, tests are run one after the other if not set
+    public Integer parallelism;
+
+    // maximum duration of each test in milliseconds, no limit if not set
+    public Long testTimeoutMillis;
 }
@@ -0,0 +1,85 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server wide Arrow allocator. Every Arrow result gets its own child allocator, bounded by the per request limit,
+ * while the root bounds the direct memory used by all the Arrow results in flight.
+ */
+public final class ArrowAllocators
+{
+    private static final AtomicLong REQUEST_COUNTER = new AtomicLong();
+
+    private static volatile ArrowRuntimeConfiguration configuration = new ArrowRuntimeConfiguration();
+    private static volatile RootAllocator rootAllocator;
+
+    private ArrowAllocators()
+    {
+    }
+
+    public static synchronized void configure(ArrowRuntimeConfiguration arrowRuntimeConfiguration)
+    {
+        configuration = arrowRuntimeConfiguration == null ? new ArrowRuntimeConfiguration() : arrowRuntimeConfiguration;
+        if (rootAllocator != null)
+        {
+            rootAllocator.setLimit(configuration.getMaxDirectMemoryBytes());
+        }
+    }
+
+    public static ArrowRuntimeConfiguration getConfiguration()
+    {
+        return configuration;
+    }
+
+    public static BufferAllocator newRequestAllocator()
+    {
+        return newRequestAllocator(configuration.getMaxRequestMemoryBytes());
+    }
+
+    public static BufferAllocator newRequestAllocator(long maxRequestMemoryBytes)
+    {
+        return getRootAllocator().newChildAllocator("arrow-result-" + REQUEST_COUNTER.incrementAndGet(), 0, maxRequestMemoryBytes);
+    }
+
+    public static long getAllocatedMemory()
+    {
+        return rootAllocator == null ? 0 : rootAllocator.getAllocatedMemory();
+    }
+
+    public static long getPeakMemoryAllocation()
+    {
+        return rootAllocator == null ? 0 : rootAllocator.getPeakMemoryAllocation();
+    }
+
+    private static RootAllocator getRootAllocator()
+    {
+        if (rootAllocator == null)
+        {
+            synchronized (ArrowAllocators.class)
+            {
+                if (rootAllocator == null)
+                {
+                    rootAllocator = new RootAllocator(configuration.getMaxDirectMemoryBytes());
+                }
+            }
+        }
+        return rootAllocator;
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.external.format.arrow;
 
+import java.nio.channels.Channels;
 import java.nio.charset.Charset;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -22,39 +23,64 @@ import java.util.TimeZone;
 import org.apache.arrow.adapter.jdbc.JdbcToArrowConfig;
 import org.apache.arrow.adapter.jdbc.JdbcToArrowConfigBuilder;
 import org.apache.arrow.adapter.jdbc.LegendArrowVectorIterator;
+import org.apache.arrow.compression.CommonsCompressionFactory;
 import org.apache.arrow.memory.BufferAllocator;
-import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.compression.CompressionCodec;
+import org.apache.arrow.vector.compression.CompressionUtil;
+import org.apache.arrow.vector.compression.NoCompressionCodec;
 import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.ipc.message.IpcOption;
 import org.finos.legend.engine.external.shared.runtime.write.ExternalFormatWriter;
 
 import java.io.IOException;
 import java.io.OutputStream;
 import java.sql.SQLException;
 import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseable
 {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArrowDataWriter.class);
+
     private final LegendArrowVectorIterator iterator;
     private final BufferAllocator allocator;
+    private final CompressionUtil.CodecType compression;
+    private boolean closed = false;
 
     public ArrowDataWriter(RelationalResult resultSet) throws SQLException
     {
+        this(resultSet, ArrowAllocators.getConfiguration());
+    }
 
-        this.allocator = new RootAllocator();
-        Calendar calendar = resultSet.getRelationalDatabaseTimeZone() == null ?
-                new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
-                new GregorianCalendar(TimeZone.getTimeZone(resultSet.getRelationalDatabaseTimeZone()));
-        JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar).setReuseVectorSchemaRoot(true).build();
-        this.iterator = LegendArrowVectorIterator.create(resultSet.getResultSet(), config);
-
+    public ArrowDataWriter(RelationalResult resultSet, ArrowRuntimeConfiguration configuration) throws SQLException
+    {
+        this.allocator = ArrowAllocators.newRequestAllocator(configuration.getMaxRequestMemoryBytes());
+        this.compression = configuration.getCompression();
+        try
+        {
+            Calendar calendar = resultSet.getRelationalDatabaseTimeZone() == null ?
+                    new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
+                    new GregorianCalendar(TimeZone.getTimeZone(resultSet.getRelationalDatabaseTimeZone()));
+            JdbcToArrowConfig config = new JdbcToArrowConfigBuilder(allocator, calendar)
+                    .setReuseVectorSchemaRoot(true)
+                    .setTargetBatchSize(configuration.getTargetBatchRows(resultSet.getResultSet().getMetaData()))
+                    .build();
+            this.iterator = LegendArrowVectorIterator.create(resultSet.getResultSet(), config);
+        }
+        catch (RuntimeException | SQLException e)
+        {
+            this.allocator.close();
+            throw e;
+        }
     }
 
     @Override
     public void writeData(OutputStream outputStream) throws IOException
     {
         try (VectorSchemaRoot vector = iterator.next();
-             ArrowStreamWriter writer = new ArrowStreamWriter(vector, null, outputStream);
+             ArrowStreamWriter writer = newStreamWriter(vector, outputStream);
         )
         {
             writer.start();
@@ -66,14 +92,19 @@ public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseab
 
             }
         }
-        catch (Exception e)
+        finally
         {
-            this.iterator.close();
-            throw e;
+            this.close();
         }
 
     }
 
+    private ArrowStreamWriter newStreamWriter(VectorSchemaRoot vector, OutputStream outputStream)
+    {
+        CompressionCodec.Factory compressionFactory = this.compression == CompressionUtil.CodecType.NO_COMPRESSION ? NoCompressionCodec.Factory.INSTANCE : CommonsCompressionFactory.INSTANCE;
+        return new ArrowStreamWriter(vector, null, Channels.newChannel(outputStream), IpcOption.DEFAULT, compressionFactory, this.compression);
+    }
+
     @Override
     public void writeDataAsString(OutputStream outputStream) throws IOException
     {
@@ -96,10 +127,27 @@ public class ArrowDataWriter extends ExternalFormatWriter implements AutoCloseab
         }
     }
 
+    public long getPeakMemoryAllocation()
+    {
+        return this.allocator.getPeakMemoryAllocation();
+    }
+
     @Override
     public void close()
     {
-        allocator.close();
+        if (this.closed)
+        {
+            return;
+        }
+        this.closed = true;
+        try
+        {
+            this.iterator.close();
+        }
+        finally
+        {
+            LOGGER.info("Arrow result {} released, direct memory high-water mark: {} bytes (server total in use: {} bytes)", this.allocator.getName(), this.allocator.getPeakMemoryAllocation(), ArrowAllocators.getAllocatedMemory());
+            this.allocator.close();
+        }
     }
 }
-
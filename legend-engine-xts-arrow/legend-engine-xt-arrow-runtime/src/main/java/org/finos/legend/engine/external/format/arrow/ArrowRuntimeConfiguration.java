@@ -0,0 +1,98 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.arrow;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.arrow.adapter.jdbc.JdbcToArrowConfig;
+import org.apache.arrow.vector.compression.CompressionUtil;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalFetchSizeConfig;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+public class ArrowRuntimeConfiguration
+{
+    /**
+     * Limit of direct memory shared by all Arrow results of the server.
+     */
+    @JsonProperty
+    private long maxDirectMemoryBytes = Long.MAX_VALUE;
+
+    /**
+     * Limit of direct memory a single Arrow result can hold.
+     */
+    @JsonProperty
+    private long maxRequestMemoryBytes = Long.MAX_VALUE;
+
+    @JsonProperty
+    private int targetBatchRows = JdbcToArrowConfig.DEFAULT_TARGET_BATCH_SIZE;
+
+    /**
+     * When positive, caps the rows per record batch so that a batch is roughly this size (estimated from the column widths).
+     */
+    @JsonProperty
+    private long targetBatchBytes = 0;
+
+    @JsonProperty
+    private CompressionUtil.CodecType compression = CompressionUtil.CodecType.NO_COMPRESSION;
+
+    public ArrowRuntimeConfiguration()
+    {
+    }
+
+    public ArrowRuntimeConfiguration(long maxDirectMemoryBytes, long maxRequestMemoryBytes, int targetBatchRows, long targetBatchBytes, CompressionUtil.CodecType compression)
+    {
+        this.maxDirectMemoryBytes = maxDirectMemoryBytes;
+        this.maxRequestMemoryBytes = maxRequestMemoryBytes;
+        this.targetBatchRows = targetBatchRows;
+        this.targetBatchBytes = targetBatchBytes;
+        this.compression = compression;
+    }
+
+    public long getMaxDirectMemoryBytes()
+    {
+        return this.maxDirectMemoryBytes;
+    }
+
+    public long getMaxRequestMemoryBytes()
+    {
+        return this.maxRequestMemoryBytes;
+    }
+
+    public int getTargetBatchRows()
+    {
+        return this.targetBatchRows;
+    }
+
+    public long getTargetBatchBytes()
+    {
+        return this.targetBatchBytes;
+    }
+
+    public CompressionUtil.CodecType getCompression()
+    {
+        return this.compression == null ? CompressionUtil.CodecType.NO_COMPRESSION : this.compression;
+    }
+
+    public int getTargetBatchRows(ResultSetMetaData resultSetMetaData) throws SQLException
+    {
+        if (this.targetBatchBytes <= 0)
+        {
+            return this.targetBatchRows;
+        }
+        long rows = this.targetBatchBytes / Math.max(RelationalFetchSizeConfig.estimateRowWidth(resultSetMetaData), 1);
+        return (int) Math.max(1, Math.min(this.targetBatchRows, rows));
+    }
+}
@@ -13,11 +13,17 @@
 // limitations under the License.
 
 import java.io.IOException;
+import org.apache.arrow.compression.CommonsCompressionFactory;
 import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.compression.CompressionUtil;
 import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.external.format.arrow.ArrowAllocators;
+import org.finos.legend.engine.external.format.arrow.ArrowDataWriter;
+import org.finos.legend.engine.external.format.arrow.ArrowRuntimeConfiguration;
 import org.finos.legend.engine.external.format.arrow.ArrowRuntimeExtension;
 import org.finos.legend.engine.external.shared.runtime.write.ExternalFormatSerializeResult;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
@@ -122,6 +128,72 @@ public class TestArrowNodeExecutor
 
     }
 
+    @Test
+    public void testExternalizeWithCompressionAndSmallBatches() throws Exception
+    {
+        RelationalExecutionNode mockExecutionNode = Mockito.mock(RelationalExecutionNode.class);
+        DatabaseConnection mockDatabaseConnection = Mockito.mock(DatabaseConnection.class);
+
+        mockExecutionNode.connection = mockDatabaseConnection;
+        Mockito.when(mockDatabaseConnection.accept(any())).thenReturn(false);
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:test;TIME ZONE=America/New_York", "sa", "");
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream())
+        {
+            conn.createStatement().execute("DROP TABLE IF EXISTS testtable");
+            conn.createStatement().execute("Create Table testtable (testInt INTEGER, testString VARCHAR(255))");
+            conn.createStatement().execute("INSERT INTO  testtable (testInt, testString) VALUES(1,'A'),(2,null),(3,'B')");
+
+            RelationalResult result = new RelationalResult(FastList.newListWith(new RelationalExecutionActivity("SELECT * FROM testtable", null)), mockExecutionNode, FastList.newListWith(new SQLResultColumn("testInt", "INTEGER"), new SQLResultColumn("testString", "VARCHAR")), null, "America/New_York", conn, Identity.getAnonymousIdentity(), null, null, new RequestContext());
+
+            ArrowDataWriter writer = new ArrowDataWriter(result, new ArrowRuntimeConfiguration(Long.MAX_VALUE, Long.MAX_VALUE, 1, 0, CompressionUtil.CodecType.ZSTD));
+            writer.writeData(outputStream);
+            Assert.assertTrue(writer.getPeakMemoryAllocation() > 0);
+            Assert.assertEquals(0, ArrowAllocators.getAllocatedMemory());
+
+            int batches = 0;
+            String actualTSV = "";
+            try (
+                    BufferAllocator rootAllocator = new RootAllocator();
+                    ArrowStreamReader actualReader = new ArrowStreamReader(new ByteArrayInputStream(outputStream.toByteArray()), rootAllocator, CommonsCompressionFactory.INSTANCE)
+            )
+            {
+                while (actualReader.loadNextBatch())
+                {
+                    batches++;
+                    actualTSV += actualReader.getVectorSchemaRoot().contentToTSVString();
+                }
+            }
+            Assert.assertEquals(4, batches);
+            Assert.assertEquals("TESTINT\tTESTSTRING\n1\tA\nTESTINT\tTESTSTRING\n2\tnull\nTESTINT\tTESTSTRING\n3\tB\nTESTINT\tTESTSTRING\n", actualTSV);
+        }
+    }
+
+    @Test
+    public void testPerRequestMemoryLimitIsApplied() throws Exception
+    {
+        RelationalExecutionNode mockExecutionNode = Mockito.mock(RelationalExecutionNode.class);
+        DatabaseConnection mockDatabaseConnection = Mockito.mock(DatabaseConnection.class);
+
+        mockExecutionNode.connection = mockDatabaseConnection;
+        Mockito.when(mockDatabaseConnection.accept(any())).thenReturn(false);
+        try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:test;TIME ZONE=America/New_York", "sa", "");
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream())
+        {
+            conn.createStatement().execute("DROP TABLE IF EXISTS testtable");
+            conn.createStatement().execute("Create Table testtable (testInt INTEGER, testString VARCHAR(255))");
+            conn.createStatement().execute("INSERT INTO  testtable (testInt, testString) VALUES(1,'A'),(2,null),(3,'B')");
+
+            RelationalResult result = new RelationalResult(FastList.newListWith(new RelationalExecutionActivity("SELECT * FROM testtable", null)), mockExecutionNode, FastList.newListWith(new SQLResultColumn("testInt", "INTEGER"), new SQLResultColumn("testString", "VARCHAR")), null, "America/New_York", conn, Identity.getAnonymousIdentity(), null, null, new RequestContext());
+
+            Assert.assertThrows(OutOfMemoryException.class, () ->
+            {
+                ArrowDataWriter writer = new ArrowDataWriter(result, new ArrowRuntimeConfiguration(Long.MAX_VALUE, 8, 1024, 0, CompressionUtil.CodecType.NO_COMPRESSION));
+                writer.writeData(outputStream);
+            });
+            Assert.assertEquals(0, ArrowAllocators.getAllocatedMemory());
+        }
+    }
+
     private void assertArrow(ByteArrayOutputStream actualOutputStream, String expectedTSV) throws IOException //input a TSV String
     {
         actualOutputStream.flush();
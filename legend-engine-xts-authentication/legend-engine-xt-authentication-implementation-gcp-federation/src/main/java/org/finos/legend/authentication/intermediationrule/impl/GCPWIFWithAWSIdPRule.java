@@ -54,6 +54,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
 import java.text.SimpleDateFormat;
 import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.HashMap;
@@ -96,8 +97,7 @@ public class GCPWIFWithAWSIdPRule extends IntermediationRule<GCPWIFWithAWSIdPAut
         String callerIdentityToken = makeAWSCallerIdentityToken(awsCredentials, currentDate, canonicalAWSRequestSignature, gcpTargetResource);
         String federatedAccessToken = getGCPFederatedAccessToken(SdkHttpUtils.urlEncode(callerIdentityToken), gcpTargetResource, subjectTokenType);
 
-        String serviceAccountAccessToken = getGCPServiceAccountAccessToken(federatedAccessToken, authenticationSpecification.serviceAccountEmail, authenticationSpecification.additionalGcpScopes);
-        return new OAuthCredential(serviceAccountAccessToken);
+        return getGCPServiceAccountAccessTokenCredential(federatedAccessToken, authenticationSpecification.serviceAccountEmail, authenticationSpecification.additionalGcpScopes);
     }
 
     private AwsCredentialsProvider configureStsClient(AWSCredentials awsCredentials) throws Exception
@@ -221,6 +221,12 @@ public class GCPWIFWithAWSIdPRule extends IntermediationRule<GCPWIFWithAWSIdPAut
     }
 
     public String getGCPServiceAccountAccessToken(String federatedAccessToken, String serviceAccountEmail, List<String> additionalGcpScopes) throws URISyntaxException, UnsupportedEncodingException, JsonProcessingException
+    {
+        return getGCPServiceAccountAccessTokenCredential(federatedAccessToken, serviceAccountEmail, additionalGcpScopes).getAccessToken();
+    }
+
+    // the credential expires with the generated access token (expireTime of the generateAccessToken response)
+    public OAuthCredential getGCPServiceAccountAccessTokenCredential(String federatedAccessToken, String serviceAccountEmail, List<String> additionalGcpScopes) throws URISyntaxException, UnsupportedEncodingException, JsonProcessingException
     {
         List<String> gcpScopes;
         if (additionalGcpScopes == null)
@@ -249,7 +255,8 @@ public class GCPWIFWithAWSIdPRule extends IntermediationRule<GCPWIFWithAWSIdPAut
             try (CloseableHttpResponse response = httpClient.execute(request))
             {
                 JsonNode responseData = OBJECT_MAPPER.readTree(response.getEntity().getContent());
-                return responseData.path("accessToken").asText();
+                JsonNode expireTime = responseData.path("expireTime");
+                return new OAuthCredential(responseData.path("accessToken").asText(), expireTime.isTextual() ? Instant.parse(expireTime.asText()) : null);
             }
         }
         catch (Exception ex)
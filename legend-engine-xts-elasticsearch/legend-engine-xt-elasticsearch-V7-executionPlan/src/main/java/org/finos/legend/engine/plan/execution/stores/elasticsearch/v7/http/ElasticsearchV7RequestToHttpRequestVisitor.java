@@ -237,7 +237,9 @@ public class ElasticsearchV7RequestToHttpRequestVisitor extends AbstractRequestB
     @Override
     public HttpUriRequest visit(SearchRequest val)
     {
-        HttpPost httpPost = new HttpPost(this.url + "/" + indexName(val.index) + "/_search?typed_keys=true");
+        // searches on a point in time target the indices the point in time was opened on
+        String path = val.body.pit == null ? "/" + indexName(val.index) + "/_search" : "/_search";
+        HttpPost httpPost = new HttpPost(this.url + path + "?typed_keys=true");
         return setEntity(httpPost, val.body);
     }
 
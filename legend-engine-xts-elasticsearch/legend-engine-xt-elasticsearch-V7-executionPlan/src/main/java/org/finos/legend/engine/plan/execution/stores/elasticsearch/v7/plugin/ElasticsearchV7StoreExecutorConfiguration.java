@@ -20,7 +20,14 @@ import org.finos.legend.engine.plan.execution.stores.StoreType;
 
 public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorConfiguration
 {
+    /**
+     * Number of hits fetched per request when a document query asks for more hits than that; 0 disables paging.
+     * Paging is opt-in as it needs point in time searches (Elasticsearch 7.10) sorted on _shard_doc (Elasticsearch 7.12).
+     */
+    public static final long DEFAULT_HITS_PAGE_SIZE = 0L;
+
     private CredentialProviderProvider credentialProviderProvider;
+    private long hitsPageSize;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +40,11 @@ public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorC
         return credentialProviderProvider;
     }
 
+    public long getHitsPageSize()
+    {
+        return hitsPageSize;
+    }
+
     public static Builder newInstance()
     {
         return new Builder();
@@ -41,6 +53,7 @@ public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorC
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.defaultProviderProvider();
+        private long hitsPageSize = DEFAULT_HITS_PAGE_SIZE;
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +61,21 @@ public class ElasticsearchV7StoreExecutorConfiguration implements StoreExecutorC
             return this;
         }
 
+        public Builder withHitsPageSize(long hitsPageSize)
+        {
+            if (hitsPageSize < 0)
+            {
+                throw new IllegalArgumentException("Hits page size must not be negative: " + hitsPageSize);
+            }
+            this.hitsPageSize = hitsPageSize;
+            return this;
+        }
+
         public ElasticsearchV7StoreExecutorConfiguration build()
         {
             ElasticsearchV7StoreExecutorConfiguration elasticsearchV7StoreExecutorConfiguration = new ElasticsearchV7StoreExecutorConfiguration();
             elasticsearchV7StoreExecutorConfiguration.credentialProviderProvider = credentialProviderProvider;
+            elasticsearchV7StoreExecutorConfiguration.hitsPageSize = hitsPageSize;
             return elasticsearchV7StoreExecutorConfiguration;
         }
     }
@@ -16,6 +16,7 @@
 package org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.result;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
 import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -34,6 +35,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -62,6 +67,7 @@ import org.finos.legend.engine.plan.execution.result.TDSResult;
 import org.finos.legend.engine.plan.execution.result.builder.tds.TDSBuilder;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.ElasticsearchExecutionLoggingEventType;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.http.ElasticsearchV7RequestToHttpRequestVisitor;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorConfiguration;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
 import org.finos.legend.engine.protocol.store.elasticsearch.specification.utils.ExternalTaggedUnionMap;
@@ -72,13 +78,21 @@ import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.Agg
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.metamodel.tds.DocCountAggregateResultPath;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.ElasticsearchObjectMapperProvider;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.LiteralOrExpression;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.closepointintime.ClosePointInTimeRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.closepointintime.ClosePointInTimeRequestBody;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.openpointintime.OpenPointInTimeRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.openpointintime.OpenPointInTimeResponse;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequest;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.SearchRequestBody;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.Hit;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.PointInTimeReference;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.TotalHits;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.global.search.types.TotalHitsRelation;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.AbstractRequestBaseVisitor;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.FieldValue;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.RequestBase;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.SortCombinations;
+import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.Time;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.AbstractAggregateBaseVisitor;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.AbstractMultiBucketBaseVisitor;
 import org.finos.legend.engine.protocol.store.elasticsearch.v7.specification.types.aggregations.Aggregate;
@@ -110,19 +124,38 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(ExecutionRequestVisitor.class);
 
+    private static final String POINT_IN_TIME_KEEP_ALIVE = "1m";
+    private static final TypeReference<List<Hit<ObjectNode>>> HITS_TYPE_REFERENCE = new TypeReference<List<Hit<ObjectNode>>>()
+    {
+    };
+    // fetches the next page of hits while the current one is being consumed
+    private static final ExecutorService HITS_PAGE_PREFETCH = Executors.newCachedThreadPool(r ->
+    {
+        Thread thread = new Thread(r, "elasticsearch-hits-page-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final HttpClient client;
     private final HttpClientContext httpClientContext;
     private final Elasticsearch7RequestExecutionNode node;
     private final ExecutionState executionState;
     private final URI url;
+    private final long hitsPageSize;
 
     public ExecutionRequestVisitor(HttpClient client, HttpClientContext httpClientContext, URI url, Elasticsearch7RequestExecutionNode esNode, ExecutionState executionState)
+    {
+        this(client, httpClientContext, url, esNode, executionState, ElasticsearchV7StoreExecutorConfiguration.DEFAULT_HITS_PAGE_SIZE);
+    }
+
+    public ExecutionRequestVisitor(HttpClient client, HttpClientContext httpClientContext, URI url, Elasticsearch7RequestExecutionNode esNode, ExecutionState executionState, long hitsPageSize)
     {
         this.client = client;
         this.httpClientContext = httpClientContext;
         this.url = url;
         this.node = esNode;
         this.executionState = executionState;
+        this.hitsPageSize = hitsPageSize;
     }
 
     @Override
@@ -141,11 +174,24 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
 
         List<ExecutionActivity> activities = Lists.mutable.empty();
 
-        ElasticsearchResultSpliterator spliterator = new ElasticsearchResultSpliterator(val, activities);
+        Spliterator<Stream<Object[]>> spliterator;
+        Runnable closeSpliterator;
+        if (this.canPageHits(val))
+        {
+            PointInTimeHitsSpliterator hitsSpliterator = new PointInTimeHitsSpliterator(val, activities, span);
+            spliterator = hitsSpliterator;
+            closeSpliterator = hitsSpliterator::close;
+        }
+        else
+        {
+            ElasticsearchResultSpliterator resultSpliterator = new ElasticsearchResultSpliterator(val, activities);
+            spliterator = resultSpliterator;
+            closeSpliterator = resultSpliterator::close;
+        }
 
         Stream<Object[]> stream = StreamSupport.stream(spliterator, false)
                 .flatMap(Function.identity())
-                .onClose(spliterator::close)
+                .onClose(closeSpliterator)
                 .onClose(scope::close)
                 .onClose(span::finish);
 
@@ -157,6 +203,32 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         );
     }
 
+    private boolean isAggregation()
+    {
+        return ((TDSMetadata) this.node.metadata).columnResultPaths.stream()
+                .map(x -> x.resultPath)
+                .allMatch(x -> x instanceof AggregateResultPath || x instanceof DocCountAggregateResultPath);
+    }
+
+    /**
+     * Document queries asking for more hits than the page size are read page by page, using search_after on a point in time
+     * so that the pages are consistent with each other.  Queries with a size only known at execution time, or already
+     * managing their own paging, are sent as they are.
+     */
+    private boolean canPageHits(SearchRequest request)
+    {
+        SearchRequestBody body = request.body;
+        return this.hitsPageSize > 0
+                && !this.isAggregation()
+                && request.index != null && !request.index.isEmpty()
+                && request.scroll == null
+                && body.pit == null
+                && body.collapse == null
+                && (body.search_after == null || body.search_after.isEmpty())
+                && (body.from == null || body.from.value != null)
+                && body.size != null && body.size.value != null && body.size.value > this.hitsPageSize;
+    }
+
     private Iterator<Object[]> processAggregateResponse(SearchRequest searchRequest, JsonParser parser, Span span, Procedure<MultiBucketBase> lastBucket) throws IOException
     {
         Map<String, AggregationContainer> aggregations = searchRequest.body.aggregations;
@@ -462,6 +534,18 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         });
     }
 
+    private Function<Hit<ObjectNode>, Object[]> hitRowExtractor()
+    {
+        List<TDSColumn> tdsColumns = ((TDSResultType) this.node.resultType).tdsColumns;
+        List<TDSColumnResultPath> columnResultPaths = ((TDSMetadata) node.metadata).columnResultPaths;
+
+        List<Function<Hit<ObjectNode>, Object>> extractors = columnResultPaths.stream()
+                .map(x -> ElasticsearchTDSResultHelper.hitTransformer(tdsColumns.get((int)(long)x.index), x.resultPath))
+                .collect(Collectors.toList());
+
+        return h -> extractors.stream().map(x -> x.apply(h)).toArray();
+    }
+
     private Iterator<Object[]> processNotAggregateResponse(JsonParser parser, Span span) throws IOException
     {
         TypeReference<Hit<ObjectNode>> hitTypeReference = new TypeReference<Hit<ObjectNode>>()
@@ -481,14 +565,82 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
         hitsListParser.clearCurrentToken(); // force to look into next token
         Iterator<Hit<ObjectNode>> hits = hitsListParser.readValuesAs(hitTypeReference);
 
-        List<TDSColumn> tdsColumns = ((TDSResultType) this.node.resultType).tdsColumns;
-        List<TDSColumnResultPath> columnResultPaths = ((TDSMetadata) node.metadata).columnResultPaths;
+        return new CollectIterator<>(hits, this.hitRowExtractor());
+    }
 
-        List<Function<Hit<ObjectNode>, Object>> extractors = columnResultPaths.stream()
-                .map(x -> ElasticsearchTDSResultHelper.hitTransformer(tdsColumns.get((int)(long)x.index), x.resultPath))
-                .collect(Collectors.toList());
+    private HitsPage fetchHitsPage(HttpUriRequest request, String query, Span parentSpan)
+    {
+        Span span = GlobalTracer.get().buildSpan("Elasticsearch Request Execution").asChildOf(parentSpan).start();
+        try (Scope ignore = GlobalTracer.get().activateSpan(span))
+        {
+            span.log(Collections.singletonMap("query", query));
+            long start = System.currentTimeMillis();
+            LOGGER.info("{}", new LogInfo(ElasticsearchExecutionLoggingEventType.EXECUTION_ELASTICSEARCH_START, this.executionState.authId, query));
+            try (InputStream responseBody = this.post(request, span, start))
+            {
+                HitsPage page = readHitsPage(responseBody, span);
+                span.log(String.format("Query returned a page of %d hits", page.hits.size()));
+                return page;
+            }
+        }
+        catch (Exception e)
+        {
+            throw new EngineException("Error while executing query: " + query, e, ExceptionCategory.USER_EXECUTION_ERROR);
+        }
+        finally
+        {
+            span.finish();
+        }
+    }
 
-        return new CollectIterator<>(hits, h -> extractors.stream().map(x -> x.apply(h)).toArray());
+    private static HitsPage readHitsPage(InputStream responseBody, Span span) throws IOException
+    {
+        JsonParser parser = ElasticsearchObjectMapperProvider.OBJECT_MAPPER.getFactory().createParser(responseBody);
+        Assert.assertTrue(parser.nextToken() == JsonToken.START_OBJECT, () -> "Unexpected search response from Elastic");
+
+        HitsPage page = new HitsPage();
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName)
+            {
+                case "pit_id":
+                    page.pitId = parser.getValueAsString();
+                    break;
+                case "took":
+                    span.log(String.format("Query took %dms", parser.getLongValue()));
+                    break;
+                case "timed_out":
+                    Assert.assertFalse(parser.getBooleanValue(), () -> "Elastic reported query timed out");
+                    break;
+                case "hits":
+                    page.hits = readHits(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return page;
+    }
+
+    private static List<Hit<ObjectNode>> readHits(JsonParser parser) throws IOException
+    {
+        List<Hit<ObjectNode>> hits = Collections.emptyList();
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if ("hits".equals(fieldName))
+            {
+                hits = parser.readValueAs(HITS_TYPE_REFERENCE);
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+        return hits;
     }
 
     private static JsonParser toResponseBodyJsonParser(InputStream responseBody, Span span) throws IOException
@@ -634,9 +786,7 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
             super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE);
             this.searchRequest = searchRequest;
             this.activities = activities;
-            this.isAggregation = ((TDSMetadata) node.metadata).columnResultPaths.stream()
-                    .map(x -> x.resultPath)
-                    .allMatch(x -> x instanceof AggregateResultPath || x instanceof DocCountAggregateResultPath);
+            this.isAggregation = ExecutionRequestVisitor.this.isAggregation();
         }
 
         @Override
@@ -789,4 +939,190 @@ public class ExecutionRequestVisitor extends AbstractRequestBaseVisitor<Result>
             }
         }
     }
+
+    private static class HitsPage
+    {
+        private String pitId;
+        private List<Hit<ObjectNode>> hits = Collections.emptyList();
+    }
+
+    private class PointInTimeHitsSpliterator extends Spliterators.AbstractSpliterator<Stream<Object[]>> implements AutoCloseable
+    {
+        private final SearchRequest searchRequest;
+        private final List<ExecutionActivity> activities;
+        private final Span span;
+        private final Function<Hit<ObjectNode>, Object[]> rowExtractor;
+        private long remainingHits;
+        private long requestedHits;
+        private String pitId;
+        private CompletableFuture<HitsPage> nextPage;
+        private boolean exhausted = false;
+        private boolean closed = false;
+
+        private PointInTimeHitsSpliterator(SearchRequest searchRequest, List<ExecutionActivity> activities, Span span)
+        {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            this.searchRequest = searchRequest;
+            this.activities = activities;
+            this.span = span;
+            this.rowExtractor = ExecutionRequestVisitor.this.hitRowExtractor();
+            this.remainingHits = searchRequest.body.size.value;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Stream<Object[]>> action)
+        {
+            if (this.closed || this.exhausted)
+            {
+                return false;
+            }
+
+            if (this.nextPage == null)
+            {
+                this.openPointInTime();
+                this.nextPage = this.requestPage();
+            }
+
+            HitsPage page = this.awaitNextPage();
+            if (page.pitId != null)
+            {
+                this.pitId = page.pitId;
+            }
+            this.remainingHits -= page.hits.size();
+
+            if (page.hits.size() == this.requestedHits && this.remainingHits > 0)
+            {
+                List<FieldValue> lastSort = page.hits.get(page.hits.size() - 1).sort;
+                Assert.assertTrue(lastSort != null && !lastSort.isEmpty(), () -> "Elastic did not return the sort values needed to fetch the next page of hits");
+                SearchRequestBody body = this.searchRequest.body;
+                body.search_after = lastSort;
+                body.from = null;
+                // the next page is fetched while the rows of this one are being consumed
+                this.nextPage = this.requestPage();
+            }
+            else
+            {
+                this.exhausted = true;
+                this.closePointInTime();
+            }
+
+            action.accept(page.hits.stream().map(this.rowExtractor));
+            return true;
+        }
+
+        private void openPointInTime()
+        {
+            OpenPointInTimeRequest openRequest = new OpenPointInTimeRequest();
+            openRequest.index = this.searchRequest.index;
+            openRequest.keep_alive = new Time();
+            openRequest.keep_alive.time = LiteralOrExpression.literal(POINT_IN_TIME_KEEP_ALIVE);
+            HttpUriRequest request = openRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url));
+
+            try (InputStream responseBody = ExecutionRequestVisitor.this.post(request, this.span, System.currentTimeMillis()))
+            {
+                this.pitId = ElasticsearchObjectMapperProvider.OBJECT_MAPPER.readValue(responseBody, OpenPointInTimeResponse.class).id.getLiteral();
+            }
+            catch (IOException e)
+            {
+                throw new EngineException("Error while opening point in time: " + request.getURI(), e, ExceptionCategory.USER_EXECUTION_ERROR);
+            }
+
+            SearchRequestBody body = this.searchRequest.body;
+            if (body.sort == null || body.sort.isEmpty())
+            {
+                // search_after needs sort values on every hit: keep the relevance order, ties broken by shard and doc
+                body.sort = Lists.mutable.with(sortOn("_score"), sortOn("_shard_doc"));
+            }
+        }
+
+        private CompletableFuture<HitsPage> requestPage()
+        {
+            SearchRequestBody body = this.searchRequest.body;
+            this.requestedHits = Math.min(ExecutionRequestVisitor.this.hitsPageSize, this.remainingHits);
+            body.size = LiteralOrExpression.literal(this.requestedHits);
+            body.pit = new PointInTimeReference();
+            body.pit.id = LiteralOrExpression.literal(this.pitId);
+            body.pit.keep_alive = new Time();
+            body.pit.keep_alive.time = LiteralOrExpression.literal(POINT_IN_TIME_KEEP_ALIVE);
+
+            HttpUriRequest request = this.searchRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url, ExecutionRequestVisitor.this.executionState));
+            String query = ((HttpEntityEnclosingRequest) request).getEntity().toString();
+            this.activities.add(new ElasticsearchV7ExecutionActivity(request.getURI(), query));
+
+            return CompletableFuture.supplyAsync(() -> ExecutionRequestVisitor.this.fetchHitsPage(request, query, this.span), HITS_PAGE_PREFETCH);
+        }
+
+        private HitsPage awaitNextPage()
+        {
+            try
+            {
+                return this.nextPage.join();
+            }
+            catch (CompletionException e)
+            {
+                if (e.getCause() instanceof RuntimeException)
+                {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            finally
+            {
+                this.nextPage = null;
+            }
+        }
+
+        private void closePointInTime()
+        {
+            if (this.pitId != null)
+            {
+                ClosePointInTimeRequest closeRequest = new ClosePointInTimeRequest();
+                closeRequest.body = new ClosePointInTimeRequestBody();
+                closeRequest.body.id = LiteralOrExpression.literal(this.pitId);
+                this.pitId = null;
+                HttpUriRequest request = closeRequest.accept(new ElasticsearchV7RequestToHttpRequestVisitor(ExecutionRequestVisitor.this.url));
+
+                try (InputStream ignore = ExecutionRequestVisitor.this.post(request, this.span, System.currentTimeMillis()))
+                {
+                    // nothing to read
+                }
+                catch (Exception e)
+                {
+                    LOGGER.warn("Failed to close point in time, it will expire after {}", POINT_IN_TIME_KEEP_ALIVE, e);
+                }
+            }
+        }
+
+        public void close()
+        {
+            if (!this.closed)
+            {
+                this.closed = true;
+                if (this.nextPage != null)
+                {
+                    // the page being fetched still uses the point in time, so it is awaited before closing it
+                    try
+                    {
+                        HitsPage page = this.awaitNextPage();
+                        if (page.pitId != null)
+                        {
+                            this.pitId = page.pitId;
+                        }
+                    }
+                    catch (Exception e)
+                    {
+                        LOGGER.debug("Ignoring the failure of the page fetched while closing the point in time", e);
+                    }
+                }
+                this.closePointInTime();
+            }
+        }
+    }
+
+    private static SortCombinations sortOn(String field)
+    {
+        SortCombinations sort = new SortCombinations();
+        sort.field = LiteralOrExpression.literal(field);
+        return sort;
+    }
 }
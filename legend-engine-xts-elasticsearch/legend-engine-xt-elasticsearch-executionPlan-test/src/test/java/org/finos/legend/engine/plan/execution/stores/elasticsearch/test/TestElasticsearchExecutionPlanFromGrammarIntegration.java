@@ -30,6 +30,8 @@ import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.TDSResult;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.stores.elasticsearch.test.shared.ElasticsearchCommands;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorBuilder;
+import org.finos.legend.engine.plan.execution.stores.elasticsearch.v7.plugin.ElasticsearchV7StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
 import org.finos.legend.engine.plan.generation.extension.PlanGeneratorExtension;
 import org.finos.legend.engine.plan.generation.transformers.LegendPlanTransformers;
@@ -54,11 +56,15 @@ import org.testcontainers.DockerClientFactory;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class TestElasticsearchExecutionPlanFromGrammarIntegration
 {
     private static final String TEST_IMAGE_TAG = "7.17.7";
+    private static final int PAGED_INDEX_DOCUMENTS = 10;
     private static PureModel PURE_MODEL;
 
     @BeforeClass
@@ -74,6 +80,15 @@ public class TestElasticsearchExecutionPlanFromGrammarIntegration
         System.setProperty("org.finos.legend.engine.plan.execution.stores.elasticsearch.test.password", "s3cret");
         Root_meta_pure_functions_io_http_URL url = ElasticsearchCommands.startServer(TEST_IMAGE_TAG);
         ElasticsearchCommands.request(TEST_IMAGE_TAG, IOUtils.toString(ClassLoader.getSystemResource("createIndexV7ProtocolForPlanIntegrationTesting.json"), StandardCharsets.UTF_8));
+        ElasticsearchCommands.request(TEST_IMAGE_TAG, "{\"_pure_protocol_type\": \"createRequest\", \"index\": \"index2\", \"body\": {\"mappings\": {\"properties\": {\"prop1\": {\"keyword\": {\"_pure_protocol_type\": \"keywordProperty\", \"type\": \"keyword\"}}}}}}");
+        StringBuilder operations = new StringBuilder();
+        for (int i = 0; i < PAGED_INDEX_DOCUMENTS; i++)
+        {
+            operations.append(i == 0 ? "" : ", ")
+                    .append("{\"_pure_protocol_type\": \"indexOperation\", \"_id\": \"").append(i).append("\"}, ")
+                    .append("{\"prop1\": \"value0").append(i).append("\"}");
+        }
+        ElasticsearchCommands.request(TEST_IMAGE_TAG, "{\"_pure_protocol_type\": \"bulkRequest\", \"index\": \"index2\", \"refresh\": \"_true\", \"operations\": [" + operations + "]}");
         return url._host() + ':' + url._port();
     }
 
@@ -123,6 +138,75 @@ public class TestElasticsearchExecutionPlanFromGrammarIntegration
         }
     }
 
+    @Test
+    public void testSortedHitsArePagedOnPointInTime()
+    {
+        try (TDSResult result = executeWithHitsPageSize("abc::abc::sortedIndexToTdsPagedFunction__TabularDataSet_1_", 3))
+        {
+            List<Object> values = result.rowsStream().map(r -> r[0]).collect(Collectors.toList());
+            Assert.assertEquals(Lists.mutable.with("value00", "value01", "value02", "value03", "value04", "value05", "value06"), values);
+            // pages of 3, 3 and 1 hits
+            Assert.assertEquals(3, result.activities.size());
+        }
+    }
+
+    @Test
+    public void testUnsortedHitsArePagedOnPointInTime()
+    {
+        try (TDSResult result = executeWithHitsPageSize("abc::abc::indexToTdsPagedFunction__TabularDataSet_1_", 3))
+        {
+            List<Object> ids = result.rowsStream().map(r -> r[1]).collect(Collectors.toList());
+            Assert.assertEquals(PAGED_INDEX_DOCUMENTS, ids.size());
+            Assert.assertEquals(PAGED_INDEX_DOCUMENTS, ids.stream().distinct().count());
+            // the last page returns less hits than requested
+            Assert.assertEquals(4, result.activities.size());
+        }
+    }
+
+    @Test
+    public void testHitsNotPagedWhenPageSizeIsZero()
+    {
+        try (TDSResult result = executeWithHitsPageSize("abc::abc::indexToTdsPagedFunction__TabularDataSet_1_", 0))
+        {
+            Assert.assertEquals(PAGED_INDEX_DOCUMENTS, result.rowsStream().count());
+            Assert.assertEquals(1, result.activities.size());
+        }
+    }
+
+    @Test
+    public void testHitsNotPagedByDefault()
+    {
+        SingleExecutionPlan plan = getPlanFromFunctionGrammar("abc::abc::indexToTdsPagedFunction__TabularDataSet_1_");
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder()
+                .withStoreExecutors(new ElasticsearchV7StoreExecutorBuilder().build(ElasticsearchV7StoreExecutorConfiguration.newInstance().build()))
+                .build();
+        try (TDSResult result = (TDSResult) planExecutor.execute(plan))
+        {
+            Assert.assertEquals(PAGED_INDEX_DOCUMENTS, result.rowsStream().count());
+            Assert.assertEquals(1, result.activities.size());
+        }
+    }
+
+    @Test
+    public void testClosingPartiallyReadPagedHits()
+    {
+        try (TDSResult result = executeWithHitsPageSize("abc::abc::sortedIndexToTdsPagedFunction__TabularDataSet_1_", 3);
+             Stream<Object[]> rows = result.rowsStream())
+        {
+            // only the first page is read, the second one is being fetched when the result is closed
+            Assert.assertEquals("value00", rows.findFirst().map(r -> r[0]).orElse(null));
+        }
+    }
+
+    private TDSResult executeWithHitsPageSize(String funcName, long hitsPageSize)
+    {
+        SingleExecutionPlan plan = getPlanFromFunctionGrammar(funcName);
+        PlanExecutor planExecutor = PlanExecutor.newPlanExecutorBuilder()
+                .withStoreExecutors(new ElasticsearchV7StoreExecutorBuilder().build(ElasticsearchV7StoreExecutorConfiguration.newInstance().withHitsPageSize(hitsPageSize).build()))
+                .build();
+        return (TDSResult) planExecutor.execute(plan);
+    }
+
     @Test
     public void testElasticPlanExecution() throws IOException
     {
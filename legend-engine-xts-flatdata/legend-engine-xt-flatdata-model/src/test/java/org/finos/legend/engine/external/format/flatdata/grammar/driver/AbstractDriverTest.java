@@ -36,6 +36,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -141,7 +142,8 @@ public class AbstractDriverTest
         ParsedFlatDataToObject<?> reflectiveToObject(String sectionId, FlatDataRecordType type)
         {
             Class<?> clazz = Objects.requireNonNull(clazzBySectionName.get(sectionId), "No class for section " + sectionId);
-            List<IChecked<?>> records = new ArrayList<>();
+            // makeChecked is called from the parsing threads when a section parses on several threads
+            List<IChecked<?>> records = Collections.synchronizedList(new ArrayList<>());
             result.put(sectionId, records);
 
             return new ParsedFlatDataToObject()
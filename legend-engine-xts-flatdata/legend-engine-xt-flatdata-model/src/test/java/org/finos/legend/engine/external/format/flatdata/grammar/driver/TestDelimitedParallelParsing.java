@@ -0,0 +1,222 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.flatdata.grammar.driver;
+
+import org.finos.legend.engine.external.format.flatdata.driver.spi.RawFlatData;
+import org.finos.legend.engine.external.format.flatdata.metamodel.FlatData;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IDefect;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class TestDelimitedParallelParsing extends AbstractDriverTest
+{
+    @Test
+    public void parallelParsingWithHeadingsMatchesSequentialParsing()
+    {
+        String data = data("\n", generateLines(true, 5_000));
+        List<IChecked<Data>> sequential = deserialize(Data.class, parseFlatData(grammar("DelimitedWithHeadings", 1)), data);
+        List<IChecked<Data>> parallel = deserialize(Data.class, parseFlatData(grammar("DelimitedWithHeadings", 4)), data);
+
+        Assert.assertEquals(5_000, sequential.size());
+        Assert.assertEquals(describe(sequential), describe(parallel));
+    }
+
+    @Test
+    public void parallelParsingWithoutHeadingsMatchesSequentialParsing()
+    {
+        String data = data("\n", generateLines(false, 5_000));
+        List<IChecked<Data>> sequential = deserialize(Data.class, parseFlatData(grammar("DelimitedWithoutHeadings", 1)), data);
+        List<IChecked<Data>> parallel = deserialize(Data.class, parseFlatData(grammar("DelimitedWithoutHeadings", 3)), data);
+
+        Assert.assertEquals(5_000, sequential.size());
+        Assert.assertEquals(describe(sequential), describe(parallel));
+    }
+
+    @Test
+    public void parallelParsingOfFewerLinesThanAChunk()
+    {
+        List<IChecked<Data>> records = deserialize(Data.class, parseFlatData(grammar("DelimitedWithHeadings", 4)), data("\n", generateLines(true, 3)));
+
+        Assert.assertEquals(3, records.size());
+        records.forEach(this::assertNoDefects);
+        Assert.assertEquals("Name 1", records.get(0).getValue().name);
+        Assert.assertEquals("Name 2", records.get(1).getValue().name);
+        Assert.assertEquals("Name 3", records.get(2).getValue().name);
+    }
+
+    @Test
+    public void parsingThreadFailureIsRethrownToTheCaller()
+    {
+        Set<Thread> threadsBefore = parsingThreads();
+        try
+        {
+            deserialize(FailingData.class, parseFlatData(grammar("DelimitedWithHeadings", 4)), data("\n", generateLines(true, 1_000)));
+            Assert.fail("Expected the parsing thread failure to be rethrown");
+        }
+        catch (RuntimeException e)
+        {
+            Throwable cause = e;
+            while (cause.getCause() != null)
+            {
+                cause = cause.getCause();
+            }
+            Assert.assertEquals(IllegalStateException.class, cause.getClass());
+            Assert.assertEquals("Cannot make record", cause.getMessage());
+        }
+        assertParsingThreadsReleased(threadsBefore);
+    }
+
+    @Test
+    public void stopReleasesParsingThreadsWhenSectionEndsEarly()
+    {
+        Set<Thread> threadsBefore = parsingThreads();
+        List<String> lines = new ArrayList<>();
+        lines.add("NAME,AGE,DOB,PRICE");
+        for (int i = 1; i <= 1_000; i++)
+        {
+            lines.add("Name " + i + "," + (i % 100) + ",2000-01-01," + i + ".25");
+        }
+        lines.add("Trailer");
+        FlatData flatData = parseFlatData("section default: DelimitedWithHeadings\n" +
+                "{\n" +
+                "  scope.forNumberOfLines: 1001;\n" +
+                "  delimiter       : ',';\n" +
+                "  parsingThreads  : 4;\n" +
+                "\n" +
+                "  Record\n" +
+                "  {\n" +
+                "     NAME  : STRING;\n" +
+                "     AGE   : INTEGER;\n" +
+                "     DOB   : DATE;\n" +
+                "     PRICE : DECIMAL(optional);\n" +
+                "  }\n" +
+                "}\n" +
+                "section trailer: ImmaterialLines\n" +
+                "{\n" +
+                "  scope.untilEof;\n" +
+                "}\n");
+
+        List<IChecked<Data>> records = deserialize(Data.class, flatData, data("\n", lines.toArray(new String[0])));
+
+        Assert.assertEquals(1_000, records.size());
+        records.forEach(this::assertNoDefects);
+        Assert.assertEquals("Name 1000", records.get(999).getValue().name);
+        assertParsingThreadsReleased(threadsBefore);
+    }
+
+    private Set<Thread> parsingThreads()
+    {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("Delimited Parser "))
+                .collect(Collectors.toSet());
+    }
+
+    private void assertParsingThreadsReleased(Set<Thread> threadsBefore)
+    {
+        long deadline = System.currentTimeMillis() + 5_000;
+        Set<Thread> started = parsingThreads();
+        started.removeAll(threadsBefore);
+        while (started.stream().anyMatch(Thread::isAlive) && System.currentTimeMillis() < deadline)
+        {
+            try
+            {
+                Thread.sleep(10);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        Assert.assertTrue("Parsing threads still alive: " + started, started.stream().noneMatch(Thread::isAlive));
+    }
+
+    private String grammar(String driver, int parsingThreads)
+    {
+        boolean positional = "DelimitedWithoutHeadings".equals(driver);
+        return "section default: " + driver + "\n" +
+                "{\n" +
+                "  scope.untilEof;\n" +
+                "  delimiter       : ',';\n" +
+                "  quoteChar       : '\\'';\n" +
+                "  nullString      : '';\n" +
+                "  parsingThreads  : " + parsingThreads + ";\n" +
+                "\n" +
+                "  Record\n" +
+                "  {\n" +
+                "     NAME  " + (positional ? "{1}" : "") + " : STRING;\n" +
+                "     AGE   " + (positional ? "{2}" : "") + " : INTEGER;\n" +
+                "     DOB   " + (positional ? "{3}" : "") + " : DATE;\n" +
+                "     PRICE " + (positional ? "{4}" : "") + " : DECIMAL(optional);\n" +
+                "  }\n" +
+                "}\n";
+    }
+
+    private String[] generateLines(boolean withHeadings, int count)
+    {
+        List<String> lines = new ArrayList<>();
+        if (withHeadings)
+        {
+            lines.add("NAME,AGE,DOB,PRICE");
+        }
+        for (int i = 1; i <= count; i++)
+        {
+            // Some names are quoted over two lines, some ages are invalid and some prices are missing
+            String name = i % 7 == 0 ? "'Name, " + i + "\nsecond line'" : "Name " + i;
+            String age = i % 11 == 0 ? "x" : String.valueOf(i % 100);
+            String dob = LocalDate.of(1970, 1, 1).plusDays(i % 20_000).toString();
+            String price = i % 5 == 0 ? "" : i + ".25";
+            lines.add(name + "," + age + "," + dob + "," + price);
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    private List<String> describe(List<IChecked<Data>> records)
+    {
+        return records.stream().map(r ->
+        {
+            RawFlatData source = (RawFlatData) r.getSource();
+            Data value = r.getValue();
+            String defects = r.getDefects().stream().map(IDefect::getMessage).collect(Collectors.joining("|"));
+            return source.getNumber() + "@" + source.getLineNumber() + ":" + (value == null ? "null" : value.name + "," + value.age + "," + value.dob + "," + value.price) + ":" + defects;
+        }).collect(Collectors.toList());
+    }
+
+    public static class FailingData
+    {
+        public String name;
+
+        public FailingData()
+        {
+            throw new IllegalStateException("Cannot make record");
+        }
+    }
+
+    public static class Data
+    {
+        public String name;
+        public Long age;
+        public LocalDate dob;
+        public BigDecimal price;
+    }
+}
@@ -29,6 +29,7 @@ public abstract class DelimitedDriverDescription extends StreamingDriverDescript
                 .optionalStringProperty(DelimitedReadDriver.QUOTE_CHAR)
                 .optionalStringProperty(DelimitedReadDriver.ESCAPING_CHAR)
                 .optionalRepeatableStringProperty(DelimitedReadDriver.NULL_STRING)
+                .optionalIntegerProperty(DelimitedReadDriver.PARSING_THREADS)
                 .build();
     }
 
@@ -23,8 +23,20 @@ import org.finos.legend.engine.external.format.flatdata.metamodel.FlatDataSectio
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
@@ -33,9 +45,16 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     static final String QUOTE_CHAR = "quoteChar";
     static final String ESCAPING_CHAR = "escapingChar";
     static final String NULL_STRING = "nullString";
+    static final String PARSING_THREADS = "parsingThreads";
+
+    private static final int PARSING_CHUNK_SIZE = 256;
+    private static final AtomicInteger nextParsingThreadId = new AtomicInteger(1);
 
     protected final DelimitedDriverHelper helper;
 
+    private final Deque<CompletableFuture<List<IChecked<T>>>> parsingChunks = new ArrayDeque<>();
+    private ThreadPoolExecutor parsingPool;
+
     DelimitedReadDriver(FlatDataSection section, FlatDataProcessingContext context)
     {
         super(new DelimitedDriverHelper(section, context));
@@ -51,9 +70,93 @@ public abstract class DelimitedReadDriver<T> extends StreamingReadDriver<T>
     @Override
     public void stop()
     {
+        stopParsing();
         this.objectFactory.finished();
     }
 
+    private void stopParsing()
+    {
+        parsingChunks.forEach(chunk -> chunk.cancel(false));
+        parsingChunks.clear();
+        if (parsingPool != null)
+        {
+            parsingPool.shutdownNow();
+            parsingPool = null;
+        }
+    }
+
+    @Override
+    public boolean isFinished()
+    {
+        return parsingChunks.isEmpty() && super.isFinished();
+    }
+
+    /**
+     * Reads the next delimited line(s) and parses them using the given parser.  When the section asks for more
+     * than one parsing thread and its records are returnable (so no state is carried from one record to the next)
+     * the lines are parsed in chunks on a pool of parsing threads whilst the raw lines continue to be read, the
+     * results of each chunk being returned in the order the lines were read.  In that case the object factory's
+     * <tt>makeChecked</tt> is called concurrently from the parsing threads, and a failure on one of them stops the
+     * parsing threads before being rethrown on the calling thread.
+     */
+    Collection<IChecked<T>> readParsedLines(Function<IChecked<RawFlatData>, Optional<IChecked<T>>> parser)
+    {
+        if (helper.parsingThreads <= 1 || !objectFactory.isReturnable())
+        {
+            return readDelimitedLine()
+                    .flatMap(parser)
+                    .map(Collections::singletonList)
+                    .orElseGet(Collections::emptyList);
+        }
+
+        if (parsingPool == null)
+        {
+            parsingPool = new ThreadPoolExecutor(helper.parsingThreads, helper.parsingThreads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable ->
+            {
+                Thread thread = new Thread(runnable, "Delimited Parser " + nextParsingThreadId.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            parsingPool.allowCoreThreadTimeOut(true);
+        }
+
+        // Lines are read (and so numbered) on this thread, only their parsing is farmed out
+        while (parsingChunks.size() < 2 * helper.parsingThreads && !super.isFinished())
+        {
+            List<IChecked<RawFlatData>> chunk = new ArrayList<>(PARSING_CHUNK_SIZE);
+            while (chunk.size() < PARSING_CHUNK_SIZE && !super.isFinished())
+            {
+                readDelimitedLine().ifPresent(chunk::add);
+            }
+            parsingChunks.add(CompletableFuture.supplyAsync(() -> parseChunk(chunk, parser), parsingPool));
+        }
+
+        CompletableFuture<List<IChecked<T>>> next = parsingChunks.poll();
+        if (next == null)
+        {
+            return Collections.emptyList();
+        }
+        try
+        {
+            return next.join();
+        }
+        catch (CompletionException e)
+        {
+            stopParsing();
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private List<IChecked<T>> parseChunk(List<IChecked<RawFlatData>> chunk, Function<IChecked<RawFlatData>, Optional<IChecked<T>>> parser)
+    {
+        List<IChecked<T>> parsed = new ArrayList<>(chunk.size());
+        for (IChecked<RawFlatData> raw : chunk)
+        {
+            parser.apply(raw).ifPresent(parsed::add);
+        }
+        return parsed;
+    }
+
     Optional<IChecked<RawFlatData>> readDelimitedLine()
     {
         DelimitedLine line = (DelimitedLine) nextLine();
@@ -127,10 +127,7 @@ public class DelimitedWithHeadingsReadDriver<T> extends DelimitedReadDriver<T>
             return Collections.singletonList(BasicChecked.newChecked(null, headingsLine.getValue(), headingDefects));
         }
 
-        return readDelimitedLine()
-                .flatMap(raw -> dataFactory.createParsed(raw, fieldHandlers, objectFactory))
-                .map(Collections::singletonList)
-                .orElseGet(Collections::emptyList);
+        return readParsedLines(raw -> dataFactory.createParsed(raw, fieldHandlers, objectFactory));
     }
 
     @Override
@@ -24,7 +24,6 @@ import org.finos.legend.engine.external.format.flatdata.metamodel.FlatDataSectio
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 public class DelimitedWithoutHeadingsReadDriver<T> extends DelimitedReadDriver<T>
@@ -60,10 +59,7 @@ public class DelimitedWithoutHeadingsReadDriver<T> extends DelimitedReadDriver<T
     @Override
     public Collection<IChecked<T>> readCheckedObjects()
     {
-        return readDelimitedLine()
-                .flatMap(raw -> dataFactory.createParsed(raw, fieldHandlers, objectFactory))
-                .map(Collections::singletonList)
-                .orElseGet(Collections::emptyList);
+        return readParsedLines(raw -> dataFactory.createParsed(raw, fieldHandlers, objectFactory));
     }
 
     @Override
@@ -25,8 +25,9 @@ public class DateParser implements ValueParser
 {
     private final List<String> possibleFormats;
     private final List<DateTimeFormatter> possibleFormatters;
-    private String format;
-    private DateTimeFormatter formatter;
+    // Parsing can happen on several threads: format is always set before formatter so that it is visible with it
+    private volatile String format;
+    private volatile DateTimeFormatter formatter;
 
     private DateParser(List<String> formats)
     {
@@ -34,8 +35,8 @@ public class DateParser implements ValueParser
         this.possibleFormatters = formats.stream().map(DateTimeFormatter::ofPattern).collect(Collectors.toList());
         if (possibleFormats.size() == 1)
         {
-            formatter = possibleFormatters.get(0);
             format = possibleFormats.get(0);
+            formatter = possibleFormatters.get(0);
         }
     }
 
@@ -48,8 +49,8 @@ public class DateParser implements ValueParser
                 try
                 {
                     LocalDate date = LocalDate.parse(s, possibleFormatters.get(i));
-                    formatter = possibleFormatters.get(i);
                     format = possibleFormats.get(i);
+                    formatter = possibleFormatters.get(i);
                     return date;
                 }
                 catch (DateTimeParseException e)
@@ -82,8 +83,8 @@ public class DateParser implements ValueParser
                 try
                 {
                     possibleFormatters.get(i).parse(s);
-                    formatter = possibleFormatters.get(i);
                     format = possibleFormats.get(i);
+                    formatter = possibleFormatters.get(i);
                     return null;
                 }
                 catch (DateTimeParseException e)
@@ -50,8 +50,9 @@ public abstract class DateTimeParser implements ValueParser
         private final List<String> possibleFormats;
         private final List<DateTimeFormatter> possibleFormatters;
         private final ZoneId timeZone;
-        private String format;
-        private DateTimeFormatter formatter;
+        // Parsing can happen on several threads: format is always set before formatter so that it is visible with it
+        private volatile String format;
+        private volatile DateTimeFormatter formatter;
 
         private BasicDateTimeParser(List<String> formats, String timeZone)
         {
@@ -60,8 +61,8 @@ public abstract class DateTimeParser implements ValueParser
             this.timeZone = ZoneId.of(timeZone, ZoneId.SHORT_IDS);
             if (possibleFormats.size() == 1)
             {
-                formatter = possibleFormatters.get(0);
                 format = possibleFormats.get(0);
+                formatter = possibleFormatters.get(0);
             }
         }
 
@@ -82,15 +83,15 @@ public abstract class DateTimeParser implements ValueParser
                         try
                         {
                             Instant dateTime = Instant.from(possibleFormatters.get(i).withZone(tz).parse(fixTimezone(s, possibleFormats.get(i))));
-                            formatter = possibleFormatters.get(i);
                             format = possibleFormats.get(i);
+                            formatter = possibleFormatters.get(i);
                             return dateTime;
                         }
                         catch (DateTimeException e)
                         {
                             Instant dateTime = LocalDateTime.from(possibleFormatters.get(i).parse(s)).atZone(tz).toInstant();
-                            formatter = possibleFormatters.get(i);
                             format = possibleFormats.get(i);
+                            formatter = possibleFormatters.get(i);
                             return dateTime;
                         }
                     }
@@ -136,8 +137,8 @@ public abstract class DateTimeParser implements ValueParser
                     try
                     {
                         possibleFormatters.get(i).withZone(tz).parse(fixTimezone(s, possibleFormats.get(i)));
-                        formatter = possibleFormatters.get(i);
                         format = possibleFormats.get(i);
+                        formatter = possibleFormatters.get(i);
                         return null;
                     }
                     catch (DateTimeParseException e)
@@ -21,6 +21,11 @@ public interface ParsedFlatDataToObject<T>
 {
     T make(ParsedFlatData parsedFlatData);
 
+    /**
+     * Creates the checked object for a parsed record.  Drivers that parse on several threads (such as delimited
+     * sections with more than one <tt>parsingThreads</tt>) call this concurrently for returnable factories, so
+     * returnable factories must not rely on being called on the reading thread or in record order.
+     */
     default IChecked<T> makeChecked(ParsedFlatData parsedFlatData)
     {
         return BasicChecked.newChecked(make(parsedFlatData), parsedFlatData);
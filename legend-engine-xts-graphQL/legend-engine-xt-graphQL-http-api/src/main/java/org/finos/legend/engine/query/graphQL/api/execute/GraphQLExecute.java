@@ -18,8 +18,11 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.opentracing.Scope;
 import io.opentracing.Span;
+import io.opentracing.contrib.concurrent.TracedExecutorService;
 import io.opentracing.tag.Tags;
 import io.opentracing.util.GlobalTracer;
 import io.swagger.annotations.Api;
@@ -103,6 +106,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -124,6 +131,11 @@ public class GraphQLExecute extends GraphQL
     private final GraphQLPlanCache graphQLPlanCache;
     private final List<IGraphQLDirectiveExtension> graphQLExecuteExtensions = Lists.mutable.empty();
 
+    private static final ObjectMapper RESULT_OBJECT_MAPPER = new ObjectMapper();
+    private static final ExecutorService ROOT_FIELD_EXECUTOR = new TracedExecutorService(
+            Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()), new ThreadFactoryBuilder().setNameFormat("graphql-root-field-%d").setDaemon(true).build()),
+            GlobalTracer.get());
+
     public GraphQLExecute(ModelManager modelManager, PlanExecutor planExecutor, MetaDataServerConfiguration metadataserver, Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> extensionsFunc, Iterable<? extends PlanTransformer> transformers, GraphQLPlanCache planCache)
     {
         super(modelManager, metadataserver);
@@ -336,39 +348,10 @@ public class GraphQLExecute extends GraphQL
                             .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);)
                     {
                         generator.writeStartObject();
-                        generator.setCodec(new ObjectMapper());
+                        generator.setCodec(RESULT_OBJECT_MAPPER);
                         generator.writeFieldName("data");
                         generator.writeStartObject();
-
-                        planWithSerialized.stream().filter(serializedNamedPlans -> GraphQLExecutionHelper.isARootField(serializedNamedPlans.propertyName, graphQLQuery)).forEach(p ->
-                        {
-                            JsonStreamingResult result = null;
-                            try
-                            {
-                                Map<String, Result> parameterMap = GraphQLExecutionHelper.getParameterMap(graphQLQuery, p.propertyName);
-
-                                generator.writeFieldName(p.propertyName);
-                                result = (JsonStreamingResult) planExecutor.execute(p.serializedPlan, parameterMap, null, identity);
-                                result.getJsonStream().accept(generator);
-                            }
-                            catch (IOException e)
-                            {
-                                observeError(e, graphQLCacheKey);
-                                throw new RuntimeException(e);
-                            }
-                            catch (Exception e)
-                            {
-                                observeError(e, graphQLCacheKey);
-                                throw e;
-                            }
-                            finally
-                            {
-                                if (result != null)
-                                {
-                                    result.close();
-                                }
-                            }
-                        });
+                        writeRootFields(generator, identity, planWithSerialized.stream().filter(serializedNamedPlans -> GraphQLExecutionHelper.isARootField(serializedNamedPlans.propertyName, graphQLQuery)).collect(Collectors.toList()), graphQLQuery, graphQLCacheKey);
                         generator.writeEndObject();
                         Map<String, ?> extensions = this.computeExtensionsField(graphQLQuery, planWithSerialized, identity);
                         if (!extensions.isEmpty())
@@ -386,6 +369,81 @@ public class GraphQLExecute extends GraphQL
                 }).build();
     }
 
+    private void writeRootFields(JsonGenerator generator, Identity identity, List<SerializedNamedPlans> rootFieldPlans, OperationDefinition graphQLQuery, GraphQLCacheKey graphQLCacheKey) throws IOException
+    {
+        // Root fields are independent queries: the first one is streamed while the others are executed concurrently
+        // and buffered, so that the response keeps the order of the fields
+        List<Future<TokenBuffer>> bufferedFields = rootFieldPlans.stream().skip(1).map(p -> ROOT_FIELD_EXECUTOR.submit(() ->
+        {
+            TokenBuffer buffer = new TokenBuffer(RESULT_OBJECT_MAPPER, false);
+            executeRootField(buffer, identity, p, graphQLQuery, graphQLCacheKey);
+            return buffer;
+        })).collect(Collectors.toList());
+        try
+        {
+            for (int i = 0; i < rootFieldPlans.size(); i++)
+            {
+                generator.writeFieldName(rootFieldPlans.get(i).propertyName);
+                if (i == 0)
+                {
+                    executeRootField(generator, identity, rootFieldPlans.get(i), graphQLQuery, graphQLCacheKey);
+                }
+                else
+                {
+                    getBufferedField(bufferedFields.get(i - 1)).serialize(generator);
+                }
+            }
+        }
+        finally
+        {
+            bufferedFields.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private void executeRootField(JsonGenerator generator, Identity identity, SerializedNamedPlans p, OperationDefinition graphQLQuery, GraphQLCacheKey graphQLCacheKey)
+    {
+        JsonStreamingResult result = null;
+        try
+        {
+            Map<String, Result> parameterMap = GraphQLExecutionHelper.getParameterMap(graphQLQuery, p.propertyName);
+            result = (JsonStreamingResult) planExecutor.execute(p.serializedPlan, parameterMap, null, identity, p.planExecutionContext(planExecutor));
+            result.getJsonStream().accept(generator);
+        }
+        catch (Exception e)
+        {
+            observeError(e, graphQLCacheKey);
+            throw e;
+        }
+        finally
+        {
+            if (result != null)
+            {
+                result.close();
+            }
+        }
+    }
+
+    private static TokenBuffer getBufferedField(Future<TokenBuffer> bufferedField)
+    {
+        try
+        {
+            return bufferedField.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
     private Map<String, ?> computeExtensionsField(OperationDefinition query, List<SerializedNamedPlans> serializedNamedPlans, Identity identity)
     {
         Map<String, Map<String, Object>> m = new HashMap<>();
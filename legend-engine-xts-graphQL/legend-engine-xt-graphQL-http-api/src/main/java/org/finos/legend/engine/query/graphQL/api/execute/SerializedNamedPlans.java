@@ -14,12 +14,17 @@
 
 package org.finos.legend.engine.query.graphQL.api.execute;
 
+import org.finos.legend.engine.plan.execution.PlanExecutionContext;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 
 public class SerializedNamedPlans
 {
     public String propertyName;
     public SingleExecutionPlan serializedPlan;
+    // Java classes of the plan, compiled once by the plan executor for all the executions of a cached plan
+    private volatile PlanExecutionContext planExecutionContext;
 
     public SerializedNamedPlans()
     {
@@ -30,4 +35,29 @@ public class SerializedNamedPlans
         this.propertyName = propertyName;
         this.serializedPlan = serializedPlan;
     }
+
+    public PlanExecutionContext planExecutionContext(PlanExecutor planExecutor)
+    {
+        PlanExecutionContext context = this.planExecutionContext;
+        if (context == null)
+        {
+            synchronized (this)
+            {
+                context = this.planExecutionContext;
+                if (context == null)
+                {
+                    try
+                    {
+                        context = planExecutor.buildPlanExecutionContext(this.serializedPlan);
+                    }
+                    catch (JavaCompileException e)
+                    {
+                        throw new RuntimeException(e);
+                    }
+                    this.planExecutionContext = context;
+                }
+            }
+        }
+        return context;
+    }
 }
@@ -589,6 +589,37 @@ public class TestGraphQLAPI extends TestGraphQLApiAbstract
 
     }
 
+    @Test
+    public void testMultipleRootFieldsKeepTheirOrderWithCachedPlans() throws Exception
+    {
+        GraphQLPlanCache cache = new GraphQLPlanCache(getExecutionCacheInstance());
+        GraphQLExecute graphQLExecute = getGraphQLExecuteWithCache(cache);
+        HttpServletRequest mockRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(mockRequest.getCookies()).thenReturn(new Cookie[0]);
+        Query query = new Query();
+        query.query = "query Query {\n" +
+                "  allFirms {\n" +
+                "      legalName\n" +
+                "    }\n" +
+                "  firmByLegalName(legalName: \"Firm A\") {\n" +
+                "      legalName\n" +
+                "    }\n" +
+                "  }";
+        String expected = "{" +
+                "\"data\":{" +
+                "\"allFirms\":[{\"legalName\":\"Firm X\"},{\"legalName\":\"Firm A\"},{\"legalName\":\"Firm B\"}]," +
+                "\"firmByLegalName\":{\"legalName\":\"Firm A\"}" +
+                "}" +
+                "}";
+        for (int i = 0; i < 3; i++)
+        {
+            Response response = graphQLExecute.executeDev(mockRequest, "Project1", "Workspace1", "simple::model::Query", "simple::mapping::Map", "simple::runtime::Runtime", query, null);
+            Assert.assertEquals(expected, responseAsString(response));
+        }
+        Assert.assertEquals(1, cache.getCache().stats().missCount(), 0);
+        Assert.assertEquals(2, cache.getCache().stats().hitCount(), 0);
+    }
+
     @Test
     public void testCachingUsingNestedSelectionSets() throws Exception
     {
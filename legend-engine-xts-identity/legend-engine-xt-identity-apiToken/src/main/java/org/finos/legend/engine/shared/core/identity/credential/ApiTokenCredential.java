@@ -16,15 +16,24 @@ package org.finos.legend.engine.shared.core.identity.credential;
 
 import org.finos.legend.engine.shared.core.identity.Credential;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 
 public class ApiTokenCredential implements Credential
 {
     private final String apiToken;
+    private final Instant expiry;
 
     public ApiTokenCredential(String apiToken)
+    {
+        this(apiToken, null);
+    }
+
+    public ApiTokenCredential(String apiToken, Instant expiry)
     {
         this.apiToken = apiToken;
+        this.expiry = expiry;
     }
 
     public String getApiToken()
@@ -32,6 +41,12 @@ public class ApiTokenCredential implements Credential
         return apiToken;
     }
 
+    @Override
+    public Optional<Instant> getExpiry()
+    {
+        return Optional.ofNullable(this.expiry);
+    }
+
     @Override
     public boolean equals(Object o)
     {
@@ -18,7 +18,11 @@ import org.finos.legend.engine.shared.core.identity.Credential;
 
 import javax.security.auth.Subject;
 import javax.security.auth.kerberos.KerberosTicket;
+import java.time.Instant;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 
@@ -56,4 +60,14 @@ public class LegendKerberosCredential implements Credential
         }
         return false;
     }
+
+    @Override
+    public Optional<Instant> getExpiry()
+    {
+        return subject.getPrivateCredentials(KerberosTicket.class).stream()
+                .map(KerberosTicket::getEndTime)
+                .filter(Objects::nonNull)
+                .map(Date::toInstant)
+                .min(Instant::compareTo);
+    }
 }
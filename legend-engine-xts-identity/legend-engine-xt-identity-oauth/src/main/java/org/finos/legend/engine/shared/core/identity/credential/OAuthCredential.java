@@ -16,15 +16,24 @@ package org.finos.legend.engine.shared.core.identity.credential;
 
 import org.finos.legend.engine.shared.core.identity.Credential;
 
+import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
 
 public class OAuthCredential implements Credential
 {
     private final String accessToken;
+    private final Instant expiry;
 
     public OAuthCredential(String accessToken)
+    {
+        this(accessToken, null);
+    }
+
+    public OAuthCredential(String accessToken, Instant expiry)
     {
         this.accessToken = accessToken;
+        this.expiry = expiry;
     }
 
     public String getAccessToken()
@@ -32,6 +41,12 @@ public class OAuthCredential implements Credential
         return accessToken;
     }
 
+    @Override
+    public Optional<Instant> getExpiry()
+    {
+        return Optional.ofNullable(this.expiry);
+    }
+
     @Override
     public int hashCode()
     {
@@ -19,8 +19,10 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
 import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
 import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
@@ -37,11 +39,13 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -50,21 +54,41 @@ import java.util.stream.StreamSupport;
 
 public abstract class JsonDataReader<T>
 {
+    // Factory, readers and reflected read methods are shared by all the readers rather than built for each input
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectReader TREE_READER = new ObjectMapper(JSON_FACTORY).readerFor(JsonNode.class);
+    private static final ObjectReader BIG_DECIMAL_TREE_READER = TREE_READER.with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    private static final ClassValue<Set<String>> DECLARED_METHODS = new ClassValue<Set<String>>()
+    {
+        @Override
+        protected Set<String> computeValue(Class<?> type)
+        {
+            return Arrays.stream(type.getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
+        }
+    };
+    private static final ClassValue<Map<String, Method>> READ_METHODS = new ClassValue<Map<String, Method>>()
+    {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final JsonParser parser;
-    private final ObjectMapper objectMapper;
+    private final ObjectReader treeReader;
 
     private boolean finishedReading = false;
     private boolean inArray = false;
     private long recordCount = 0;
 
     private final Queue<IChecked<T>> queue = new LinkedList<>();
-    private final Set<String> declaredMethods = Arrays.stream(this.getClass().getDeclaredMethods()).map(Method::getName).collect(Collectors.toSet());
 
     public JsonDataReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset)
     {
         try
         {
-            JsonParser baseParser = new JsonFactory().createParser(in);
+            JsonParser baseParser = JSON_FACTORY.createParser(in);
             if (pathOffset != null)
             {
                 this.parser = new FilteringParserDelegate(baseParser, new JsonPointerBasedFilter(pathOffset), false, false);
@@ -74,11 +98,7 @@ public abstract class JsonDataReader<T>
                 this.parser = baseParser;
             }
 
-            this.objectMapper = new ObjectMapper();
-            if (useBigDecimalForFloats)
-            {
-                this.objectMapper.configure(com.fasterxml.jackson.databind.DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
-            }
+            this.treeReader = useBigDecimalForFloats ? BIG_DECIMAL_TREE_READER : TREE_READER;
         }
         catch (IOException e)
         {
@@ -126,8 +146,9 @@ public abstract class JsonDataReader<T>
         try
         {
             this.recordCount++;
-            JsonNode node = this.objectMapper.readValue(this.parser, JsonNode.class);
-            return Collections.singleton(readCheckedObject(node, new JsonDataRecord(this.recordCount, node.toString())));
+            JsonNode node = this.treeReader.readValue(this.parser);
+            // the record text is only written back from the tree when the source is asked for (e.g. to report defects)
+            return Collections.singleton(readCheckedObject(node, new JsonDataRecord(this.recordCount, node)));
         }
         catch (IOException e)
         {
@@ -189,20 +210,22 @@ public abstract class JsonDataReader<T>
 
     protected boolean readMethodExists(String name)
     {
-        return declaredMethods.contains(name);
+        return DECLARED_METHODS.get(this.getClass()).contains(name);
     }
 
     protected Object readMethodInvoke(String name, JsonNode node)
     {
-        Method m;
-        try
+        Method m = READ_METHODS.get(this.getClass()).computeIfAbsent(name, n ->
         {
-            m = this.getClass().getMethod(name, JsonNode.class);
-        }
-        catch (NoSuchMethodException e)
-        {
-            throw new RuntimeException(e.getMessage());
-        }
+            try
+            {
+                return this.getClass().getMethod(n, JsonNode.class);
+            }
+            catch (NoSuchMethodException e)
+            {
+                throw new RuntimeException(e.getMessage());
+            }
+        });
 
         try
         {
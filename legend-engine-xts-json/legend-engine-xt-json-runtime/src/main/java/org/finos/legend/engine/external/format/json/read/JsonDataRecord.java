@@ -14,10 +14,13 @@
 
 package org.finos.legend.engine.external.format.json.read;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class JsonDataRecord
 {
     private final long number;
-    private final String record;
+    private JsonNode node;
+    private String record;
 
     public JsonDataRecord(long number, String record)
     {
@@ -25,13 +28,27 @@ public class JsonDataRecord
         this.record = record;
     }
 
+    /**
+     * The record text is written from the node the first time it is asked for
+     */
+    public JsonDataRecord(long number, JsonNode node)
+    {
+        this.number = number;
+        this.node = node;
+    }
+
     public long getNumber()
     {
         return number;
     }
 
-    public String getRecord()
+    public synchronized String getRecord()
     {
+        if (this.record == null && this.node != null)
+        {
+            this.record = this.node.toString();
+            this.node = null;
+        }
         return record;
     }
 
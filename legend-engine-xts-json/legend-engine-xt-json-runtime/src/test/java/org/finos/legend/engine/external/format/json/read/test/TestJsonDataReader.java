@@ -0,0 +1,111 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.external.format.json.read.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.finos.legend.engine.external.format.json.read.JsonDataReader;
+import org.finos.legend.engine.external.format.json.read.JsonDataRecord;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicDefect;
+import org.finos.legend.engine.plan.dependencies.domain.dataQuality.IChecked;
+import org.finos.legend.engine.plan.dependencies.store.inMemory.DataParsingException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestJsonDataReader
+{
+    @Test
+    public void testReadsArrayOfRecords()
+    {
+        List<IChecked<Object>> results = read("[{\"name\": \"a\", \"value\": 1}, {\"name\": \"b\", \"value\": 2}]", false);
+        Assert.assertEquals(2, results.size());
+        Assert.assertEquals("a:1", results.get(0).getValue());
+        Assert.assertEquals("b:2", results.get(1).getValue());
+        Assert.assertEquals(1, ((JsonDataRecord) results.get(0).getSource()).getNumber());
+        Assert.assertEquals(2, ((JsonDataRecord) results.get(1).getSource()).getNumber());
+        Assert.assertEquals("{\"name\":\"b\",\"value\":2}", ((JsonDataRecord) results.get(1).getSource()).getRecord());
+    }
+
+    @Test
+    public void testReadsSingleRecordAndBigDecimals()
+    {
+        List<IChecked<Object>> results = read("{\"name\": \"a\", \"value\": 1.10}", true);
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("a:1.10", results.get(0).getValue());
+        Assert.assertEquals("{\"name\":\"a\",\"value\":1.10}", ((JsonDataRecord) results.get(0).getSource()).getRecord());
+    }
+
+    @Test
+    public void testReadsRecordsUnderPathOffset()
+    {
+        List<IChecked<Object>> results = toList(new TestReader(stream("{\"data\": [{\"name\": \"a\", \"value\": 1}]}"), false, "/data").startStream());
+        Assert.assertEquals(1, results.size());
+        Assert.assertEquals("a:1", results.get(0).getValue());
+    }
+
+    @Test
+    public void testDefectsKeepTheRecordSource()
+    {
+        List<IChecked<Object>> results = read("[{\"name\": 1, \"value\": 1}]", false);
+        Assert.assertEquals(1, results.get(0).getDefects().size());
+        Assert.assertEquals("{\"name\":1,\"value\":1}", ((JsonDataRecord) results.get(0).getSource()).getRecord());
+    }
+
+    private static List<IChecked<Object>> read(String json, boolean useBigDecimalForFloats)
+    {
+        return toList(new TestReader(stream(json), useBigDecimalForFloats, null).startStream());
+    }
+
+    private static List<IChecked<Object>> toList(Stream<IChecked<Object>> stream)
+    {
+        try (Stream<IChecked<Object>> s = stream)
+        {
+            return s.collect(Collectors.toList());
+        }
+    }
+
+    private static InputStream stream(String json)
+    {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class TestReader extends JsonDataReader<Object>
+    {
+        private TestReader(InputStream in, boolean useBigDecimalForFloats, String pathOffset)
+        {
+            super(in, useBigDecimalForFloats, pathOffset);
+        }
+
+        @Override
+        protected IChecked<Object> readCheckedObject(JsonNode node, JsonDataRecord source)
+        {
+            try
+            {
+                return BasicChecked.newChecked(acceptString(node.get("name")) + ":" + acceptDecimal(node.get("value")).toPlainString(), source);
+            }
+            catch (DataParsingException e)
+            {
+                return BasicChecked.newChecked(null, source, BasicDefect.newInvalidInputErrorDefect(e.getMessage(), "test::Record"));
+            }
+        }
+    }
+}
@@ -14,11 +14,11 @@
 
 package org.finos.legend.engine.plan.execution.stores.mongodb;
 
-import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCursor;
 import org.bson.Document;
 import org.eclipse.collections.api.tuple.Pair;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBClientCache;
 import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBStoreConnectionProvider;
 import org.finos.legend.engine.plan.execution.stores.mongodb.result.MongoDBResult;
 import org.finos.legend.engine.protocol.mongodb.schema.metamodel.pure.MongoDBConnection;
@@ -26,27 +26,41 @@ import org.finos.legend.engine.shared.core.identity.Identity;
 import org.finos.legend.engine.shared.core.operational.errorManagement.EngineException;
 import org.finos.legend.engine.shared.core.operational.errorManagement.ExceptionCategory;
 
+import java.util.Collections;
 import java.util.function.Supplier;
 
 public class MongoDBExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final MongoDBClientCache clientCache;
 
     public MongoDBExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, null);
+    }
+
+    public MongoDBExecutor(CredentialProviderProvider credentialProviderProvider, MongoDBClientCache clientCache)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.clientCache = clientCache;
     }
 
     public MongoDBResult executeMongoDBQuery(String dbCommand, MongoDBConnection dbConnection, Identity serviceIdentity)
+    {
+        return executeMongoDBQuery(dbCommand, dbConnection, serviceIdentity, MongoDBStoreConnectionProvider.DEFAULT_BATCH_SIZE, 0);
+    }
+
+    public MongoDBResult executeMongoDBQuery(String dbCommand, MongoDBConnection dbConnection, Identity serviceIdentity, int batchSize, long maxTimeMS)
     {
         try
         {
-            MongoDBStoreConnectionProvider mongoDBConnectionProvider =  new MongoDBStoreConnectionProvider(this.credentialProviderProvider);
+            MongoDBStoreConnectionProvider mongoDBConnectionProvider =  new MongoDBStoreConnectionProvider(this.credentialProviderProvider, this.clientCache);
             try
             {
                 Document bsonCmd = Document.parse(dbCommand);
-                Supplier<Pair<MongoClient, MongoCursor<Document>>> mongoResultSupplier = mongoDBConnectionProvider.executeQuery(dbConnection, serviceIdentity, bsonCmd);
-                return new MongoDBResult(mongoResultSupplier.get().getOne(), mongoResultSupplier.get().getTwo());
+                Supplier<Pair<MongoDBClientCache.Lease, MongoCursor<Document>>> mongoResultSupplier = mongoDBConnectionProvider.executeQuery(dbConnection, serviceIdentity, bsonCmd, batchSize, maxTimeMS);
+                Pair<MongoDBClientCache.Lease, MongoCursor<Document>> mongoResult = mongoResultSupplier.get();
+                return new MongoDBResult(mongoResult.getTwo(), mongoResult.getOne()::close, Collections.emptyList());
             }
             catch (Exception e)
             {
@@ -0,0 +1,161 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.auth;
+
+import com.mongodb.client.MongoClient;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of MongoClient instances, keyed by the servers and the credential used to reach them.
+ * <p>
+ * A MongoClient owns a connection pool and monitoring threads, so it is shared by all the queries issued with the
+ * same key. Queries lease the client for the lifetime of their cursor; a client is closed once it has been idle for
+ * longer than the idle timeout, or when it is the least recently used one and the cache is full (in which case it is
+ * closed as soon as its last lease is released).
+ */
+public class MongoDBClientCache
+{
+    public static final int DEFAULT_MAX_SIZE = 64;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final LinkedHashMap<Object, CachedClient> clients = new LinkedHashMap<>(16, 0.75f, true);
+
+    public MongoDBClientCache()
+    {
+        this(DEFAULT_MAX_SIZE, DEFAULT_IDLE_TIMEOUT_MILLIS);
+    }
+
+    public MongoDBClientCache(int maxSize, long idleTimeoutMillis)
+    {
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public synchronized Lease acquire(Object key, Supplier<MongoClient> clientFactory)
+    {
+        evictIdleClients(System.currentTimeMillis());
+        CachedClient cachedClient = this.clients.computeIfAbsent(key, k -> new CachedClient(clientFactory.get()));
+        cachedClient.leases++;
+        evictLeastRecentlyUsedClients();
+        return new Lease(cachedClient.client, () -> release(cachedClient));
+    }
+
+    public synchronized int size()
+    {
+        return this.clients.size();
+    }
+
+    public synchronized void clear()
+    {
+        this.clients.values().forEach(this::evict);
+        this.clients.clear();
+    }
+
+    private synchronized void release(CachedClient cachedClient)
+    {
+        cachedClient.leases--;
+        cachedClient.lastReleased = System.currentTimeMillis();
+        if (cachedClient.evicted && cachedClient.leases == 0)
+        {
+            cachedClient.client.close();
+        }
+    }
+
+    private void evictIdleClients(long now)
+    {
+        Iterator<CachedClient> iterator = this.clients.values().iterator();
+        while (iterator.hasNext())
+        {
+            CachedClient cachedClient = iterator.next();
+            if (cachedClient.leases == 0 && now - cachedClient.lastReleased > this.idleTimeoutMillis)
+            {
+                iterator.remove();
+                evict(cachedClient);
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsedClients()
+    {
+        Iterator<Map.Entry<Object, CachedClient>> iterator = this.clients.entrySet().iterator();
+        while (this.clients.size() > this.maxSize && iterator.hasNext())
+        {
+            CachedClient cachedClient = iterator.next().getValue();
+            iterator.remove();
+            evict(cachedClient);
+        }
+    }
+
+    private void evict(CachedClient cachedClient)
+    {
+        cachedClient.evicted = true;
+        if (cachedClient.leases == 0)
+        {
+            cachedClient.client.close();
+        }
+    }
+
+    public static Lease unpooled(MongoClient client)
+    {
+        return new Lease(client, client::close);
+    }
+
+    private static class CachedClient
+    {
+        private final MongoClient client;
+        private int leases;
+        private long lastReleased = System.currentTimeMillis();
+        private boolean evicted;
+
+        private CachedClient(MongoClient client)
+        {
+            this.client = client;
+        }
+    }
+
+    public static class Lease implements AutoCloseable
+    {
+        private final MongoClient client;
+        private final Runnable release;
+        private boolean released;
+
+        private Lease(MongoClient client, Runnable release)
+        {
+            this.client = client;
+            this.release = release;
+        }
+
+        public MongoClient getClient()
+        {
+            return this.client;
+        }
+
+        @Override
+        public void close()
+        {
+            if (!this.released)
+            {
+                this.released = true;
+                this.release.run();
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.auth;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCredential;
 import com.mongodb.ServerAddress;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCursor;
@@ -41,21 +42,38 @@ import javax.security.auth.kerberos.KerberosPrincipal;
 import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<MongoClient>>
 {
-    private static final int DEFAULT_BATCH_SIZE = 10;
+    public static final int DEFAULT_BATCH_SIZE = 10;
     private static final String ADMIN_DB = "admin";
 
+    private final MongoDBClientCache clientCache;
+
     public MongoDBStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, null);
+    }
+
+    public MongoDBStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider, MongoDBClientCache clientCache)
     {
         super(credentialProviderProvider);
+        this.clientCache = clientCache;
     }
 
+    public Supplier<Pair<MongoDBClientCache.Lease, MongoCursor<Document>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd) throws Exception
+    {
+        return executeQuery(dbConnection, identity, bsonCmd, DEFAULT_BATCH_SIZE, 0);
+    }
 
-    public Supplier<Pair<MongoClient, MongoCursor<Document>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd) throws Exception
+    /**
+     * @param batchSize cursor batch size, used unless the command specifies its own cursor batchSize
+     * @param maxTimeMS server side time limit of the query, used unless the command specifies its own maxTimeMS (0 for none)
+     */
+    public Supplier<Pair<MongoDBClientCache.Lease, MongoCursor<Document>>> executeQuery(MongoDBConnection dbConnection, Identity identity, Document bsonCmd, int batchSize, long maxTimeMS) throws Exception
     {
         final MongoDBConnectionSpecification connectionSpec = new MongoDBConnectionSpecification(dbConnection.dataSourceSpecification);
         final AuthenticationSpecification authenticationSpec = dbConnection.authenticationSpecification;
@@ -70,7 +88,7 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
         List<ServerAddress> serverAddresses = mongoDBConnectionSpec.getServerAddresses();
         MongoClientSettings.Builder clientSettingsBuilder = MongoClientSettings.builder().applyToClusterSettings(builder -> builder.hosts(serverAddresses)).applicationName("Legend Execution Server");
 
-        Supplier<Pair<MongoClient, MongoCursor<Document>>> mongoResultSupplier;
+        Supplier<Pair<MongoDBClientCache.Lease, MongoCursor<Document>>> mongoResultSupplier;
         if (authenticationSpec instanceof KerberosAuthenticationSpecification)
         {
             Optional<LegendKerberosCredential> kerberosHolder = identity.getCredential(LegendKerberosCredential.class);
@@ -91,8 +109,8 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
 
             MongoCredential mongoCredential = MongoCredential.createGSSAPICredential(kerberosPrincipal.getName());
             MongoClientSettings clientSettings = clientSettingsBuilder.credential(mongoCredential).build();
-            mongoResultSupplier = () -> KerberosUtils.doAs(identity, (PrivilegedAction<Pair<MongoClient, MongoCursor<Document>>>) () -> this.executeMongoCommand(clientSettings,
-                    dbConnection.dataSourceSpecification.databaseName, bsonCmd));
+            mongoResultSupplier = () -> KerberosUtils.doAs(identity, (PrivilegedAction<Pair<MongoDBClientCache.Lease, MongoCursor<Document>>>) () -> this.executeMongoCommand(serverAddresses, mongoCredential, clientSettings,
+                    dbConnection.dataSourceSpecification.databaseName, bsonCmd, batchSize, maxTimeMS));
         }
         else
         {
@@ -103,7 +121,7 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
                 PlaintextUserPasswordCredential plaintextCredential = (PlaintextUserPasswordCredential) credential;
                 MongoCredential mongoCredential = MongoCredential.createCredential(plaintextCredential.getUser(), ADMIN_DB, plaintextCredential.getPassword().toCharArray());
                 MongoClientSettings clientSettings = clientSettingsBuilder.credential(mongoCredential).build();
-                mongoResultSupplier = () -> this.executeMongoCommand(clientSettings, dbConnection.dataSourceSpecification.databaseName, bsonCmd);
+                mongoResultSupplier = () -> this.executeMongoCommand(serverAddresses, mongoCredential, clientSettings, dbConnection.dataSourceSpecification.databaseName, bsonCmd, batchSize, maxTimeMS);
             }
             else
             {
@@ -114,15 +132,42 @@ public class MongoDBStoreConnectionProvider extends ConnectionProvider<Supplier<
         return mongoResultSupplier;
     }
 
-    private Pair<MongoClient, MongoCursor<Document>> executeMongoCommand(MongoClientSettings clientSettings, String databaseName, Document bsonCmd)
+    private Pair<MongoDBClientCache.Lease, MongoCursor<Document>> executeMongoCommand(List<ServerAddress> serverAddresses, MongoCredential mongoCredential, MongoClientSettings clientSettings, String databaseName, Document bsonCmd, int batchSize, long maxTimeMS)
     {
-        MongoClient mongoClient = MongoClients.create(clientSettings);
-        MongoDatabase mongoDatabase = mongoClient.getDatabase(databaseName);
-        MongoCursor<Document> cursor = mongoDatabase.getCollection(bsonCmd.getString("aggregate"))
-                .aggregate(bsonCmd.getList("pipeline", Document.class))
-                .batchSize(DEFAULT_BATCH_SIZE).iterator();
-        return Tuples.pair(mongoClient, cursor);
+        MongoDBClientCache.Lease lease = this.clientCache == null
+                ? MongoDBClientCache.unpooled(MongoClients.create(clientSettings))
+                : this.clientCache.acquire(Tuples.pair(serverAddresses, mongoCredential), () -> MongoClients.create(clientSettings));
+        try
+        {
+            MongoDatabase mongoDatabase = lease.getClient().getDatabase(databaseName);
+            AggregateIterable<Document> aggregate = mongoDatabase.getCollection(bsonCmd.getString("aggregate"))
+                    .aggregate(bsonCmd.getList("pipeline", Document.class))
+                    .batchSize(getBatchSize(bsonCmd, batchSize));
+            long commandMaxTimeMS = getMaxTimeMS(bsonCmd, maxTimeMS);
+            if (commandMaxTimeMS > 0)
+            {
+                aggregate.maxTime(commandMaxTimeMS, TimeUnit.MILLISECONDS);
+            }
+            return Tuples.pair(lease, aggregate.iterator());
+        }
+        catch (RuntimeException e)
+        {
+            lease.close();
+            throw e;
+        }
+    }
 
+    private static int getBatchSize(Document bsonCmd, int batchSize)
+    {
+        Document cursor = bsonCmd.get("cursor", Document.class);
+        Number commandBatchSize = cursor == null ? null : cursor.get("batchSize", Number.class);
+        return commandBatchSize == null ? batchSize : commandBatchSize.intValue();
+    }
+
+    private static long getMaxTimeMS(Document bsonCmd, long maxTimeMS)
+    {
+        Number commandMaxTimeMS = bsonCmd.get("maxTimeMS", Number.class);
+        return commandMaxTimeMS == null ? maxTimeMS : commandMaxTimeMS.longValue();
     }
 
     @Override
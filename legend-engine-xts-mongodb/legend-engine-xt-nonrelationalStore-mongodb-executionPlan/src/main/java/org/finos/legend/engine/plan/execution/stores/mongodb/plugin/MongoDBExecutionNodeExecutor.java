@@ -17,7 +17,6 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.plugin;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Scope;
 import io.opentracing.util.GlobalTracer;
-import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.external.shared.utils.ExternalFormatRuntime;
 import org.finos.legend.engine.language.pure.grammar.to.MongoDBQueryJsonComposer;
 import org.finos.legend.engine.plan.dependencies.domain.dataQuality.BasicChecked;
@@ -104,9 +103,9 @@ public class MongoDBExecutionNodeExecutor implements ExecutionNodeVisitor<Result
             String composedDbCommand = mongoDBQueryJsonComposer.parseDatabaseCommand(dbCommand);
             String placeholderReplacedDbCommand = FreeMarkerExecutor.process(composedDbCommand, this.executionState);
 
-            CredentialProviderProvider credentialProviderProvider = ((MongoDBStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.NonRelational_MongoDB)).getStoreExecutionConfiguration().getCredentialProviderProvider();
+            MongoDBStoreExecutorConfiguration configuration = ((MongoDBStoreExecutionState) this.executionState.getStoreExecutionState(StoreType.NonRelational_MongoDB)).getStoreExecutionConfiguration();
 
-            return new MongoDBExecutor(credentialProviderProvider).executeMongoDBQuery(placeholderReplacedDbCommand, mongoDBConnection, identity);
+            return new MongoDBExecutor(configuration.getCredentialProviderProvider(), configuration.getClientCache()).executeMongoDBQuery(placeholderReplacedDbCommand, mongoDBConnection, identity, configuration.getBatchSize(), configuration.getMaxTimeMS());
         }
         catch (IOException e)
         {
@@ -17,10 +17,15 @@ package org.finos.legend.engine.plan.execution.stores.mongodb.plugin;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBClientCache;
+import org.finos.legend.engine.plan.execution.stores.mongodb.auth.MongoDBStoreConnectionProvider;
 
 public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfiguration
 {
     private CredentialProviderProvider credentialProviderProvider;
+    private MongoDBClientCache clientCache;
+    private int batchSize;
+    private long maxTimeMS;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +38,21 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
         return credentialProviderProvider;
     }
 
+    public MongoDBClientCache getClientCache()
+    {
+        return clientCache;
+    }
+
+    public int getBatchSize()
+    {
+        return batchSize;
+    }
+
+    public long getMaxTimeMS()
+    {
+        return maxTimeMS;
+    }
+
     public static Builder newInstance()
     {
         return new Builder();
@@ -41,6 +61,9 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.defaultProviderProvider();
+        private MongoDBClientCache clientCache;
+        private int batchSize = MongoDBStoreConnectionProvider.DEFAULT_BATCH_SIZE;
+        private long maxTimeMS = 0;
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +71,31 @@ public class MongoDBStoreExecutorConfiguration implements StoreExecutorConfigura
             return this;
         }
 
+        public Builder withClientCache(MongoDBClientCache clientCache)
+        {
+            this.clientCache = clientCache;
+            return this;
+        }
+
+        public Builder withBatchSize(int batchSize)
+        {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder withMaxTimeMS(long maxTimeMS)
+        {
+            this.maxTimeMS = maxTimeMS;
+            return this;
+        }
+
         public MongoDBStoreExecutorConfiguration build()
         {
             MongoDBStoreExecutorConfiguration mongoDBStoreExecutionConfiguration = new MongoDBStoreExecutorConfiguration();
             mongoDBStoreExecutionConfiguration.credentialProviderProvider = this.credentialProviderProvider;
+            mongoDBStoreExecutionConfiguration.clientCache = this.clientCache == null ? new MongoDBClientCache() : this.clientCache;
+            mongoDBStoreExecutionConfiguration.batchSize = this.batchSize;
+            mongoDBStoreExecutionConfiguration.maxTimeMS = this.maxTimeMS;
             return mongoDBStoreExecutionConfiguration;
         }
     }
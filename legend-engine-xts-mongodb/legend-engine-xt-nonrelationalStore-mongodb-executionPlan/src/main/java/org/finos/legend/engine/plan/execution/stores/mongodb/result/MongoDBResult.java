@@ -30,7 +30,7 @@ public class MongoDBResult extends Result
 {
     private final MongoCursor<Document> mongoCursor;
 
-    private final MongoClient mongoClient;
+    private final Runnable releaseClient;
 
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor)
     {
@@ -38,10 +38,18 @@ public class MongoDBResult extends Result
     }
 
     public MongoDBResult(MongoClient mongoClient, MongoCursor<Document> mongoCursor, List<ExecutionActivity> activities)
+    {
+        this(mongoCursor, mongoClient::close, activities);
+    }
+
+    /**
+     * @param releaseClient invoked once the cursor is closed, to close or hand the client back to its cache
+     */
+    public MongoDBResult(MongoCursor<Document> mongoCursor, Runnable releaseClient, List<ExecutionActivity> activities)
     {
         super("success", activities);
         this.mongoCursor = mongoCursor;
-        this.mongoClient = mongoClient;
+        this.releaseClient = releaseClient;
     }
 
     public MongoCursor<Document> getMongoCursor()
@@ -57,8 +65,14 @@ public class MongoDBResult extends Result
     @Override
     public void close()
     {
-        this.mongoCursor.close();
-        this.mongoClient.close();
+        try
+        {
+            this.mongoCursor.close();
+        }
+        finally
+        {
+            this.releaseClient.run();
+        }
     }
 
     @Override
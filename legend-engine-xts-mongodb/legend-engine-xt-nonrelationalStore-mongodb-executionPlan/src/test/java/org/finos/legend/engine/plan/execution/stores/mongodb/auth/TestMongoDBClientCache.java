@@ -0,0 +1,76 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.mongodb.auth;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class TestMongoDBClientCache
+{
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final Supplier<MongoClient> clientFactory = () ->
+    {
+        this.created.incrementAndGet();
+        return MongoClients.create(MongoClientSettings.builder().applyToClusterSettings(builder -> builder.hosts(Collections.singletonList(new ServerAddress("localhost", 1)))).build());
+    };
+
+    @Test
+    public void testClientIsSharedPerKey()
+    {
+        MongoDBClientCache cache = new MongoDBClientCache();
+        try (MongoDBClientCache.Lease first = cache.acquire("key1", this.clientFactory);
+             MongoDBClientCache.Lease second = cache.acquire("key1", this.clientFactory);
+             MongoDBClientCache.Lease other = cache.acquire("key2", this.clientFactory))
+        {
+            Assert.assertSame(first.getClient(), second.getClient());
+            Assert.assertNotSame(first.getClient(), other.getClient());
+        }
+        Assert.assertEquals(2, this.created.get());
+        Assert.assertEquals(2, cache.size());
+        cache.clear();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedClientIsEvicted()
+    {
+        MongoDBClientCache cache = new MongoDBClientCache(1, MongoDBClientCache.DEFAULT_IDLE_TIMEOUT_MILLIS);
+        cache.acquire("key1", this.clientFactory).close();
+        cache.acquire("key2", this.clientFactory).close();
+        Assert.assertEquals(1, cache.size());
+        cache.acquire("key1", this.clientFactory).close();
+        Assert.assertEquals(3, this.created.get());
+        cache.clear();
+    }
+
+    @Test
+    public void testIdleClientIsEvicted() throws Exception
+    {
+        MongoDBClientCache cache = new MongoDBClientCache(10, 1);
+        cache.acquire("key1", this.clientFactory).close();
+        Thread.sleep(10);
+        cache.acquire("key2", this.clientFactory).close();
+        Assert.assertEquals(1, cache.size());
+        cache.clear();
+    }
+}
@@ -24,5 +24,6 @@ public enum Capability
     DATA_TYPE_LENGTH_CHANGE,
     DATA_TYPE_SCALE_CHANGE,
     TRANSFORM_WHILE_COPY,
-    DRY_RUN
+    DRY_RUN,
+    PARALLEL_DATA_SPLITS
 }
@@ -352,4 +352,70 @@ public abstract class RelationalSink implements Sink
             return true;
         }
     };
+
+    /*
+    Data splits can only be ingested concurrently (each in its own transaction) when the sink supports it and the
+    outcome of the ingest mode does not depend on the order in which the splits are applied to the main dataset
+     */
+    public boolean isParallelDataSplitIngestionSupported(IngestMode ingestMode)
+    {
+        return capabilities().contains(Capability.PARALLEL_DATA_SPLITS) && ingestMode.accept(IS_DATA_SPLIT_ORDER_INDEPENDENT);
+    }
+
+    public static final IngestModeVisitor<Boolean> IS_DATA_SPLIT_ORDER_INDEPENDENT = new IngestModeVisitor<Boolean>()
+    {
+        @Override
+        public Boolean visitAppendOnly(AppendOnlyAbstract appendOnly)
+        {
+            return !appendOnly.filterExistingRecords();
+        }
+
+        @Override
+        public Boolean visitNontemporalSnapshot(NontemporalSnapshotAbstract nontemporalSnapshot)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitNontemporalDelta(NontemporalDeltaAbstract nontemporalDelta)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitUnitemporalSnapshot(UnitemporalSnapshotAbstract unitemporalSnapshot)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitUnitemporalDelta(UnitemporalDeltaAbstract unitemporalDelta)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitBitemporalSnapshot(BitemporalSnapshotAbstract bitemporalSnapshot)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitBitemporalDelta(BitemporalDeltaAbstract bitemporalDelta)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitBulkLoad(BulkLoadAbstract bulkLoad)
+        {
+            return false;
+        }
+
+        @Override
+        public Boolean visitNoOp(NoOpAbstract noOpAbstract)
+        {
+            return false;
+        }
+    };
 }
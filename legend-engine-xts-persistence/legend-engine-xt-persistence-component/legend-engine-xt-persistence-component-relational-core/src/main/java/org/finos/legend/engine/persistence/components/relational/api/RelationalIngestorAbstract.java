@@ -56,6 +56,13 @@ import org.slf4j.LoggerFactory;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils.ADDITIONAL_METADATA_KEY_PATTERN;
 import static org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils.ADDITIONAL_METADATA_VALUE_PATTERN;
@@ -180,6 +187,15 @@ public abstract class RelationalIngestorAbstract
         return 20;
     }
 
+    /*
+    Number of data splits ingested concurrently by performFullIngestionWithDataSplits(RelationalConnection, Supplier, ...), 1 means sequential ingestion
+     */
+    @Default
+    public int dataSplitParallelism()
+    {
+        return 1;
+    }
+
     @Derived
     public String getRunId()
     {
@@ -199,6 +215,11 @@ public abstract class RelationalIngestorAbstract
         {
             throw new UnsupportedOperationException("Unsupported ingest mode");
         }
+
+        if (dataSplitParallelism() < 1)
+        {
+            throw new IllegalStateException("dataSplitParallelism must be at least 1");
+        }
     }
 
     //---------- FIELDS ----------
@@ -364,7 +385,7 @@ public abstract class RelationalIngestorAbstract
     public List<IngestorResult> performFullIngestion(RelationalConnection connection, Datasets datasets)
     {
         LOGGER.info("Invoked performFullIngestion method");
-        return performFullIngestion(connection, datasets, new ArrayList<>());
+        return performFullIngestion(connection, datasets, new ArrayList<>(), null);
     }
 
     /*
@@ -383,7 +404,30 @@ public abstract class RelationalIngestorAbstract
         {
             dataSplitRanges = Arrays.asList(DataSplitRange.of(1,1));
         }
-        return performFullIngestion(connection, datasets, dataSplitRanges);
+        return performFullIngestion(connection, datasets, dataSplitRanges, null);
+    }
+
+    /*
+    Perform ingestion from Staging to Target table based on the Ingest mode, ingesting up to dataSplitParallelism data splits concurrently
+    Each data split is ingested in its own transaction, on a connection obtained from the dataSplitConnectionSupplier (and closed once done).
+    The concurrent ingestion is only used when the sink supports it, the ingest mode does not depend on the order in which the data splits
+    are applied, and concurrent safety is disabled (as the lock is held by a single transaction); otherwise the data splits are ingested
+    one after another in a single transaction. If dataSplitRanges is empty, the data splits are derived from the staging data.
+    Failure semantics of the concurrent ingestion: the deduplicated and versioned staging data is committed before the data splits are
+    ingested, so a failing data split cannot roll back the others. The transaction of the failing data split is reverted, the data splits
+    that have not started yet are cancelled, and the data splits already committed stay in the main table together with their batch
+    metadata. The first failure is rethrown once the running data splits are done.
+    Full Ingestion covers:
+    1. Export external dataset
+    2. Create tables
+    3. Evolves Schema
+    4. Ingestion from staging to main dataset, in a transaction per data split
+    5. Clean up of temporary tables
+    */
+    public List<IngestorResult> performFullIngestionWithDataSplits(RelationalConnection connection, Supplier<RelationalConnection> dataSplitConnectionSupplier, Datasets datasets, List<DataSplitRange> dataSplitRanges)
+    {
+        LOGGER.info("Invoked performFullIngestionWithDataSplits method with a data split connection supplier");
+        return performFullIngestion(connection, datasets, dataSplitRanges == null ? new ArrayList<>() : dataSplitRanges, dataSplitConnectionSupplier);
     }
 
     /*
@@ -548,7 +592,116 @@ public abstract class RelationalIngestorAbstract
         }
     }
 
-    private List<IngestorResult> performFullIngestion(RelationalConnection connection, Datasets datasets, List<DataSplitRange> dataSplitRanges)
+    private boolean canIngestDataSplitsInParallel(Supplier<RelationalConnection> dataSplitConnectionSupplier, List<DataSplitRange> dataSplitRanges)
+    {
+        return dataSplitConnectionSupplier != null
+            && dataSplitParallelism() > 1
+            && dataSplitRanges.size() > 1
+            && !enableConcurrentSafety()
+            && planner.dataSplitExecutionSupported()
+            && relationalSink().isParallelDataSplitIngestionSupported(enrichedIngestMode);
+    }
+
+    private List<IngestorResult> ingestDataSplitsInParallel(Supplier<RelationalConnection> dataSplitConnectionSupplier, List<DataSplitRange> dataSplitRanges, SchemaEvolutionResult schemaEvolutionResult)
+    {
+        LOGGER.info(String.format("Starting Ingestion of %d data splits in parallel with IngestMode: {%s}", dataSplitRanges.size(), enrichedIngestMode.getClass().getSimpleName()));
+        // The data splits are committed concurrently, so their batch ids are allocated upfront
+        Optional<Long> nextBatchId = IngestionUtils.getNextBatchId(enrichedDatasets, executor, transformer);
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(dataSplitParallelism(), dataSplitRanges.size()));
+        AtomicBoolean failed = new AtomicBoolean(false);
+        try
+        {
+            List<Future<IngestorResult>> futures = new ArrayList<>();
+            for (int i = 0; i < dataSplitRanges.size(); i++)
+            {
+                DataSplitRange dataSplitRange = dataSplitRanges.get(i);
+                long offset = i;
+                Optional<Long> batchId = nextBatchId.map(id -> id + offset);
+                futures.add(workers.submit(() ->
+                {
+                    // Once a data split has failed, the data splits which have not started yet are skipped
+                    if (failed.get())
+                    {
+                        return null;
+                    }
+                    try
+                    {
+                        return ingestDataSplit(dataSplitConnectionSupplier.get(), dataSplitRange, batchId, schemaEvolutionResult);
+                    }
+                    catch (RuntimeException e)
+                    {
+                        failed.set(true);
+                        throw e;
+                    }
+                }));
+            }
+
+            List<IngestorResult> results = new ArrayList<>();
+            List<DataSplitRange> committedDataSplitRanges = new ArrayList<>();
+            RuntimeException failure = null;
+            for (int i = 0; i < futures.size(); i++)
+            {
+                try
+                {
+                    IngestorResult result = futures.get(i).get();
+                    if (result != null)
+                    {
+                        results.add(result);
+                        committedDataSplitRanges.add(dataSplitRanges.get(i));
+                    }
+                }
+                catch (ExecutionException e)
+                {
+                    if (failure == null)
+                    {
+                        failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while ingesting data splits", e);
+                }
+            }
+            if (failure != null)
+            {
+                LOGGER.error(String.format("Ingestion of data splits failed, data splits already committed: %s",
+                    committedDataSplitRanges.stream().map(range -> "[" + range.lowerBound() + ", " + range.upperBound() + "]").collect(Collectors.joining(", "))));
+                throw failure;
+            }
+            return results;
+        }
+        finally
+        {
+            workers.shutdownNow();
+        }
+    }
+
+    private IngestorResult ingestDataSplit(RelationalConnection connection, DataSplitRange dataSplitRange, Optional<Long> batchId, SchemaEvolutionResult schemaEvolutionResult)
+    {
+        Executor<SqlGen, TabularData, SqlPlan> dataSplitExecutor = relationalSink().getRelationalExecutor(connection);
+        dataSplitExecutor.setSqlLogging(sqlLogging());
+        try
+        {
+            dataSplitExecutor.begin();
+            IngestorResult result = IngestionUtils.performIngestionForDataSplit(enrichedDatasets, transformer, planner, dataSplitExecutor, generatorResult, Optional.of(dataSplitRange),
+                enrichedIngestMode, schemaEvolutionResult, additionalMetadata(), executionTimestampClock(), batchId);
+            dataSplitExecutor.commit();
+            return result;
+        }
+        catch (Exception e)
+        {
+            dataSplitExecutor.revert();
+            throw e;
+        }
+        finally
+        {
+            dataSplitExecutor.close();
+            dataSplitExecutor.getRelationalExecutionHelper().close();
+        }
+    }
+
+    private List<IngestorResult> performFullIngestion(RelationalConnection connection, Datasets datasets, List<DataSplitRange> dataSplitRanges, Supplier<RelationalConnection> dataSplitConnectionSupplier)
     {
         // 1. init
         initExecutor(connection);
@@ -564,6 +717,7 @@ public abstract class RelationalIngestorAbstract
         // Evolve Schema
         SchemaEvolutionResult schemaEvolutionResult = evolve();
         List<IngestorResult> result;
+        boolean committed = false;
 
         try
         {
@@ -583,9 +737,23 @@ public abstract class RelationalIngestorAbstract
                 }
 
                 // Perform Ingestion
-                result = ingest(dataSplitRanges, schemaEvolutionResult);
+                if (canIngestDataSplitsInParallel(dataSplitConnectionSupplier, dataSplitRanges))
+                {
+                    // Commit the deduplicated and versioned staging data, so that it is visible to the data split transactions
+                    executor.commit();
+                    committed = true;
+                    result = ingestDataSplitsInParallel(dataSplitConnectionSupplier, dataSplitRanges, schemaEvolutionResult);
+                    executor.executePhysicalPlan(generatorResult.postActionsSqlPlan());
+                }
+                else
+                {
+                    result = ingest(dataSplitRanges, schemaEvolutionResult);
+                }
+            }
+            if (!committed)
+            {
+                executor.commit();
             }
-            executor.commit();
         }
         catch (Exception e)
         {
@@ -158,21 +158,7 @@ public class IngestionUtils
         do
         {
             Optional<DataSplitRange> dataSplitRange = Optional.ofNullable(dataSplitsCount == 0 ? null : dataSplitRanges.get(dataSplitIndex));
-            // Extract the Placeholders values
-            Map<String, PlaceholderValue> placeHolderKeyValues = extractPlaceHolderKeyValues(datasets, executor, planner, transformer, ingestMode, dataSplitRange, additionalMetadata, executionTimestampClock, batchId);
-            // Load main table, extract stats and update metadata table
-            Map<StatisticName, Object> statisticsResultMap = loadData(executor, generatorResult, placeHolderKeyValues, executionTimestampClock);
-            IngestorResult result = IngestorResult.builder()
-                .putAllStatisticByName(statisticsResultMap)
-                .updatedDatasets(datasets)
-                .batchId(Optional.ofNullable(placeHolderKeyValues.containsKey(BATCH_ID_PATTERN) ? Integer.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()) : null))
-                .dataSplitRange(dataSplitRange)
-                .schemaEvolutionSql(schemaEvolutionResult.schemaEvolutionSql())
-                .status(IngestStatus.SUCCEEDED)
-                .ingestionTimestampUTC(placeHolderKeyValues.get(BATCH_START_TS_PATTERN).value())
-                .ingestionEndTimestampUTC(placeHolderKeyValues.get(BATCH_END_TS_PATTERN).value())
-                .build();
-            results.add(result);
+            results.add(performIngestionForDataSplit(datasets, transformer, planner, executor, generatorResult, dataSplitRange, ingestMode, schemaEvolutionResult, additionalMetadata, executionTimestampClock, batchId));
             dataSplitIndex++;
         }
         while (planner.dataSplitExecutionSupported() && dataSplitIndex < dataSplitsCount);
@@ -181,6 +167,45 @@ public class IngestionUtils
         return results;
     }
 
+    public static IngestorResult performIngestionForDataSplit(Datasets datasets, Transformer<SqlGen, SqlPlan> transformer, Planner planner, Executor<SqlGen,
+            TabularData, SqlPlan> executor, GeneratorResult generatorResult, Optional<DataSplitRange> dataSplitRange, IngestMode ingestMode,
+                                                              SchemaEvolutionResult schemaEvolutionResult, Map<String, Object> additionalMetadata, Clock executionTimestampClock, Optional<Long> batchId)
+    {
+        // Extract the Placeholders values
+        Map<String, PlaceholderValue> placeHolderKeyValues = extractPlaceHolderKeyValues(datasets, executor, planner, transformer, ingestMode, dataSplitRange, additionalMetadata, executionTimestampClock, batchId);
+        // Load main table, extract stats and update metadata table
+        Map<StatisticName, Object> statisticsResultMap = loadData(executor, generatorResult, placeHolderKeyValues, executionTimestampClock);
+        return IngestorResult.builder()
+            .putAllStatisticByName(statisticsResultMap)
+            .updatedDatasets(datasets)
+            .batchId(Optional.ofNullable(placeHolderKeyValues.containsKey(BATCH_ID_PATTERN) ? Integer.valueOf(placeHolderKeyValues.get(BATCH_ID_PATTERN).value()) : null))
+            .dataSplitRange(dataSplitRange)
+            .schemaEvolutionSql(schemaEvolutionResult.schemaEvolutionSql())
+            .status(IngestStatus.SUCCEEDED)
+            .ingestionTimestampUTC(placeHolderKeyValues.get(BATCH_START_TS_PATTERN).value())
+            .ingestionEndTimestampUTC(placeHolderKeyValues.get(BATCH_END_TS_PATTERN).value())
+            .build();
+    }
+
+    /*
+    Sums up the numeric statistics of the given results, e.g. to report the totals of an ingestion performed in several data splits
+     */
+    public static Map<StatisticName, Object> aggregateStatistics(List<IngestorResult> results)
+    {
+        Map<StatisticName, Object> aggregatedStatistics = new HashMap<>();
+        for (IngestorResult result : results)
+        {
+            for (Map.Entry<StatisticName, Object> entry : result.statisticByName().entrySet())
+            {
+                if (entry.getValue() instanceof Number)
+                {
+                    aggregatedStatistics.merge(entry.getKey(), ((Number) entry.getValue()).longValue(), (a, b) -> ((Number) a).longValue() + ((Number) b).longValue());
+                }
+            }
+        }
+        return aggregatedStatistics;
+    }
+
     private static Map<StatisticName, Object> loadData(Executor<SqlGen, TabularData, SqlPlan> executor, GeneratorResult generatorResult, Map<String, PlaceholderValue> placeHolderKeyValues, Clock executionTimestampClock)
     {
         // Extract preIngest Statistics
@@ -110,6 +110,7 @@ public class DuckDBSink extends AnsiSqlSink
         capabilities.add(Capability.DATA_TYPE_LENGTH_CHANGE);
         capabilities.add(Capability.DATA_TYPE_SCALE_CHANGE);
         capabilities.add(Capability.TRANSFORM_WHILE_COPY);
+        capabilities.add(Capability.PARALLEL_DATA_SPLITS);
         CAPABILITIES = Collections.unmodifiableSet(capabilities);
 
         Map<Class<?>, LogicalPlanVisitor<?>> logicalPlanVisitorByClass = new HashMap<>();
@@ -64,6 +64,7 @@ public class BaseTest
     protected static final String USER_NAME = "sa";
     protected static final String PASSWORD = "";
     public static JdbcHelper duckDBSink;
+    protected static String duckDBJdbcUrl;
 
     protected final ZonedDateTime fixedExecutionZonedDateTime1 = ZonedDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
     protected final Clock fixedClock_2000_01_01 = Clock.fixed(fixedExecutionZonedDateTime1.toInstant(), ZoneOffset.UTC);
@@ -79,11 +80,11 @@ public class BaseTest
     @BeforeAll
     public static void initialize() throws Exception
     {
-        String jdbc = "jdbc:duckdb:" + Files.createTempDirectory("persistence-duckdb-test").resolve(TEST_DATABASE);
-        duckDBSink = JdbcHelper.of(DuckDBSink.createConnection(USER_NAME, PASSWORD, jdbc));
+        duckDBJdbcUrl = "jdbc:duckdb:" + Files.createTempDirectory("persistence-duckdb-test").resolve(TEST_DATABASE);
+        duckDBSink = JdbcHelper.of(DuckDBSink.createConnection(USER_NAME, PASSWORD, duckDBJdbcUrl));
         // Closing connection pool created by other tests.
         duckDBSink.close();
-        duckDBSink = JdbcHelper.of(DuckDBSink.createConnection(USER_NAME, PASSWORD, jdbc));
+        duckDBSink = JdbcHelper.of(DuckDBSink.createConnection(USER_NAME, PASSWORD, duckDBJdbcUrl));
     }
 
     @AfterAll
@@ -16,6 +16,7 @@ package org.finos.legend.engine.persistence.components.e2e.nontemporal;
 
 import org.finos.legend.engine.persistence.components.IncrementalClock;
 import org.finos.legend.engine.persistence.components.common.Datasets;
+import org.finos.legend.engine.persistence.components.common.StatisticName;
 import org.finos.legend.engine.persistence.components.e2e.BaseTest;
 import org.finos.legend.engine.persistence.components.e2e.TestUtils;
 import org.finos.legend.engine.persistence.components.ingestmode.AppendOnly;
@@ -35,6 +36,7 @@ import org.finos.legend.engine.persistence.components.logicalplan.datasets.Filte
 import org.finos.legend.engine.persistence.components.planner.PlannerOptions;
 import org.finos.legend.engine.persistence.components.relational.CaseConversion;
 import org.finos.legend.engine.persistence.components.relational.api.GeneratorResult;
+import org.finos.legend.engine.persistence.components.relational.api.IngestorResult;
 import org.finos.legend.engine.persistence.components.relational.api.RelationalGenerator;
 import org.finos.legend.engine.persistence.components.relational.api.RelationalIngestor;
 import org.finos.legend.engine.persistence.components.relational.duckdb.DuckDBDigestUtil;
@@ -49,6 +51,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.finos.legend.engine.persistence.components.e2e.TestUtils.batchIdName;
 import static org.finos.legend.engine.persistence.components.e2e.TestUtils.batchUpdateTimeName;
@@ -421,6 +427,107 @@ class AppendOnlyTest extends BaseTest
         executePlansAndVerifyResultsWithDerivedDataSplits(ingestMode, options, datasets, schema, expectedDataPass2, expectedStatsList, incrementalClock, " order by \"batch_id\", \"income\"");
     }
 
+    /*
+    Scenario: Test Append Only with auditing, all version, filter duplicates and no filter existing records, ingesting the data splits in parallel
+    */
+    @Test
+    void testAppendOnlyWithAuditingAllVersionFilterDuplicatesNoFilterExistingRecordsInParallel() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+
+        // Create staging table
+        createStagingTableWithoutPks(stagingTable);
+
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        String[] schema = new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, versionName, batchUpdateTimeName, batchIdName};
+
+        String dataPass1 = basePath + "input/auditing_all_version_filter_dup_no_filter_existing/data_pass1.csv";
+        String expectedDataPass1 = basePath + "expected/auditing_all_version_filter_dup_no_filter_existing/expected_pass1_parallel.csv";
+        // 1. Load staging table
+        loadStagingDataWithVersion(dataPass1);
+
+        // 2. Execute with each data split in its own transaction, on its own connection to the database
+        RelationalIngestor ingestor = getParallelDataSplitIngestor(2);
+        List<IngestorResult> results = ingestor.performFullIngestionWithDataSplits(JdbcConnection.of(duckDBSink.connection()),
+            () -> JdbcConnection.of(DuckDBSink.createConnection(USER_NAME, PASSWORD, duckDBJdbcUrl)), datasets, Collections.emptyList());
+
+        // 3. Verify results
+        Assertions.assertEquals(2, results.size());
+        Assertions.assertEquals(Optional.of(1), results.get(0).batchId());
+        Assertions.assertEquals(Optional.of(2), results.get(1).batchId());
+        Assertions.assertEquals("3", results.get(0).statisticByName().get(StatisticName.ROWS_INSERTED).toString());
+        Assertions.assertEquals("1", results.get(1).statisticByName().get(StatisticName.ROWS_INSERTED).toString());
+
+        List<Map<String, Object>> tableData = duckDBSink.executeQuery("select * from \"TEST\".\"main\" order by \"batch_id\", \"income\"");
+        TestUtils.assertFileAndTableDataEquals(schema, expectedDataPass1, tableData);
+    }
+
+    /*
+    Scenario: Test Append Only ingesting the data splits in parallel, where one of the data splits fails:
+    the failure is rethrown, the failing data split is rolled back and the other data split stays committed
+    */
+    @Test
+    void testAppendOnlyWithDataSplitsInParallelWhenOneDataSplitFails() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+
+        // Create staging table
+        createStagingTableWithoutPks(stagingTable);
+
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+
+        // 1. Load staging table
+        loadStagingDataWithVersion(basePath + "input/auditing_all_version_filter_dup_no_filter_existing/data_pass1.csv");
+
+        // 2. Execute with the connection of the second data split to start failing
+        AtomicInteger connections = new AtomicInteger();
+        RelationalIngestor ingestor = getParallelDataSplitIngestor(2);
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> ingestor.performFullIngestionWithDataSplits(JdbcConnection.of(duckDBSink.connection()),
+            () ->
+            {
+                if (connections.incrementAndGet() == 2)
+                {
+                    throw new IllegalStateException("Unable to connect");
+                }
+                return JdbcConnection.of(DuckDBSink.createConnection(USER_NAME, PASSWORD, duckDBJdbcUrl));
+            }, datasets, Collections.emptyList()));
+        Assertions.assertEquals("Unable to connect", exception.getMessage());
+
+        // 3. Verify only the data split which succeeded is in the main table, along with its batch metadata
+        List<Map<String, Object>> tableData = duckDBSink.executeQuery("select * from \"TEST\".\"main\"");
+        Set<Object> batchIds = tableData.stream().map(row -> row.get(batchIdName)).collect(Collectors.toSet());
+        Assertions.assertEquals(1, batchIds.size());
+        int committedBatchId = ((Number) batchIds.iterator().next()).intValue();
+        Assertions.assertEquals(committedBatchId == 1 ? 3 : 1, tableData.size());
+        Assertions.assertEquals(1, duckDBSink.executeQuery("select * from batch_metadata").size());
+    }
+
+    private RelationalIngestor getParallelDataSplitIngestor(int dataSplitParallelism)
+    {
+        AppendOnly ingestMode = AppendOnly.builder()
+            .digestGenStrategy(UserProvidedDigestGenStrategy.builder().digestField(digestName).build())
+            .deduplicationStrategy(FilterDuplicates.builder().build())
+            .versioningStrategy(AllVersionsStrategy.builder()
+                .versioningField(versionName)
+                .dataSplitFieldName(dataSplitName)
+                .mergeDataVersionResolver(DigestBasedResolver.INSTANCE)
+                .performStageVersioning(true)
+                .build())
+            .auditing(DateTimeAuditing.builder().dateTimeField(batchUpdateTimeName).build())
+            .filterExistingRecords(false)
+            .build();
+
+        return RelationalIngestor.builder()
+            .ingestMode(ingestMode)
+            .relationalSink(DuckDBSink.get())
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .collectStatistics(true)
+            .dataSplitParallelism(dataSplitParallelism)
+            .build();
+    }
+
     /*
     Scenario: Scenario: Test Append Only vanilla case + staging table is cleaned up in the end with upper case with UDF based digest generation
     */
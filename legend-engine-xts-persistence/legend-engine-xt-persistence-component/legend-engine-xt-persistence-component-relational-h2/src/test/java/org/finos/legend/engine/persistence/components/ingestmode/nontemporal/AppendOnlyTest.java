@@ -18,6 +18,7 @@ import org.finos.legend.engine.persistence.components.BaseTest;
 import org.finos.legend.engine.persistence.components.IncrementalClock;
 import org.finos.legend.engine.persistence.components.TestUtils;
 import org.finos.legend.engine.persistence.components.common.Datasets;
+import org.finos.legend.engine.persistence.components.common.StatisticName;
 import org.finos.legend.engine.persistence.components.ingestmode.AppendOnly;
 import org.finos.legend.engine.persistence.components.ingestmode.audit.DateTimeAuditing;
 import org.finos.legend.engine.persistence.components.ingestmode.audit.NoAuditing;
@@ -36,8 +37,10 @@ import org.finos.legend.engine.persistence.components.logicalplan.datasets.Filte
 import org.finos.legend.engine.persistence.components.planner.PlannerOptions;
 import org.finos.legend.engine.persistence.components.relational.CaseConversion;
 import org.finos.legend.engine.persistence.components.relational.api.GeneratorResult;
+import org.finos.legend.engine.persistence.components.relational.api.IngestorResult;
 import org.finos.legend.engine.persistence.components.relational.api.RelationalGenerator;
 import org.finos.legend.engine.persistence.components.relational.api.RelationalIngestor;
+import org.finos.legend.engine.persistence.components.relational.api.utils.IngestionUtils;
 import org.finos.legend.engine.persistence.components.relational.h2.H2DigestUtil;
 import org.finos.legend.engine.persistence.components.relational.h2.H2Sink;
 import org.finos.legend.engine.persistence.components.relational.jdbc.JdbcConnection;
@@ -50,6 +53,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.finos.legend.engine.persistence.components.TestUtils.batchIdName;
 import static org.finos.legend.engine.persistence.components.TestUtils.batchUpdateTimeName;
@@ -435,6 +439,63 @@ class AppendOnlyTest extends BaseTest
         executePlansAndVerifyResultsWithDerivedDataSplits(ingestMode, options, datasets, schema, expectedDataPass2, expectedStatsList, incrementalClock);
     }
 
+    /*
+    Scenario: Test Append Only with auditing, all version, filter duplicates and no filter existing records, ingesting the data splits in parallel
+    */
+    @Test
+    void testAppendOnlyWithAuditingAllVersionFilterDuplicatesNoFilterExistingRecordsInParallel() throws Exception
+    {
+        DatasetDefinition mainTable = TestUtils.getDefaultMainTable();
+        DatasetDefinition stagingTable = TestUtils.getStagingTableWithNonPkVersion();
+
+        // Create staging table
+        createStagingTableWithoutPks(stagingTable);
+
+        // Generate the milestoning object
+        AppendOnly ingestMode = AppendOnly.builder()
+            .digestGenStrategy(UserProvidedDigestGenStrategy.builder().digestField(digestName).build())
+            .deduplicationStrategy(FilterDuplicates.builder().build())
+            .versioningStrategy(AllVersionsStrategy.builder()
+                .versioningField(versionName)
+                .dataSplitFieldName(dataSplitName)
+                .mergeDataVersionResolver(DigestBasedResolver.INSTANCE)
+                .performStageVersioning(true)
+                .build())
+            .auditing(DateTimeAuditing.builder().dateTimeField(batchUpdateTimeName).build())
+            .filterExistingRecords(false)
+            .build();
+
+        Datasets datasets = Datasets.of(mainTable, stagingTable);
+        String[] schema = new String[]{idName, nameName, incomeName, startTimeName, expiryDateName, digestName, versionName, batchUpdateTimeName, batchIdName};
+
+        String dataPass1 = basePath + "input/auditing_all_version_filter_dup_no_filter_existing/data_pass1.csv";
+        String expectedDataPass1 = basePath + "expected/auditing_all_version_filter_dup_no_filter_existing/expected_pass1_parallel.csv";
+        // 1. Load staging table
+        loadStagingDataWithVersion(dataPass1);
+
+        // 2. Execute with each data split in its own transaction
+        RelationalIngestor ingestor = RelationalIngestor.builder()
+            .ingestMode(ingestMode)
+            .relationalSink(H2Sink.get())
+            .executionTimestampClock(fixedClock_2000_01_01)
+            .collectStatistics(true)
+            .dataSplitParallelism(2)
+            .build();
+        List<IngestorResult> results = ingestor.performFullIngestionWithDataSplits(JdbcConnection.of(h2Sink.connection()),
+            () -> JdbcConnection.of(H2Sink.createConnection(H2_USER_NAME, H2_PASSWORD, H2_JDBC_URL)), datasets, Collections.emptyList());
+
+        // 3. Verify results
+        Assertions.assertEquals(2, results.size());
+        verifyStats(createExpectedStatsMap(3, 0, 3, 0, 0), results.get(0).statisticByName());
+        verifyStats(createExpectedStatsMap(1, 0, 1, 0, 0), results.get(1).statisticByName());
+        Assertions.assertEquals(Optional.of(1), results.get(0).batchId());
+        Assertions.assertEquals(Optional.of(2), results.get(1).batchId());
+        Assertions.assertEquals(4L, IngestionUtils.aggregateStatistics(results).get(StatisticName.ROWS_INSERTED));
+
+        List<Map<String, Object>> tableData = h2Sink.executeQuery("select * from \"TEST\".\"main\" order by \"id\", \"version\"");
+        TestUtils.assertFileAndTableDataEquals(schema, expectedDataPass1, tableData);
+    }
+
     /*
     Scenario: Scenario: Test Append Only vanilla case + staging table is cleaned up in the end with upper case with UDF based digest generation
     */
@@ -52,6 +52,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URISyntaxException;
 import java.text.SimpleDateFormat;
 import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.HashMap;
@@ -118,8 +119,7 @@ public class BigQueryWithGCPWorkloadIdentityFederationFlow implements DatabaseAu
         String subjectTokenType = "urn:ietf:params:aws:token-type:aws4_request";
         String callerIdentityToken = makeAWSCallerIdentityToken(awsCredentials, currentDate, canonicalAWSRequestSignature, gcpTargetResource);
         String federatedAccessToken = getGCPFederatedAccessToken(SdkHttpUtils.urlEncode(callerIdentityToken), gcpTargetResource, subjectTokenType);
-        String serviceAccountAccessToken = getGCPServiceAccountAccessToken(federatedAccessToken, authenticationStrategy.serviceAccountEmail, authenticationStrategy.additionalGcpScopes);
-        return new OAuthCredential(serviceAccountAccessToken);
+        return getGCPServiceAccountAccessTokenCredential(federatedAccessToken, authenticationStrategy.serviceAccountEmail, authenticationStrategy.additionalGcpScopes);
     }
 
     private String getUTCDate(Date date)
@@ -217,6 +217,12 @@ public class BigQueryWithGCPWorkloadIdentityFederationFlow implements DatabaseAu
     }
 
     public String getGCPServiceAccountAccessToken(String federatedAccessToken, String serviceAccountEmail, List<String> additionalGcpScopes) throws URISyntaxException, UnsupportedEncodingException, JsonProcessingException
+    {
+        return getGCPServiceAccountAccessTokenCredential(federatedAccessToken, serviceAccountEmail, additionalGcpScopes).getAccessToken();
+    }
+
+    // the credential expires with the generated access token (expireTime of the generateAccessToken response)
+    public OAuthCredential getGCPServiceAccountAccessTokenCredential(String federatedAccessToken, String serviceAccountEmail, List<String> additionalGcpScopes) throws URISyntaxException, UnsupportedEncodingException, JsonProcessingException
     {
         List<String> gcpScopes;
         if (additionalGcpScopes == null)
@@ -245,7 +251,8 @@ public class BigQueryWithGCPWorkloadIdentityFederationFlow implements DatabaseAu
             try (CloseableHttpResponse response = httpClient.execute(request))
             {
                 JsonNode responseData = OBJECT_MAPPER.readTree(response.getEntity().getContent());
-                return responseData.path("accessToken").asText();
+                JsonNode expireTime = responseData.path("expireTime");
+                return new OAuthCredential(responseData.path("accessToken").asText(), expireTime.isTextual() ? Instant.parse(expireTime.asText()) : null);
             }
         }
         catch (Exception ex)
@@ -14,12 +14,19 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.duckdb;
 
+import org.duckdb.DuckDBAppender;
+import org.duckdb.DuckDBConnection;
 import org.eclipse.collections.api.factory.Lists;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
 
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -43,6 +50,76 @@ public class DuckDBCommands extends RelationalDatabaseCommands
         return IngestionMethod.CLIENT_FILE;
     }
 
+    @Override
+    public String createTempTable(String tableName, List<Column> columns)
+    {
+        return "CREATE TEMP TABLE " + tableName + "(" + columns.stream().map(c -> c.name + " " + c.type).collect(Collectors.joining(", ")) + ");";
+    }
+
+    @Override
+    public String createTable(String tableName, List<Column> columns)
+    {
+        return "CREATE TABLE " + quoteIdentifier(tableName) + "(" + columns.stream().map(c -> quoteIdentifier(c.name) + " " + c.type).collect(Collectors.joining(", ")) + ");";
+    }
+
+    private static String quoteIdentifier(String identifier)
+    {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    @Override
+    public long streamRows(Connection connection, String tableName, List<Column> columns, Iterator<Object[]> rows) throws SQLException
+    {
+        long count = 0;
+        // The appender writes rows to the table in chunks, without going through SQL
+        try (DuckDBAppender appender = connection.unwrap(DuckDBConnection.class).createAppender(DuckDBConnection.DEFAULT_SCHEMA, tableName))
+        {
+            while (rows.hasNext())
+            {
+                appender.beginRow();
+                for (Object value : rows.next())
+                {
+                    append(appender, value);
+                }
+                appender.endRow();
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void append(DuckDBAppender appender, Object value) throws SQLException
+    {
+        if (value == null)
+        {
+            appender.appendNull();
+        }
+        else if (value instanceof Boolean)
+        {
+            appender.append((boolean) value);
+        }
+        else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+        {
+            appender.append(((Number) value).longValue());
+        }
+        else if (value instanceof Double || value instanceof Float)
+        {
+            appender.append(((Number) value).doubleValue());
+        }
+        else if (value instanceof BigDecimal)
+        {
+            appender.appendBigDecimal((BigDecimal) value);
+        }
+        else if (value instanceof Timestamp)
+        {
+            appender.appendLocalDateTime(((Timestamp) value).toLocalDateTime());
+        }
+        else
+        {
+            appender.append(value.toString());
+        }
+    }
+
     @Override
     public String load(String tableName, String location)
     {
@@ -14,6 +14,8 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.duckdb;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
@@ -39,7 +41,9 @@ import org.junit.*;
 import org.junit.rules.TemporaryFolder;
 
 import javax.security.auth.Subject;
+import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.sql.*;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -177,6 +181,136 @@ public class TestDuckDBCommands
         }
     }
 
+    @Test
+    public void testStreamRows() throws Exception
+    {
+        try (
+                Connection connection = CONNECTION_MANAGER_SELECTOR.getDatabaseConnection((Subject) null, this.testDuckDBConnection());
+                Statement statement = connection.createStatement()
+        )
+        {
+            List<Column> columns = Arrays.asList(
+                    new Column("id", "INT"),
+                    new Column("name", "VARCHAR"),
+                    new Column("amount", "DOUBLE"),
+                    new Column("updated", "TIMESTAMP")
+            );
+            statement.execute(DUCK_DB_COMMANDS.createTempTable("stream_rows_test_table", columns));
+            Iterator<Object[]> rows = Arrays.asList(
+                    new Object[]{1, "O'Brien, \"Pat\"", 1.5, Timestamp.valueOf("2024-01-02 03:04:05")},
+                    new Object[]{2, null, null, null}
+            ).iterator();
+            Assert.assertEquals(2, DUCK_DB_COMMANDS.streamRows(connection, "stream_rows_test_table", columns, rows));
+            try (ResultSet rs = statement.executeQuery("select * from stream_rows_test_table order by id"))
+            {
+                assertOnColumnCountAndColumnTypes(rs.getMetaData(), 4, "(id:INTEGER)|(name:VARCHAR)|(amount:DOUBLE)|(updated:TIMESTAMP)");
+                Assert.assertTrue(rs.next());
+                Assert.assertEquals("O'Brien, \"Pat\"", rs.getString("name"));
+                Assert.assertEquals(1.5, rs.getDouble("amount"), 0);
+                Assert.assertEquals(Timestamp.valueOf("2024-01-02 03:04:05"), rs.getTimestamp("updated"));
+                Assert.assertTrue(rs.next());
+                Assert.assertNull(rs.getString("name"));
+                Assert.assertNull(rs.getObject("amount"));
+                Assert.assertNull(rs.getObject("updated"));
+                Assert.assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    public void testCreateTableQuotesIdentifiers() throws Exception
+    {
+        List<Column> columns = Arrays.asList(new Column("Name \"Nick\"", "VARCHAR"), new Column("select", "INTEGER"));
+        Assert.assertEquals("CREATE TABLE \"my \"\"table\"\"\"(\"Name \"\"Nick\"\"\" VARCHAR, \"select\" INTEGER);", DUCK_DB_COMMANDS.createTable("my \"table\"", columns));
+        try (
+                Connection connection = CONNECTION_MANAGER_SELECTOR.getDatabaseConnection((Subject) null, this.testDuckDBConnection());
+                Statement statement = connection.createStatement()
+        )
+        {
+            statement.execute(DUCK_DB_COMMANDS.createTable("my \"table\"", columns));
+            try (ResultSet rs = statement.executeQuery("select * from \"my \"\"table\"\"\""))
+            {
+                assertOnColumnCountAndColumnTypes(rs.getMetaData(), 2, "(Name \"Nick\":VARCHAR)|(select:INTEGER)");
+                Assert.assertFalse(rs.next());
+            }
+        }
+    }
+
+    @Test
+    public void testStreamRowsIntoCreatedTable() throws Exception
+    {
+        try (
+                Connection connection = CONNECTION_MANAGER_SELECTOR.getDatabaseConnection((Subject) null, this.testDuckDBConnection());
+                Statement statement = connection.createStatement()
+        )
+        {
+            List<Column> columns = Arrays.asList(new Column("First Name", "VARCHAR"), new Column("Age", "INTEGER"), new Column("Birth Date", "DATE"));
+            statement.execute(DUCK_DB_COMMANDS.dropTable("created_table"));
+            statement.execute(DUCK_DB_COMMANDS.createTable("created_table", columns));
+            Assert.assertEquals(1, DUCK_DB_COMMANDS.streamRows(connection, "created_table", columns, Collections.singletonList(new Object[]{"Peter", 23, java.sql.Date.valueOf("2001-02-03")}).iterator()));
+            // rows streamed again are appended to the table
+            Assert.assertEquals(1, DUCK_DB_COMMANDS.streamRows(connection, "created_table", columns, Collections.singletonList(new Object[]{"John", 22, null}).iterator()));
+            try (ResultSet rs = statement.executeQuery("select * from created_table order by \"Age\""))
+            {
+                assertOnColumnCountAndColumnTypes(rs.getMetaData(), 3, "(First Name:VARCHAR)|(Age:INTEGER)|(Birth Date:DATE)");
+                assertOnResultSetCSV(
+                        rs,
+                        "John,22,\r\n" +
+                        "Peter,23,2001-02-03\r\n"
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testStreamRowsMatchCsvFileLoad() throws Exception
+    {
+        // a few appender batches worth of rows, loaded both ways, must give the same table
+        int rowCount = 2_500;
+        List<Column> columns = Arrays.asList(
+                new Column("id", "BIGINT"),
+                new Column("name", "VARCHAR"),
+                new Column("amount", "DOUBLE")
+        );
+        try (
+                Connection connection = CONNECTION_MANAGER_SELECTOR.getDatabaseConnection((Subject) null, this.testDuckDBConnection());
+                Statement statement = connection.createStatement()
+        )
+        {
+            statement.execute(DUCK_DB_COMMANDS.createTempTable("streamed_table", columns));
+            Assert.assertEquals(rowCount, DUCK_DB_COMMANDS.streamRows(connection, "streamed_table", columns, IntStream.range(0, rowCount).mapToObj(TestDuckDBCommands::row).iterator()));
+
+            File file = TEMPORARY_FOLDER.newFile("rows.csv");
+            try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+                 CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT))
+            {
+                csvPrinter.printRecord("id", "name", "amount");
+                for (int i = 0; i < rowCount; i++)
+                {
+                    csvPrinter.printRecord(row(i));
+                }
+            }
+            statement.execute(DUCK_DB_COMMANDS.load("loaded_table", file.getAbsolutePath(), columns));
+
+            try (ResultSet rs = statement.executeQuery("select count(*), sum(id) from streamed_table"))
+            {
+                Assert.assertTrue(rs.next());
+                Assert.assertEquals(rowCount, rs.getLong(1));
+                Assert.assertEquals((long) rowCount * (rowCount - 1) / 2, rs.getLong(2));
+            }
+            try (ResultSet rs = statement.executeQuery("select count(*) from ((select * from streamed_table except select * from loaded_table) union all (select * from loaded_table except select * from streamed_table))"))
+            {
+                Assert.assertTrue(rs.next());
+                Assert.assertEquals(0, rs.getLong(1));
+            }
+        }
+    }
+
+    private static Object[] row(int i)
+    {
+        return new Object[]{(long) i, "name " + i, i * 1.5};
+    }
+
     private static void assertOnColumnCountAndColumnTypes(ResultSetMetaData resultSetMetaData, int expectedColumnCount, String expectedColumnTypes) throws SQLException
     {
         int columnCount = resultSetMetaData.getColumnCount();
@@ -18,11 +18,29 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.drive
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommandsVisitor;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class PostgresCommands extends RelationalDatabaseCommands
 {
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     @Override
     public String dropTempTable(String tableName)
     {
@@ -38,7 +56,96 @@ public class PostgresCommands extends RelationalDatabaseCommands
     @Override
     public IngestionMethod getDefaultIngestionMethod()
     {
-        throw new UnsupportedOperationException("not yet implemented");
+        return IngestionMethod.STREAMING_INSERT;
+    }
+
+    @Override
+    public String createTempTable(String tableName, List<Column> columns)
+    {
+        return "CREATE TEMPORARY TABLE " + tableName + "(" + columns.stream().map(c -> c.name + " " + c.type).collect(Collectors.joining(", ")) + ")";
+    }
+
+    @Override
+    public long streamRows(Connection connection, String tableName, List<Column> columns, Iterator<Object[]> rows) throws SQLException
+    {
+        CopyIn copyIn = new CopyManager(connection.unwrap(BaseConnection.class)).copyIn("COPY " + tableName + " FROM STDIN WITH (FORMAT csv)");
+        try
+        {
+            long count = 0;
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(COPY_BUFFER_SIZE);
+            StringBuilder line = new StringBuilder();
+            while (rows.hasNext())
+            {
+                line.setLength(0);
+                Object[] row = rows.next();
+                for (int i = 0; i < row.length; i++)
+                {
+                    if (i > 0)
+                    {
+                        line.append(',');
+                    }
+                    appendCsvValue(line, row[i]);
+                }
+                line.append('\n');
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                buffer.write(bytes, 0, bytes.length);
+                count++;
+                if (buffer.size() >= COPY_BUFFER_SIZE)
+                {
+                    copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                    buffer.reset();
+                }
+            }
+            if (buffer.size() > 0)
+            {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            }
+            copyIn.endCopy();
+            return count;
+        }
+        finally
+        {
+            if (copyIn.isActive())
+            {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void appendCsvValue(StringBuilder line, Object value)
+    {
+        // unquoted empty values are loaded as null, quoted ones as empty strings
+        if (value != null)
+        {
+            line.append('"').append(toCsvString(value).replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    private static String toCsvString(Object value)
+    {
+        // dates are written in ISO formats that COPY parses whatever the DateStyle of the session
+        if (value instanceof Timestamp)
+        {
+            return ((Timestamp) value).toLocalDateTime().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        if (value instanceof java.sql.Date)
+        {
+            return ((java.sql.Date) value).toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+        if (value instanceof Time)
+        {
+            return ((Time) value).toLocalTime().format(DateTimeFormatter.ISO_LOCAL_TIME);
+        }
+        if (value instanceof Date)
+        {
+            return LocalDateTime.ofInstant(((Date) value).toInstant(), ZoneOffset.UTC).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        if (value instanceof ZonedDateTime)
+        {
+            // the zone id that ZonedDateTime.toString() appends is not understood by Postgres
+            return ((ZonedDateTime) value).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        }
+        return value.toString();
     }
 
     @Override
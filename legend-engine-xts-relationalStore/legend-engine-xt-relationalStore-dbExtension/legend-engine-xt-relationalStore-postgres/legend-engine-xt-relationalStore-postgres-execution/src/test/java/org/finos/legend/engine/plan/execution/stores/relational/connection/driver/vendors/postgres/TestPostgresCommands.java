@@ -0,0 +1,151 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.postgres;
+
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class TestPostgresCommands
+{
+    private static final PostgresCommands POSTGRES_COMMANDS = new PostgresCommands();
+    private static final List<Column> COLUMNS = Arrays.asList(new Column("id", "INT"), new Column("name", "VARCHAR(200)"), new Column("amount", "DOUBLE PRECISION"), new Column("updated", "TIMESTAMP"));
+
+    private static PostgreSQLContainer<?> postgreSQLContainer;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        Assume.assumeTrue("Only run with docker", DockerClientFactory.instance().isDockerAvailable());
+        postgreSQLContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres").withTag("16.2"));
+        postgreSQLContainer.start();
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        if (postgreSQLContainer != null)
+        {
+            postgreSQLContainer.stop();
+        }
+    }
+
+    @Test
+    public void testStreamRowsWithCopy() throws Exception
+    {
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.execute(POSTGRES_COMMANDS.createTempTable("streamed", COLUMNS));
+            Iterator<Object[]> rows = Arrays.asList(
+                    new Object[]{1, "O'Brien, \"Jr\"", 1.5, Timestamp.valueOf("2024-01-02 03:04:05")},
+                    new Object[]{2, "", null, null},
+                    new Object[]{3, null, 2.0, null}
+            ).iterator();
+            Assert.assertEquals(3, POSTGRES_COMMANDS.streamRows(connection, "streamed", COLUMNS, rows));
+
+            try (ResultSet resultSet = statement.executeQuery("select * from streamed order by id"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("O'Brien, \"Jr\"", resultSet.getString("name"));
+                Assert.assertEquals(1.5, resultSet.getDouble("amount"), 0);
+                Assert.assertEquals(Timestamp.valueOf("2024-01-02 03:04:05"), resultSet.getTimestamp("updated"));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("", resultSet.getString("name"));
+                Assert.assertNull(resultSet.getObject("amount"));
+                Assert.assertNull(resultSet.getTimestamp("updated"));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertNull(resultSet.getString("name"));
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+
+    @Test
+    public void testStreamRowsWithDates() throws Exception
+    {
+        List<Column> columns = Arrays.asList(new Column("id", "INT"), new Column("day", "DATE"), new Column("updated", "TIMESTAMP"));
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.execute("SET DateStyle = 'SQL, DMY'");
+            statement.execute(POSTGRES_COMMANDS.createTempTable("streamedDates", columns));
+            Iterator<Object[]> rows = Arrays.asList(
+                    new Object[]{1, java.sql.Date.valueOf("2024-01-02"), Timestamp.valueOf("2024-01-02 03:04:05.123")},
+                    new Object[]{2, LocalDate.of(2024, 1, 3), new Date(1_704_251_045_000L)},
+                    new Object[]{3, LocalDate.of(2024, 1, 4), ZonedDateTime.of(2024, 1, 4, 3, 4, 5, 0, ZoneId.of("Europe/London"))}
+            ).iterator();
+            Assert.assertEquals(3, POSTGRES_COMMANDS.streamRows(connection, "streamedDates", columns, rows));
+
+            try (ResultSet resultSet = statement.executeQuery("select * from streamedDates order by id"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(LocalDate.of(2024, 1, 2), resultSet.getObject("day", LocalDate.class));
+                Assert.assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 123_000_000), resultSet.getObject("updated", LocalDateTime.class));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(LocalDate.of(2024, 1, 3), resultSet.getObject("day", LocalDate.class));
+                Assert.assertEquals(LocalDateTime.of(2024, 1, 3, 3, 4, 5), resultSet.getObject("updated", LocalDateTime.class));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(LocalDateTime.of(2024, 1, 4, 3, 4, 5), resultSet.getObject("updated", LocalDateTime.class));
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+
+    @Test
+    public void testStreamRowsLargerThanCopyBuffer() throws Exception
+    {
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement())
+        {
+            statement.execute(POSTGRES_COMMANDS.createTempTable("streamed", COLUMNS));
+            Iterator<Object[]> rows = IntStream.range(0, 10_000).mapToObj(i -> new Object[]{i, "name " + i, i * 1.5, new Timestamp(1_700_000_000_000L + i * 1000L)}).iterator();
+            Assert.assertEquals(10_000, POSTGRES_COMMANDS.streamRows(connection, "streamed", COLUMNS, rows));
+
+            try (ResultSet resultSet = statement.executeQuery("select count(*), sum(id) from streamed"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals(10_000, resultSet.getInt(1));
+                Assert.assertEquals(49_995_000L, resultSet.getLong(2));
+            }
+        }
+    }
+
+    private static Connection getConnection() throws Exception
+    {
+        return DriverManager.getConnection(postgreSQLContainer.getJdbcUrl(), postgreSQLContainer.getUsername(), postgreSQLContainer.getPassword());
+    }
+}
@@ -40,6 +40,21 @@ public class CredentialSupplier
         this(databaseAuthenticationFlow, datasourceSpecification, authenticationStrategy, DatabaseAuthenticationFlow.RuntimeContext.empty());
     }
 
+    public DatabaseAuthenticationFlow getDatabaseAuthenticationFlow()
+    {
+        return this.databaseAuthenticationFlow;
+    }
+
+    public DatasourceSpecification getDatasourceSpecification()
+    {
+        return this.datasourceSpecification;
+    }
+
+    public DatabaseAuthenticationFlow.RuntimeContext getRuntimeContext()
+    {
+        return this.runtimeContext;
+    }
+
     public Credential getCredential(Identity identity) throws Exception
     {
         return this.databaseAuthenticationFlow.makeCredential(identity, this.datasourceSpecification, this.authenticationStrategy, this.runtimeContext);
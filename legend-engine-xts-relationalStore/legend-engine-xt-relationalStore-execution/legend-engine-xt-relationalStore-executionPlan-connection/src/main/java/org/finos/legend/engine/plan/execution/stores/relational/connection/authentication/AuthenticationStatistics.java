@@ -19,6 +19,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class AuthenticationStatistics
 {
     private final AtomicInteger authenticationErrors = new AtomicInteger(0);
+    private final AtomicInteger credentialCacheHits = new AtomicInteger(0);
+    private final AtomicInteger credentialCacheMisses = new AtomicInteger(0);
+    private final AtomicInteger credentialCacheSharedLoads = new AtomicInteger(0);
+    private final AtomicInteger credentialRefreshes = new AtomicInteger(0);
+    private final AtomicInteger credentialRefreshErrors = new AtomicInteger(0);
 
     public void logAuthenticationError()
     {
@@ -29,4 +34,55 @@ public class AuthenticationStatistics
     {
         return this.authenticationErrors.get();
     }
+
+    public void logCredentialCacheHit()
+    {
+        this.credentialCacheHits.incrementAndGet();
+    }
+
+    public int getTotalCredentialCacheHits()
+    {
+        return this.credentialCacheHits.get();
+    }
+
+    public void logCredentialCacheMiss()
+    {
+        this.credentialCacheMisses.incrementAndGet();
+    }
+
+    public int getTotalCredentialCacheMisses()
+    {
+        return this.credentialCacheMisses.get();
+    }
+
+    // a request which waited for a credential already being acquired by another request
+    public void logCredentialCacheSharedLoad()
+    {
+        this.credentialCacheSharedLoads.incrementAndGet();
+    }
+
+    public int getTotalCredentialCacheSharedLoads()
+    {
+        return this.credentialCacheSharedLoads.get();
+    }
+
+    public void logCredentialRefresh()
+    {
+        this.credentialRefreshes.incrementAndGet();
+    }
+
+    public int getTotalCredentialRefreshes()
+    {
+        return this.credentialRefreshes.get();
+    }
+
+    public void logCredentialRefreshError()
+    {
+        this.credentialRefreshErrors.incrementAndGet();
+    }
+
+    public int getTotalCredentialRefreshErrors()
+    {
+        return this.credentialRefreshErrors.get();
+    }
 }
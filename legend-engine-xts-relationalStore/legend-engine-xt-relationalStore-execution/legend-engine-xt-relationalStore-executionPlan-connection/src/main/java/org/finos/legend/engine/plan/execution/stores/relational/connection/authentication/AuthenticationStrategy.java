@@ -14,6 +14,8 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.authentication;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.collections.api.tuple.Pair;
 import org.finos.legend.engine.authentication.credential.CredentialSupplier;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ConnectionException;
@@ -21,6 +23,8 @@ import org.finos.legend.engine.plan.execution.stores.relational.connection.authe
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.DataSourceWithStatistics;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.IdentityState;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.DatasourceSpecification;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.identity.Credential;
 import org.finos.legend.engine.shared.core.identity.Identity;
 import org.slf4j.Logger;
@@ -31,6 +35,7 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.sql.Connection;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -39,6 +44,8 @@ public abstract class AuthenticationStrategy
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(AuthenticationStrategy.class);
     private static final int CONNECTION_TIMEOUT = Math.toIntExact(SECONDS.toMillis(30L));
     public static String AUTHENTICATION_STRATEGY_KEY = "AUTHENTICATION_STRATEGY_KEY";
+    // the datasource specifications are part of the credential cache keys, whatever the grammar they were parsed from
+    private static final ObjectMapper DATASOURCE_SPECIFICATION_MAPPER = ObjectMapperFactory.getNewStandardObjectMapper().addMixIn(DatasourceSpecification.class, WithoutSourceInformation.class);
     protected AuthenticationStatistics authenticationStatistics = new AuthenticationStatistics();
 
     /*
@@ -113,7 +120,17 @@ public abstract class AuthenticationStrategy
         {
             Identity identity = identityState.getIdentity();
             CredentialSupplier credentialSupplier = identityState.getCredentialSupplier().get();
-            return credentialSupplier.getCredential(identity);
+            if (!this.cacheDatabaseCredentials())
+            {
+                return credentialSupplier.getCredential(identity);
+            }
+            String cacheKey = String.join("|",
+                    identity.getName(),
+                    DATASOURCE_SPECIFICATION_MAPPER.writeValueAsString(credentialSupplier.getDatasourceSpecification()),
+                    this.getKey().shortId(),
+                    credentialSupplier.getDatabaseAuthenticationFlow().getClass().getName(),
+                    new TreeMap<>(credentialSupplier.getRuntimeContext().getContextParams().castToMap()).toString());
+            return CredentialCache.getInstance().get(cacheKey, () -> credentialSupplier.getCredential(identity), this.authenticationStatistics);
         }
         catch (Exception e)
         {
@@ -121,9 +138,22 @@ public abstract class AuthenticationStrategy
         }
     }
 
+    /*
+        Whether the credentials acquired through the credential supplier can be shared between connections of the same identity (see CredentialCache).
+        Strategies whose credentials depend on more than the identity, the datasource specification, the strategy key and the flow runtime context should not cache them.
+     */
+    protected boolean cacheDatabaseCredentials()
+    {
+        return true;
+    }
+
     public Properties getAuthenticationPropertiesForConnection()
     {
         return new Properties();
     }
 
+    @JsonIgnoreProperties("sourceInformation")
+    private interface WithoutSourceInformation
+    {
+    }
 }
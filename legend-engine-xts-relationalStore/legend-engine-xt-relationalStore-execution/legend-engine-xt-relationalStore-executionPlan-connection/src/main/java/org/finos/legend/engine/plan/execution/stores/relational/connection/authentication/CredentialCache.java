@@ -0,0 +1,215 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.authentication;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.finos.legend.engine.shared.core.identity.Credential;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+import org.slf4j.Logger;
+
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/*
+    Cache of the database credentials acquired through credential suppliers, so that creating a physical connection
+    (for instance when a Hikari pool refills) does not go through token exchanges or vault lookups each time.
+
+    - a credential is kept until its expiry when it is known (see Credential.getExpiry), for the default time to live otherwise,
+      and never longer than the maximum time to live
+    - the cache holds at most the maximum number of credentials, the least recently used ones are evicted first
+    - concurrent requests for a credential which is being acquired wait for that acquisition instead of starting their own
+    - a credential used after 80% of its lifetime is refreshed in the background, while the current one keeps being served
+ */
+public class CredentialCache
+{
+    private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(CredentialCache.class);
+    public static final String CACHE_NAME = "databaseCredentials";
+    public static final long DEFAULT_TIME_TO_LIVE_MILLIS = MINUTES.toMillis(5L);
+    public static final long DEFAULT_MAXIMUM_TIME_TO_LIVE_MILLIS = HOURS.toMillis(1L);
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+    private static final CredentialCache INSTANCE = new CredentialCache(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE_MILLIS, DEFAULT_MAXIMUM_TIME_TO_LIVE_MILLIS, System::currentTimeMillis);
+
+    private final long defaultTimeToLiveMillis;
+    private final long maximumTimeToLiveMillis;
+    private final LongSupplier clock;
+    private final Cache<String, Entry> entries;
+    private final ExecutorService refresher = Executors.newCachedThreadPool(runnable ->
+    {
+        Thread thread = new Thread(runnable, "credential-cache-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CredentialCache(long defaultTimeToLiveMillis, LongSupplier clock)
+    {
+        this(DEFAULT_MAXIMUM_SIZE, defaultTimeToLiveMillis, DEFAULT_MAXIMUM_TIME_TO_LIVE_MILLIS, clock);
+    }
+
+    public CredentialCache(long maximumSize, long defaultTimeToLiveMillis, long maximumTimeToLiveMillis, LongSupplier clock)
+    {
+        this.defaultTimeToLiveMillis = Math.min(defaultTimeToLiveMillis, maximumTimeToLiveMillis);
+        this.maximumTimeToLiveMillis = maximumTimeToLiveMillis;
+        this.clock = clock;
+        // the expiry of each credential is checked when it is used, entries which are no longer used are dropped after the maximum time to live
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(maximumTimeToLiveMillis, MILLISECONDS)
+                .ticker(new Ticker()
+                {
+                    @Override
+                    public long read()
+                    {
+                        return MILLISECONDS.toNanos(clock.getAsLong());
+                    }
+                })
+                .build();
+    }
+
+    public static CredentialCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    public Credential get(String key, Callable<Credential> supplier, AuthenticationStatistics statistics) throws Exception
+    {
+        long now = this.clock.getAsLong();
+        boolean[] owner = {false};
+        Entry entry = this.entries.asMap().compute(key, (k, current) ->
+        {
+            if (current != null && (!current.credential.isDone() || current.isUsable(now)))
+            {
+                return current;
+            }
+            owner[0] = true;
+            return new Entry();
+        });
+
+        if (owner[0])
+        {
+            statistics.logCredentialCacheMiss();
+            MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "miss");
+            try
+            {
+                Credential credential = supplier.call();
+                if (credential == null)
+                {
+                    this.entries.asMap().remove(key, entry);
+                    entry.credential.complete(null);
+                    return null;
+                }
+                entry.complete(credential, now, this.defaultTimeToLiveMillis, this.maximumTimeToLiveMillis);
+            }
+            catch (Exception e)
+            {
+                // failures are not cached, the waiting requests get the error and the next one tries again
+                this.entries.asMap().remove(key, entry);
+                entry.credential.completeExceptionally(e);
+                throw e;
+            }
+            return entry.credential.join();
+        }
+
+        if (entry.credential.isDone())
+        {
+            statistics.logCredentialCacheHit();
+            MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "hit");
+            if (now >= entry.refreshAt && entry.refreshing.compareAndSet(false, true))
+            {
+                this.refresher.submit(() -> this.refresh(key, entry, supplier, statistics));
+            }
+        }
+        else
+        {
+            statistics.logCredentialCacheSharedLoad();
+            MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "shared");
+        }
+
+        try
+        {
+            return entry.credential.join();
+        }
+        catch (CompletionException e)
+        {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    public void invalidateAll()
+    {
+        this.entries.invalidateAll();
+    }
+
+    public long size()
+    {
+        return this.entries.size();
+    }
+
+    private void refresh(String key, Entry entry, Callable<Credential> supplier, AuthenticationStatistics statistics)
+    {
+        try
+        {
+            long now = this.clock.getAsLong();
+            Credential credential = supplier.call();
+            if (credential == null)
+            {
+                throw new IllegalStateException("No credential returned");
+            }
+            Entry refreshed = new Entry();
+            refreshed.complete(credential, now, this.defaultTimeToLiveMillis, this.maximumTimeToLiveMillis);
+            this.entries.asMap().replace(key, entry, refreshed);
+            statistics.logCredentialRefresh();
+        }
+        catch (Exception e)
+        {
+            // the current credential is kept until it expires, the next request after this failure tries again
+            statistics.logCredentialRefreshError();
+            LOGGER.warn("error refreshing credential (total : {}) {}", statistics.getTotalCredentialRefreshErrors(), e);
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static class Entry
+    {
+        private final CompletableFuture<Credential> credential = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private volatile long expiresAt;
+        private volatile long refreshAt;
+
+        private void complete(Credential value, long now, long defaultTimeToLiveMillis, long maximumTimeToLiveMillis)
+        {
+            this.expiresAt = Math.min(value.getExpiry().map(Instant::toEpochMilli).orElse(now + defaultTimeToLiveMillis), now + maximumTimeToLiveMillis);
+            this.refreshAt = now + (this.expiresAt - now) * 4 / 5;
+            this.credential.complete(value);
+        }
+
+        private boolean isUsable(long now)
+        {
+            return !this.credential.isCompletedExceptionally() && now < this.expiresAt && this.credential.join() != null && this.credential.join().isValid();
+        }
+    }
+}
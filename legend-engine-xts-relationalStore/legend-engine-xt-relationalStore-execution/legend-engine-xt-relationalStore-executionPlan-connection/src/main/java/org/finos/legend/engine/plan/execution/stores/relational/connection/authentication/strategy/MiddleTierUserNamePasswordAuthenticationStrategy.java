@@ -69,6 +69,13 @@ public class MiddleTierUserNamePasswordAuthenticationStrategy extends Authentica
         return Tuples.pair(url, connectionProperties);
     }
 
+    // middle tier credentials are subject to usage checks on each acquisition
+    @Override
+    protected boolean cacheDatabaseCredentials()
+    {
+        return false;
+    }
+
     @Override
     public MiddleTierUserNamePasswordAuthenticationStrategyKey getKey()
     {
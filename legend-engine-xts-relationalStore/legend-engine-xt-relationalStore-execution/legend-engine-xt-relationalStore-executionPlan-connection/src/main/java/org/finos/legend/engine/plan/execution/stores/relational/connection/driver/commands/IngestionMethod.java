@@ -18,6 +18,7 @@ public enum IngestionMethod
 {
     BATCH_INSERT,
     CLIENT_FILE,
-    DIRECT_INSERT
-
-    }
+    DIRECT_INSERT,
+    // rows are loaded as they are produced with RelationalDatabaseCommands.streamRows, without being staged in a file
+    STREAMING_INSERT
+}
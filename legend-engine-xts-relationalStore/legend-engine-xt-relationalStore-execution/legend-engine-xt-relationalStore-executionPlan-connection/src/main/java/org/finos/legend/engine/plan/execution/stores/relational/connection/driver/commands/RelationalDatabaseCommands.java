@@ -14,10 +14,18 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public abstract class RelationalDatabaseCommands
 {
+    public static final int STREAMING_INSERT_BATCH_SIZE = 1000;
+
     public String processTempTableName(String tempTableName)
     {
         return tempTableName;
@@ -56,6 +64,54 @@ public abstract class RelationalDatabaseCommands
         throw new RuntimeException("Create Temp not implemented for " + this.getClass().getSimpleName());
     }
 
+    public String createTable(String tableName, List<Column> columns)
+    {
+        throw new RuntimeException("Create Table not implemented for " + this.getClass().getSimpleName());
+    }
+
+    /**
+     * Loads rows into a table created with {@link #createTempTable} or {@link #createTable}, consuming them as they are produced. Values are in the
+     * order of the columns. Only a batch of rows is held in memory at a time, and nothing is staged on disk.
+     *
+     * @return the number of rows loaded
+     */
+    public long streamRows(Connection connection, String tableName, List<Column> columns, Iterator<Object[]> rows) throws SQLException
+    {
+        String insert = "INSERT INTO " + tableName + " VALUES (" + columns.stream().map(c -> "?").collect(Collectors.joining(", ")) + ")";
+        long count = 0;
+        try (PreparedStatement statement = connection.prepareStatement(insert))
+        {
+            int batch = 0;
+            while (rows.hasNext())
+            {
+                Object[] row = rows.next();
+                for (int i = 0; i < row.length; i++)
+                {
+                    if (row[i] == null)
+                    {
+                        statement.setNull(i + 1, Types.VARCHAR);
+                    }
+                    else
+                    {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                }
+                statement.addBatch();
+                count++;
+                if (++batch == STREAMING_INSERT_BATCH_SIZE)
+                {
+                    statement.executeBatch();
+                    batch = 0;
+                }
+            }
+            if (batch > 0)
+            {
+                statement.executeBatch();
+            }
+        }
+        return count;
+    }
+
 //    public void buildTempTableFromResult(RelationalExecutionConfiguration config, Connection connection, StreamingResult result, String tableName)
 //    {
 //        buildTempTableFromResult(config, connection, result, tableName, this.getDefaultIngestionMethod());
@@ -0,0 +1,254 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.authentication;
+
+import org.finos.legend.engine.authentication.DatabaseAuthenticationFlow;
+import org.finos.legend.engine.authentication.credential.CredentialSupplier;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.authentication.strategy.DefaultH2AuthenticationStrategy;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.ds.state.IdentityState;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.specification.StaticDatasourceSpecification;
+import org.finos.legend.engine.shared.core.identity.Credential;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.identity.credential.OAuthCredential;
+import org.finos.legend.engine.shared.core.identity.credential.PlaintextUserPasswordCredential;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestCredentialCache
+{
+    private final AtomicLong now = new AtomicLong(0);
+    private final CredentialCache cache = new CredentialCache(1000, now::get);
+    private final AuthenticationStatistics statistics = new AuthenticationStatistics();
+
+    @Test
+    public void testCredentialIsReusedUntilItExpires() throws Exception
+    {
+        AtomicInteger calls = new AtomicInteger();
+        Assert.assertEquals(new OAuthCredential("token1"), cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics));
+        now.set(500);
+        Assert.assertEquals(new OAuthCredential("token1"), cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics));
+        Assert.assertEquals(new OAuthCredential("token1"), cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics));
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(new OAuthCredential("other"), cache.get("otherKey", () -> new OAuthCredential("other"), statistics));
+
+        now.set(1000);
+        Assert.assertEquals(new OAuthCredential("token2"), cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics));
+        Assert.assertEquals(3, statistics.getTotalCredentialCacheMisses());
+        Assert.assertEquals(2, statistics.getTotalCredentialCacheHits());
+    }
+
+    @Test
+    public void testCredentialExpiryBoundsItsLifetime() throws Exception
+    {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("key", () -> new ExpiringCredential(100, calls), statistics);
+        now.set(50);
+        cache.get("key", () -> new ExpiringCredential(100, calls), statistics);
+        Assert.assertEquals(1, calls.get());
+        now.set(100);
+        cache.get("key", () -> new ExpiringCredential(1000, calls), statistics);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCredentialLifetimeIsBoundedByTheMaximumTimeToLive() throws Exception
+    {
+        CredentialCache boundedCache = new CredentialCache(10, 1000, 2000, now::get);
+        AtomicInteger calls = new AtomicInteger();
+        boundedCache.get("key", () -> new ExpiringCredential(10_000, calls), statistics);
+        now.set(1999);
+        boundedCache.get("key", () -> new ExpiringCredential(10_000, calls), statistics);
+        Assert.assertEquals(1, calls.get());
+        now.set(2000);
+        boundedCache.get("key", () -> new ExpiringCredential(10_000, calls), statistics);
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testCacheSizeIsBounded() throws Exception
+    {
+        CredentialCache boundedCache = new CredentialCache(10, 1000, 2000, now::get);
+        for (int i = 0; i < 100; i++)
+        {
+            boundedCache.get("key" + i, () -> new OAuthCredential("token"), statistics);
+        }
+        Assert.assertTrue(boundedCache.size() <= 10);
+    }
+
+    @Test
+    public void testDatabaseCredentialsAreCachedPerIdentityAndDatasource()
+    {
+        AtomicInteger calls = new AtomicInteger();
+        DatabaseAuthenticationFlow<StaticDatasourceSpecification, org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy> flow = new CountingFlow(calls);
+        org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy protocolStrategy = new org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy();
+        DefaultH2AuthenticationStrategy authenticationStrategy = new DefaultH2AuthenticationStrategy();
+        // unique names as the credentials are kept in the shared cache
+        Identity alice = new Identity("alice-" + UUID.randomUUID());
+        Identity bob = new Identity("bob-" + UUID.randomUUID());
+
+        IdentityState aliceOnDb1 = new IdentityState(alice, Optional.of(new CredentialSupplier(flow, datasource("db1"), protocolStrategy)));
+        Credential credential = authenticationStrategy.getDatabaseCredential(aliceOnDb1);
+        Assert.assertSame(credential, authenticationStrategy.getDatabaseCredential(aliceOnDb1));
+        // a new supplier for the same datasource, as for a new request, shares the credential
+        Assert.assertSame(credential, authenticationStrategy.getDatabaseCredential(new IdentityState(alice, Optional.of(new CredentialSupplier(flow, datasource("db1"), protocolStrategy)))));
+        Assert.assertEquals(1, calls.get());
+
+        Assert.assertNotSame(credential, authenticationStrategy.getDatabaseCredential(new IdentityState(alice, Optional.of(new CredentialSupplier(flow, datasource("db2"), protocolStrategy)))));
+        Assert.assertNotSame(credential, authenticationStrategy.getDatabaseCredential(new IdentityState(bob, Optional.of(new CredentialSupplier(flow, datasource("db1"), protocolStrategy)))));
+        Assert.assertEquals(3, calls.get());
+        Assert.assertEquals(3, authenticationStrategy.getAuthenticationStatistics().getTotalCredentialCacheMisses());
+        Assert.assertEquals(2, authenticationStrategy.getAuthenticationStatistics().getTotalCredentialCacheHits());
+    }
+
+    @Test
+    public void testFailuresAreNotCached() throws Exception
+    {
+        RuntimeException error = Assert.assertThrows(RuntimeException.class, () -> cache.get("key", () ->
+        {
+            throw new RuntimeException("vault unavailable");
+        }, statistics));
+        Assert.assertEquals("vault unavailable", error.getMessage());
+        Assert.assertEquals(new OAuthCredential("token"), cache.get("key", () -> new OAuthCredential("token"), statistics));
+    }
+
+    @Test
+    public void testConcurrentRequestsShareOneAcquisition() throws Exception
+    {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            List<Future<Credential>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+            {
+                results.add(executor.submit(() -> cache.get("key", () ->
+                {
+                    calls.incrementAndGet();
+                    release.await(10, TimeUnit.SECONDS);
+                    return new OAuthCredential("token");
+                }, statistics)));
+            }
+            while (statistics.getTotalCredentialCacheMisses() + statistics.getTotalCredentialCacheSharedLoads() < 8)
+            {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            for (Future<Credential> result : results)
+            {
+                Assert.assertEquals(new OAuthCredential("token"), result.get(10, TimeUnit.SECONDS));
+            }
+            Assert.assertEquals(1, calls.get());
+            Assert.assertEquals(7, statistics.getTotalCredentialCacheSharedLoads());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCredentialIsRefreshedInTheBackground() throws Exception
+    {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics);
+        now.set(900);
+        // the current credential is still served while the refresh runs
+        Assert.assertEquals(new OAuthCredential("token1"), cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics));
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (statistics.getTotalCredentialRefreshes() == 0 && System.currentTimeMillis() < deadline)
+        {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, statistics.getTotalCredentialRefreshes());
+        now.set(1200);
+        Assert.assertEquals(new OAuthCredential("token2"), cache.get("key", () -> new OAuthCredential("token" + calls.incrementAndGet()), statistics));
+        Assert.assertEquals(2, calls.get());
+    }
+
+    private static StaticDatasourceSpecification datasource(String databaseName)
+    {
+        StaticDatasourceSpecification datasourceSpecification = new StaticDatasourceSpecification();
+        datasourceSpecification.host = "localhost";
+        datasourceSpecification.port = 1234;
+        datasourceSpecification.databaseName = databaseName;
+        return datasourceSpecification;
+    }
+
+    private static class CountingFlow implements DatabaseAuthenticationFlow<StaticDatasourceSpecification, org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy>
+    {
+        private final AtomicInteger calls;
+
+        private CountingFlow(AtomicInteger calls)
+        {
+            this.calls = calls;
+        }
+
+        @Override
+        public Class<StaticDatasourceSpecification> getDatasourceClass()
+        {
+            return StaticDatasourceSpecification.class;
+        }
+
+        @Override
+        public Class<org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy> getAuthenticationStrategyClass()
+        {
+            return org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy.class;
+        }
+
+        @Override
+        public DatabaseType getDatabaseType()
+        {
+            return DatabaseType.H2;
+        }
+
+        @Override
+        public Credential makeCredential(Identity identity, StaticDatasourceSpecification datasourceSpecification, org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.authentication.DefaultH2AuthenticationStrategy authenticationStrategy)
+        {
+            return new PlaintextUserPasswordCredential("user" + this.calls.incrementAndGet(), "password");
+        }
+    }
+
+    private static class ExpiringCredential implements Credential
+    {
+        private final long expiresAt;
+
+        private ExpiringCredential(long expiresAt, AtomicInteger calls)
+        {
+            this.expiresAt = expiresAt;
+            calls.incrementAndGet();
+        }
+
+        @Override
+        public Optional<Instant> getExpiry()
+        {
+            return Optional.of(Instant.ofEpochMilli(this.expiresAt));
+        }
+    }
+}
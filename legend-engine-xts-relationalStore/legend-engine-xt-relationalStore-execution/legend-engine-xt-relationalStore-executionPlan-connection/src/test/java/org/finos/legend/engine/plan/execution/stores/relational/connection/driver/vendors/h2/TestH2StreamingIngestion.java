@@ -0,0 +1,125 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2;
+
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class TestH2StreamingIngestion
+{
+    private static final H2Commands H2_COMMANDS = new H2Commands();
+    private static final List<Column> COLUMNS = Arrays.asList(new Column("id", "INT"), new Column("name", "VARCHAR(200)"), new Column("amount", "DOUBLE"), new Column("updated", "TIMESTAMP"));
+    // a few insert batches worth of rows
+    private static final int ROWS = 2_500;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testStreamRows() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testStreamRows");
+             Statement statement = connection.createStatement())
+        {
+            statement.execute(H2_COMMANDS.createTempTable("streamed", COLUMNS));
+            Iterator<Object[]> rows = Arrays.asList(
+                    new Object[]{1, "O'Brien", 1.5, Timestamp.valueOf("2024-01-02 03:04:05")},
+                    new Object[]{2, null, null, null}
+            ).iterator();
+            Assert.assertEquals(2, H2_COMMANDS.streamRows(connection, "streamed", COLUMNS, rows));
+
+            try (ResultSet resultSet = statement.executeQuery("select * from streamed order by id"))
+            {
+                Assert.assertTrue(resultSet.next());
+                Assert.assertEquals("O'Brien", resultSet.getString("name"));
+                Assert.assertEquals(1.5, resultSet.getDouble("amount"), 0);
+                Assert.assertEquals(Timestamp.valueOf("2024-01-02 03:04:05"), resultSet.getTimestamp("updated"));
+                Assert.assertTrue(resultSet.next());
+                Assert.assertNull(resultSet.getString("name"));
+                Assert.assertFalse(resultSet.next());
+            }
+        }
+    }
+
+    @Test
+    public void testStreamRowsMatchCsvFileLoad() throws Exception
+    {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:testStreamRowsMatchCsvFileLoad");
+             Statement statement = connection.createStatement())
+        {
+            statement.execute(H2_COMMANDS.createTempTable("streamed", COLUMNS));
+            Assert.assertEquals(ROWS, H2_COMMANDS.streamRows(connection, "streamed", COLUMNS, IntStream.range(0, ROWS).mapToObj(TestH2StreamingIngestion::row).iterator()));
+
+            File file = this.temporaryFolder.newFile("rows.csv");
+            try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))
+            {
+                writer.write("id,name,amount,updated\n");
+                for (int i = 0; i < ROWS; i++)
+                {
+                    Object[] row = row(i);
+                    writer.write(row[0] + ",\"" + row[1] + "\"," + row[2] + "," + row[3] + "\n");
+                }
+            }
+            H2_COMMANDS.createAndLoadTempTable("loaded", COLUMNS, file.getAbsolutePath()).forEach(sql -> execute(statement, sql));
+
+            Assert.assertEquals(ROWS, count(statement, "streamed"));
+            Assert.assertEquals(ROWS, count(statement, "loaded"));
+            Assert.assertEquals(0, count(statement, "(select * from streamed except select * from loaded)"));
+        }
+    }
+
+    private static Object[] row(int i)
+    {
+        return new Object[]{i, "name " + i, i * 1.5, new Timestamp(1_700_000_000_000L + i * 1000L)};
+    }
+
+    private static int count(Statement statement, String table) throws Exception
+    {
+        try (ResultSet resultSet = statement.executeQuery("select count(*) from " + table))
+        {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static void execute(Statement statement, String sql)
+    {
+        try
+        {
+            statement.execute(sql);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.plan.execution.nodes.helpers.freemarker.FreeMarkerExecutor;
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the FreeMarker template of a SQL query with its String and Number plan parameters as JDBC bind variables.
+ * <p>
+ * Only the place holders generated for scalar parameters are bound: quoted and escaped String parameters
+ * ({@code '${name?replace("'", "''")}'} and their optional equivalent) and bare Number parameters, and only when they
+ * are the right hand side of a comparison. The rest of the template is rendered as usual. Whenever the rendered SQL
+ * cannot safely use bind variables (a parameter ends up in a literal, or the SQL already contains a {@code ?}), no
+ * result is returned and the query should be rendered with inlined literals instead.
+ */
+public class BindParameterRenderer
+{
+    private static final char MARKER_START = '\u0002';
+    private static final char MARKER_END = '\u0003';
+
+    private static final String NAME = "([A-Za-z_][A-Za-z0-9_]*)";
+    // Quotes of FreeMarker string literals are escaped in some plans
+    private static final String QUOTE = "\\\\?\"";
+    private static final String DEFAULT_VALUE = QUOTE + "[^\"\\\\]*" + QUOTE;
+    private static final Pattern STRING_PLACE_HOLDER = Pattern.compile("'\\$\\{" + NAME + "\\?replace\\(" + QUOTE + "'" + QUOTE + ", " + QUOTE + "''" + QUOTE + "\\)}'");
+    private static final Pattern OPTIONAL_STRING_PLACE_HOLDER = Pattern.compile("\\$\\{varPlaceHolderToString\\(" + NAME + "!\\[] " + QUOTE + "\\\\'" + QUOTE + " " + QUOTE + "\\\\'" + QUOTE + " \\{" + QUOTE + "\\\\'" + QUOTE + " : " + QUOTE + "\\\\'\\\\'" + QUOTE + "} " + DEFAULT_VALUE + "\\)}");
+    private static final Pattern NUMBER_PLACE_HOLDER = Pattern.compile("\\$\\{" + NAME + "}");
+    private static final Pattern OPTIONAL_NUMBER_PLACE_HOLDER = Pattern.compile("\\$\\{varPlaceHolderToString\\(" + NAME + "!\\[] " + QUOTE + QUOTE + " " + QUOTE + QUOTE + " \\{} " + DEFAULT_VALUE + "\\)}");
+
+    private BindParameterRenderer()
+    {
+    }
+
+    /**
+     * @return the rendered SQL and the values of its bind variables, or null if the SQL should be rendered with inlined literals
+     */
+    public static RenderedSQL render(String sqlQuery, ExecutionState executionState, String databaseTypeName, String databaseTimeZone)
+    {
+        return render(sqlQuery, executionState, databaseTypeName, databaseTimeZone, true);
+    }
+
+    /**
+     * @param cacheTemplate false when the SQL is specific to this execution, see FreeMarkerExecutor
+     * @return the rendered SQL and the values of its bind variables, or null if the SQL should be rendered with inlined literals
+     */
+    public static RenderedSQL render(String sqlQuery, ExecutionState executionState, String databaseTypeName, String databaseTimeZone, boolean cacheTemplate)
+    {
+        MutableList<Object> values = Lists.mutable.empty();
+        String template = sqlQuery;
+        template = replacePlaceHolders(template, STRING_PLACE_HOLDER, executionState, values, false);
+        template = replacePlaceHolders(template, OPTIONAL_STRING_PLACE_HOLDER, executionState, values, false);
+        template = replacePlaceHolders(template, NUMBER_PLACE_HOLDER, executionState, values, true);
+        template = replacePlaceHolders(template, OPTIONAL_NUMBER_PLACE_HOLDER, executionState, values, true);
+        if (values.isEmpty())
+        {
+            return null;
+        }
+
+        String rendered;
+        try
+        {
+            rendered = FreeMarkerExecutor.process(template, executionState, databaseTypeName, databaseTimeZone, cacheTemplate);
+        }
+        catch (Exception e)
+        {
+            // templates working on the value of a parameter need the value itself
+            return null;
+        }
+        return toRenderedSQL(rendered, values);
+    }
+
+    private static String replacePlaceHolders(String template, Pattern pattern, ExecutionState executionState, MutableList<Object> values, boolean number)
+    {
+        Matcher matcher = pattern.matcher(template);
+        StringBuffer buffer = new StringBuffer();
+        while (matcher.find())
+        {
+            Object value = getValue(executionState, matcher.group(1));
+            if (number ? value instanceof Number : isBindableString(value))
+            {
+                matcher.appendReplacement(buffer, Matcher.quoteReplacement(MARKER_START + String.valueOf(values.size()) + MARKER_END));
+                values.add(value);
+            }
+        }
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    private static Object getValue(ExecutionState executionState, String name)
+    {
+        Result result = executionState.getResult(name);
+        return (result instanceof ConstantResult) ? ((ConstantResult) result).getValue() : null;
+    }
+
+    private static boolean isBindableString(Object value)
+    {
+        // inlined Strings get their backslashes escaped, and place holders in their values are processed by FreeMarker
+        return (value instanceof String) && ((String) value).indexOf('\\') == -1 && !((String) value).contains("${");
+    }
+
+    private static RenderedSQL toRenderedSQL(String rendered, List<Object> values)
+    {
+        StringBuilder sql = new StringBuilder(rendered.length());
+        MutableList<Object> parameters = Lists.mutable.empty();
+        char quote = 0;
+        int i = 0;
+        while (i < rendered.length())
+        {
+            char c = rendered.charAt(i);
+            if (c == MARKER_START)
+            {
+                int end = rendered.indexOf(MARKER_END, i);
+                if (quote != 0 || end == -1 || !endsWithComparison(sql))
+                {
+                    return null;
+                }
+                parameters.add(values.get(Integer.parseInt(rendered.substring(i + 1, end))));
+                sql.append('?');
+                i = end + 1;
+                continue;
+            }
+            if (quote == 0 && (c == '\'' || c == '"'))
+            {
+                quote = c;
+            }
+            else if (c == quote)
+            {
+                quote = 0;
+            }
+            else if (quote == 0 && c == '?')
+            {
+                // would be taken for a bind variable by the driver
+                return null;
+            }
+            sql.append(c);
+            i++;
+        }
+        return new RenderedSQL(sql.toString(), parameters);
+    }
+
+    private static boolean endsWithComparison(StringBuilder sql)
+    {
+        int i = sql.length() - 1;
+        while (i >= 0 && Character.isWhitespace(sql.charAt(i)))
+        {
+            i--;
+        }
+        return i >= 0 && (sql.charAt(i) == '=' || sql.charAt(i) == '<' || sql.charAt(i) == '>');
+    }
+
+    public static class RenderedSQL
+    {
+        public final String sql;
+        public final List<Object> parameters;
+
+        private RenderedSQL(String sql, List<Object> parameters)
+        {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+    }
+}
@@ -79,6 +79,7 @@ public class RelationalExecutor
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(RelationalExecutor.class);
 
     public static final String DEFAULT_DB_TIME_ZONE = "GMT";
+    public static final String FETCH_SIZE_CONTEXT_PARAM = "relational.fetchSize";
 
     private final ConnectionManagerSelector connectionManager;
     private final RelationalExecutionConfiguration relationalExecutionConfiguration;
@@ -137,13 +138,15 @@ public class RelationalExecutor
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseTypeName, tempTableList, identity, executionState, true);
+        // Only RelationalResult executes its SQL as a prepared statement
+        boolean useBindParameters = this.relationalExecutionConfiguration.isUseBindParameters() && !node.isResultVoid();
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseTypeName, tempTableList, identity, executionState, true, useBindParameters);
 
         if (executionState.inAllocation)
         {
             if ((ExecutionNodeTDSResultHelper.isResultTDS(node) || (ExecutionNodeResultHelper.isResultSizeRangeSet(node) && !ExecutionNodeResultHelper.isSingleRecordResult(node))) && !executionState.realizeInMemory)
             {
-                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+                return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.relationalExecutionConfiguration.getRelationalFetchSizeConfig(), getFetchSizeOverride(executionState));
             }
             else if (node.isResultVoid())
             {
@@ -152,7 +155,7 @@ public class RelationalExecutor
             else
             {
                 // Refactor and clean up the flush to Constant
-                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+                RelationalResult result = new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.relationalExecutionConfiguration.getRelationalFetchSizeConfig(), getFetchSizeOverride(executionState));
 
                 if (node.isResultPrimitiveType())
                 {
@@ -207,7 +210,7 @@ public class RelationalExecutor
         }
         else
         {
-            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+            return new RelationalResult(executionState.activities, node, node.resultColumns, databaseTypeName, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.relationalExecutionConfiguration.getRelationalFetchSizeConfig(), getFetchSizeOverride(executionState));
         }
     }
 
@@ -239,7 +242,7 @@ public class RelationalExecutor
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, true);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, true, false);
         
         if (node.isResultVoid())
         {
@@ -251,7 +254,7 @@ public class RelationalExecutor
             return new SQLUpdateResult(executionState.activities, databaseType, connectionManagerConnection, node.connection, identity, tempTableList, executionState.getRequestContext());
         }
 
-        return new SQLExecutionResult(executionState.activities, node, databaseType, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues());
+        return new SQLExecutionResult(executionState.activities, node, databaseType, databaseTimeZone, connectionManagerConnection, identity, tempTableList, executionState.topSpan, executionState.getRequestContext(), executionState.logSQLWithParamValues(), this.relationalExecutionConfiguration.getRelationalFetchSizeConfig(), getFetchSizeOverride(executionState));
     }
 
     public SQLUpdateResult execute(RelationalSaveNode node, Identity identity, ExecutionState executionState)
@@ -268,15 +271,16 @@ public class RelationalExecutor
             span.log("Connection acquired");
         }
 
-        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, false);
+        this.prepareForSQLExecution(node.sqlQuery, node.sqlComment, connectionManagerConnection, databaseTimeZone, databaseType, tempTableList, identity, executionState, false, false);
 
         return new SQLUpdateResult(executionState.activities, databaseType, connectionManagerConnection, node.connection, identity, tempTableList, executionState.getRequestContext());
     }
 
-    private void prepareForSQLExecution(String sqlQuery, String sqlComment, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, Identity identity, ExecutionState executionState, boolean shouldLogSQL)
+    private void prepareForSQLExecution(String sqlQuery, String sqlComment, Connection connection, String databaseTimeZone, String databaseTypeName, List<String> tempTableList, Identity identity, ExecutionState executionState, boolean shouldLogSQL, boolean useBindParameters)
     {
         DatabaseManager databaseManager = DatabaseManager.fromString(databaseTypeName);
         RelationalDatabaseCommands relationalDatabaseCommands = databaseManager.relationalDatabaseSupport();
+        String planSqlQuery = sqlQuery;
         for (Map.Entry<String, Result> var : executionState.getResults().entrySet())
         {
             Result result = var.getValue();
@@ -327,11 +331,26 @@ public class RelationalExecutor
             throw new RuntimeException("Relational execution not supported on external server");
         }
 
+        List<Object> parameters = null;
         try
         {
             sqlComment = sqlComment != null ? FreeMarkerExecutor.process(sqlComment, executionState, databaseTypeName, databaseTimeZone) : null;
             RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) executionState.getStoreExecutionState(StoreType.Relational);
-            sqlQuery = relationalStoreExecutionState.ignoreFreeMarkerProcessing() ? sqlQuery : FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone);
+            if (!relationalStoreExecutionState.ignoreFreeMarkerProcessing())
+            {
+                // Only the SQL of the plan is cached as a template, not the SQL temp table names or values were substituted into
+                boolean cacheTemplate = sqlQuery.equals(planSqlQuery);
+                BindParameterRenderer.RenderedSQL renderedSQL = (useBindParameters && (sqlComment == null || sqlComment.indexOf('?') == -1)) ? BindParameterRenderer.render(sqlQuery, executionState, databaseTypeName, databaseTimeZone, cacheTemplate) : null;
+                if (renderedSQL != null)
+                {
+                    sqlQuery = renderedSQL.sql;
+                    parameters = renderedSQL.parameters;
+                }
+                else
+                {
+                    sqlQuery = FreeMarkerExecutor.process(sqlQuery, executionState, databaseTypeName, databaseTimeZone, cacheTemplate);
+                }
+            }
             Span span = GlobalTracer.get().activeSpan();
             if (span != null && shouldLogSQL && executionState.logSQLWithParamValues())
             {
@@ -345,10 +364,12 @@ public class RelationalExecutor
 
         if (executionState.logSQLWithParamValues())
         {
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery).toString());
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_REPROCESS_SQL, "Reprocessing sql with vars " + executionState.getResults().keySet() + ": " + sqlQuery + (parameters == null ? "" : " with bind parameters " + parameters)).toString());
         }
 
-        executionState.activities.add(new RelationalExecutionActivity(sqlQuery, sqlComment));
+        RelationalExecutionActivity activity = new RelationalExecutionActivity(sqlQuery, sqlComment);
+        activity.parameters = parameters;
+        executionState.activities.add(activity);
     }
 
     private void prepareTempTable(Connection connectionManagerConnection, StreamingResult res, String tempTableName, String databaseTypeName, String databaseTimeZone, List<String> tempTableList)
@@ -388,6 +409,23 @@ public class RelationalExecutor
         }
     }
 
+    private static Integer getFetchSizeOverride(ExecutionState executionState)
+    {
+        String fetchSize = executionState.getStoreExecutionState(StoreType.Relational).getRuntimeContext().getContextParams().get(FETCH_SIZE_CONTEXT_PARAM);
+        if (fetchSize == null)
+        {
+            return null;
+        }
+        try
+        {
+            return Integer.valueOf(fetchSize.trim());
+        }
+        catch (NumberFormatException e)
+        {
+            throw new IllegalArgumentException("Invalid value for runtime context parameter '" + FETCH_SIZE_CONTEXT_PARAM + "': " + fetchSize, e);
+        }
+    }
+
     private Connection getConnection(RelationalExecutionNode node, Identity identity, RelationalStoreExecutionState executionState)
     {
         return this.getConnection(node.connection, node.onConnectionCloseRollbackQuery, node.onConnectionCloseCommitQuery, identity, executionState);
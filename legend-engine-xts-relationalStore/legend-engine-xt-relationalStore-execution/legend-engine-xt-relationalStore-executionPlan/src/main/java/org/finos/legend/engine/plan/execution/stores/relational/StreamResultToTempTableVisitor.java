@@ -41,12 +41,15 @@ import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
 import org.slf4j.Logger;
 
 import java.io.ByteArrayOutputStream;
+import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.temporal.Temporal;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -76,7 +79,7 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
     {
         if (this.ingestionMethod == null)
         {
-            this.ingestionMethod = databaseCommands.getDefaultIngestionMethod();
+            this.ingestionMethod = (this.config != null && this.config.isUseStreamingTempTableIngestion()) ? IngestionMethod.STREAMING_INSERT : databaseCommands.getDefaultIngestionMethod();
         }
 
         return this.streamResultToTable(databaseCommands);
@@ -84,7 +87,12 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
 
     public Boolean streamResultToTable(RelationalDatabaseCommands dbCommands)
     {
-        if (ingestionMethod == IngestionMethod.CLIENT_FILE)
+        // Object results are only serialized to files
+        if (ingestionMethod == IngestionMethod.STREAMING_INSERT && !(result instanceof StreamingObjectResult))
+        {
+            streamRowsToTable(dbCommands);
+        }
+        else if (ingestionMethod == IngestionMethod.CLIENT_FILE || ingestionMethod == IngestionMethod.STREAMING_INSERT)
         {
             try (TemporaryFile tempFile = new TemporaryFile(config.tempPath))
             {
@@ -159,6 +167,141 @@ public class StreamResultToTempTableVisitor implements RelationalDatabaseCommand
         return true;
     }
 
+    private void streamRowsToTable(RelationalDatabaseCommands dbCommands)
+    {
+        try
+        {
+            List<Column> columns;
+            Iterator<Object[]> rows;
+            if (result instanceof RelationalResult)
+            {
+                RelationalResult relationalResult = (RelationalResult) result;
+                columns = (result.getResultBuilder() instanceof TDSBuilder) ?
+                        relationalResult.getTdsColumns().stream().map(c -> new Column(c.name, c.relationalType)).collect(Collectors.toList()) :
+                        relationalResult.getSQLResultColumns().stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+                rows = new ResultSetRowIterator(relationalResult.resultSet, columns.size());
+            }
+            else if (result instanceof RealizedRelationalResult)
+            {
+                RealizedRelationalResult realizedRelationalResult = (RealizedRelationalResult) result;
+                columns = realizedRelationalResult.columns.stream().map(c -> new Column(c.label, c.dataType)).collect(Collectors.toList());
+                rows = realizedRelationalResult.resultSetRows.stream().map(List::toArray).iterator();
+            }
+            else if (result instanceof TempTableStreamingResult)
+            {
+                StreamingTempTableResultCSVSerializer serializer = new StreamingTempTableResultCSVSerializer((TempTableStreamingResult) result, false);
+                columns = serializer.getHeaderColumnsAndTypes().stream().map(c -> new Column(c.getOne(), RelationalExecutor.getRelationalTypeFromDataType(c.getTwo()))).collect(Collectors.toList());
+                rows = serializer.rows();
+            }
+            else
+            {
+                throw new RuntimeException("Result not supported yet: " + result.getClass().getName());
+            }
+
+            try (Statement statement = connection.createStatement())
+            {
+                statement.execute(dbCommands.dropTempTable(tableName));
+                checkedExecute(statement, dbCommands.createTempTable(tableName, columns));
+            }
+            try (Scope ignored = GlobalTracer.get().buildSpan("temp table streaming insert").withTag("tableName", tableName).startActive(true))
+            {
+                long start = System.currentTimeMillis();
+                long count = dbCommands.streamRows(connection, tableName, columns, Iterators.transform(rows, this::toBindableRow));
+                LOGGER.info(new LogInfo(Identity.getAnonymousIdentity().getName(), LoggingEventType.EXECUTION_RELATIONAL_COMMIT, "Streamed " + count + " rows to " + tableName, (double) (System.currentTimeMillis() - start)).toString());
+            }
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e);
+        }
+        finally
+        {
+            result.close();
+            if (result instanceof TempTableStreamingResult)
+            {
+                ((TempTableStreamingResult) result).inputStream.close();
+            }
+        }
+    }
+
+    private Object[] toBindableRow(Object[] row)
+    {
+        for (int i = 0; i < row.length; i++)
+        {
+            Object value = row[i];
+            if (value instanceof Clob)
+            {
+                try
+                {
+                    row[i] = ((Clob) value).getSubString(1, (int) ((Clob) value).length());
+                }
+                catch (SQLException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            else if (value != null && !(value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof java.util.Date || value instanceof Temporal))
+            {
+                // dates of the plan and other engine types are loaded from their SQL representation, as with CSV files
+                row[i] = ResultNormalizer.normalizeToSql(value, this.databaseTimeZone);
+            }
+        }
+        return row;
+    }
+
+    private static class ResultSetRowIterator implements Iterator<Object[]>
+    {
+        private final ResultSet resultSet;
+        private final int columnCount;
+        private Boolean hasNext;
+
+        private ResultSetRowIterator(ResultSet resultSet, int columnCount)
+        {
+            this.resultSet = resultSet;
+            this.columnCount = columnCount;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (this.hasNext == null)
+            {
+                try
+                {
+                    this.hasNext = this.resultSet.next();
+                }
+                catch (SQLException e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+            return this.hasNext;
+        }
+
+        @Override
+        public Object[] next()
+        {
+            if (!hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.hasNext = null;
+            Object[] row = new Object[this.columnCount];
+            try
+            {
+                for (int i = 0; i < this.columnCount; i++)
+                {
+                    row[i] = this.resultSet.getObject(i + 1);
+                }
+            }
+            catch (SQLException e)
+            {
+                throw new RuntimeException(e);
+            }
+            return row;
+        }
+    }
+
     public static boolean checkedExecute(Statement statement, String sql)
     {
         try (Scope ignored = GlobalTracer.get().buildSpan("temp table sql execution").withTag("sql", sql).startActive(true))
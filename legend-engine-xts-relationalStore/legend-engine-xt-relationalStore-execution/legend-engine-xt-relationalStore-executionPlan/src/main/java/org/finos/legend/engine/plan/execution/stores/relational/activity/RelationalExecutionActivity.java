@@ -14,12 +14,20 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.activity;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 
+import java.util.List;
+
 public class RelationalExecutionActivity extends ExecutionActivity
 {
     public String comment;
     public String sql;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer fetchSize;
+    // Values of the bind variables of the sql, in order, when it was rendered with bind parameters
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<Object> parameters;
 
     public RelationalExecutionActivity(String sqlQuery, String sqlComment)
     {
@@ -35,6 +35,14 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
     private CredentialProviderProvider credentialProviderProvider;
     @JsonProperty
     private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+    @JsonProperty
+    private RelationalFetchSizeConfig relationalFetchSizeConfig;
+    // When set, String and Number plan parameters of SQL queries are sent as JDBC bind variables instead of being inlined
+    @JsonProperty
+    private boolean useBindParameters;
+    // When set, temp tables are loaded with RelationalDatabaseCommands.streamRows instead of the database default ingestion method
+    @JsonProperty
+    private boolean useStreamingTempTableIngestion;
 
     @Override
     public StoreType getStoreType()
@@ -96,6 +104,25 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         return this.relationalGraphFetchExecutionConfig;
     }
 
+    public RelationalFetchSizeConfig getRelationalFetchSizeConfig()
+    {
+        if (this.relationalFetchSizeConfig == null)
+        {
+            this.relationalFetchSizeConfig = new RelationalFetchSizeConfig();
+        }
+        return this.relationalFetchSizeConfig;
+    }
+
+    public boolean isUseBindParameters()
+    {
+        return this.useBindParameters;
+    }
+
+    public boolean isUseStreamingTempTableIngestion()
+    {
+        return this.useStreamingTempTableIngestion;
+    }
+
     public static class Builder
     {
         public String tempPath;
@@ -105,6 +132,9 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
         private TemporaryTestDbConfiguration temporaryTestDbConfiguration;
         private CredentialProviderProvider credentialProviderProvider;
         private RelationalGraphFetchExecutionConfig relationalGraphFetchExecutionConfig;
+        private RelationalFetchSizeConfig relationalFetchSizeConfig;
+        private boolean useBindParameters;
+        private boolean useStreamingTempTableIngestion;
 
         public Builder withTempPath(String tempPath)
         {
@@ -151,6 +181,24 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             return this;
         }
 
+        public Builder withRelationalFetchSizeConfig(RelationalFetchSizeConfig config)
+        {
+            this.relationalFetchSizeConfig = config;
+            return this;
+        }
+
+        public Builder withUseBindParameters(boolean useBindParameters)
+        {
+            this.useBindParameters = useBindParameters;
+            return this;
+        }
+
+        public Builder withUseStreamingTempTableIngestion(boolean useStreamingTempTableIngestion)
+        {
+            this.useStreamingTempTableIngestion = useStreamingTempTableIngestion;
+            return this;
+        }
+
         public RelationalExecutionConfiguration build()
         {
             RelationalExecutionConfiguration relationalExecutionConfiguration = new RelationalExecutionConfiguration();
@@ -161,6 +209,9 @@ public class RelationalExecutionConfiguration implements StoreExecutorConfigurat
             relationalExecutionConfiguration.temporarytestdb = this.temporaryTestDbConfiguration;
             relationalExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
             relationalExecutionConfiguration.relationalGraphFetchExecutionConfig = relationalGraphFetchExecutionConfig;
+            relationalExecutionConfiguration.relationalFetchSizeConfig = relationalFetchSizeConfig;
+            relationalExecutionConfiguration.useBindParameters = useBindParameters;
+            relationalExecutionConfiguration.useStreamingTempTableIngestion = useStreamingTempTableIngestion;
             return relationalExecutionConfiguration;
         }
     }
@@ -0,0 +1,143 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC fetch size policy for streamed relational results.
+ * <p>
+ * The fetch size applied to a statement is resolved (in order of precedence) from the per query override,
+ * the per database type default and finally the global default. When none is configured the driver default applies.
+ * In adaptive mode (and without a per query override) the fetch size is re-computed once the query returned,
+ * targeting a number of bytes per round trip from the estimated row width, and growing to the maximum when the
+ * time to first row shows that round trips are expensive.
+ */
+public class RelationalFetchSizeConfig
+{
+    public static final int DEFAULT_MEMSQL_FETCH_SIZE = 100;
+    public static final int DEFAULT_ADAPTIVE_MIN_FETCH_SIZE = 100;
+    public static final int DEFAULT_ADAPTIVE_MAX_FETCH_SIZE = 10000;
+    public static final long DEFAULT_ADAPTIVE_TARGET_BYTES_PER_FETCH = 4L * 1024 * 1024;
+    public static final long DEFAULT_ADAPTIVE_SLOW_FIRST_ROW_MILLIS = 5000;
+
+    private static final int DEFAULT_COLUMN_WIDTH = 64;
+    private static final int MAX_COLUMN_WIDTH = 4096;
+
+    @JsonProperty
+    private Integer defaultFetchSize;
+    private final Map<String, Integer> fetchSizePerDatabaseType = defaultFetchSizePerDatabaseType();
+    @JsonProperty
+    private boolean adaptive;
+    @JsonProperty
+    private int adaptiveMinFetchSize = DEFAULT_ADAPTIVE_MIN_FETCH_SIZE;
+    @JsonProperty
+    private int adaptiveMaxFetchSize = DEFAULT_ADAPTIVE_MAX_FETCH_SIZE;
+    @JsonProperty
+    private long adaptiveTargetBytesPerFetch = DEFAULT_ADAPTIVE_TARGET_BYTES_PER_FETCH;
+    @JsonProperty
+    private long adaptiveSlowFirstRowMillis = DEFAULT_ADAPTIVE_SLOW_FIRST_ROW_MILLIS;
+
+    public RelationalFetchSizeConfig()
+    {
+    }
+
+    public RelationalFetchSizeConfig(Integer defaultFetchSize, Map<String, Integer> fetchSizePerDatabaseType, boolean adaptive)
+    {
+        this.defaultFetchSize = defaultFetchSize;
+        setFetchSizePerDatabaseType(fetchSizePerDatabaseType);
+        this.adaptive = adaptive;
+    }
+
+    private static Map<String, Integer> defaultFetchSizePerDatabaseType()
+    {
+        Map<String, Integer> defaults = new HashMap<>();
+        defaults.put(DatabaseType.MemSQL.name(), DEFAULT_MEMSQL_FETCH_SIZE);
+        return defaults;
+    }
+
+    public Integer getDefaultFetchSize()
+    {
+        return this.defaultFetchSize;
+    }
+
+    public Map<String, Integer> getFetchSizePerDatabaseType()
+    {
+        return this.fetchSizePerDatabaseType;
+    }
+
+    // Configured sizes are merged over the defaults, so that configuring one database type keeps the others' defaults
+    @JsonProperty("fetchSizePerDatabaseType")
+    public void setFetchSizePerDatabaseType(Map<String, Integer> fetchSizePerDatabaseType)
+    {
+        if (fetchSizePerDatabaseType != null)
+        {
+            this.fetchSizePerDatabaseType.putAll(fetchSizePerDatabaseType);
+        }
+    }
+
+    public boolean isAdaptive()
+    {
+        return this.adaptive;
+    }
+
+    public Integer getInitialFetchSize(String databaseType, Integer fetchSizeOverride)
+    {
+        if (fetchSizeOverride != null)
+        {
+            return fetchSizeOverride;
+        }
+        Integer fetchSize = this.fetchSizePerDatabaseType.get(databaseType);
+        return fetchSize != null ? fetchSize : this.defaultFetchSize;
+    }
+
+    public boolean isAdaptive(Integer fetchSizeOverride)
+    {
+        return this.adaptive && fetchSizeOverride == null;
+    }
+
+    public int getAdaptiveFetchSize(ResultSetMetaData resultSetMetaData, long timeToFirstRowMillis) throws SQLException
+    {
+        if (timeToFirstRowMillis >= this.adaptiveSlowFirstRowMillis)
+        {
+            return this.adaptiveMaxFetchSize;
+        }
+        long rowWidth = estimateRowWidth(resultSetMetaData);
+        long fetchSize = this.adaptiveTargetBytesPerFetch / Math.max(rowWidth, 1);
+        return (int) Math.max(this.adaptiveMinFetchSize, Math.min(this.adaptiveMaxFetchSize, fetchSize));
+    }
+
+    /**
+     * Estimates the width in bytes of a row from the column display sizes, a column without a size counting for
+     * {@value #DEFAULT_COLUMN_WIDTH} bytes and no column counting for more than {@value #MAX_COLUMN_WIDTH} bytes.
+     * Shared by the consumers sizing their batches from the result set metadata.
+     */
+    public static long estimateRowWidth(ResultSetMetaData resultSetMetaData) throws SQLException
+    {
+        long rowWidth = 0;
+        for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++)
+        {
+            int columnWidth = resultSetMetaData.getColumnDisplaySize(i);
+            rowWidth += columnWidth <= 0 ? DEFAULT_COLUMN_WIDTH : Math.min(columnWidth, MAX_COLUMN_WIDTH);
+        }
+        return rowWidth;
+    }
+}
@@ -1008,6 +1008,7 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
                     .map(row -> row.stream().map(normalizer).collect(Collectors.joining(",", "(", ")")))
                     .collect(Collectors.joining(",", "", ""));
             RelationalStoreExecutionState relationalStoreExecutionState = (RelationalStoreExecutionState) threadExecutionState.getStoreExecutionState(StoreType.Relational);
+            // The values are inlined into the SQL, which is executed as is: it is neither processed nor cached as a template
             relationalStoreExecutionState.setIgnoreFreeMarkerProcessing(true);
             try
             {
@@ -1017,7 +1018,10 @@ public class RelationalExecutionNodeExecutor implements ExecutionNodeVisitor<Res
             {
                 throw new RuntimeException("Unable to copy execution nodes and ingest data into temp tables. JSON serialization exception while ", e);
             }
-            relationalStoreExecutionState.setIgnoreFreeMarkerProcessing(false);
+            finally
+            {
+                relationalStoreExecutionState.setIgnoreFreeMarkerProcessing(false);
+            }
         }
     }
 
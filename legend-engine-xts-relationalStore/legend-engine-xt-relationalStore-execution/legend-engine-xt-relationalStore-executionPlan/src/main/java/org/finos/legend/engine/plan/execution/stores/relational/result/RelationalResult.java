@@ -14,22 +14,17 @@
 
 package org.finos.legend.engine.plan.execution.stores.relational.result;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.opentracing.Span;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.sql.Array;
 import java.sql.Connection;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Timestamp;
-import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -48,7 +43,6 @@ import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.utility.ListIterate;
-import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
 import org.finos.legend.engine.plan.dependencies.store.relational.IRelationalResult;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodeClassResultHelper;
 import org.finos.legend.engine.plan.execution.nodes.helpers.ExecutionNodePartialClassResultHelper;
@@ -69,6 +63,7 @@ import org.finos.legend.engine.plan.execution.result.transformer.TransformerInpu
 import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalFetchSizeConfig;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.Column;
 import org.finos.legend.engine.plan.execution.stores.relational.result.builder.relation.RelationBuilder;
@@ -84,7 +79,6 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExe
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSColumn;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.result.TDSResultType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
-import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
 import org.finos.legend.engine.shared.core.identity.Identity;
@@ -96,7 +90,6 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 {
     private static final Logger LOGGER = org.slf4j.LoggerFactory.getLogger(RelationalResult.class);
     private static final ImmutableList<String> TEMPORAL_DATE_ALIASES = Lists.immutable.of("k_businessDate", "k_processingDate");
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     public final List<String> sqlColumns;
     private final List<String> temporaryTables;
@@ -121,6 +114,8 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     public Builder builder;
     private Calendar calendar;
+    private ResultColumnReader[] valueReaders;
+    private ResultColumnReader[] transformedValueReaders;
 
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan)
     {
@@ -133,6 +128,11 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     }
 
     public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues)
+    {
+        this(activities, node, sqlResultColumns, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, requestContext, logSQLWithParamValues, new RelationalFetchSizeConfig(), null);
+    }
+
+    public RelationalResult(MutableList<ExecutionActivity> activities, RelationalExecutionNode node, List<SQLResultColumn> sqlResultColumns, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues, RelationalFetchSizeConfig fetchSizeConfig, Integer fetchSizeOverride)
     {
         super(activities);
         this.databaseType = databaseType;
@@ -143,10 +143,13 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         try
         {
             this.connection = connection;
-            this.statement = connection.createStatement();
-            if (DatabaseType.MemSQL.name().equals(databaseType))
+            RelationalExecutionActivity activity = ((RelationalExecutionActivity) activities.getLast());
+            String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
+            this.statement = (activity.parameters == null) ? connection.createStatement() : prepareStatement(connection, sql, activity.parameters);
+            Integer fetchSize = fetchSizeConfig.getInitialFetchSize(databaseType, fetchSizeOverride);
+            if (fetchSize != null)
             {
-                this.statement.setFetchSize(100);
+                this.statement.setFetchSize(fetchSize);
             }
 
             if (requestContext != null)
@@ -155,17 +158,23 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             }
 
             long start = System.currentTimeMillis();
-            RelationalExecutionActivity activity = ((RelationalExecutionActivity) activities.getLast());
-            String sql = activity.comment != null ? activity.comment.concat("\n").concat(activity.sql) : activity.sql;
             String logMessage = logSQLWithParamValues ? sql : node.sqlQuery();
             LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_START, logMessage).toString());
-            this.resultSet = this.statement.executeQuery(sql);
+            this.resultSet = (activity.parameters == null) ? this.statement.executeQuery(sql) : ((PreparedStatement) this.statement).executeQuery();
             this.executedSQl = sql;
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
+            long timeToFirstRow = System.currentTimeMillis() - start;
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) timeToFirstRow).toString());
             this.resultSetMetaData = resultSet.getMetaData();
+            if (fetchSizeConfig.isAdaptive(fetchSizeOverride))
+            {
+                fetchSize = fetchSizeConfig.getAdaptiveFetchSize(this.resultSetMetaData, timeToFirstRow);
+                this.resultSet.setFetchSize(fetchSize);
+            }
+            activity.fetchSize = fetchSize;
             this.columnCount = this.resultSetMetaData.getColumnCount();
             this.resultColumns = sqlResultColumns;
             this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
+            this.buildColumnReaders();
 
             this.sqlColumns = Lists.mutable.ofInitialCapacity(this.columnCount);
             for (int i = 1; i <= this.columnCount; i++)
@@ -192,6 +201,16 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
         }
     }
 
+    private static PreparedStatement prepareStatement(Connection connection, String sql, List<Object> parameters) throws SQLException
+    {
+        PreparedStatement preparedStatement = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.size(); i++)
+        {
+            preparedStatement.setObject(i + 1, parameters.get(i));
+        }
+        return preparedStatement;
+    }
+
     public RelationalResult(SQLExecutionResult sqlExecutionResult, RelationalInstantiationExecutionNode node)
     {
         super(sqlExecutionResult.activities);
@@ -212,6 +231,7 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
             this.columnListForSerializer = this.sqlColumns;
             this.resultColumns = sqlExecutionResult.getSqlResultColumns();
             this.resultDBColumnsMetaData = new SQLResultDBColumnsMetaData(this.resultColumns, this.resultSetMetaData);
+            this.buildColumnReaders();
             this.buildTransformersAndBuilder(node, sqlExecutionResult.getSQLExecutionNode().connection);
             if (this.requestContext != null)
             {
@@ -464,162 +484,12 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
 
     public Object getValue(int columnIndex) throws SQLException
     {
-        Object result;
-        if (resultDBColumnsMetaData.isTimestampColumn(columnIndex))
-        {
-            Timestamp ts;
-            ts = resultSet.getTimestamp(columnIndex, getCalendar());
-            result = ts;
-        }
-        else if (resultDBColumnsMetaData.isDateColumn(columnIndex))
-        {
-            result = resultSet.getDate(columnIndex);
-        }
-        else if (resultDBColumnsMetaData.isArrayColumn(columnIndex))
-        {
-            Array array = resultSet.getArray(columnIndex);
-            if (array == null)
-            {
-                result =  null;
-            }
-            else
-            {
-                try
-                {
-                    result = OBJECT_MAPPER.writeValueAsString(array.getArray());
-                }
-                catch (IOException e)
-                {
-                    throw new UncheckedIOException(String.format("Unable to process variant result as JSON from column '%s' with value: %s", this.resultSetMetaData.getColumnLabel(columnIndex), array), e);
-                }
-            }
-        }
-        else if (resultDBColumnsMetaData.isVariantColumn(columnIndex))
-        {
-            Object object = resultSet.getObject(columnIndex);
-            if (object == null)
-            {
-                result =  null;
-            }
-            else
-            {
-                try
-                {
-                    result = OBJECT_MAPPER.readTree(object.toString()).toString();
-                }
-                catch (JsonProcessingException e)
-                {
-                    throw new UncheckedIOException(String.format("Unable to process variant result as JSON from column '%s' with value: %s", this.resultSetMetaData.getColumnLabel(columnIndex), object), e);
-                }
-            }
-        }
-        else
-        {
-            result = resultSet.getObject(columnIndex);
-        }
-        return result;
+        return this.valueReaders[columnIndex - 1].read(this.resultSet, this.calendar);
     }
 
     public Object getTransformedValue(int columnIndex) throws SQLException
     {
-        Object result = null;
-        switch (resultSetMetaData.getColumnType(columnIndex))
-        {
-            case Types.DATE:
-            {
-                java.sql.Date date = this.resultSet.getDate(columnIndex);
-                if (date != null)
-                {
-                    result = PureDate.fromSQLDate(date);
-                }
-                break;
-            }
-            case Types.TIMESTAMP:
-            {
-                java.sql.Timestamp timestamp = this.resultSet.getTimestamp(
-                        columnIndex,
-                        getRelationalDatabaseTimeZone() == null ?
-                                new GregorianCalendar(TimeZone.getTimeZone("GMT")) :
-                                new GregorianCalendar(TimeZone.getTimeZone(getRelationalDatabaseTimeZone()))
-                );
-                if (timestamp != null)
-                {
-                    result = PureDate.fromSQLTimestamp(timestamp);
-                }
-                break;
-            }
-            case Types.TINYINT:
-            case Types.SMALLINT:
-            case Types.INTEGER:
-            case Types.BIGINT:
-            {
-                long num = this.resultSet.getLong(columnIndex);
-                if (!this.resultSet.wasNull())
-                {
-                    result = Long.valueOf(num);
-                }
-                break;
-            }
-            case Types.REAL:
-            case Types.FLOAT:
-            case Types.DOUBLE:
-            {
-                double num = this.resultSet.getDouble(columnIndex);
-                if (!this.resultSet.wasNull())
-                {
-                    result = Double.valueOf(num);
-                }
-                break;
-            }
-            case Types.DECIMAL:
-            case Types.NUMERIC:
-            {
-                result = this.resultSet.getBigDecimal(columnIndex);
-                break;
-            }
-            case Types.CHAR:
-            case Types.VARCHAR:
-            case Types.LONGVARCHAR:
-            case Types.NCHAR:
-            case Types.NVARCHAR:
-            case Types.LONGNVARCHAR:
-            case Types.OTHER:
-            {
-                result = this.resultSet.getString(columnIndex);
-                break;
-            }
-            case Types.BIT:
-            case Types.BOOLEAN:
-            {
-                boolean bool = this.resultSet.getBoolean(columnIndex);
-                if (!this.resultSet.wasNull())
-                {
-                    result = Boolean.valueOf(bool);
-                }
-                break;  // TODO: check this
-            }
-            case Types.BINARY:
-            case Types.VARBINARY:
-            case Types.LONGVARBINARY:
-            {
-                byte[] bytes = this.resultSet.getBytes(columnIndex);
-                if (bytes != null)
-                {
-                    result = BinaryUtils.encodeHex(bytes);
-                }
-                break;
-            }
-            case Types.NULL:
-            {
-                // do nothing: value is already assigned to null
-                break;
-            }
-            default:
-            {
-                result = this.resultSet.getObject(columnIndex);
-            }
-        }
-        return result;
+        return this.transformedValueReaders[columnIndex - 1].read(this.resultSet, this.calendar);
     }
 
     @Override
@@ -705,22 +575,19 @@ public class RelationalResult extends StreamingResult implements IRelationalResu
     }
 
 
-    private Calendar getCalendar()
+    private void buildColumnReaders() throws SQLException
     {
+        //TODO, throw exception, TZ should always be specified
+        //Till then, default to PURE default which is "GMT"
         String timeZoneId = getRelationalDatabaseTimeZone();
-        TimeZone timeZone = (timeZoneId != null) ? TimeZone.getTimeZone(timeZoneId) : TimeZone.getTimeZone("GMT");
-        if (calendar == null)
-        {
-            //TODO, throw exception, TZ should always be specified
-            //Till then, default to PURE default which is "GMT"
-            calendar = new GregorianCalendar(timeZone);
-        }
-        else
+        this.calendar = new GregorianCalendar(TimeZone.getTimeZone(timeZoneId != null ? timeZoneId : "GMT"));
+        this.valueReaders = new ResultColumnReader[this.columnCount];
+        this.transformedValueReaders = new ResultColumnReader[this.columnCount];
+        for (int columnIndex = 1; columnIndex <= this.columnCount; columnIndex++)
         {
-            calendar.clear();
-            calendar.setTimeZone(timeZone);
+            this.valueReaders[columnIndex - 1] = ResultColumnReader.valueReader(this.resultDBColumnsMetaData, columnIndex, this.resultSetMetaData.getColumnLabel(columnIndex));
+            this.transformedValueReaders[columnIndex - 1] = ResultColumnReader.transformedValueReader(columnIndex, this.resultDBColumnsMetaData.getColumnType(columnIndex));
         }
-        return calendar;
     }
 
     @Override
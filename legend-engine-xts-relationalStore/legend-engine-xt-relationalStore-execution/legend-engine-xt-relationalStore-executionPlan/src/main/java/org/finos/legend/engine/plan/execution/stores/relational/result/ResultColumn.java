@@ -17,7 +17,6 @@ package org.finos.legend.engine.plan.execution.stores.relational.result;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
-import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
 
 import java.sql.ResultSet;
 import java.sql.Types;
@@ -67,117 +66,7 @@ public class ResultColumn
         }
 
         /* Transformed Value Extractor */
-        switch (this.dbMetaDataType)
-        {
-            case Types.DATE:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) ->
-                        {
-                            java.sql.Date date = resultSet.getDate(this.columnIndex);
-                            return date != null ? PureDate.fromSQLDate(date) : null;
-                        }
-                );
-                break;
-            }
-            case Types.TIMESTAMP:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) ->
-                        {
-                            java.sql.Timestamp timestamp = resultSet.getTimestamp(this.columnIndex, calendar);
-                            return timestamp != null ? PureDate.fromSQLTimestamp(timestamp) : null;
-                        }
-                );
-                break;
-            }
-            case Types.TINYINT:
-            case Types.SMALLINT:
-            case Types.INTEGER:
-            case Types.BIGINT:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) ->
-                        {
-                            long num = resultSet.getLong(this.columnIndex);
-                            return !resultSet.wasNull() ? num : null;
-                        }
-                );
-                break;
-            }
-            case Types.REAL:
-            case Types.FLOAT:
-            case Types.DOUBLE:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) ->
-                        {
-                            double num = resultSet.getDouble(this.columnIndex);
-                            return !resultSet.wasNull() ? num : null;
-                        }
-                );
-                break;
-            }
-            case Types.DECIMAL:
-            case Types.NUMERIC:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) -> resultSet.getBigDecimal(this.columnIndex)
-                );
-                break;
-            }
-            case Types.CHAR:
-            case Types.VARCHAR:
-            case Types.LONGVARCHAR:
-            case Types.NCHAR:
-            case Types.NVARCHAR:
-            case Types.LONGNVARCHAR:
-            case Types.OTHER:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) -> resultSet.getString(this.columnIndex)
-                );
-                break;
-            }
-            case Types.BIT:
-            case Types.BOOLEAN:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) ->
-                        {
-                            boolean bool = resultSet.getBoolean(this.columnIndex);
-                            return !resultSet.wasNull() ? bool : null;
-                        }
-                );
-                break;
-            }
-            case Types.BINARY:
-            case Types.VARBINARY:
-            case Types.LONGVARBINARY:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) ->
-                        {
-                            byte[] bytes = resultSet.getBytes(this.columnIndex);
-                            return bytes != null ? BinaryUtils.encodeHex(bytes) : null;
-                        }
-                );
-                break;
-            }
-            case Types.NULL:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) -> null
-                );
-                break;
-            }
-            default:
-            {
-                this.transformedValueExtractor = BiFunctionHelper.unchecked(
-                        (resultSet, calendar) -> resultSet.getObject(this.columnIndex)
-                );
-            }
-        }
+        this.transformedValueExtractor = BiFunctionHelper.unchecked(ResultColumnReader.transformedValueReader(this.columnIndex, this.dbMetaDataType)::read);
     }
 
     public String getLabel()
@@ -0,0 +1,40 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON rendering of array and variant column values, keeping the shared mapper private to the result readers.
+ */
+final class ResultColumnJson
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private ResultColumnJson()
+    {
+    }
+
+    static String arrayToJson(Object array) throws JsonProcessingException
+    {
+        return OBJECT_MAPPER.writeValueAsString(array);
+    }
+
+    static String normalizeJson(String json) throws JsonProcessingException
+    {
+        return OBJECT_MAPPER.readTree(json).toString();
+    }
+}
@@ -0,0 +1,186 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Calendar;
+
+/**
+ * Reads the value of a single column from the current row of a {@link ResultSet}.
+ * <p>
+ * Readers are resolved once per column when a result is opened, so that the per cell work is reduced to
+ * a single virtual call and the appropriate typed JDBC getter (no metadata lookups, no calendar allocation).
+ * The calendar passed in is owned by the caller and is reset by temporal readers before use.
+ */
+@FunctionalInterface
+public interface ResultColumnReader
+{
+    Object read(ResultSet resultSet, Calendar calendar) throws SQLException;
+
+    /**
+     * Reader returning the raw database value, as consumed by the result serializers (and their transformers).
+     */
+    static ResultColumnReader valueReader(SQLResultDBColumnsMetaData metaData, int columnIndex, String columnLabel)
+    {
+        if (metaData.isTimestampColumn(columnIndex))
+        {
+            return (resultSet, calendar) ->
+            {
+                calendar.clear();
+                return resultSet.getTimestamp(columnIndex, calendar);
+            };
+        }
+        if (metaData.isDateColumn(columnIndex))
+        {
+            return (resultSet, calendar) -> resultSet.getDate(columnIndex);
+        }
+        if (metaData.isArrayColumn(columnIndex))
+        {
+            return (resultSet, calendar) ->
+            {
+                Array array = resultSet.getArray(columnIndex);
+                if (array == null)
+                {
+                    return null;
+                }
+                try
+                {
+                    return ResultColumnJson.arrayToJson(array.getArray());
+                }
+                catch (JsonProcessingException e)
+                {
+                    throw new UncheckedIOException(String.format("Unable to process variant result as JSON from column '%s' with value: %s", columnLabel, array), e);
+                }
+            };
+        }
+        if (metaData.isVariantColumn(columnIndex))
+        {
+            return (resultSet, calendar) ->
+            {
+                Object object = resultSet.getObject(columnIndex);
+                if (object == null)
+                {
+                    return null;
+                }
+                try
+                {
+                    return ResultColumnJson.normalizeJson(object.toString());
+                }
+                catch (JsonProcessingException e)
+                {
+                    throw new UncheckedIOException(String.format("Unable to process variant result as JSON from column '%s' with value: %s", columnLabel, object), e);
+                }
+            };
+        }
+        return (resultSet, calendar) -> resultSet.getObject(columnIndex);
+    }
+
+    /**
+     * Reader returning the value converted to its Pure representation (PureDate, Long, Double, hex encoded binary, ...).
+     */
+    static ResultColumnReader transformedValueReader(int columnIndex, int dbMetaDataType)
+    {
+        switch (dbMetaDataType)
+        {
+            case Types.DATE:
+            {
+                return (resultSet, calendar) ->
+                {
+                    java.sql.Date date = resultSet.getDate(columnIndex);
+                    return date != null ? PureDate.fromSQLDate(date) : null;
+                };
+            }
+            case Types.TIMESTAMP:
+            {
+                return (resultSet, calendar) ->
+                {
+                    calendar.clear();
+                    java.sql.Timestamp timestamp = resultSet.getTimestamp(columnIndex, calendar);
+                    return timestamp != null ? PureDate.fromSQLTimestamp(timestamp) : null;
+                };
+            }
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            {
+                return (resultSet, calendar) ->
+                {
+                    long num = resultSet.getLong(columnIndex);
+                    return !resultSet.wasNull() ? num : null;
+                };
+            }
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            {
+                return (resultSet, calendar) ->
+                {
+                    double num = resultSet.getDouble(columnIndex);
+                    return !resultSet.wasNull() ? num : null;
+                };
+            }
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            {
+                return (resultSet, calendar) -> resultSet.getBigDecimal(columnIndex);
+            }
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.OTHER:
+            {
+                return (resultSet, calendar) -> resultSet.getString(columnIndex);
+            }
+            case Types.BIT:
+            case Types.BOOLEAN:
+            {
+                return (resultSet, calendar) ->
+                {
+                    boolean bool = resultSet.getBoolean(columnIndex);
+                    return !resultSet.wasNull() ? bool : null;
+                };
+            }
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            {
+                return (resultSet, calendar) ->
+                {
+                    byte[] bytes = resultSet.getBytes(columnIndex);
+                    return bytes != null ? BinaryUtils.encodeHex(bytes) : null;
+                };
+            }
+            case Types.NULL:
+            {
+                return (resultSet, calendar) -> null;
+            }
+            default:
+            {
+                return (resultSet, calendar) -> resultSet.getObject(columnIndex);
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutableManager;
 import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalFetchSizeConfig;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SQLExecutionNode;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
 import org.finos.legend.engine.shared.core.api.request.RequestContext;
@@ -67,6 +68,11 @@ public class SQLExecutionResult extends SQLResult
     }
 
     public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues)
+    {
+        this(activities, SQLExecutionNode, databaseType, databaseTimeZone, connection, identity, temporaryTables, topSpan, requestContext, logSQLWithParamValues, new RelationalFetchSizeConfig(), null);
+    }
+
+    public SQLExecutionResult(List<ExecutionActivity> activities, SQLExecutionNode SQLExecutionNode, String databaseType, String databaseTimeZone, Connection connection, Identity identity, List<String> temporaryTables, Span topSpan, RequestContext requestContext, boolean logSQLWithParamValues, RelationalFetchSizeConfig fetchSizeConfig, Integer fetchSizeOverride)
     {
         super("success", connection, SQLExecutionNode.connection, activities, databaseType, temporaryTables, requestContext);
         this.SQLExecutionNode = SQLExecutionNode;
@@ -84,11 +90,23 @@ public class SQLExecutionResult extends SQLResult
             {
                 StoreExecutableManager.INSTANCE.addExecutable(this.getRequestContext(), this);
             }
+            Integer fetchSize = fetchSizeConfig.getInitialFetchSize(databaseType, fetchSizeOverride);
+            if (fetchSize != null)
+            {
+                this.getStatement().setFetchSize(fetchSize);
+            }
             this.resultSet = this.getStatement().executeQuery(sql);
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) System.currentTimeMillis() - start).toString());
+            long timeToFirstRow = System.currentTimeMillis() - start;
+            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTION_RELATIONAL_STOP, (double) timeToFirstRow).toString());
             this.executedSql = sql;
 
             this.resultSetMetaData = resultSet.getMetaData();
+            if (fetchSizeConfig.isAdaptive(fetchSizeOverride))
+            {
+                fetchSize = fetchSizeConfig.getAdaptiveFetchSize(this.resultSetMetaData, timeToFirstRow);
+                this.resultSet.setFetchSize(fetchSize);
+            }
+            activity.fetchSize = fetchSize;
 
             this.columnCount = this.resultSetMetaData.getColumnCount();
 
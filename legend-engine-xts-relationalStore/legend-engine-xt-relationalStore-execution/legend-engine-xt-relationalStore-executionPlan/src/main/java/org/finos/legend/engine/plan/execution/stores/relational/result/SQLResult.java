@@ -20,6 +20,7 @@ import org.finos.legend.engine.plan.execution.result.ExecutionActivity;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.ResultVisitor;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutable;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalFetchSizeConfig;
 import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.DatabaseManager;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseType;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.connection.DatabaseConnection;
@@ -60,7 +61,7 @@ public abstract class SQLResult extends Result implements StoreExecutable
             this.statement = connection.createStatement();
             if (DatabaseType.MemSQL.name().equals(databaseType))
             {
-                this.statement.setFetchSize(100);
+                this.statement.setFetchSize(RelationalFetchSizeConfig.DEFAULT_MEMSQL_FETCH_SIZE);
             }
             if (protocolConnection.queryTimeOutInSeconds != null)
             {
@@ -92,6 +92,11 @@ public class SQLResultDBColumnsMetaData
         return variantColumns[index - 1];
     }
 
+    int getColumnType(int index)
+    {
+        return this.dbMetaDataType.get(index - 1).getOne();
+    }
+
     private boolean columnIsOfType(int index, String dbColumnTypeName, String alloyColumnType)
     {
         int zeroBasedIndex = index - 1;
@@ -77,12 +77,7 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
              Writer out = new BufferedWriter(new OutputStreamWriter(byteArrayOutputStream));
              CSVPrinter csvPrinter = new CSVPrinter(out, this.csvFormat);)
         {
-            String connectionTimeZone = this.tempTableStreamingResult.getRelationalDatabaseTimeZone();
-            timeZone = connectionTimeZone == null ? TimeZone.getTimeZone("GMT").toString() : connectionTimeZone;
-
-            final List<TempTableColumnMetaData> columns = this.tempTableStreamingResult.tempTableColumnMetaData;
-            columnLabels = columns.stream().map(col -> col.column.label).collect(Collectors.toList());
-            columnTypes = columns.stream().map(col -> col.column.dataType.toUpperCase()).collect(Collectors.toList());
+            initializeColumns();
 
             final Iterator<?> streamIterator = inputStream.iterator();
 
@@ -95,28 +90,14 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
                 if (streamIterator.hasNext())
                 {
                     Object obj = streamIterator.next();
-                    objectClass = obj.getClass();
-                    if (!(ClassUtils.isPrimitiveOrWrapper(objectClass) || (objectClass == String.class)))
-                    {
-                        for (TempTableColumnMetaData key : columns)
-                        {
-                            try
-                            {
-                                methodWithParametersList.add(Tuples.pair(objectClass.getMethod(key.identifierForGetter, key.parametersForGetter.keySet().stream().map(String::getClass).toArray(Class[]::new)), key.parametersForGetter.values().toArray()));
-                            }
-                            catch (Exception e)
-                            {
-                                throw new RuntimeException(e);
-                            }
-                        }
-                    }
-                    csvPrinter.printRecord(processRow(obj));
+                    initializeGetters(obj);
+                    csvPrinter.printRecord(processRow(obj, ""));
                 }
 
                 while (streamIterator.hasNext())
                 {
                     Object obj = streamIterator.next();
-                    csvPrinter.printRecord(processRow(obj));
+                    csvPrinter.printRecord(processRow(obj, ""));
                 }
             }
             catch (Exception e)
@@ -146,7 +127,65 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
         }
     }
 
-    private List<Object> processRow(Object obj)
+    /**
+     * Rows of the result, read from its stream as they are consumed, with the values of the CSV records. Null values are
+     * kept as nulls.
+     */
+    public Iterator<Object[]> rows()
+    {
+        initializeColumns();
+        final Iterator<?> streamIterator = this.tempTableStreamingResult.inputStream.iterator();
+        return new Iterator<Object[]>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return streamIterator.hasNext();
+            }
+
+            @Override
+            public Object[] next()
+            {
+                Object obj = streamIterator.next();
+                if (objectClass == null)
+                {
+                    initializeGetters(obj);
+                }
+                return processRow(obj, null).toArray();
+            }
+        };
+    }
+
+    private void initializeColumns()
+    {
+        String connectionTimeZone = this.tempTableStreamingResult.getRelationalDatabaseTimeZone();
+        timeZone = connectionTimeZone == null ? TimeZone.getTimeZone("GMT").toString() : connectionTimeZone;
+
+        final List<TempTableColumnMetaData> columns = this.tempTableStreamingResult.tempTableColumnMetaData;
+        columnLabels = columns.stream().map(col -> col.column.label).collect(Collectors.toList());
+        columnTypes = columns.stream().map(col -> col.column.dataType.toUpperCase()).collect(Collectors.toList());
+    }
+
+    private void initializeGetters(Object obj)
+    {
+        objectClass = obj.getClass();
+        if (!(ClassUtils.isPrimitiveOrWrapper(objectClass) || (objectClass == String.class)))
+        {
+            for (TempTableColumnMetaData key : this.tempTableStreamingResult.tempTableColumnMetaData)
+            {
+                try
+                {
+                    methodWithParametersList.add(Tuples.pair(objectClass.getMethod(key.identifierForGetter, key.parametersForGetter.keySet().stream().map(String::getClass).toArray(Class[]::new)), key.parametersForGetter.values().toArray()));
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    private List<Object> processRow(Object obj, Object nullValue)
     {
         List<Object> valList = Lists.mutable.empty();
 
@@ -154,7 +193,7 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
         {
             if (obj == null)
             {
-                valList.add("");
+                valList.add(nullValue);
             }
             else
             {
@@ -184,7 +223,7 @@ public class StreamingTempTableResultCSVSerializer extends CsvSerializer
                 }
                 if (value == null)
                 {
-                    valList.add("");
+                    valList.add(nullValue);
                 }
                 else
                 {
@@ -0,0 +1,108 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
+import org.finos.legend.engine.plan.execution.result.ConstantResult;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestBindParameterRenderer
+{
+    private static final String TEMPLATE_FUNCTIONS =
+            "<#function optionalVarPlaceHolderOperationSelector optionalParameter trueClause falseClause>" +
+                    "<#if optionalParameter?has_content || optionalParameter?is_string>" +
+                    "<#return trueClause>" +
+                    "<#else>" +
+                    "<#return falseClause></#if>" +
+                    "</#function>" +
+                    "<#function varPlaceHolderToString optionalParameter prefix suffix replacementMap defaultValue>" +
+                    "<#if optionalParameter?is_enumerable && !optionalParameter?has_content>" +
+                    "<#return defaultValue>" +
+                    "<#else>" +
+                    "<#assign newParam = optionalParameter>" +
+                    "<#list replacementMap as oldValue, newValue>" +
+                    "   <#assign newParam = newParam?replace(oldValue, newValue)>" +
+                    "</#list>" +
+                    "<#return prefix + newParam + suffix></#if>" +
+                    "</#function>";
+
+    @Test
+    public void testStringAndNumberParametersAreBound()
+    {
+        String sql = "select \"root\".NAME as \"name\" from PERSON as \"root\" where \"root\".NAME = '${name?replace(\"'\", \"''\")}' and \"root\".AGE > ${age}";
+        Map<String, Result> results = new HashMap<>();
+        results.put("name", new ConstantResult("O'Brien"));
+        results.put("age", new ConstantResult(30L));
+
+        BindParameterRenderer.RenderedSQL rendered = render(sql, results, Collections.emptyList());
+        Assert.assertNotNull(rendered);
+        Assert.assertEquals("select \"root\".NAME as \"name\" from PERSON as \"root\" where \"root\".NAME = ? and \"root\".AGE > ?", rendered.sql);
+        Assert.assertEquals(Arrays.asList("O'Brien", 30L), rendered.parameters);
+    }
+
+    @Test
+    public void testOptionalParametersAreBound()
+    {
+        String sql = "select \"root\".NAME as \"name\" from PERSON as \"root\" where " +
+                "(${optionalVarPlaceHolderOperationSelector(optionalName![], '\"root\".NAME = ${varPlaceHolderToString(optionalName![] \"\\'\" \"\\'\" {\"\\'\" : \"\\'\\'\"} \"null\")}', '\"root\".NAME is null')}) and " +
+                "(${optionalVarPlaceHolderOperationSelector(optionalAge![], '\"root\".AGE = ${varPlaceHolderToString(optionalAge![] \"\" \"\" {} \"null\")}', '\"root\".AGE is null')})";
+        Map<String, Result> results = new HashMap<>();
+        results.put("optionalName", new ConstantResult("Smith"));
+        results.put("optionalAge", new ConstantResult(Collections.emptyList()));
+
+        BindParameterRenderer.RenderedSQL rendered = render(sql, results, Collections.singletonList(TEMPLATE_FUNCTIONS));
+        Assert.assertNotNull(rendered);
+        Assert.assertEquals("select \"root\".NAME as \"name\" from PERSON as \"root\" where (\"root\".NAME = ?) and (\"root\".AGE is null)", rendered.sql.trim());
+        Assert.assertEquals(Collections.singletonList("Smith"), rendered.parameters);
+    }
+
+    @Test
+    public void testParametersOutsideOfComparisonsAreInlined()
+    {
+        Map<String, Result> results = new HashMap<>();
+        results.put("name", new ConstantResult("Smith"));
+        results.put("limit", new ConstantResult(10L));
+
+        Assert.assertNull(render("select \"root\".NAME from PERSON as \"root\" where \"root\".NAME like '%${name?replace(\"'\", \"''\")}%'", results, Collections.emptyList()));
+        Assert.assertNull(render("select \"root\".NAME from PERSON as \"root\" limit ${limit}", results, Collections.emptyList()));
+    }
+
+    @Test
+    public void testSqlWithQuestionMarksIsInlined()
+    {
+        Map<String, Result> results = new HashMap<>();
+        results.put("key", new ConstantResult("a"));
+        Assert.assertNull(render("select \"root\".DATA from DOCUMENT as \"root\" where \"root\".DATA ? 'a' and \"root\".KEY = '${key?replace(\"'\", \"''\")}'", results, Collections.emptyList()));
+
+        // question marks in literals are left to the driver
+        BindParameterRenderer.RenderedSQL rendered = render("select \"root\".DATA from DOCUMENT as \"root\" where \"root\".NOTE <> 'why?' and \"root\".KEY = '${key?replace(\"'\", \"''\")}'", results, Collections.emptyList());
+        Assert.assertNotNull(rendered);
+        Assert.assertEquals("select \"root\".DATA from DOCUMENT as \"root\" where \"root\".NOTE <> 'why?' and \"root\".KEY = ?", rendered.sql);
+    }
+
+    private static BindParameterRenderer.RenderedSQL render(String sql, Map<String, Result> results, List<String> templateFunctions)
+    {
+        ExecutionState state = new ExecutionState(results, templateFunctions, Collections.emptyList());
+        return BindParameterRenderer.render(sql, state, "H2", "GMT");
+    }
+}
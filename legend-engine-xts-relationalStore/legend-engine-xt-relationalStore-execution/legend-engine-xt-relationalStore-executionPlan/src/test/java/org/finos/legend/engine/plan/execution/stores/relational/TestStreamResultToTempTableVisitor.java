@@ -0,0 +1,52 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational;
+
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.IngestionMethod;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.commands.RelationalDatabaseCommands;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.driver.vendors.h2.H2Commands;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestStreamResultToTempTableVisitor
+{
+    @Test
+    public void testDatabaseDefaultIngestionMethodIsUsedByDefault()
+    {
+        Assert.assertEquals(IngestionMethod.CLIENT_FILE, selectedIngestionMethod(RelationalExecutionConfiguration.newInstance().build()));
+        Assert.assertEquals(IngestionMethod.CLIENT_FILE, selectedIngestionMethod(null));
+    }
+
+    @Test
+    public void testStreamingIngestionIsOptIn()
+    {
+        Assert.assertEquals(IngestionMethod.STREAMING_INSERT, selectedIngestionMethod(RelationalExecutionConfiguration.newInstance().withUseStreamingTempTableIngestion(true).build()));
+    }
+
+    private static IngestionMethod selectedIngestionMethod(RelationalExecutionConfiguration config)
+    {
+        StreamResultToTempTableVisitor visitor = new StreamResultToTempTableVisitor(config, null, null, "temp", null)
+        {
+            @Override
+            public Boolean streamResultToTable(RelationalDatabaseCommands dbCommands)
+            {
+                return true;
+            }
+        };
+        Assert.assertTrue(visitor.visit(new H2Commands()));
+        return visitor.ingestionMethod;
+    }
+}
@@ -0,0 +1,85 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.collections.api.factory.Maps;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.when;
+
+public class TestRelationalFetchSizeConfig
+{
+    @Test
+    public void testDefaultsKeepMemSQLFetchSizeOnly()
+    {
+        RelationalFetchSizeConfig config = new RelationalFetchSizeConfig();
+        Assert.assertEquals(Integer.valueOf(100), config.getInitialFetchSize("MemSQL", null));
+        Assert.assertNull(config.getInitialFetchSize("H2", null));
+        Assert.assertFalse(config.isAdaptive(null));
+    }
+
+    @Test
+    public void testOverridePrecedence()
+    {
+        RelationalFetchSizeConfig config = new RelationalFetchSizeConfig(500, Maps.mutable.of("Postgres", 2000), true);
+        Assert.assertEquals(Integer.valueOf(2000), config.getInitialFetchSize("Postgres", null));
+        Assert.assertEquals(Integer.valueOf(500), config.getInitialFetchSize("H2", null));
+        Assert.assertEquals(Integer.valueOf(10), config.getInitialFetchSize("Postgres", 10));
+        Assert.assertEquals(Integer.valueOf(RelationalFetchSizeConfig.DEFAULT_MEMSQL_FETCH_SIZE), config.getInitialFetchSize("MemSQL", null));
+        Assert.assertTrue(config.isAdaptive(null));
+        Assert.assertFalse(config.isAdaptive(10));
+    }
+
+    @Test
+    public void testAdaptiveFetchSize() throws SQLException
+    {
+        ResultSetMetaData narrow = Mockito.mock(ResultSetMetaData.class);
+        when(narrow.getColumnCount()).thenReturn(2);
+        when(narrow.getColumnDisplaySize(1)).thenReturn(10);
+        when(narrow.getColumnDisplaySize(2)).thenReturn(0);
+
+        ResultSetMetaData wide = Mockito.mock(ResultSetMetaData.class);
+        when(wide.getColumnCount()).thenReturn(1);
+        when(wide.getColumnDisplaySize(1)).thenReturn(Integer.MAX_VALUE);
+
+        RelationalFetchSizeConfig config = new RelationalFetchSizeConfig(null, null, true);
+        Assert.assertEquals(RelationalFetchSizeConfig.DEFAULT_ADAPTIVE_MAX_FETCH_SIZE, config.getAdaptiveFetchSize(narrow, 10));
+        Assert.assertEquals(1024, config.getAdaptiveFetchSize(wide, 10));
+        Assert.assertEquals(RelationalFetchSizeConfig.DEFAULT_ADAPTIVE_MAX_FETCH_SIZE, config.getAdaptiveFetchSize(wide, RelationalFetchSizeConfig.DEFAULT_ADAPTIVE_SLOW_FIRST_ROW_MILLIS));
+    }
+
+    @Test
+    public void testConfigDeserialization() throws Exception
+    {
+        RelationalFetchSizeConfig config = new ObjectMapper().readValue("{\"defaultFetchSize\": 1000, \"fetchSizePerDatabaseType\": {\"Snowflake\": 5000}, \"adaptive\": true}", RelationalFetchSizeConfig.class);
+        Assert.assertEquals(Integer.valueOf(1000), config.getInitialFetchSize("H2", null));
+        Assert.assertEquals(Integer.valueOf(5000), config.getInitialFetchSize("Snowflake", null));
+        Assert.assertEquals(Integer.valueOf(RelationalFetchSizeConfig.DEFAULT_MEMSQL_FETCH_SIZE), config.getInitialFetchSize("MemSQL", null));
+        Assert.assertTrue(config.isAdaptive());
+    }
+
+    @Test
+    public void testConfiguredDatabaseTypeSizeOverridesDefault() throws Exception
+    {
+        RelationalFetchSizeConfig config = new ObjectMapper().readValue("{\"fetchSizePerDatabaseType\": {\"MemSQL\": 250}}", RelationalFetchSizeConfig.class);
+        Assert.assertEquals(Integer.valueOf(250), config.getInitialFetchSize("MemSQL", null));
+        Assert.assertNull(config.getInitialFetchSize("H2", null));
+    }
+}
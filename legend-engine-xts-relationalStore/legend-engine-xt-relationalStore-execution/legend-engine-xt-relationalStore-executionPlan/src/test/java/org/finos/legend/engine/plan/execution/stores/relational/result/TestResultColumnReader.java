@@ -0,0 +1,85 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.result;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.engine.plan.dependencies.domain.date.PureDate;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.relational.model.result.SQLResultColumn;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.when;
+
+public class TestResultColumnReader
+{
+    private final Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("GMT"));
+
+    @Test
+    public void testTransformedIntegerReaderHandlesNull() throws SQLException
+    {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(42L, 0L);
+        when(resultSet.wasNull()).thenReturn(false, true);
+
+        ResultColumnReader reader = ResultColumnReader.transformedValueReader(1, Types.INTEGER);
+        Assert.assertEquals(42L, reader.read(resultSet, this.calendar));
+        Assert.assertNull(reader.read(resultSet, this.calendar));
+    }
+
+    @Test
+    public void testTransformedTimestampReaderUsesProvidedCalendar() throws SQLException
+    {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Timestamp timestamp = Timestamp.valueOf("2021-06-01 10:11:12");
+        when(resultSet.getTimestamp(1, this.calendar)).thenReturn(timestamp);
+
+        ResultColumnReader reader = ResultColumnReader.transformedValueReader(1, Types.TIMESTAMP);
+        Assert.assertEquals(PureDate.fromSQLTimestamp(timestamp), reader.read(resultSet, this.calendar));
+        Assert.assertEquals(TimeZone.getTimeZone("GMT"), this.calendar.getTimeZone());
+    }
+
+    @Test
+    public void testValueReadersResolvedFromMetaData() throws SQLException
+    {
+        ResultSetMetaData resultSetMetaData = Mockito.mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.TIMESTAMP);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.OTHER);
+        when(resultSetMetaData.getColumnTypeName(2)).thenReturn("JSON");
+        when(resultSetMetaData.getColumnType(3)).thenReturn(Types.VARCHAR);
+        SQLResultDBColumnsMetaData metaData = new SQLResultDBColumnsMetaData(
+                Lists.mutable.of(new SQLResultColumn("Column1", "TIMESTAMP"), new SQLResultColumn("Column2", "SEMISTRUCTURED"), new SQLResultColumn("Column3", "VARCHAR(10)")),
+                resultSetMetaData);
+
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Timestamp timestamp = Timestamp.valueOf("2021-06-01 10:11:12");
+        when(resultSet.getTimestamp(1, this.calendar)).thenReturn(timestamp);
+        when(resultSet.getObject(2)).thenReturn("{ \"a\" : 1 }");
+        when(resultSet.getObject(3)).thenReturn("abc");
+
+        Assert.assertEquals(timestamp, ResultColumnReader.valueReader(metaData, 1, "Column1").read(resultSet, this.calendar));
+        Assert.assertEquals("{\"a\":1}", ResultColumnReader.valueReader(metaData, 2, "Column2").read(resultSet, this.calendar));
+        Assert.assertEquals("abc", ResultColumnReader.valueReader(metaData, 3, "Column3").read(resultSet, this.calendar));
+        Assert.assertEquals(Types.VARCHAR, metaData.getColumnType(3));
+    }
+}
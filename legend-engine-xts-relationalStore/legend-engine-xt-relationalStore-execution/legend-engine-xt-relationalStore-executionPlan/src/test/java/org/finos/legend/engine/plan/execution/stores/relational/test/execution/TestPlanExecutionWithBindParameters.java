@@ -0,0 +1,96 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.relational.test.execution;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.stores.relational.activity.RelationalExecutionActivity;
+import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.config.TemporaryTestDbConfiguration;
+import org.finos.legend.engine.plan.execution.stores.relational.connection.AlloyTestServer;
+import org.finos.legend.engine.plan.execution.stores.relational.plugin.Relational;
+import org.finos.legend.engine.plan.execution.stores.relational.result.RelationalResult;
+import org.finos.legend.engine.plan.execution.stores.relational.serialization.RelationalResultToJsonDefaultSerializer;
+import org.finos.legend.engine.plan.execution.stores.relational.test.full.functions.in.TestPlanExecutionForIn;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+public class TestPlanExecutionWithBindParameters extends AlloyTestServer
+{
+    private static final String FETCH_BY_NAME = "###Pure\n" +
+            "function test::fetch(): Any[1]\n" +
+            "{\n" +
+            "  {name:String[1] | test::Person.all()\n" +
+            "                        ->filter(p:test::Person[1] | $p.fullName == $name)\n" +
+            "                        ->project([x | $x.fullName, x | $x.firmName], ['fullName', 'firmName'])}\n" +
+            "}";
+
+    @Override
+    protected PlanExecutor buildRelationalPlanExecutor()
+    {
+        RelationalExecutionConfiguration relationalExecutionConfiguration = RelationalExecutionConfiguration.newInstance()
+                .withTemporaryTestDbConfiguration(new TemporaryTestDbConfiguration(serverPort))
+                .withUseBindParameters(true)
+                .build();
+        return PlanExecutor.newPlanExecutor(Relational.build(relationalExecutionConfiguration));
+    }
+
+    @Override
+    protected void insertTestData(Statement statement) throws SQLException
+    {
+        statement.execute("Drop table if exists PERSON;");
+        statement.execute("Create Table PERSON(fullName VARCHAR(100) NOT NULL,firmName VARCHAR(100) NULL,addressName VARCHAR(100) NULL,birthTime TIMESTAMP NULL, PRIMARY KEY(fullName));");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('P1','F1','A1','2020-12-12 20:00:00');");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('P2','F2','A2','2020-12-13 20:00:00');");
+        statement.execute("insert into PERSON (fullName,firmName,addressName,birthTime) values ('SpecialName''1','F3','A2','2020-12-13 20:00:00');");
+    }
+
+    @Test
+    public void testStringParameterIsExecutedAsABindVariable()
+    {
+        SingleExecutionPlan plan = buildPlan();
+        String[][] expectedRows = {{"P1", "F1"}, {"P2", "F2"}, {"SpecialName'1", "F3"}};
+        for (String[] expectedRow : expectedRows)
+        {
+            // the same plan runs with each value, without the value ever being part of the SQL
+            RelationalResult result = (RelationalResult) planExecutor.execute(plan, Maps.mutable.with("name", expectedRow[0]), null);
+            RelationalExecutionActivity activity = (RelationalExecutionActivity) result.activities.get(result.activities.size() - 1);
+            Assert.assertEquals(Collections.singletonList(expectedRow[0]), activity.parameters);
+            Assert.assertTrue(activity.sql, activity.sql.endsWith("where \"root\".fullName = ?"));
+            Assert.assertTrue(result.executedSQl, result.executedSQl.endsWith(activity.sql));
+
+            String json = RelationalResultToJsonDefaultSerializer.removeComment(result.flush(new RelationalResultToJsonDefaultSerializer(result)));
+            Assert.assertTrue(json, json.endsWith("\"result\":{\"columns\":[\"fullName\",\"firmName\"],\"rows\":[{\"values\":[\"" + expectedRow[0] + "\",\"" + expectedRow[1] + "\"]}]}}"));
+        }
+    }
+
+    @Test
+    public void testStringParameterWithNoMatchingRow()
+    {
+        RelationalResult result = (RelationalResult) planExecutor.execute(buildPlan(), Maps.mutable.with("name", "' or '1' = '1"), null);
+        String json = RelationalResultToJsonDefaultSerializer.removeComment(result.flush(new RelationalResultToJsonDefaultSerializer(result)));
+        Assert.assertTrue(json, json.endsWith("\"result\":{\"columns\":[\"fullName\",\"firmName\"],\"rows\":[]}}"));
+    }
+
+    private SingleExecutionPlan buildPlan()
+    {
+        return super.buildPlan(TestPlanExecutionForIn.LOGICAL_MODEL + TestPlanExecutionForIn.STORE_MODEL + TestPlanExecutionForIn.MAPPING + TestPlanExecutionForIn.RUNTIME + FETCH_BY_NAME);
+    }
+}
@@ -17,9 +17,11 @@ package org.finos.legend.engine.language.pure.dsl.service.execution;
 import org.finos.legend.engine.plan.execution.PlanExecutionContext;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.PlanExecutorInfo;
+import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.plan.execution.cache.serviceResult.ServiceResultCacheKey;
 import org.finos.legend.engine.plan.execution.graphFetch.GraphFetchExecutionConfiguration;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
 import org.finos.legend.engine.plan.execution.result.ErrorResult;
@@ -37,15 +39,18 @@ import org.finos.legend.engine.shared.core.url.StreamProvider;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.math.BigInteger;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -60,6 +65,7 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
     private final String servicePath;
     private final ExecutionPlan plan;
     private final PlanExecutor executor;
+    private volatile String planHash;
 
     protected AbstractServicePlanExecutor(String servicePath, ExecutionPlan plan, PlanExecutor executor)
     {
@@ -288,8 +294,109 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
 
     protected void executeToStream(Map<String, ?> parameters, ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider, OutputStream outputStream)
     {
-        Result result = execute(parameters, serviceRunnerInput, streamProvider);
-        serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+        OperationalContext operationalContext = serviceRunnerInput.getOperationalContext();
+        // results read from a stream provider depend on more than the parameters
+        if (operationalContext == null || operationalContext.getServiceResultCache() == null || streamProvider != null)
+        {
+            Result result = execute(parameters, serviceRunnerInput, streamProvider);
+            serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+            return;
+        }
+
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = operationalContext.getServiceResultCache();
+        String scope = operationalContext.getServiceResultCacheScope() != null ? operationalContext.getServiceResultCacheScope() : serviceRunnerInput.getIdentity().getName();
+        ServiceResultCacheKey key = new ServiceResultCacheKey(this.servicePath, this.getPlanHash(), parameters, serviceRunnerInput.getSerializationFormat(), scope);
+        // only one caller per key runs the plan, the others wait for its result; the loading caller streams the
+        // result as it is serialized, and it is only cached once fully serialized
+        RuntimeException[] loadFailure = {null};
+        boolean[] loadedByThisCaller = {false};
+        byte[] cachedResult;
+        try
+        {
+            cachedResult = resultCache.get(key, () ->
+            {
+                loadedByThisCaller[0] = true;
+                try
+                {
+                    CachingOutputStream cachingOutputStream = new CachingOutputStream(outputStream, operationalContext.getMaximumCachedResultSizeInBytes());
+                    Result result = execute(parameters, serviceRunnerInput, streamProvider);
+                    serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), cachingOutputStream);
+                    byte[] serializedResult = cachingOutputStream.getCachedBytes();
+                    if (serializedResult == null)
+                    {
+                        throw new ResultTooLargeToCacheException();
+                    }
+                    return serializedResult;
+                }
+                catch (RuntimeException e)
+                {
+                    loadFailure[0] = e;
+                    throw e;
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            if (loadedByThisCaller[0])
+            {
+                // the result was already streamed by this caller when it is too big to be cached
+                if (loadFailure[0] instanceof ResultTooLargeToCacheException)
+                {
+                    return;
+                }
+                throw loadFailure[0] != null ? loadFailure[0] : e;
+            }
+            if (!isResultTooLargeToCache(e))
+            {
+                throw e;
+            }
+            // the result is too big to be shared, so each waiting caller streams its own
+            Result result = execute(parameters, serviceRunnerInput, streamProvider);
+            serializeResultToStream(result, serviceRunnerInput.getSerializationFormat(), outputStream);
+            return;
+        }
+
+        if (!loadedByThisCaller[0])
+        {
+            try
+            {
+                outputStream.write(cachedResult);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Error serializing result", e);
+            }
+        }
+    }
+
+    private static boolean isResultTooLargeToCache(Throwable e)
+    {
+        // caches wrap the exceptions thrown by the loader
+        for (Throwable cause = e; cause != null; cause = cause.getCause())
+        {
+            if (cause instanceof ResultTooLargeToCacheException)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getPlanHash()
+    {
+        if (this.planHash == null)
+        {
+            try
+            {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(ObjectMapperFactory.getNewStandardObjectMapper().writeValueAsBytes(this.plan));
+                this.planHash = new BigInteger(1, digest).toString(16);
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException("Error hashing the plan of service " + this.servicePath, e);
+            }
+        }
+        return this.planHash;
     }
 
     private void serializeResultToStream(Result result, SerializationFormat serializationFormat, OutputStream outputStream)
@@ -330,6 +437,75 @@ public abstract class AbstractServicePlanExecutor implements ServiceRunner
         }
     }
 
+    private static class CachingOutputStream extends OutputStream
+    {
+        private final OutputStream outputStream;
+        private final long maximumCachedSize;
+        private ByteArrayOutputStream cachedBytes = new ByteArrayOutputStream();
+
+        private CachingOutputStream(OutputStream outputStream, long maximumCachedSize)
+        {
+            this.outputStream = outputStream;
+            this.maximumCachedSize = maximumCachedSize;
+        }
+
+        @Override
+        public void write(int b) throws IOException
+        {
+            this.outputStream.write(b);
+            if (this.cachedBytes != null)
+            {
+                this.cachedBytes.write(b);
+                this.checkCachedSize();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException
+        {
+            this.outputStream.write(b, off, len);
+            if (this.cachedBytes != null)
+            {
+                this.cachedBytes.write(b, off, len);
+                this.checkCachedSize();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            this.outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            this.outputStream.close();
+        }
+
+        private void checkCachedSize()
+        {
+            if (this.cachedBytes.size() > this.maximumCachedSize)
+            {
+                // too big to be cached, the rest of the result is only streamed
+                this.cachedBytes = null;
+            }
+        }
+
+        private byte[] getCachedBytes()
+        {
+            return this.cachedBytes == null ? null : this.cachedBytes.toByteArray();
+        }
+    }
+
+    private static class ResultTooLargeToCacheException extends RuntimeException
+    {
+        private ResultTooLargeToCacheException()
+        {
+            super("Service result is too large to be cached", null, false, false);
+        }
+    }
+
     protected abstract class ExecutionBuilder
     {
         private StreamProvider streamProvider;
@@ -17,6 +17,7 @@ package org.finos.legend.engine.language.pure.dsl.service.execution;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.plan.execution.cache.serviceResult.ServiceResultCacheKey;
 
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,12 @@ import java.util.stream.Collectors;
 
 public class OperationalContext
 {
+    public static final long DEFAULT_MAXIMUM_CACHED_RESULT_SIZE_IN_BYTES = 10L * 1024 * 1024;
+
     private Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> graphFetchCrossAssociationKeysCacheConfig;
+    private ExecutionCache<ServiceResultCacheKey, byte[]> serviceResultCache;
+    private String serviceResultCacheScope;
+    private long maximumCachedResultSizeInBytes = DEFAULT_MAXIMUM_CACHED_RESULT_SIZE_IN_BYTES;
 
     public static OperationalContext newInstance()
     {
@@ -51,6 +57,40 @@ public class OperationalContext
         return this.graphFetchCrossAssociationKeysCacheConfig;
     }
 
+    /*
+        Serialized results of the service are cached, and served from the cache for later executions with the same parameters.
+        Only services whose results depend solely on their parameters (and not on the time they are run at, for instance) should use it.
+        Results are cached for the identity running the service, unless a scope is given (e.g. an entitlement group the identity belongs to),
+        and results bigger than the maximum size are not cached.
+     */
+    public OperationalContext withServiceResultCache(ExecutionCache<ServiceResultCacheKey, byte[]> serviceResultCache)
+    {
+        return this.withServiceResultCache(serviceResultCache, null, DEFAULT_MAXIMUM_CACHED_RESULT_SIZE_IN_BYTES);
+    }
+
+    public OperationalContext withServiceResultCache(ExecutionCache<ServiceResultCacheKey, byte[]> serviceResultCache, String scope, long maximumCachedResultSizeInBytes)
+    {
+        this.serviceResultCache = Objects.requireNonNull(serviceResultCache, "serviceResultCache must not be null");
+        this.serviceResultCacheScope = scope;
+        this.maximumCachedResultSizeInBytes = maximumCachedResultSizeInBytes;
+        return this;
+    }
+
+    ExecutionCache<ServiceResultCacheKey, byte[]> getServiceResultCache()
+    {
+        return this.serviceResultCache;
+    }
+
+    String getServiceResultCacheScope()
+    {
+        return this.serviceResultCacheScope;
+    }
+
+    long getMaximumCachedResultSizeInBytes()
+    {
+        return this.maximumCachedResultSizeInBytes;
+    }
+
     private static void assertSharedCachesValidity(Map<GraphFetchCrossAssociationKeys, ExecutionCache<GraphFetchCacheKey, List<Object>>> cacheConfig)
     {
         Map<ExecutionCache<GraphFetchCacheKey, List<Object>>, List<GraphFetchCrossAssociationKeys>> reverseCacheMap =
@@ -29,7 +29,9 @@ import org.finos.legend.engine.plan.execution.cache.ExecutionCache;
 import org.finos.legend.engine.plan.execution.cache.ExecutionCacheBuilder;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCacheKey;
 import org.finos.legend.engine.plan.execution.cache.graphFetch.GraphFetchCrossAssociationKeys;
+import org.finos.legend.engine.plan.execution.cache.serviceResult.ServiceResultCacheKey;
 import org.finos.legend.engine.plan.execution.nodes.helpers.platform.JavaHelper;
+import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
 import org.finos.legend.engine.plan.execution.stores.relational.config.RelationalExecutionConfiguration;
 import org.finos.legend.engine.plan.generation.PlanGenerator;
@@ -40,6 +42,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecut
 import org.finos.legend.engine.protocol.pure.m3.function.Function;
 import org.finos.legend.engine.protocol.pure.m3.multiplicity.Multiplicity;
 import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.url.StreamProvider;
 import org.finos.legend.engine.shared.javaCompiler.EngineJavaCompiler;
 import org.finos.legend.engine.shared.javaCompiler.JavaCompileException;
 import org.hamcrest.CoreMatchers;
@@ -56,7 +59,14 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.finos.legend.pure.generated.core_relational_java_platform_binding_legendJavaPlatformBinding_relationalLegendJavaPlatformBindingExtension.Root_meta_relational_executionPlan_platformBinding_legendJava_relationalExtensionsWithLegendJavaPlatformBinding__Extension_MANY_;
@@ -204,6 +214,99 @@ public class TestServiceRunner
         Assert.assertEquals("{\"builder\":{\"_type\":\"json\"},\"values\":{\"firstName\":\"Peter\",\"lastName\":\"Smith\"}}", result);
     }
 
+    @Test
+    public void testSimpleM2MServiceExecutionWithResultCache()
+    {
+        SimpleM2MServiceRunner simpleM2MServiceRunner = new SimpleM2MServiceRunner();
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = ExecutionCacheBuilder.buildServiceResultCache(1024 * 1024, 1, TimeUnit.MINUTES);
+        OperationalContext operationalContext = OperationalContext.newInstance().withServiceResultCache(resultCache);
+        String expected = "{\"builder\":{\"_type\":\"json\"},\"values\":{\"firstName\":\"Peter\",\"lastName\":\"Smith\"}}";
+
+        for (int i = 0; i < 2; i++)
+        {
+            ServiceRunnerInput serviceRunnerInput = ServiceRunnerInput
+                    .newInstance()
+                    .withArgs(Collections.singletonList("{\"fullName\": \"Peter Smith\"}"))
+                    .withOperationalContext(operationalContext);
+            Assert.assertEquals(expected, simpleM2MServiceRunner.run(serviceRunnerInput));
+        }
+        Assert.assertEquals(1, resultCache.stats().missCount());
+        Assert.assertEquals(1, resultCache.stats().hitCount());
+
+        // results are cached by parameters and serialization format
+        ServiceRunnerInput otherParameters = ServiceRunnerInput
+                .newInstance()
+                .withArgs(Collections.singletonList("{\"fullName\": \"John Johnson\"}"))
+                .withOperationalContext(operationalContext);
+        Assert.assertEquals("{\"builder\":{\"_type\":\"json\"},\"values\":{\"firstName\":\"John\",\"lastName\":\"Johnson\"}}", simpleM2MServiceRunner.run(otherParameters));
+        ServiceRunnerInput otherFormat = ServiceRunnerInput
+                .newInstance()
+                .withArgs(Collections.singletonList("{\"fullName\": \"Peter Smith\"}"))
+                .withSerializationFormat(SerializationFormat.PURE)
+                .withOperationalContext(operationalContext);
+        Assert.assertEquals("{\"firstName\":\"Peter\",\"lastName\":\"Smith\"}", simpleM2MServiceRunner.run(otherFormat));
+        Assert.assertEquals(3, resultCache.stats().missCount());
+        Assert.assertEquals(3, resultCache.estimatedSize());
+    }
+
+    @Test
+    public void testSimpleM2MServiceExecutionWithResultCacheExecutesOncePerKey() throws Exception
+    {
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = ExecutionCacheBuilder.buildServiceResultCache(1024 * 1024, 1, TimeUnit.MINUTES);
+        OperationalContext operationalContext = OperationalContext.newInstance().withServiceResultCache(resultCache);
+        List<String> results = runConcurrently(operationalContext, 4);
+
+        Assert.assertEquals(Collections.nCopies(4, "{\"builder\":{\"_type\":\"json\"},\"values\":{\"firstName\":\"Peter\",\"lastName\":\"Smith\"}}"), results);
+        Assert.assertEquals(1, resultCache.estimatedSize());
+    }
+
+    @Test
+    public void testSimpleM2MServiceExecutionWithResultTooLargeToCache() throws Exception
+    {
+        ExecutionCache<ServiceResultCacheKey, byte[]> resultCache = ExecutionCacheBuilder.buildServiceResultCache(1024 * 1024, 1, TimeUnit.MINUTES);
+        OperationalContext operationalContext = OperationalContext.newInstance().withServiceResultCache(resultCache, null, 10);
+        List<String> results = runConcurrently(operationalContext, 4);
+
+        Assert.assertEquals(Collections.nCopies(4, "{\"builder\":{\"_type\":\"json\"},\"values\":{\"firstName\":\"Peter\",\"lastName\":\"Smith\"}}"), results);
+        Assert.assertEquals(0, resultCache.estimatedSize());
+    }
+
+    private List<String> runConcurrently(OperationalContext operationalContext, int callers) throws Exception
+    {
+        CountDownLatch callersStarted = new CountDownLatch(callers);
+        CountingM2MServiceRunner serviceRunner = new CountingM2MServiceRunner(callersStarted);
+        ExecutorService executorService = Executors.newFixedThreadPool(callers);
+        try
+        {
+            List<Future<String>> futures = Lists.mutable.empty();
+            for (int i = 0; i < callers; i++)
+            {
+                futures.add(executorService.submit(() ->
+                {
+                    callersStarted.countDown();
+                    return serviceRunner.run(ServiceRunnerInput
+                            .newInstance()
+                            .withArgs(Collections.singletonList("{\"fullName\": \"Peter Smith\"}"))
+                            .withOperationalContext(operationalContext));
+                }));
+            }
+            List<String> results = Lists.mutable.empty();
+            for (Future<String> future : futures)
+            {
+                results.add(future.get(1, TimeUnit.MINUTES));
+            }
+
+            // results too large to be cached are executed by every caller
+            int expectedExecutions = operationalContext.getMaximumCachedResultSizeInBytes() < results.get(0).length() ? callers : 1;
+            Assert.assertEquals(expectedExecutions, serviceRunner.executions.get());
+            return results;
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void testSimpleM2MServiceExecutionWithSerializationFormat()
     {
@@ -981,6 +1084,35 @@ public class TestServiceRunner
         }
     }
 
+    private static class CountingM2MServiceRunner extends SimpleM2MServiceRunner
+    {
+        private final AtomicInteger executions = new AtomicInteger();
+        private final CountDownLatch callersStarted;
+
+        CountingM2MServiceRunner(CountDownLatch callersStarted)
+        {
+            this.callersStarted = callersStarted;
+        }
+
+        @Override
+        protected Result execute(Map<String, ?> parameters, ServiceRunnerInput serviceRunnerInput, StreamProvider streamProvider)
+        {
+            this.executions.incrementAndGet();
+            try
+            {
+                // give the other callers time to wait on this execution
+                this.callersStarted.await();
+                Thread.sleep(200);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            return super.execute(parameters, serviceRunnerInput, streamProvider);
+        }
+    }
+
     private static class SimpleRelationalServiceRunnerWithDefaultBatchSize extends AbstractServicePlanExecutor
     {
         SimpleRelationalServiceRunnerWithDefaultBatchSize()
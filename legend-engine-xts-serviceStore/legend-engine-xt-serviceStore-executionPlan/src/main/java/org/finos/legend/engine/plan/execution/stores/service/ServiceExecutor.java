@@ -40,6 +40,7 @@ import org.finos.legend.engine.plan.execution.stores.service.auth.HttpConnection
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreAuthenticationSpecification;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreConnectionProvider;
 import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreConnectionSpecification;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientPool;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.AuthenticationSchemeRequirement;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.RequestBodyDescription;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.HttpMethod;
@@ -60,10 +61,17 @@ import java.util.Map;
 public class ServiceExecutor
 {
     private final CredentialProviderProvider credentialProviderProvider;
+    private final ServiceStoreHttpClientPool httpClientPool;
 
     public ServiceExecutor(CredentialProviderProvider credentialProviderProvider)
+    {
+        this(credentialProviderProvider, null);
+    }
+
+    public ServiceExecutor(CredentialProviderProvider credentialProviderProvider, ServiceStoreHttpClientPool httpClientPool)
     {
         this.credentialProviderProvider = credentialProviderProvider;
+        this.httpClientPool = httpClientPool;
     }
 
     public InputStreamResult executeHttpService(String url, List<Header> headers, StringEntity requestBodyEntity, HttpMethod httpMethod, String mimeType, List<SecurityScheme> securitySchemes, List<AuthenticationSchemeRequirement> authenticationSchemeRequirements, Identity identity)
@@ -95,7 +103,7 @@ public class ServiceExecutor
 
 
             HttpConnectionBuilder httpConnectionBuilder = serviceStoreConnectionProvider.makeConnection(connectionSpecification, authenticationSpecification, identity);
-            CloseableHttpResponse httpResponse = httpConnectionBuilder.execute();
+            CloseableHttpResponse httpResponse = httpConnectionBuilder.execute(this.httpClientPool, identity);
 
             int statusCode = httpResponse.getStatusLine().getStatusCode();
 
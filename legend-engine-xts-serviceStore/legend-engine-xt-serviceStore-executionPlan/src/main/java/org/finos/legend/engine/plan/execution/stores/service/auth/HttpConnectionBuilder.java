@@ -19,11 +19,14 @@ import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.finos.legend.engine.shared.core.identity.Identity;
 
 public class HttpConnectionBuilder
 {
     public HttpClientBuilder httpClientBuilder;
     public RequestBuilder requestBuilder;
+    public String authenticationScheme = "none";
+    public String configurationId = "none";
 
     public HttpConnectionBuilder(HttpClientBuilder httpClientBuilder, RequestBuilder requestBuilder)
     {
@@ -37,4 +40,22 @@ public class HttpConnectionBuilder
         HttpUriRequest request = requestBuilder.build();
         return httpClient.execute(request);
     }
+
+    public CloseableHttpResponse execute(ServiceStoreHttpClientPool clientPool, Identity identity) throws Exception
+    {
+        if (clientPool == null)
+        {
+            return execute();
+        }
+        HttpUriRequest request = requestBuilder.build();
+        CloseableHttpClient httpClient = clientPool.getClient(ServiceStoreHttpClientPool.ClientKey.of(request.getURI(), authenticationScheme, identity, configurationId));
+        try
+        {
+            return httpClient.execute(request);
+        }
+        finally
+        {
+            clientPool.publishMetrics();
+        }
+    }
 }
@@ -14,6 +14,7 @@
 
 package org.finos.legend.engine.plan.execution.stores.service.auth;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.apache.http.client.methods.RequestBuilder;
@@ -29,6 +30,7 @@ import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.Authen
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.SingleAuthenticationSchemeRequirement;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.authentication.specification.AuthenticationSpecification;
 import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.SecurityScheme;
+import org.finos.legend.engine.shared.core.ObjectMapperFactory;
 import org.finos.legend.engine.shared.core.function.Function5;
 import org.finos.legend.engine.shared.core.identity.Credential;
 import org.finos.legend.engine.shared.core.identity.Identity;
@@ -38,6 +40,8 @@ import java.util.Objects;
 
 public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConnectionBuilder>
 {
+    private static final ObjectMapper CONFIGURATION_ID_MAPPER = ObjectMapperFactory.getNewStandardObjectMapper();
+
     public ServiceStoreConnectionProvider(CredentialProviderProvider credentialProviderProvider)
     {
         super(credentialProviderProvider);
@@ -70,6 +74,8 @@ public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConne
                     credential = makeCredential(authSpecification, identity);
                 }
                 configureAuthentication(httpConnectionBuilder, securityScheme, credential, identity);
+                httpConnectionBuilder.authenticationScheme = securityScheme.getClass().getSimpleName();
+                httpConnectionBuilder.configurationId = configurationId(authenticationSchemeRequirement);
                 return httpConnectionBuilder;
             }
             catch (Exception e)
@@ -86,6 +92,15 @@ public class ServiceStoreConnectionProvider extends ConnectionProvider<HttpConne
 
     }
 
+    /**
+     * The security scheme and authentication specification of the connection, which are the same for every request
+     * made with that connection.
+     */
+    private static String configurationId(SingleAuthenticationSchemeRequirement authenticationSchemeRequirement) throws Exception
+    {
+        return CONFIGURATION_ID_MAPPER.writeValueAsString(authenticationSchemeRequirement);
+    }
+
     public static RequestBuilder makeRequestUtil(ServiceStoreConnectionSpecification serviceStoreConnectionSpecification) throws Exception
     {
         RequestBuilder builder = null;
@@ -0,0 +1,220 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.auth;
+
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared HTTP connection pool for service store executions.
+ * <p>
+ * All the clients handed out share one bounded connection manager, so connections to a host are kept alive and
+ * re-used across requests. Clients are cached by {@link ClientKey}: host, authentication scheme, identity (so that
+ * the state an authentication scheme attaches to a client is never shared between users) and the id of the
+ * service store connection configuration. The least recently used client is dropped once the cache is full.
+ * <p>
+ * Pooled clients are built by the pool from their key only: settings made on the per request
+ * {@link org.apache.http.impl.client.HttpClientBuilder} of a {@link HttpConnectionBuilder} are not applied to them.
+ */
+public class ServiceStoreHttpClientPool implements Closeable
+{
+    public static final String POOL_NAME = "ServiceStore";
+
+    public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 200;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = 30_000;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 60_000;
+    public static final int DEFAULT_MAX_CLIENTS = 1000;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ConnectionKeepAliveStrategy keepAliveStrategy;
+    private final long idleTimeoutMillis;
+    private final Map<ClientKey, CloseableHttpClient> clients;
+    private volatile long lastIdleEviction = System.currentTimeMillis();
+
+    public ServiceStoreHttpClientPool()
+    {
+        this(DEFAULT_MAX_TOTAL_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_KEEP_ALIVE_MILLIS, DEFAULT_IDLE_TIMEOUT_MILLIS, DEFAULT_MAX_CLIENTS);
+    }
+
+    public ServiceStoreHttpClientPool(int maxTotalConnections, int maxConnectionsPerRoute, long keepAliveMillis, long idleTimeoutMillis, int maxClients)
+    {
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        this.connectionManager.setMaxTotal(maxTotalConnections);
+        this.connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        this.keepAliveStrategy = (response, context) ->
+        {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        };
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clients = new LinkedHashMap<ClientKey, CloseableHttpClient>(16, 0.75f, true)
+        {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ClientKey, CloseableHttpClient> eldest)
+            {
+                if (size() > maxClients)
+                {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public CloseableHttpClient getClient(ClientKey key)
+    {
+        evictIdleConnections();
+        synchronized (this.clients)
+        {
+            return this.clients.computeIfAbsent(key, k -> HttpClients.custom()
+                    .setConnectionManager(this.connectionManager)
+                    .setConnectionManagerShared(true)
+                    .setKeepAliveStrategy(this.keepAliveStrategy)
+                    .build());
+        }
+    }
+
+    public int getCachedClientCount()
+    {
+        synchronized (this.clients)
+        {
+            return this.clients.size();
+        }
+    }
+
+    public PoolStats getStats()
+    {
+        return this.connectionManager.getTotalStats();
+    }
+
+    public void publishMetrics()
+    {
+        PoolStats stats = getStats();
+        MetricsHandler.setConnectionMetrics(POOL_NAME, stats.getLeased(), stats.getLeased() + stats.getAvailable(), stats.getAvailable());
+    }
+
+    @Override
+    public void close()
+    {
+        synchronized (this.clients)
+        {
+            this.clients.values().forEach(ServiceStoreHttpClientPool::closeQuietly);
+            this.clients.clear();
+        }
+        this.connectionManager.close();
+        MetricsHandler.removeConnectionMetrics(POOL_NAME);
+    }
+
+    private void evictIdleConnections()
+    {
+        long now = System.currentTimeMillis();
+        if (now - this.lastIdleEviction > this.idleTimeoutMillis)
+        {
+            this.lastIdleEviction = now;
+            this.connectionManager.closeExpiredConnections();
+            this.connectionManager.closeIdleConnections(this.idleTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void closeQuietly(CloseableHttpClient client)
+    {
+        try
+        {
+            client.close();
+        }
+        catch (IOException ignored)
+        {
+            // the connection manager is shared, closing the client does not release any connection
+        }
+    }
+
+    /**
+     * Identifies the clients that can be shared: same scheme, host and port, same authentication scheme, same
+     * identity and same service store connection configuration.
+     */
+    public static final class ClientKey
+    {
+        private final String scheme;
+        private final String host;
+        private final int port;
+        private final String authenticationScheme;
+        private final String identity;
+        private final String configurationId;
+
+        public ClientKey(String scheme, String host, int port, String authenticationScheme, String identity, String configurationId)
+        {
+            this.scheme = scheme;
+            this.host = host;
+            this.port = port;
+            this.authenticationScheme = authenticationScheme;
+            this.identity = identity;
+            this.configurationId = configurationId;
+        }
+
+        public static ClientKey of(URI uri, String authenticationScheme, Identity identity, String configurationId)
+        {
+            int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+            return new ClientKey(uri.getScheme(), uri.getHost(), port, authenticationScheme, identity == null ? null : identity.getName(), configurationId);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof ClientKey))
+            {
+                return false;
+            }
+            ClientKey that = (ClientKey) o;
+            return this.port == that.port &&
+                    Objects.equals(this.scheme, that.scheme) &&
+                    Objects.equals(this.host, that.host) &&
+                    Objects.equals(this.authenticationScheme, that.authenticationScheme) &&
+                    Objects.equals(this.identity, that.identity) &&
+                    Objects.equals(this.configurationId, that.configurationId);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(this.scheme, this.host, this.port, this.authenticationScheme, this.identity, this.configurationId);
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.scheme + "://" + this.host + ":" + this.port + " [" + this.authenticationScheme + ", " + this.identity + ", " + this.configurationId + "]";
+        }
+    }
+}
@@ -17,10 +17,12 @@ package org.finos.legend.engine.plan.execution.stores.service.plugin;
 import org.finos.legend.authentication.credentialprovider.CredentialProviderProvider;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutorConfiguration;
 import org.finos.legend.engine.plan.execution.stores.StoreType;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientPool;
 
 public class ServiceStoreExecutionConfiguration implements StoreExecutorConfiguration
 {
     private CredentialProviderProvider credentialProviderProvider;
+    private ServiceStoreHttpClientPool httpClientPool;
 
     @Override
     public StoreType getStoreType()
@@ -33,6 +35,11 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
         return credentialProviderProvider;
     }
 
+    public ServiceStoreHttpClientPool getHttpClientPool()
+    {
+        return httpClientPool;
+    }
+
     public static Builder builder()
     {
         return new Builder();
@@ -41,6 +48,7 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
     public static class Builder
     {
         private CredentialProviderProvider credentialProviderProvider = CredentialProviderProvider.builder().build();
+        private ServiceStoreHttpClientPool httpClientPool;
 
         public Builder withCredentialProviderProvider(CredentialProviderProvider credentialProviderProvider)
         {
@@ -48,10 +56,17 @@ public class ServiceStoreExecutionConfiguration implements StoreExecutorConfigur
             return this;
         }
 
+        public Builder withHttpClientPool(ServiceStoreHttpClientPool httpClientPool)
+        {
+            this.httpClientPool = httpClientPool;
+            return this;
+        }
+
         public ServiceStoreExecutionConfiguration build()
         {
             ServiceStoreExecutionConfiguration serviceStoreExecutionConfiguration = new ServiceStoreExecutionConfiguration();
             serviceStoreExecutionConfiguration.credentialProviderProvider = credentialProviderProvider;
+            serviceStoreExecutionConfiguration.httpClientPool = httpClientPool == null ? new ServiceStoreHttpClientPool() : httpClientPool;
             return serviceStoreExecutionConfiguration;
         }
     }
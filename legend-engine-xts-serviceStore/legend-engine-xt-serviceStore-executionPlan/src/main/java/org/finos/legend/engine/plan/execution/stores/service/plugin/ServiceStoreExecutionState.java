@@ -19,6 +19,7 @@ import org.finos.legend.engine.plan.execution.nodes.state.ExecutionState;
 import org.finos.legend.engine.plan.execution.result.Result;
 import org.finos.legend.engine.plan.execution.stores.StoreExecutionState;
 import org.finos.legend.engine.plan.execution.stores.StoreState;
+import org.finos.legend.engine.plan.execution.stores.service.auth.ServiceStoreHttpClientPool;
 import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.nodes.ExecutionNodeVisitor;
 import org.finos.legend.engine.shared.core.identity.Identity;
 
@@ -27,12 +28,19 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     private final ServiceStoreState state;
     private RuntimeContext runtimeContext;
     private CredentialProviderProvider credentialProviderProvider;
+    private final ServiceStoreHttpClientPool httpClientPool;
 
-    public ServiceStoreExecutionState(ServiceStoreState state, RuntimeContext runtimeContext,CredentialProviderProvider credentialProviderProvider)
+    public ServiceStoreExecutionState(ServiceStoreState state, RuntimeContext runtimeContext, CredentialProviderProvider credentialProviderProvider, ServiceStoreHttpClientPool httpClientPool)
     {
         this.state = state;
         this.runtimeContext = runtimeContext;
         this.credentialProviderProvider = credentialProviderProvider;
+        this.httpClientPool = httpClientPool;
+    }
+
+    public ServiceStoreExecutionState(ServiceStoreState state, RuntimeContext runtimeContext,CredentialProviderProvider credentialProviderProvider)
+    {
+        this(state, runtimeContext, credentialProviderProvider, null);
     }
 
     public ServiceStoreExecutionState(ServiceStoreState state)
@@ -45,6 +53,11 @@ public class ServiceStoreExecutionState implements StoreExecutionState
         this(state, RuntimeContext.empty(),credentialProviderProvider);
     }
 
+    public ServiceStoreExecutionState(ServiceStoreState state, CredentialProviderProvider credentialProviderProvider, ServiceStoreHttpClientPool httpClientPool)
+    {
+        this(state, RuntimeContext.empty(), credentialProviderProvider, httpClientPool);
+    }
+
     @Override
     public StoreState getStoreState()
     {
@@ -60,7 +73,7 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     @Override
     public StoreExecutionState copy()
     {
-        return new ServiceStoreExecutionState(this.state, this.runtimeContext,this.credentialProviderProvider);
+        return new ServiceStoreExecutionState(this.state, this.runtimeContext, this.credentialProviderProvider, this.httpClientPool);
     }
 
     @Override
@@ -79,4 +92,9 @@ public class ServiceStoreExecutionState implements StoreExecutionState
     {
         return credentialProviderProvider;
     }
+
+    public ServiceStoreHttpClientPool getHttpClientPool()
+    {
+        return httpClientPool;
+    }
 }
@@ -0,0 +1,146 @@
+//  Copyright 2026 Goldman Sachs
+//
+//  Licensed under the Apache License, Version 2.0 (the "License");
+//  you may not use this file except in compliance with the License.
+//  You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//  Unless required by applicable law or agreed to in writing, software
+//  distributed under the License is distributed on an "AS IS" BASIS,
+//  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//  See the License for the specific language governing permissions and
+//  limitations under the License.
+
+package org.finos.legend.engine.plan.execution.stores.service.auth;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.finos.legend.engine.plan.execution.result.InputStreamResult;
+import org.finos.legend.engine.plan.execution.stores.service.ServiceExecutor;
+import org.finos.legend.engine.protocol.pure.v1.model.packageableElement.store.service.model.HttpMethod;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.port.DynamicPortGenerator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+public class TestServiceStoreHttpClientPool
+{
+    private static final int REQUEST_COUNT = 200;
+
+    private WireMockServer server;
+    private ServiceStoreHttpClientPool pool;
+
+    @Before
+    public void setUp()
+    {
+        this.server = new WireMockServer(DynamicPortGenerator.generatePort());
+        this.server.start();
+        this.server.stubFor(WireMock.get(WireMock.urlEqualTo("/employees")).willReturn(WireMock.aResponse().withStatus(200).withBody("[]")));
+        this.pool = new ServiceStoreHttpClientPool(10, 2, 30_000, 60_000, 2);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.pool.close();
+        this.server.stop();
+    }
+
+    @Test
+    public void testConnectionsAreReusedAcrossRequests() throws Exception
+    {
+        Identity identity = new Identity("user");
+        for (int i = 0; i < REQUEST_COUNT; i++)
+        {
+            execute(identity);
+        }
+
+        Assert.assertEquals(REQUEST_COUNT, this.server.countRequestsMatching(WireMock.getRequestedFor(WireMock.urlEqualTo("/employees")).build()).getCount());
+        Assert.assertEquals(1, this.pool.getCachedClientCount());
+        Assert.assertEquals(0, this.pool.getStats().getLeased());
+        Assert.assertEquals(1, this.pool.getStats().getAvailable());
+    }
+
+    @Test
+    public void testConnectionsAreReusedAcrossExecutions() throws Exception
+    {
+        ServiceExecutor executor = new ServiceExecutor(null, this.pool);
+        Identity identity = new Identity("user");
+        for (int i = 0; i < REQUEST_COUNT; i++)
+        {
+            try (InputStreamResult result = executor.executeHttpService("http://localhost:" + this.server.port() + "/employees", Collections.emptyList(), null, HttpMethod.GET, "application/json", Collections.emptyList(), Collections.emptyList(), identity))
+            {
+                Assert.assertEquals("[]", new BufferedReader(new InputStreamReader(result.getInputStream(), StandardCharsets.UTF_8)).lines().collect(Collectors.joining()));
+            }
+        }
+
+        Assert.assertEquals(REQUEST_COUNT, this.server.countRequestsMatching(WireMock.getRequestedFor(WireMock.urlEqualTo("/employees")).build()).getCount());
+        Assert.assertEquals(1, this.pool.getCachedClientCount());
+        Assert.assertEquals(0, this.pool.getStats().getLeased());
+        Assert.assertEquals(1, this.pool.getStats().getAvailable());
+    }
+
+    @Test
+    public void testClientsAreKeyedByConfigurationId() throws Exception
+    {
+        Identity identity = new Identity("user");
+        execute(identity, newConnectionBuilder("connection1"));
+        execute(identity, newConnectionBuilder("connection1"));
+        Assert.assertEquals(1, this.pool.getCachedClientCount());
+
+        execute(identity, newConnectionBuilder("connection2"));
+        Assert.assertEquals(2, this.pool.getCachedClientCount());
+    }
+
+    @Test
+    public void testClientsAreKeyedByIdentityAndBounded() throws Exception
+    {
+        execute(new Identity("user1"));
+        execute(new Identity("user1"));
+        Assert.assertEquals(1, this.pool.getCachedClientCount());
+        execute(new Identity("user2"));
+        Assert.assertEquals(2, this.pool.getCachedClientCount());
+        execute(new Identity("user3"));
+        Assert.assertEquals(2, this.pool.getCachedClientCount());
+        Assert.assertEquals(1, this.pool.getStats().getAvailable());
+    }
+
+    private void execute(Identity identity) throws Exception
+    {
+        execute(identity, newConnectionBuilder());
+    }
+
+    private void execute(Identity identity, HttpConnectionBuilder connectionBuilder) throws Exception
+    {
+        try (CloseableHttpResponse response = connectionBuilder.execute(this.pool, identity))
+        {
+            Assert.assertEquals(200, response.getStatusLine().getStatusCode());
+            EntityUtils.consume(response.getEntity());
+        }
+    }
+
+    private HttpConnectionBuilder newConnectionBuilder()
+    {
+        return newConnectionBuilder("none");
+    }
+
+    private HttpConnectionBuilder newConnectionBuilder(String configurationId)
+    {
+        HttpConnectionBuilder connectionBuilder = new HttpConnectionBuilder(HttpClients.custom(), RequestBuilder.get("http://localhost:" + this.server.port() + "/employees"));
+        connectionBuilder.configurationId = configurationId;
+        return connectionBuilder;
+    }
+}
@@ -0,0 +1,135 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.engine.protocol.sql.metamodel.BetweenPredicate;
+import org.finos.legend.engine.protocol.sql.metamodel.BooleanLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.ComparisonExpression;
+import org.finos.legend.engine.protocol.sql.metamodel.DoubleLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.Expression;
+import org.finos.legend.engine.protocol.sql.metamodel.IntegerLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.Literal;
+import org.finos.legend.engine.protocol.sql.metamodel.LongLiteral;
+import org.finos.legend.engine.protocol.sql.metamodel.Node;
+import org.finos.legend.engine.protocol.sql.metamodel.ParameterPlaceholderExpression;
+import org.finos.legend.engine.protocol.sql.metamodel.PositionalParameterExpression;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+
+import java.util.List;
+
+/**
+ * this parameterizer replaces the number and boolean literals compared to an expression with positional parameters,
+ * so that queries only differing by these values share the same plan.
+ * only the right hand side of comparisons (and the bounds of between predicates) are replaced, as Pure types them
+ * from the left hand side, the same way it does for positional parameters.
+ * string literals are kept as they are converted depending on the compared type (dates, enums...).
+ */
+public class QueryParameterizer extends BaseNodeModifierVisitor
+{
+    private final long firstIndex;
+    private final MutableList<Object> values = Lists.mutable.empty();
+    private long maxIndex = 0;
+
+    private QueryParameterizer(long firstIndex)
+    {
+        this.firstIndex = firstIndex;
+    }
+
+    /**
+     * parameterizes the given query in place.
+     *
+     * @param query the query, which is modified
+     * @param positionalCount the number of positional arguments of the query, the new parameters are indexed after them
+     * @return the values of the new positional parameters, in order, or null if the query uses positional parameters with no argument
+     */
+    public static List<Object> parameterize(Query query, int positionalCount)
+    {
+        QueryParameterizer parameterizer = new QueryParameterizer(positionalCount + 1);
+        query.accept(parameterizer);
+        return parameterizer.maxIndex > positionalCount ? null : parameterizer.values;
+    }
+
+    @Override
+    public Node visit(ComparisonExpression val)
+    {
+        val.left = _visit(val.left);
+        val.right = isParameterizable(val.left) ? lift(val.right) : _visit(val.right);
+
+        return val;
+    }
+
+    @Override
+    public Node visit(BetweenPredicate val)
+    {
+        val.value = _visit(val.value);
+        val.min = isParameterizable(val.value) ? lift(val.min) : _visit(val.min);
+        val.max = isParameterizable(val.value) ? lift(val.max) : _visit(val.max);
+
+        return val;
+    }
+
+    @Override
+    public Node visit(PositionalParameterExpression val)
+    {
+        maxIndex = Math.max(maxIndex, val.index);
+        return val;
+    }
+
+    @Override
+    public Node visit(ParameterPlaceholderExpression val)
+    {
+        maxIndex = Math.max(maxIndex, val.index);
+        return val;
+    }
+
+    private boolean isParameterizable(Expression left)
+    {
+        //comparing two constants can be folded, so we keep them as they are
+        return !(left instanceof Literal) && !(left instanceof PositionalParameterExpression);
+    }
+
+    private Expression lift(Expression expression)
+    {
+        Object value;
+        if (expression instanceof IntegerLiteral)
+        {
+            value = ((IntegerLiteral) expression).value;
+        }
+        else if (expression instanceof LongLiteral)
+        {
+            value = ((LongLiteral) expression).value;
+        }
+        else if (expression instanceof DoubleLiteral)
+        {
+            value = ((DoubleLiteral) expression).value;
+        }
+        else if (expression instanceof BooleanLiteral)
+        {
+            value = ((BooleanLiteral) expression).value;
+        }
+        else
+        {
+            return _visit(expression);
+        }
+
+        PositionalParameterExpression parameter = new PositionalParameterExpression();
+        parameter.index = firstIndex + values.size();
+        values.add(value);
+        return parameter;
+    }
+}
@@ -36,6 +36,7 @@ import org.eclipse.collections.impl.utility.ListIterate;
 import org.eclipse.collections.impl.utility.internal.IterableIterate;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.HelperValueSpecificationBuilder;
 import org.finos.legend.engine.language.pure.compiler.toPureGraph.PureModel;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
 import org.finos.legend.engine.language.pure.modelManager.ModelManager;
 import org.finos.legend.engine.plan.execution.PlanExecutor;
 import org.finos.legend.engine.plan.execution.result.ConstantResult;
@@ -120,18 +121,30 @@ public class SQLExecutor
     private final Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions;
     private final Iterable<? extends PlanTransformer> transformers;
     private final MutableMap<String, SQLSourceProvider> providers;
+    private final SQLPlanCache planCache;
 
     public SQLExecutor(ModelManager modelManager,
                        PlanExecutor planExecutor,
                        Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
                        List<SQLSourceProvider> providers,
                        Iterable<? extends PlanTransformer> transformers)
+    {
+        this(modelManager, planExecutor, routerExtensions, providers, transformers, new SQLPlanCache(SQLPlanCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    public SQLExecutor(ModelManager modelManager,
+                       PlanExecutor planExecutor,
+                       Function<PureModel, RichIterable<? extends Root_meta_pure_extension_Extension>> routerExtensions,
+                       List<SQLSourceProvider> providers,
+                       Iterable<? extends PlanTransformer> transformers,
+                       SQLPlanCache planCache)
     {
         this.modelManager = modelManager;
         this.planExecutor = planExecutor;
         this.routerExtensions = routerExtensions;
         this.transformers = transformers;
         this.providers = ListIterate.groupByUniqueKey(providers, SQLSourceProvider::getType);
+        this.planCache = planCache;
     }
 
     public Result execute(Query query, String user, SQLContext context, Identity identity)
@@ -141,53 +154,126 @@ public class SQLExecutor
 
     public Result execute(Query query, List<Object> positionalArguments, String user, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) ->
+        return TraceUtils.trace("execute", span ->
         {
-            long start = System.currentTimeMillis();
-            LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
+            span.setTag("queryHash", hash(query));
+
+            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity, "execute");
+
+            //literals are lifted into positional parameters, so that queries only differing by their values share the same plan
+            Query parameterizedQuery = copy(query);
+            List<Object> liftedArguments = parameterizedQuery == null ? null : QueryParameterizer.parameterize(parameterizedQuery, positionalArguments.size());
+            MutableList<Object> allArguments = liftedArguments == null ? null : Lists.mutable.withAll(positionalArguments).withAll(liftedArguments);
+            String key = allArguments == null ? null : planCacheKey("execute", parameterizedQuery, allArguments, sqlSourcesAndPureModel, identity);
+
+            if (key == null)
+            {
+                return processResolved(query, positionalArguments, sqlSourcesAndPureModel, (transformedContext, pureModel, sources, positionals, s) ->
+                {
+                    long start = System.currentTimeMillis();
+                    LOGGER.info(new LogInfo(identity.getName(), LoggingEventType.EXECUTE_INTERACTIVE_STOP, (double) System.currentTimeMillis() - start).toString());
+
+                    Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
 
-            Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans = planResult(transformedContext, pureModel, sources);
+                    Map<String, Result> arguments = getPlanArguments(plans._arguments(), pureModel, user, identity);
 
-            Map<String, Result> arguments = getPlanArguments(plans._arguments(), pureModel, user, identity);
+                    RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getPlanParameters_SQLPlaceholderParameter_MANY__Extension_MANY__PlanParameter_MANY_(positionals, routerExtensions.apply(pureModel), pureModel.getExecutionSupport());
+                    Map<String, Result> positionalArgumentPlans = getPlanArguments(positionalPlans, pureModel, user, identity);
 
-            RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getPlanParameters_SQLPlaceholderParameter_MANY__Extension_MANY__PlanParameter_MANY_(positionals, routerExtensions.apply(pureModel), pureModel.getExecutionSupport());
-            Map<String, Result> positionalArgumentPlans = getPlanArguments(positionalPlans, pureModel, user, identity);
+                    SingleExecutionPlan transformedPlan = transformExecutionPlan(plans._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+                    MetricsHandler.observeServerOperation("sql_generate_plan", "execute", start, System.currentTimeMillis());
 
-            SingleExecutionPlan transformedPlan = transformExecutionPlan(plans._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+                    arguments.putAll(positionalArgumentPlans);
+                    long executionStart = System.currentTimeMillis();
+                    Result result = planExecutor.execute(transformedPlan, arguments, user, identity);
+                    MetricsHandler.observeServerOperation("sql_execute", "execute", executionStart, System.currentTimeMillis());
 
-            arguments.putAll(positionalArgumentPlans);
-            Result result = planExecutor.execute(transformedPlan, arguments, user, identity);
+                    MetricsHandler.observe("execute", start, System.currentTimeMillis());
 
-            MetricsHandler.observe("execute", start, System.currentTimeMillis());
+                    return result;
+                }, this::rootContext, "execute", span, identity);
+            }
+
+            SQLPlanCache.SQLPlan plan = planCache.get(key, () -> processResolved(parameterizedQuery, allArguments, sqlSourcesAndPureModel, (transformedContext, pureModel, sources, positionals, s) ->
+            {
+                long start = System.currentTimeMillis();
+                SQLPlanCache.SQLPlan generated = sqlPlan(planResult(transformedContext, pureModel, sources), pureModel, identity);
+                MetricsHandler.observeServerOperation("sql_generate_plan", "execute", start, System.currentTimeMillis());
+                return generated;
+            }, this::rootContext, "execute", span, identity));
 
-            return result;
-        }, "execute", context, identity);
+            return executePlan(plan, allArguments, sqlSourcesAndPureModel.getTwo(), user, identity);
+        });
     }
 
-    private Map<String, Result> getPlanArguments(RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> arguments, PureModel pureModel, String user, Identity identity)
+    private SQLPlanCache.SQLPlan sqlPlan(Root_meta_external_query_sql_transformation_queryToPure_PlanGenerationResult plans, PureModel pureModel, Identity identity)
     {
-        return UnifiedMap.newMapWith(IterableIterate.collectIf(arguments, p -> p._value() != null || p._plan() != null, p ->
+        MutableMap<String, Object> constants = Maps.mutable.empty();
+        MutableMap<String, SingleExecutionPlan> argumentPlans = Maps.mutable.empty();
+        plans._arguments().each(p ->
         {
-            Result result;
-
             if (p._value() != null)
             {
-                Object value = p._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
-                        ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) p._value())._values()
-                        : p._value();
-                result = new ConstantResult(value);
+                constants.put(p._name(), getConstantValue(p));
             }
-            else
+            else if (p._plan() != null)
             {
-                Root_meta_pure_executionPlan_ExecutionPlan l = PlanPlatform.JAVA.bindPlan(p._plan(), null, pureModel, routerExtensions.apply(pureModel));
-                SingleExecutionPlan m = transformExecutionPlan(l, pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
-                result = planExecutor.execute(m, Maps.mutable.empty(), user, identity);
+                argumentPlans.put(p._name(), getArgumentPlan(p, pureModel, identity));
             }
+        });
+
+        SingleExecutionPlan transformedPlan = transformExecutionPlan(plans._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+        return new SQLPlanCache.SQLPlan(transformedPlan, constants, argumentPlans);
+    }
+
+    private Result executePlan(SQLPlanCache.SQLPlan plan, List<Object> positionalArguments, PureModelContext pureModelContext, String user, Identity identity)
+    {
+        long start = System.currentTimeMillis();
+        //plans are only cached for cached models, so this does not compile the model again
+        PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
+        MetricsHandler.observeServerOperation("sql_load_model", "execute", start, System.currentTimeMillis());
+
+        Map<String, Result> arguments = UnifiedMap.newMap();
+        plan.constants.forEach((name, value) -> arguments.put(name, new ConstantResult(value)));
+        plan.argumentPlans.forEach((name, argumentPlan) -> arguments.put(name, planExecutor.execute(argumentPlan, Maps.mutable.empty(), user, identity)));
+
+        //positional arguments are converted as in the uncached path, e.g. for the temporal types
+        RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(queryParameters(positionalArguments), pureModel);
+        RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> positionalPlans = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_getPlanParameters_SQLPlaceholderParameter_MANY__Extension_MANY__PlanParameter_MANY_(positionals, routerExtensions.apply(pureModel), pureModel.getExecutionSupport());
+        arguments.putAll(getPlanArguments(positionalPlans, pureModel, user, identity));
+
+        Result result = planExecutor.execute(plan.plan, arguments, user, identity);
+        MetricsHandler.observeServerOperation("sql_execute", "execute", start, System.currentTimeMillis());
+        MetricsHandler.observe("execute", start, System.currentTimeMillis());
+
+        return result;
+    }
+
+    private Map<String, Result> getPlanArguments(RichIterable<? extends Root_meta_external_query_sql_transformation_queryToPure_PlanParameter> arguments, PureModel pureModel, String user, Identity identity)
+    {
+        return UnifiedMap.newMapWith(IterableIterate.collectIf(arguments, p -> p._value() != null || p._plan() != null, p ->
+        {
+            Result result = p._value() != null
+                    ? new ConstantResult(getConstantValue(p))
+                    : planExecutor.execute(getArgumentPlan(p, pureModel, identity), Maps.mutable.empty(), user, identity);
 
             return Tuples.pair(p._name(), result);
         }));
     }
 
+    private Object getConstantValue(Root_meta_external_query_sql_transformation_queryToPure_PlanParameter parameter)
+    {
+        return parameter._value() instanceof org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List
+                ? ((org.finos.legend.pure.m3.coreinstance.meta.pure.functions.collection.List) parameter._value())._values()
+                : parameter._value();
+    }
+
+    private SingleExecutionPlan getArgumentPlan(Root_meta_external_query_sql_transformation_queryToPure_PlanParameter parameter, PureModel pureModel, Identity identity)
+    {
+        Root_meta_pure_executionPlan_ExecutionPlan l = PlanPlatform.JAVA.bindPlan(parameter._plan(), null, pureModel, routerExtensions.apply(pureModel));
+        return transformExecutionPlan(l, pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+    }
+
     public LambdaFunction lambda(Query query, SQLContext context, Identity identity)
     {
         return lambda(query, FastList.newList(), context, identity);
@@ -212,7 +298,25 @@ public class SQLExecutor
 
     public SingleExecutionPlan plan(Query query, List<Object> positionalArguments, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, (transformedContext, pureModel, sources, positionals, span) -> transformExecutionPlan(planResult(transformedContext, pureModel, sources)._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers), "plan", context, identity);
+        return TraceUtils.trace("plan", span ->
+        {
+            span.setTag("queryHash", hash(query));
+
+            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity, "plan");
+            Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, SingleExecutionPlan> func = (transformedContext, pureModel, sources, positionals, s) ->
+            {
+                long start = System.currentTimeMillis();
+                SingleExecutionPlan plan = transformExecutionPlan(planResult(transformedContext, pureModel, sources)._plan(), pureModel, PureClientVersions.production, identity, routerExtensions.apply(pureModel), transformers);
+                MetricsHandler.observeServerOperation("sql_generate_plan", "plan", start, System.currentTimeMillis());
+                return plan;
+            };
+
+            //the plan is returned as is to the client, so literals are not lifted here
+            String key = planCacheKey("plan", query, positionalArguments, sqlSourcesAndPureModel, identity);
+            return key == null
+                    ? processResolved(query, positionalArguments, sqlSourcesAndPureModel, func, this::rootContext, "plan", span, identity)
+                    : planCache.get(key, () -> new SQLPlanCache.SQLPlan(processResolved(query, positionalArguments, sqlSourcesAndPureModel, func, this::rootContext, "plan", span, identity), Maps.mutable.empty(), Maps.mutable.empty())).plan;
+        });
     }
 
     public Schema schema(Query query, Identity identity)
@@ -255,7 +359,12 @@ public class SQLExecutor
 
     private <T> T process(Query query, List<Object> positionalArguments, Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, T> func, String name, SQLContext context, Identity identity)
     {
-        return process(query, positionalArguments, func, (sources, extensions, pureModel) -> core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport()), name, context, identity);
+        return process(query, positionalArguments, func, this::rootContext, name, context, identity);
+    }
+
+    private Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext rootContext(RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> sources, RichIterable<? extends Root_meta_pure_extension_Extension> extensions, PureModel pureModel)
+    {
+        return core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_rootContext_SQLSource_MANY__Extension_MANY__SqlTransformContext_1_(sources, extensions, pureModel.getExecutionSupport());
     }
 
     private <T> T process(Query query,
@@ -270,43 +379,98 @@ public class SQLExecutor
         {
             span.setTag("queryHash", hash(query));
 
-            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity);
-            RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
-            PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
+            Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel = getSourcesAndModel(query, context, identity, name);
+            return processResolved(query, positionalArguments, sqlSourcesAndPureModel, func, transformContextFunc, name, span, identity);
+        });
+    }
 
-            PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
+    private <T> T processResolved(Query query,
+                                  List<Object> positionalArguments,
+                                  Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel,
+                                  Function5<Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext, PureModel, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter>, Span, T> func,
+                                  Function3<RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource>, RichIterable<? extends Root_meta_pure_extension_Extension>, PureModel, Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext> transformContextFunc,
+                                  String name,
+                                  Span span,
+                                  Identity identity)
+    {
+        RichIterable<SQLSource> sources = sqlSourcesAndPureModel.getOne();
+        PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
 
-            List<SQLQueryParameter> parameters = ListIterate.collectWithIndex(positionalArguments, (argument, index) ->
-            {
-                Expression expression = createParameterValueExpression(argument);
-                Variable variable = new Variable();
-                variable.name = "_" + (index + 1);
-                variable.multiplicity = Multiplicity.PURE_ONE;
-                variable.genericType = new GenericType(new PackageableType(LITERAL_TO_PURE_TYPES.get(expression.getClass())));
+        long start = System.currentTimeMillis();
+        PureModel pureModel = modelManager.loadModel(pureModelContext, PureClientVersions.production, identity, "");
+        MetricsHandler.observeServerOperation("sql_load_model", name, start, System.currentTimeMillis());
 
-                return new SQLQueryParameter(variable, expression);
-            });
+        List<SQLQueryParameter> parameters = queryParameters(positionalArguments);
+
+        Query finalQuery = QueryRealiaser.realias(query);
+        span.setTag("realiasedQueryHash", hash(finalQuery));
+
+        Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(finalQuery, pureModel);
 
-            Query finalQuery = QueryRealiaser.realias(query);
-            span.setTag("realiasedQueryHash", hash(finalQuery));
+        RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(sources, pureModel);
+        LOGGER.info("{}", new LogInfo(identity.getName(), LoggingEventType.GENERATE_PLAN_START));
 
-            Root_meta_external_query_sql_metamodel_Query compiledQuery = new ProtocolToMetamodelTranslator().translate(finalQuery, pureModel);
+        Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformContext = transformContextFunc.value(compiledSources, routerExtensions.apply(pureModel), pureModel);
+        RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(parameters, pureModel);
 
-            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLSource> compiledSources = new SQLSourceTranslator().translate(sources, pureModel);
-            LOGGER.info("{}", new LogInfo(identity.getName(), LoggingEventType.GENERATE_PLAN_START));
+        transformContext._positionals(IterableIterate.collect(positionals, Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter::_variable));
 
-            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformContext = transformContextFunc.value(compiledSources, routerExtensions.apply(pureModel), pureModel);
-            RichIterable<Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter> positionals = new SQLSourceTranslator().translate(parameters, pureModel);
+        Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_processRootQuery_Query_1__SqlTransformContext_1__SqlTransformContext_1_(
+                compiledQuery, transformContext, pureModel.getExecutionSupport());
 
-            transformContext._positionals(IterableIterate.collect(positionals, Root_meta_external_query_sql_transformation_queryToPure_SQLPlaceholderParameter::_variable));
+        return func.value(transformedContext, pureModel, compiledSources, positionals, span);
+    }
 
-            Root_meta_external_query_sql_transformation_queryToPure_SqlTransformContext transformedContext = core_external_query_sql_binding_fromPure_fromPure.Root_meta_external_query_sql_transformation_queryToPure_processRootQuery_Query_1__SqlTransformContext_1__SqlTransformContext_1_(
-                    compiledQuery, transformContext, pureModel.getExecutionSupport());
+    private List<SQLQueryParameter> queryParameters(List<Object> positionalArguments)
+    {
+        return ListIterate.collectWithIndex(positionalArguments, (argument, index) ->
+        {
+            Expression expression = createParameterValueExpression(argument);
+            Variable variable = new Variable();
+            variable.name = "_" + (index + 1);
+            variable.multiplicity = Multiplicity.PURE_ONE;
+            variable.genericType = new GenericType(new PackageableType(LITERAL_TO_PURE_TYPES.get(expression.getClass())));
 
-            return func.value(transformedContext, pureModel, compiledSources, positionals, span);
+            return new SQLQueryParameter(variable, expression);
         });
     }
 
+    /**
+     * plans are only cached for models which are cached themselves (i.e. immutable model versions), as the key only
+     * holds their version, not their content. The key holds the user too, as the sources and the plans generated for
+     * them may depend on who runs the query.
+     *
+     * @return the key of the plan in the plan cache, or null if the plan should not be cached
+     */
+    private String planCacheKey(String name, Query query, List<Object> positionalArguments, Pair<RichIterable<SQLSource>, PureModelContext> sqlSourcesAndPureModel, Identity identity)
+    {
+        PureModelContext pureModelContext = sqlSourcesAndPureModel.getTwo();
+        if (!(pureModelContext instanceof PureModelContextPointer) || Iterate.anySatisfy(positionalArguments, Objects::isNull))
+        {
+            return null;
+        }
+
+        ModelLoader loader = modelManager.modelLoaderForContext(pureModelContext);
+        if (!loader.shouldCache(pureModelContext))
+        {
+            return null;
+        }
+
+        try
+        {
+            return SQLPlanCache.key(name,
+                    String.valueOf(identity.getName()),
+                    OBJECT_MAPPER.writeValueAsString(query),
+                    ListIterate.collect(positionalArguments, argument -> LITERAL_TO_PURE_TYPES.get(createParameterValueExpression(argument).getClass())).makeString(","),
+                    OBJECT_MAPPER.writeValueAsString(sqlSourcesAndPureModel.getOne().toList()),
+                    OBJECT_MAPPER.writeValueAsString(loader.cacheKey(pureModelContext, identity)));
+        }
+        catch (JsonProcessingException e)
+        {
+            LOGGER.warn("Unable to compute the plan cache key of query {}, its plan is not cached", hash(query), e);
+            return null;
+        }
+    }
 
     private Expression createParameterValueExpression(Object o)
     {
@@ -346,8 +510,9 @@ public class SQLExecutor
         throw new EngineException("Unsupported argument type " + o.getClass().getSimpleName());
     }
 
-    private Pair<RichIterable<SQLSource>, PureModelContext> getSourcesAndModel(Query query, SQLContext context, Identity identity)
+    private Pair<RichIterable<SQLSource>, PureModelContext> getSourcesAndModel(Query query, SQLContext context, Identity identity, String name)
     {
+        long start = System.currentTimeMillis();
         Set<TableSource> tables = new TableSourceExtractor().visit(query);
 
         MutableMultimap<String, TableSource> grouped = Iterate.groupBy(tables, TableSource::getType);
@@ -377,6 +542,7 @@ public class SQLExecutor
             pureModelContext = resolved.injectInto(PureModelContextData.newPureModelContextData(), (p, p2) -> PureModelContextData.combine(p, PureModelContextData.newPureModelContextData(), ListIterate.collect(p2.getPureModelContexts(), c -> modelManager.loadData(c, PureClientVersions.production, identity)).toArray(new PureModelContextData[]{})));
         }
         RichIterable<SQLSource> sources = resolved.flatCollect(SQLSourceResolvedContext::getSources);
+        MetricsHandler.observeServerOperation("sql_resolve_sources", name, start, System.currentTimeMillis());
         return Tuples.pair(sources, pureModelContext);
     }
 
@@ -447,6 +613,18 @@ public class SQLExecutor
         }
     }
 
+    private Query copy(Query query)
+    {
+        try
+        {
+            return read(OBJECT_MAPPER.writeValueAsString(query), Query.class);
+        }
+        catch (JsonProcessingException e)
+        {
+            return null;
+        }
+    }
+
     private <T> T read(String string, Class<T> clazz)
     {
         try
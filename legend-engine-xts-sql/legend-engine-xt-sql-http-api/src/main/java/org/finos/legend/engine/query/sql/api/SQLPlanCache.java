@@ -0,0 +1,136 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.finos.legend.engine.shared.core.operational.prometheus.MetricsHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache of the plans generated for SQL queries.
+ * <p>
+ * Entries are keyed by a hash of the user, the normalized query (see QueryParameterizer), the types of its positional
+ * arguments, the resolved SQL sources and the version of the model they are resolved against, so that repeated queries
+ * do not go through Pure again.
+ */
+public class SQLPlanCache
+{
+    public static final String CACHE_NAME = "sqlPlans";
+    public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Cache<String, SQLPlan> cache;
+
+    public SQLPlanCache(long maximumSize)
+    {
+        this.cache = CacheBuilder.newBuilder()
+                .recordStats()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public static String key(String... parts)
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String part : parts)
+        {
+            // parts are length prefixed, so that they cannot run into each other
+            hasher.putInt(part.length()).putString(part, StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    public SQLPlan get(String key, Callable<SQLPlan> planner)
+    {
+        try
+        {
+            boolean[] loaded = {false};
+            SQLPlan result = this.cache.get(key, () ->
+            {
+                loaded[0] = true;
+                MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "miss");
+                return planner.call();
+            });
+            if (!loaded[0])
+            {
+                MetricsHandler.incrementCacheRequestCount(CACHE_NAME, "hit");
+            }
+            return result;
+        }
+        catch (ExecutionException | UncheckedExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error)
+            {
+                throw (Error) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        finally
+        {
+            publishMetrics();
+        }
+    }
+
+    public long size()
+    {
+        return this.cache.size();
+    }
+
+    public void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    public CacheStats stats()
+    {
+        return this.cache.stats();
+    }
+
+    public void publishMetrics()
+    {
+        CacheStats stats = this.cache.stats();
+        MetricsHandler.setCacheMetrics(CACHE_NAME, this.cache.size(), stats.hitRate(), stats.evictionCount(), stats.averageLoadPenalty() / 1_000_000);
+    }
+
+    public static class SQLPlan
+    {
+        public final SingleExecutionPlan plan;
+        // Plan arguments which do not depend on the execution, by name
+        public final Map<String, Object> constants;
+        // Plans computing the other plan arguments for each execution, by name
+        public final Map<String, SingleExecutionPlan> argumentPlans;
+
+        public SQLPlan(SingleExecutionPlan plan, Map<String, Object> constants, Map<String, SingleExecutionPlan> argumentPlans)
+        {
+            this.plan = plan;
+            this.constants = constants;
+            this.argumentPlans = argumentPlans;
+        }
+    }
+}
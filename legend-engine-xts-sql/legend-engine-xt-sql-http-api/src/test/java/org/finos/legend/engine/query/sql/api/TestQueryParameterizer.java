@@ -0,0 +1,80 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.language.sql.grammar.to.SQLGrammarComposer;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestQueryParameterizer
+{
+    @Test
+    public void testComparedLiterals()
+    {
+        test("select * from myTable where a = 1 and b > 2.5 and c = true",
+                "select * from myTable where a = $1 and b > $2 and c = $3",
+                0, Arrays.asList(1L, 2.5, true));
+
+        test("select * from myTable where a between 1 and 5",
+                "select * from myTable where a between $1 and $2",
+                0, Arrays.asList(1L, 5L));
+    }
+
+    @Test
+    public void testStringLiterals()
+    {
+        test("select * from myTable where a = 'x' and b < 1",
+                "select * from myTable where a = 'x' and b < $1",
+                0, Collections.singletonList(1L));
+    }
+
+    @Test
+    public void testNotComparedLiterals()
+    {
+        test("select a from myTable where 1 = 1 limit 10",
+                "select a from myTable where 1 = 1 limit 10",
+                0, Collections.emptyList());
+    }
+
+    @Test
+    public void testPositionals()
+    {
+        test("select * from myTable where a = $1 and b = 10",
+                "select * from myTable where a = $1 and b = $2",
+                1, Collections.singletonList(10L));
+
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement("select * from myTable where a = $2 and b = 10");
+        Assert.assertNull(QueryParameterizer.parameterize(query, 1));
+    }
+
+    private void test(String input, String expected, int positionalCount, List<Object> expectedValues)
+    {
+        Query query = (Query) SQLGrammarParser.newInstance().parseStatement(input);
+
+        List<Object> values = QueryParameterizer.parameterize(query, positionalCount);
+
+        String grammar = SQLGrammarComposer.newInstance().renderNode(query);
+
+        Assert.assertEquals(expected.toLowerCase(), grammar.toLowerCase());
+        Assert.assertEquals(expectedValues, values);
+    }
+}
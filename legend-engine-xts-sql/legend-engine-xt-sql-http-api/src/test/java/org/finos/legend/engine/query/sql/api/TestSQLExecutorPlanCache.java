@@ -0,0 +1,180 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.engine.query.sql.api;
+
+import io.opentracing.Span;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.finos.legend.engine.language.pure.modelManager.ModelLoader;
+import org.finos.legend.engine.language.pure.modelManager.ModelManager;
+import org.finos.legend.engine.language.sql.grammar.from.SQLGrammarParser;
+import org.finos.legend.engine.plan.execution.PlanExecutor;
+import org.finos.legend.engine.plan.execution.api.result.ResultManager;
+import org.finos.legend.engine.plan.execution.result.Result;
+import org.finos.legend.engine.plan.execution.result.serialization.SerializationFormat;
+import org.finos.legend.engine.plan.generation.extension.PlanGeneratorExtension;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContext;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextData;
+import org.finos.legend.engine.protocol.pure.v1.model.context.PureModelContextPointer;
+import org.finos.legend.engine.protocol.sql.metamodel.Query;
+import org.finos.legend.engine.pure.code.core.PureCoreExtensionLoader;
+import org.finos.legend.engine.query.sql.providers.core.SQLContext;
+import org.finos.legend.engine.query.sql.providers.core.SQLSourceProvider;
+import org.finos.legend.engine.query.sql.providers.core.SQLSourceResolvedContext;
+import org.finos.legend.engine.query.sql.providers.core.TableSource;
+import org.finos.legend.engine.shared.core.deployment.DeploymentMode;
+import org.finos.legend.engine.shared.core.identity.Identity;
+import org.finos.legend.engine.shared.core.operational.logs.LoggingEventType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.ServiceLoader;
+
+public class TestSQLExecutorPlanCache
+{
+    private static final SQLGrammarParser PARSER = SQLGrammarParser.newInstance();
+    private static final TestSQLSourceProvider SOURCE_PROVIDER = new TestSQLSourceProvider();
+
+    private SQLPlanCache planCache;
+    private SQLExecutor executor;
+
+    @Before
+    public void setUp()
+    {
+        MutableList<PlanGeneratorExtension> generatorExtensions = Lists.mutable.withAll(ServiceLoader.load(PlanGeneratorExtension.class));
+        this.planCache = new SQLPlanCache(SQLPlanCache.DEFAULT_MAXIMUM_SIZE);
+        this.executor = new SQLExecutor(
+                new ModelManager(DeploymentMode.TEST, new PointerModelLoader(SOURCE_PROVIDER.getPureModelContextData())),
+                PlanExecutor.newPlanExecutorWithAvailableStoreExecutors(),
+                pm -> PureCoreExtensionLoader.extensions().flatCollect(g -> g.extraPureCoreExtensions(pm.getExecutionSupport())),
+                FastList.newListWith(new PointerSQLSourceProvider()),
+                generatorExtensions.flatCollect(PlanGeneratorExtension::getExtraPlanTransformers),
+                this.planCache);
+    }
+
+    @Test
+    public void testQueriesOnlyDifferingByLiteralsShareTheirPlan() throws Exception
+    {
+        Assert.assertEquals("Name\r\nAlice\r\n", execute("SELECT Name FROM service('/personServiceForNames') WHERE Id = 101", FastList.newList(), Identity.getAnonymousIdentity()));
+        Assert.assertEquals("Name\r\nCurtis\r\n", execute("SELECT Name FROM service('/personServiceForNames') WHERE Id = 103", FastList.newList(), Identity.getAnonymousIdentity()));
+
+        Assert.assertEquals(1, this.planCache.stats().missCount());
+        Assert.assertEquals(1, this.planCache.stats().hitCount());
+        Assert.assertEquals(1, this.planCache.size());
+    }
+
+    @Test
+    public void testCachedPlansWithPositionalParameters() throws Exception
+    {
+        String sql = "SELECT Name FROM service('/personServiceForNames') WHERE Name = ? AND Id > 101";
+        Assert.assertEquals("Name\r\nDanielle\r\n", execute(sql, FastList.newListWith("Danielle"), Identity.getAnonymousIdentity()));
+        Assert.assertEquals("Name\r\n", execute(sql, FastList.newListWith("Alice"), Identity.getAnonymousIdentity()));
+        Assert.assertEquals("Name\r\nAlice\r\n", execute(sql.replace("101", "100"), FastList.newListWith("Alice"), Identity.getAnonymousIdentity()));
+
+        Assert.assertEquals(1, this.planCache.stats().missCount());
+        Assert.assertEquals(2, this.planCache.stats().hitCount());
+    }
+
+    @Test
+    public void testPlansAreCachedPerUser() throws Exception
+    {
+        String sql = "SELECT Name FROM service('/personServiceForNames') WHERE Id = 102";
+        Assert.assertEquals("Name\r\nBob\r\n", execute(sql, FastList.newList(), new Identity("user1")));
+        Assert.assertEquals("Name\r\nBob\r\n", execute(sql, FastList.newList(), new Identity("user2")));
+
+        Assert.assertEquals(2, this.planCache.stats().missCount());
+        Assert.assertEquals(0, this.planCache.stats().hitCount());
+    }
+
+    private String execute(String sql, List<Object> positionalArguments, Identity identity) throws Exception
+    {
+        Query query = (Query) PARSER.parseStatement(sql);
+        Result result = this.executor.execute(query, positionalArguments, identity.getName(), new SQLContext(query, positionalArguments), identity);
+        Response response = ResultManager.manageResult(identity.getName(), result, SerializationFormat.CSV, LoggingEventType.EXECUTE_INTERACTIVE_ERROR);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(stream);
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static PureModelContextPointer pointer()
+    {
+        PureModelContextPointer pointer = new PureModelContextPointer();
+        pointer.sdlcInfo.version = "1.0.0";
+        return pointer;
+    }
+
+    // Resolves the test services against a model version, whose compiled model and plans can be cached
+    private static class PointerSQLSourceProvider implements SQLSourceProvider
+    {
+        @Override
+        public String getType()
+        {
+            return SOURCE_PROVIDER.getType();
+        }
+
+        @Override
+        public SQLSourceResolvedContext resolve(List<TableSource> sources, SQLContext context, Identity identity)
+        {
+            return new SQLSourceResolvedContext(pointer(), SOURCE_PROVIDER.resolve(sources, context, identity).getSources());
+        }
+    }
+
+    private static class PointerModelLoader implements ModelLoader
+    {
+        private final PureModelContextData data;
+
+        private PointerModelLoader(PureModelContextData data)
+        {
+            this.data = data;
+        }
+
+        @Override
+        public boolean supports(PureModelContext context)
+        {
+            return context instanceof PureModelContextPointer;
+        }
+
+        @Override
+        public PureModelContextData load(Identity identity, PureModelContext context, String clientVersion, Span parentSpan)
+        {
+            return this.data;
+        }
+
+        @Override
+        public void setModelManager(ModelManager modelManager)
+        {
+            // the model is not loaded through the model manager
+        }
+
+        @Override
+        public boolean shouldCache(PureModelContext context)
+        {
+            return this.supports(context);
+        }
+
+        @Override
+        public PureModelContext cacheKey(PureModelContext context, Identity identity)
+        {
+            return context;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+//
+
+package org.finos.legend.engine.query.sql.api;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.engine.protocol.pure.v1.model.executionPlan.SingleExecutionPlan;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSQLPlanCache
+{
+    @Test
+    public void testPlansAreGeneratedOnce()
+    {
+        SQLPlanCache cache = new SQLPlanCache(SQLPlanCache.DEFAULT_MAXIMUM_SIZE);
+        String key = SQLPlanCache.key("execute", "select * from myTable where a = $1", "Integer");
+
+        SQLPlanCache.SQLPlan plan = cache.get(key, TestSQLPlanCache::newPlan);
+        for (int i = 0; i < 5; i++)
+        {
+            Assert.assertSame(plan, cache.get(key, () ->
+            {
+                throw new AssertionError("Plan should have been cached");
+            }));
+        }
+
+        Assert.assertEquals(1, cache.stats().missCount());
+        Assert.assertEquals(5, cache.stats().hitCount());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testKeys()
+    {
+        Assert.assertEquals(SQLPlanCache.key("execute", "query", "Integer"), SQLPlanCache.key("execute", "query", "Integer"));
+        Assert.assertNotEquals(SQLPlanCache.key("execute", "query", "Integer"), SQLPlanCache.key("execute", "query", "Float"));
+        Assert.assertNotEquals(SQLPlanCache.key("execute", "query", "Integer"), SQLPlanCache.key("plan", "query", "Integer"));
+        // parts cannot run into each other
+        Assert.assertNotEquals(SQLPlanCache.key("ab", "c"), SQLPlanCache.key("a", "bc"));
+    }
+
+    @Test
+    public void testFailuresAreNotCached()
+    {
+        SQLPlanCache cache = new SQLPlanCache(SQLPlanCache.DEFAULT_MAXIMUM_SIZE);
+        IllegalStateException exception = Assert.assertThrows(IllegalStateException.class, () -> cache.get("key", () ->
+        {
+            throw new IllegalStateException("cannot plan");
+        }));
+        Assert.assertEquals("cannot plan", exception.getMessage());
+        Assert.assertEquals(0, cache.size());
+    }
+
+    private static SQLPlanCache.SQLPlan newPlan()
+    {
+        return new SQLPlanCache.SQLPlan(new SingleExecutionPlan(), Maps.mutable.empty(), Maps.mutable.empty());
+    }
+}
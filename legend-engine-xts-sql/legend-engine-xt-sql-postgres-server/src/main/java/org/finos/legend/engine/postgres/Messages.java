@@ -406,7 +406,8 @@ public class Messages
         }
 
         buffer.setInt(1, length);
-        channel.writeAndFlush(buffer);
+        // flushed in batches by the ResultSetReceiver rather than once per row
+        channel.write(buffer);
     }
 
     void writeCString(ByteBuf buffer, byte[] valBytes)
@@ -96,7 +96,7 @@ class ResultSetReceiver
                     rowCount++;
                     messages.sendDataRow(directChannel, rs, columnTypes, null);
                     if ((maxRows != 0 && rowCount % maxRows == 0) || rowCount % 10000 == 0)
-                    {   //TODO REMOVE FLASH FROM essages.sendDataRow
+                    {
                         directChannel.flush();
                         span.addEvent("sentRows", Attributes.of(AttributeKey.longKey("numberOfRows"), rowCount));
                     }
@@ -27,6 +27,8 @@ public class LegendHandlerConfig implements HandlerConfig
     private String protocol;
     private String host;
     private String port;
+    private Integer maxConnections;
+    private Integer connectionLeaseTimeoutMillis;
 
     public LegendHandlerConfig()
     {
@@ -55,11 +57,21 @@ public class LegendHandlerConfig implements HandlerConfig
         return port;
     }
 
+    public int getMaxConnections()
+    {
+        return maxConnections == null ? LegendHttpClient.DEFAULT_MAX_CONNECTIONS : maxConnections;
+    }
+
+    public int getConnectionLeaseTimeoutMillis()
+    {
+        return connectionLeaseTimeoutMillis == null ? LegendHttpClient.DEFAULT_CONNECTION_LEASE_TIMEOUT_MILLIS : connectionLeaseTimeoutMillis;
+    }
+
 
     @Override
     public SessionsFactory buildSessionsFactory()
     {
-        LegendExecutionService client = new LegendExecutionService(new LegendHttpClient(getProtocol(), getHost(), getPort()));
+        LegendExecutionService client = new LegendExecutionService(new LegendHttpClient(getProtocol(), getHost(), getPort(), getMaxConnections(), getConnectionLeaseTimeoutMillis()));
         return new LegendSessionFactory(client);
     }
 
@@ -70,6 +82,8 @@ public class LegendHandlerConfig implements HandlerConfig
                 "protocol='" + protocol + '\'' +
                 ", host='" + host + '\'' +
                 ", port='" + port + '\'' +
+                ", maxConnections=" + maxConnections +
+                ", connectionLeaseTimeoutMillis=" + connectionLeaseTimeoutMillis +
                 '}';
     }
 }
@@ -80,7 +80,17 @@ public class LegendExecutionService
             span.setAttribute("query", query);
             InputStream inputStream = executionClient.executeQueryApi(query);
             span.addEvent("receivedResponse");
-            LegendTdsResultParser parser = new LegendTdsResultParser(inputStream);
+            LegendTdsResultParser parser;
+            try
+            {
+                parser = new LegendTdsResultParser(inputStream);
+            }
+            catch (IOException | RuntimeException e)
+            {
+                // release the pooled connection the response is read from
+                inputStream.close();
+                throw e;
+            }
 
             return new LegendExecutionResult()
             {
@@ -27,8 +27,10 @@ import org.apache.http.HttpRequest;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
 import org.finos.legend.engine.postgres.utils.OpenTelemetryUtil;
 import org.finos.legend.engine.shared.core.ObjectMapperFactory;
@@ -37,11 +39,15 @@ import org.finos.legend.engine.shared.core.operational.errorManagement.Exception
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.security.auth.Subject;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.AccessController;
+import java.security.Principal;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 
@@ -52,15 +58,29 @@ public class LegendHttpClient implements LegendClient
 
     private static final TextMapSetter<HttpRequest> TEXT_MAP_SETTER = (httpRequest, key, value) -> Objects.requireNonNull(httpRequest).addHeader(new BasicHeader(key, value));
 
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+    public static final int DEFAULT_CONNECTION_LEASE_TIMEOUT_MILLIS = 30_000;
+
     private final String protocol;
     private final String host;
     private final String port;
+    private final HttpClient client;
 
     public LegendHttpClient(String protocol, String host, String port)
+    {
+        this(protocol, host, port, DEFAULT_MAX_CONNECTIONS, DEFAULT_CONNECTION_LEASE_TIMEOUT_MILLIS);
+    }
+
+    public LegendHttpClient(String protocol, String host, String port, int maxConnections, int connectionLeaseTimeoutMillis)
     {
         this.protocol = protocol;
         this.host = host;
         this.port = port;
+        // All the queries go to the same engine, so the connections to it are pooled and kept alive across queries
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        this.client = HttpClientBuilder.getHttpClient(new BasicCookieStore(), connectionManager, connectionLeaseTimeoutMillis);
     }
 
     public InputStream executeQueryApi(String query)
@@ -96,8 +116,12 @@ public class LegendHttpClient implements LegendClient
             span.setAttribute(SemanticAttributes.HTTP_REQUEST_METHOD, "POST");
             span.setAttribute(SemanticAttributes.URL_FULL, uri);
             OpenTelemetryUtil.getPropagators().inject(Context.current(), req, TEXT_MAP_SETTER);
-            HttpClient client = HttpClientBuilder.getHttpClient(new BasicCookieStore());
-            HttpResponse res = client.execute(req);
+            // cookies are still scoped to a single query, as they were when each query built its own client
+            HttpClientContext context = HttpClientContext.create();
+            context.setCookieStore(new BasicCookieStore());
+            // connections are authenticated as the principal the query runs as, so they are only reused for that principal
+            context.setUserToken(currentPrincipals());
+            HttpResponse res = this.client.execute(req, context);
             return handleResponse(query, () -> res.getEntity().getContent(), () -> res.getStatusLine().getStatusCode());
 
         }
@@ -112,6 +136,12 @@ public class LegendHttpClient implements LegendClient
     }
 
 
+    private static String currentPrincipals()
+    {
+        Subject subject = Subject.getSubject(AccessController.getContext());
+        return subject == null ? null : subject.getPrincipals().stream().map(Principal::getName).sorted().collect(Collectors.joining(","));
+    }
+
     protected static InputStream handleResponse(String query, Callable<InputStream> responseContentSupplier, IntSupplier responseStatusCodeSupplier)
     {
         String errorResponse = null;
@@ -47,6 +47,7 @@ public class LegendResultSet implements PostgresResultSet
 
 
     private LegendExecutionResult legendExecutionResult;
+    private LegendResultSetMetaData metaData;
     private List<Object> currentRow;
 
     public LegendResultSet(LegendExecutionResult legendExecutionResult)
@@ -57,7 +58,11 @@ public class LegendResultSet implements PostgresResultSet
     @Override
     public PostgresResultSetMetaData getMetaData() throws Exception
     {
-        return new LegendResultSetMetaData(legendExecutionResult.getLegendColumns());
+        if (metaData == null)
+        {
+            metaData = new LegendResultSetMetaData(legendExecutionResult.getLegendColumns());
+        }
+        return metaData;
     }
 
     @Override
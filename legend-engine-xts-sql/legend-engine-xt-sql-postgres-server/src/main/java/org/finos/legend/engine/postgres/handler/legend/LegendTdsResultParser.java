@@ -50,7 +50,8 @@ public class LegendTdsResultParser
     public static final String _TYPE = "_type";
     private final JsonParser parser;
     private List<LegendColumn> legendColumns;
-    private List<Object> currentRow;
+    private Object[] currentRow;
+    private List<Object> currentRowView;
 
     private boolean finishedReading = false;
 
@@ -72,9 +73,13 @@ public class LegendTdsResultParser
         return readNextDataRow();
     }
 
-    public synchronized List<Object> next()
+    /**
+     * Returns a read only view of the current row. The values are read into the same row for every row of the result,
+     * so the view is only valid until the next call to {@link #hasNext()}.
+     */
+    public List<Object> next()
     {
-        return Collections.unmodifiableList(currentRow);
+        return currentRowView;
     }
 
     public synchronized void close() throws IOException
@@ -111,6 +116,8 @@ public class LegendTdsResultParser
             legendColumns.add(new LegendColumn(columnName, type));
         }
         acceptNextToken(JsonToken.END_OBJECT);
+        currentRow = new Object[legendColumns.size()];
+        currentRowView = Collections.unmodifiableList(Arrays.asList(currentRow));
     }
 
     private void moveCursorToDataResults() throws IOException
@@ -123,7 +130,7 @@ public class LegendTdsResultParser
         acceptNextToken(JsonToken.START_ARRAY);
     }
 
-    private synchronized boolean readNextDataRow() throws IOException
+    private boolean readNextDataRow() throws IOException
     {
         if (finishedReading)
         {
@@ -142,9 +149,13 @@ public class LegendTdsResultParser
         acceptCurrent(JsonToken.START_OBJECT);
         acceptNextToken(VALUES);
         acceptNextToken(JsonToken.START_ARRAY);
-        currentRow = new ArrayList<>();
+        int column = 0;
         while (parser.nextToken() != JsonToken.END_ARRAY)
         {
+            if (column == currentRow.length)
+            {
+                throw new PostgresServerException("Expected " + currentRow.length + " values per row, found more");
+            }
             JsonToken currentToken = parser.currentToken();
             Object value = null;
             switch (currentToken)
@@ -167,7 +178,11 @@ public class LegendTdsResultParser
                 default:
                     value = parser.getText();
             }
-            currentRow.add(value);
+            currentRow[column++] = value;
+        }
+        if (column != currentRow.length)
+        {
+            throw new PostgresServerException("Expected " + currentRow.length + " values per row, found " + column);
         }
         acceptNextToken(JsonToken.END_OBJECT);
         return true;
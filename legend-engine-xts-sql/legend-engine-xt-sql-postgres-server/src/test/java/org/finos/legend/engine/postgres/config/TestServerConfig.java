@@ -59,5 +59,7 @@ public class TestServerConfig
         Assert.assertEquals("http", legendHandlerConfig.getProtocol());
         Assert.assertEquals("localhost", legendHandlerConfig.getHost());
         Assert.assertEquals("6300", legendHandlerConfig.getPort());
+        Assert.assertEquals(20, legendHandlerConfig.getMaxConnections());
+        Assert.assertEquals(5000, legendHandlerConfig.getConnectionLeaseTimeoutMillis());
     }
 }
@@ -16,6 +16,7 @@ package org.finos.legend.engine.postgres.handler.legend;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
@@ -79,6 +80,22 @@ public class LegendTDSResultParserTest
         }
     }
 
+    @Test
+    public void testParseDataReadsEachRowIntoTheCurrentRow() throws IOException
+    {
+        try (InputStream pureProjectInputStream = ClassLoader.getSystemClassLoader().getResourceAsStream("org/finos/legend/engine/postgres/handler/legend/legendTdsResultNoRelationalType.json");)
+        {
+            LegendTdsResultParser parser = new LegendTdsResultParser(pureProjectInputStream);
+            Assert.assertTrue(parser.hasNext());
+            List<Object> row = parser.next();
+            Assert.assertEquals(Arrays.asList("foo", "bar"), row);
+            Assert.assertTrue(parser.hasNext());
+            Assert.assertEquals(Arrays.asList("foo1", "bar2"), parser.next());
+            Assert.assertSame(row, parser.next());
+            Assert.assertFalse(parser.hasNext());
+        }
+    }
+
     @Test(expected = RuntimeException.class)
     public void testParseDataInvalidateResults() throws IOException
     {